@@ -0,0 +1,67 @@
+package RECO.Internship.Assignment.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+/**
+ * 벤치마크 입력 데이터
+ *
+ * 샘플 OCR JSON 4종을 읽고, 텍스트를 N배로 부풀린 합성 변형을 만든다.
+ * 샘플 디렉터리는 ocr.sample.dir 시스템 속성으로 지정한다 (build.gradle의 jmh 설정 참고).
+ */
+final class BenchmarkSamples {
+
+    static final String SAMPLE_DIR_PROPERTY = "ocr.sample.dir";
+    private static final String DEFAULT_SAMPLE_DIR = "[2026 ICT_리코] smaple_data_ocr";
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkSamples() {
+    }
+
+    /**
+     * 샘플 JSON (inflation > 1이면 root.text와 pages[].text를 N번 반복)
+     *
+     * @param sample    sample_01 ~ sample_04
+     * @param inflation 텍스트 반복 배수
+     */
+    static String json(String sample, int inflation) {
+        Path path = Path.of(System.getProperty(SAMPLE_DIR_PROPERTY, DEFAULT_SAMPLE_DIR), sample + ".json");
+        try {
+            // 배수와 무관하게 같은 직렬화 형식(공백 없음)으로 맞춰 크기 차이만 비교되도록 재직렬화
+            JsonNode root = OBJECT_MAPPER.readTree(Files.readString(path));
+            inflateText(root, inflation);
+            for (JsonNode page : root.path("pages")) {
+                inflateText(page, inflation);
+            }
+            return OBJECT_MAPPER.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("샘플 파일을 읽을 수 없습니다: " + path.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * 샘플 OCR 텍스트 (json과 같은 방식으로 부풀림)
+     */
+    static String text(String sample, int inflation) {
+        try {
+            return OBJECT_MAPPER.readTree(json(sample, inflation)).path("text").asText("");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void inflateText(JsonNode node, int inflation) {
+        if (inflation > 1 && node instanceof ObjectNode object && node.path("text").isTextual()) {
+            String text = node.path("text").asText();
+            object.put("text", String.join("\n", Collections.nCopies(inflation, text)));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package RECO.Internship.Assignment.benchmark;
+
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * FieldExtractor 벤치마크 - 필드별 추출과 단일 순회 일괄 추출
+ */
+@State(Scope.Benchmark)
+public class FieldExtractorBenchmark {
+
+    @Param({ "sample_01", "sample_02", "sample_03", "sample_04" })
+    public String sample;
+
+    @Param({ "1", "10", "100" })
+    public int inflation;
+
+    private FieldExtractor extractor;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        extractor = new FieldExtractor();
+        text = BenchmarkSamples.text(sample, inflation);
+    }
+
+    @Benchmark
+    public ExtractedFields extractAll() {
+        return extractor.extractAll(text);
+    }
+
+    @Benchmark
+    public String preprocessText() {
+        return extractor.preprocessText(text);
+    }
+
+    @Benchmark
+    public String extractDocumentType() {
+        return extractor.extractDocumentType(text);
+    }
+
+    @Benchmark
+    public String extractDate() {
+        return extractor.extractDate(text);
+    }
+
+    @Benchmark
+    public String extractTime() {
+        return extractor.extractTime(text);
+    }
+
+    @Benchmark
+    public String extractVehicleNumber() {
+        return extractor.extractVehicleNumber(text);
+    }
+
+    @Benchmark
+    public Integer extractTotalWeight() {
+        return extractor.extractTotalWeight(text);
+    }
+
+    @Benchmark
+    public Integer extractEmptyWeight() {
+        return extractor.extractEmptyWeight(text);
+    }
+
+    @Benchmark
+    public Integer extractNetWeight() {
+        return extractor.extractNetWeight(text);
+    }
+
+    @Benchmark
+    public String extractCustomer() {
+        return extractor.extractCustomer(text);
+    }
+
+    @Benchmark
+    public String extractProductName() {
+        return extractor.extractProductName(text);
+    }
+
+    @Benchmark
+    public String extractIssuer() {
+        return extractor.extractIssuer(text);
+    }
+
+    @Benchmark
+    public double[] extractGpsCoordinates() {
+        return extractor.extractGpsCoordinates(text);
+    }
+}
@@ -0,0 +1,41 @@
+package RECO.Internship.Assignment.benchmark;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.infrastructure.file.OcrFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * OcrFileReader 벤치마크 - JSON 원문 → 텍스트/문서 모델
+ */
+@State(Scope.Benchmark)
+public class OcrFileReaderBenchmark {
+
+    @Param({ "sample_01", "sample_02", "sample_03", "sample_04" })
+    public String sample;
+
+    @Param({ "1", "10", "100" })
+    public int inflation;
+
+    private OcrFileReader reader;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        reader = new OcrFileReader(BenchmarkSamples.OBJECT_MAPPER);
+        json = BenchmarkSamples.json(sample, inflation);
+    }
+
+    @Benchmark
+    public String readFromString() {
+        return reader.readFromString(json);
+    }
+
+    @Benchmark
+    public OcrDocument readDocumentWithWords() {
+        return reader.readDocument(json, true);
+    }
+}
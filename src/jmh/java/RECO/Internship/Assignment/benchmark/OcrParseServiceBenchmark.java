@@ -0,0 +1,73 @@
+package RECO.Internship.Assignment.benchmark;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.ExtractionMode;
+import RECO.Internship.Assignment.application.FieldConfidenceService;
+import RECO.Internship.Assignment.application.FieldExtractionService;
+import RECO.Internship.Assignment.application.OcrParseService;
+import RECO.Internship.Assignment.application.PageExtractionService;
+import RECO.Internship.Assignment.application.cache.ParseCoalescer;
+import RECO.Internship.Assignment.application.cache.ParseResultCache;
+import RECO.Internship.Assignment.application.metrics.ParseMetrics;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.domain.parser.LayoutFieldExtractor;
+import RECO.Internship.Assignment.domain.parser.confidence.FieldConfidenceCalculator;
+import RECO.Internship.Assignment.domain.validator.DateTimeValidator;
+import RECO.Internship.Assignment.domain.validator.GpsValidator;
+import RECO.Internship.Assignment.domain.validator.VehicleValidator;
+import RECO.Internship.Assignment.domain.validator.WeightValidator;
+import RECO.Internship.Assignment.infrastructure.file.OcrFileReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * OcrParseService 종단 간 벤치마크 - JSON 원문 → 파싱 결과
+ * 캐시는 꺼서 매 호출마다 전체 파이프라인을 측정한다.
+ */
+@State(Scope.Benchmark)
+public class OcrParseServiceBenchmark {
+
+    @Param({ "sample_01", "sample_02", "sample_03", "sample_04" })
+    public String sample;
+
+    @Param({ "1", "10", "100" })
+    public int inflation;
+
+    @Param({ "TEXT", "LAYOUT", "TIERED" })
+    public ExtractionMode mode;
+
+    private OcrParseService service;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        FieldExtractor fieldExtractor = new FieldExtractor();
+        FieldExtractionService fieldExtractionService = new FieldExtractionService(fieldExtractor,
+                new LayoutFieldExtractor(fieldExtractor), new WeightValidator(), mode,
+                FieldExtractionService.DEFAULT_CONFIDENCE_THRESHOLD);
+        service = new OcrParseService(
+                new OcrFileReader(BenchmarkSamples.OBJECT_MAPPER),
+                fieldExtractionService,
+                new FieldConfidenceService(new FieldConfidenceCalculator(), false),
+                new PageExtractionService(fieldExtractionService, 4, 0),
+                new WeightValidator(),
+                new DateTimeValidator(),
+                new GpsValidator(),
+                new VehicleValidator(),
+                ParseResultCache.disabled(),
+                new ParseCoalescer(false),
+                ParseResultStore.disabled(),
+                new ParseMetrics(new SimpleMeterRegistry()));
+        json = BenchmarkSamples.json(sample, inflation);
+    }
+
+    @Benchmark
+    public ParsedResultResponse parseFromJson() {
+        return service.parseFromJson(json);
+    }
+}
@@ -0,0 +1,59 @@
+package RECO.Internship.Assignment.benchmark;
+
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.domain.validator.DateTimeValidator;
+import RECO.Internship.Assignment.domain.validator.GpsValidator;
+import RECO.Internship.Assignment.domain.validator.VehicleValidator;
+import RECO.Internship.Assignment.domain.validator.WeightValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 검증기 벤치마크 - 샘플에서 추출한 필드 값으로 각 검증기 실행
+ * (검증 입력은 텍스트 길이와 무관하므로 부풀린 변형은 사용하지 않음)
+ */
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    @Param({ "sample_01", "sample_02", "sample_03", "sample_04" })
+    public String sample;
+
+    private final WeightValidator weightValidator = new WeightValidator();
+    private final DateTimeValidator dateTimeValidator = new DateTimeValidator();
+    private final GpsValidator gpsValidator = new GpsValidator();
+    private final VehicleValidator vehicleValidator = new VehicleValidator();
+
+    private ExtractedFields fields;
+
+    @Setup
+    public void setUp() {
+        fields = new FieldExtractor().extractAll(BenchmarkSamples.text(sample, 1));
+    }
+
+    @Benchmark
+    public WeightValidator.ValidationResult weight() {
+        return weightValidator.validateWeightCalculation(
+                fields.totalWeight(), fields.emptyWeight(), fields.netWeight());
+    }
+
+    @Benchmark
+    public void dateTime(Blackhole blackhole) {
+        blackhole.consume(dateTimeValidator.validateDate(fields.date()));
+        blackhole.consume(dateTimeValidator.validateTime(fields.time()));
+    }
+
+    @Benchmark
+    public GpsValidator.ValidationResult gps() {
+        return gpsValidator.validateCoordinates(fields.gpsCoordinates());
+    }
+
+    @Benchmark
+    public VehicleValidator.ValidationResult vehicle() {
+        return vehicleValidator.validateVehicleNumber(fields.vehicleNumber());
+    }
+}
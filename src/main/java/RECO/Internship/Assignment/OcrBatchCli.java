@@ -0,0 +1,489 @@
+package RECO.Internship.Assignment;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.ExtractionMode;
+import RECO.Internship.Assignment.application.FieldConfidenceService;
+import RECO.Internship.Assignment.application.FieldExtractionService;
+import RECO.Internship.Assignment.application.OcrParseService;
+import RECO.Internship.Assignment.application.PageExtractionService;
+import RECO.Internship.Assignment.application.cache.ParseCoalescer;
+import RECO.Internship.Assignment.application.cache.ParseResultCache;
+import RECO.Internship.Assignment.application.metrics.ParseMetrics;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.domain.parser.LayoutFieldExtractor;
+import RECO.Internship.Assignment.domain.parser.confidence.FieldConfidenceCalculator;
+import RECO.Internship.Assignment.domain.validator.DateTimeValidator;
+import RECO.Internship.Assignment.domain.validator.GpsValidator;
+import RECO.Internship.Assignment.domain.validator.VehicleValidator;
+import RECO.Internship.Assignment.domain.validator.WeightValidator;
+import RECO.Internship.Assignment.infrastructure.file.OcrFileReader;
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * OCR 일괄 파싱 CLI (HTTP 서버 없이 실행)
+ *
+ * 사용 방법:
+ * ./gradlew runCli --args="--input <디렉토리|파일.ndjson> [--output 결과.ndjson|결과.csv]
+ *                          [--format ndjson|csv] [--threads N] [--mode text|layout|tiered]"
+ *
+ * 스프링 컨텍스트를 띄우지 않고 파싱 파이프라인(OcrFileReader → FieldExtractor → 검증기)을
+ * 직접 구성해 실행한다. 디렉토리 입력은 *.json 파일 하나당 문서 하나,
+ * NDJSON 입력은 한 줄당 문서 하나로 처리한다.
+ *
+ * 문서는 병렬로 처리되며 결과는 완료 순서대로 기록된다 (각 결과에 filename 포함).
+ * 동시에 처리 중인 문서 수를 제한하므로 입력 크기와 무관하게 메모리 사용량이 일정하다.
+ */
+public class OcrBatchCli {
+
+    private static final String USAGE = """
+            사용법: OcrBatchCli --input <디렉토리|파일.ndjson> [옵션]
+              --input   <경로>              *.json 파일이 있는 디렉토리 또는 NDJSON 파일 (필수)
+              --output  <경로>              결과 파일 (기본: 표준 출력)
+              --format  ndjson|csv          출력 형식 (기본: 출력 파일 확장자, 없으면 ndjson)
+              --threads <N>                 병렬 파싱 스레드 수 (기본: CPU 코어 수)
+              --mode    text|layout|tiered  필드 추출 방식 (기본: text)
+            """;
+
+    private static final String[] CSV_HEADER = {
+            "filename", "success", "documentType", "date", "time", "vehicleNumber",
+            "totalWeight", "emptyWeight", "netWeight", "customer", "productName", "issuer",
+            "latitude", "longitude", "confidence", "extractionTier", "overallStatus", "error" };
+
+    private final OcrParseService parseService;
+    private final ObjectMapper objectMapper;
+    private final int threads;
+
+    public OcrBatchCli(OcrParseService parseService, ObjectMapper objectMapper, int threads) {
+        this.parseService = parseService;
+        this.objectMapper = objectMapper;
+        this.threads = threads;
+    }
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[ERROR] " + e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        quietLogging();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        OcrBatchCli cli = new OcrBatchCli(createParseService(objectMapper, options.mode()),
+                objectMapper, options.threads());
+
+        long startedAt = System.nanoTime();
+        Summary summary;
+        try (OutputStream out = options.output() != null
+                ? Files.newOutputStream(options.output())
+                : System.out) {
+            summary = cli.run(options.input(), out, options.format());
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("[ERROR] 처리 실패: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        System.err.printf("[INFO] 처리 완료 - 전체: %d, 성공: %d, 실패: %d, 소요: %d ms%n",
+                summary.total(), summary.succeeded(), summary.total() - summary.succeeded(), elapsedMillis);
+        System.exit(summary.succeeded() == summary.total() ? 0 : 1);
+    }
+
+    /**
+     * 스프링 컨텍스트 없이 파싱 서비스 구성 (캐시, 동시 파싱 병합, 결과 저장소 미사용)
+     */
+    static OcrParseService createParseService(ObjectMapper objectMapper, ExtractionMode mode) {
+        FieldExtractor fieldExtractor = new FieldExtractor();
+        FieldExtractionService fieldExtractionService = new FieldExtractionService(fieldExtractor,
+                new LayoutFieldExtractor(fieldExtractor), new WeightValidator(), mode,
+                FieldExtractionService.DEFAULT_CONFIDENCE_THRESHOLD);
+        return new OcrParseService(
+                new OcrFileReader(objectMapper),
+                fieldExtractionService,
+                new FieldConfidenceService(new FieldConfidenceCalculator(), false),
+                new PageExtractionService(fieldExtractionService, 4, 0),
+                new WeightValidator(),
+                new DateTimeValidator(),
+                new GpsValidator(),
+                new VehicleValidator(),
+                ParseResultCache.disabled(),
+                new ParseCoalescer(false),
+                ParseResultStore.disabled(),
+                new ParseMetrics(new SimpleMeterRegistry()));
+    }
+
+    /**
+     * 입력 전체를 병렬 파싱하여 결과 기록
+     *
+     * @param input  *.json 디렉토리 또는 NDJSON 파일
+     * @param output 결과 출력 스트림 (닫지 않음)
+     * @param format 출력 형식
+     * @return 처리 요약
+     */
+    public Summary run(Path input, OutputStream output, Format format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        ResultWriter resultWriter = format == Format.CSV
+                ? new CsvResultWriter(writer)
+                : new NdjsonResultWriter(writer, objectMapper);
+
+        AtomicInteger total = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicReference<RuntimeException> writeFailure = new AtomicReference<>();
+        // 대기 중인 작업이 무한히 쌓이지 않도록 동시 처리 문서 수 제한
+        Semaphore inFlight = new Semaphore(threads * 4);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try (Stream<Task> tasks = tasks(input)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext() && writeFailure.get() == null) {
+                Task task = iterator.next();
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        BatchParseResult result = parse(task);
+                        total.incrementAndGet();
+                        if (result.isSuccess()) {
+                            succeeded.incrementAndGet();
+                        }
+                        resultWriter.write(result);
+                    } catch (RuntimeException e) {
+                        // 출력 실패는 문서 단위로 격리할 수 없으므로 전체 처리 중단
+                        writeFailure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+
+        if (writeFailure.get() != null) {
+            throw writeFailure.get();
+        }
+        resultWriter.flush();
+        return new Summary(total.get(), succeeded.get());
+    }
+
+    /**
+     * 입력 경로를 문서 단위 작업 스트림으로 변환 (파일/줄은 작업 실행 시점에 읽음)
+     */
+    private Stream<Task> tasks(Path input) throws IOException {
+        if (Files.isDirectory(input)) {
+            return Files.list(input)
+                    .filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .map(path -> new Task(path.getFileName().toString(), path, null));
+        }
+        if (!Files.isRegularFile(input)) {
+            throw new IOException("입력 경로를 찾을 수 없습니다: " + input);
+        }
+
+        BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+        AtomicInteger lineNumber = new AtomicInteger();
+        return reader.lines()
+                .map(line -> new Task("line-" + lineNumber.incrementAndGet(), null, line))
+                .filter(task -> !task.json().isBlank())
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * 문서 하나 파싱 - 문서 단위로 오류를 격리
+     */
+    private BatchParseResult parse(Task task) {
+        try {
+            // 디렉토리 입력은 파일 전체를 문자열로 읽지 않고 스트리밍으로 파싱
+            ParsedResultResponse parsed = task.path() != null
+                    ? parseService.parseFromPath(task.path())
+                    : parseService.parseFromJson(task.json());
+            return BatchParseResult.success(task.source(), parsed);
+        } catch (JsonProcessingException e) {
+            return BatchParseResult.error(task.source(), "유효하지 않은 JSON 형식입니다");
+        } catch (IllegalArgumentException e) {
+            return BatchParseResult.error(task.source(), e.getMessage());
+        } catch (IOException e) {
+            return BatchParseResult.error(task.source(), "파일을 읽을 수 없습니다: " + e.getMessage());
+        } catch (Exception e) {
+            return BatchParseResult.error(task.source(), "파싱 중 내부 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                System.err.println("[INFO] 남은 문서 처리 대기 중...");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 문서마다 출력되는 파이프라인 INFO 로그를 끄고 경고 이상만 출력
+     */
+    private static void quietLogging() {
+        if (LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME) instanceof ch.qos.logback.classic.Logger root) {
+            root.setLevel(Level.WARN);
+        }
+    }
+
+    /**
+     * 출력 형식
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        static Format of(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 출력 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 처리 요약
+     */
+    public record Summary(int total, int succeeded) {
+    }
+
+    /**
+     * 문서 하나 (디렉토리 입력은 path, NDJSON 입력은 json)
+     */
+    private record Task(String source, Path path, String json) {
+    }
+
+    /**
+     * 명령행 옵션
+     */
+    record Options(Path input, Path output, Format format, int threads, ExtractionMode mode) {
+
+        static Options parse(String[] args) {
+            Path input = null;
+            Path output = null;
+            Format format = null;
+            int threads = Runtime.getRuntime().availableProcessors();
+            ExtractionMode mode = ExtractionMode.TEXT;
+
+            for (int i = 0; i < args.length; i++) {
+                String name = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("옵션 값이 없습니다: " + name);
+                }
+                String value = args[++i];
+                switch (name) {
+                    case "--input" -> input = Path.of(value);
+                    case "--output" -> output = Path.of(value);
+                    case "--format" -> format = Format.of(value);
+                    case "--threads" -> threads = parseThreads(value);
+                    case "--mode" -> mode = ExtractionMode.from(value);
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + name);
+                }
+            }
+
+            if (input == null) {
+                throw new IllegalArgumentException("--input 옵션은 필수입니다");
+            }
+            if (format == null) {
+                boolean csvOutput = output != null
+                        && output.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+                format = csvOutput ? Format.CSV : Format.NDJSON;
+            }
+            return new Options(input, output, format, threads, mode);
+        }
+
+        private static int parseThreads(String value) {
+            try {
+                int threads = Integer.parseInt(value);
+                if (threads > 0) {
+                    return threads;
+                }
+            } catch (NumberFormatException ignored) {
+                // 아래에서 공통 메시지로 처리
+            }
+            throw new IllegalArgumentException("--threads는 1 이상의 정수여야 합니다: " + value);
+        }
+    }
+
+    /**
+     * 결과 기록기 (여러 작업 스레드에서 호출되므로 동기화)
+     */
+    private interface ResultWriter {
+
+        void write(BatchParseResult result);
+
+        void flush();
+    }
+
+    /**
+     * 한 줄당 BatchParseResult JSON 하나 (입력 파일/줄 이름과 성공 여부를 함께 기록)
+     */
+    private static final class NdjsonResultWriter implements ResultWriter {
+
+        private final Writer writer;
+        private final ObjectMapper objectMapper;
+
+        NdjsonResultWriter(Writer writer, ObjectMapper objectMapper) {
+            this.writer = writer;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void write(BatchParseResult result) {
+            try {
+                String line = objectMapper.writeValueAsString(result);
+                synchronized (this) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 주요 필드만 펼친 CSV (RFC 4180 인용 규칙)
+     */
+    private static final class CsvResultWriter implements ResultWriter {
+
+        private final Writer writer;
+        private boolean headerWritten;
+
+        CsvResultWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(BatchParseResult result) {
+            String row = toRow(result);
+            synchronized (this) {
+                try {
+                    writeHeaderIfNeeded();
+                    writer.write(row);
+                    writer.write("\r\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            try {
+                writeHeaderIfNeeded();
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeHeaderIfNeeded() throws IOException {
+            if (!headerWritten) {
+                writer.write(String.join(",", CSV_HEADER));
+                writer.write("\r\n");
+                headerWritten = true;
+            }
+        }
+
+        private static String toRow(BatchParseResult result) {
+            ParsedResultResponse parsed = result.getResult();
+            if (parsed == null) {
+                return join(result.getFilename(), "false", null, null, null, null, null, null, null,
+                        null, null, null, null, null, null, null, null, result.getError());
+            }
+            ParsedResultResponse.GpsInfo gps = parsed.getGps();
+            ParsedResultResponse.ValidationInfo validation = parsed.getValidation();
+            return join(
+                    result.getFilename(),
+                    "true",
+                    parsed.getDocumentType(),
+                    parsed.getDate(),
+                    parsed.getTime(),
+                    parsed.getVehicleNumber(),
+                    parsed.getTotalWeight(),
+                    parsed.getEmptyWeight(),
+                    parsed.getNetWeight(),
+                    parsed.getCustomer(),
+                    parsed.getProductName(),
+                    parsed.getIssuer(),
+                    gps != null ? gps.getLatitude() : null,
+                    gps != null ? gps.getLongitude() : null,
+                    parsed.getConfidence(),
+                    parsed.getExtractionTier(),
+                    validation != null ? validation.getOverallStatus() : null,
+                    null);
+        }
+
+        private static String join(Object... values) {
+            StringBuilder row = new StringBuilder();
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    row.append(',');
+                }
+                if (values[i] != null) {
+                    row.append(escape(values[i].toString()));
+                }
+            }
+            return row.toString();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
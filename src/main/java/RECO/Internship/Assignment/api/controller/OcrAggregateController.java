@@ -0,0 +1,65 @@
+package RECO.Internship.Assignment.api.controller;
+
+import RECO.Internship.Assignment.api.dto.ResultSummaryResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse;
+import RECO.Internship.Assignment.application.aggregate.TonnageAggregates;
+import RECO.Internship.Assignment.application.column.ColumnarResultStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 파싱 결과 집계 REST API 컨트롤러
+ *
+ * 결과가 기록될 때마다 갱신해 둔 집계를 반환하므로 원본이나 개별 결과를 다시 읽지 않습니다.
+ */
+@RestController
+@RequestMapping("/api/ocr/aggregates")
+@RequiredArgsConstructor
+public class OcrAggregateController {
+
+    private final TonnageAggregates tonnageAggregates;
+    private final ColumnarResultStore columnarResultStore;
+
+    /**
+     * 거래처 × 품명 × 계량일자별 중량 집계
+     * GET /api/ocr/aggregates/tonnage?from=2026-02-01&to=2026-02-28
+     * GET /api/ocr/aggregates/tonnage?customer=곰욕환경폐기물&groupBy=period
+     *
+     * 총중량/공차중량/실중량별 건수, 합계, 최소, 최대를 반환합니다.
+     * groupBy=day(기본)는 일자별, period는 기간 전체를 거래처 × 품명으로 합칩니다.
+     * from/to를 지정하면 계량일자가 없는 결과는 제외됩니다.
+     */
+    @GetMapping("/tonnage")
+    public ResponseEntity<TonnageAggregateResponse> tonnage(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "customer", required = false) String customer,
+            @RequestParam(value = "product", required = false) String productName,
+            @RequestParam(value = "groupBy", defaultValue = "day") String groupBy) {
+
+        return ResponseEntity.ok(tonnageAggregates.query(from, to, customer, productName, groupBy));
+    }
+
+    /**
+     * 조건에 맞는 계량표 전체 요약
+     * GET /api/ocr/aggregates/summary?from=2026-02-01&to=2026-02-28&status=INVALID
+     *
+     * 미리 만든 묶음 없이 열 저장소를 훑어 계산하므로 검증 상태 등 집계 묶음에 없는 조건도 쓸 수 있습니다.
+     * 중량별 건수/합계/최소/최대, GPS가 있는 계량표 수, 전체 검증 상태별 계량표 수를 반환합니다.
+     * 열 저장소는 메모리를 쓰므로 기본으로 꺼져 있으며, 꺼져 있으면 빈 요약을 반환합니다 (ocr.columns.enabled).
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ResultSummaryResponse> summary(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "customer", required = false) String customer,
+            @RequestParam(value = "product", required = false) String productName,
+            @RequestParam(value = "status", required = false) String status) {
+
+        return ResponseEntity.ok(columnarResultStore.summarize(from, to, customer, productName, status));
+    }
+}
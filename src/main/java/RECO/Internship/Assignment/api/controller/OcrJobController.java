@@ -0,0 +1,84 @@
+package RECO.Internship.Assignment.api.controller;
+
+import RECO.Internship.Assignment.api.dto.ParseJobResponse;
+import RECO.Internship.Assignment.api.dto.ParseJobResultsResponse;
+import RECO.Internship.Assignment.application.job.ParseJobService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * 비동기 일괄 파싱 작업 REST API 컨트롤러
+ *
+ * 대량 배치는 /api/ocr/parse/batch처럼 연결을 붙잡고 기다리는 대신
+ * 작업으로 제출한 뒤 상태와 결과를 폴링합니다.
+ */
+@RestController
+@RequestMapping("/api/ocr/jobs")
+@RequiredArgsConstructor
+public class OcrJobController {
+
+    private static final Logger log = LoggerFactory.getLogger(OcrJobController.class);
+
+    private final ParseJobService parseJobService;
+
+    /**
+     * 일괄 파싱 작업 제출
+     * POST /api/ocr/jobs
+     *
+     * 파일을 저장한 뒤 바로 202 Accepted와 작업 ID를 반환합니다.
+     * 대기 중인 작업이 너무 많으면 503을 반환합니다.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ParseJobResponse> submitJob(
+            @RequestParam("files") MultipartFile[] files) throws IOException {
+
+        log.info("작업 제출 요청 - 파일 수: {}", files.length);
+
+        ParseJobResponse job = parseJobService.submit(files);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/ocr/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    /**
+     * 작업 상태 조회
+     * GET /api/ocr/jobs/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ParseJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(parseJobService.status(jobId));
+    }
+
+    /**
+     * 부분 결과 조회
+     * GET /api/ocr/jobs/{jobId}/results/partial?offset=0
+     *
+     * 지금까지 끝난 파일의 결과를 완료 순서로 반환합니다.
+     * 응답의 nextOffset을 다음 요청의 offset으로 넘기면 새로 끝난 결과만 받습니다.
+     */
+    @GetMapping("/{jobId}/results/partial")
+    public ResponseEntity<ParseJobResultsResponse> getPartialResults(
+            @PathVariable String jobId,
+            @RequestParam(value = "offset", defaultValue = "0") int offset) {
+        return ResponseEntity.ok(parseJobService.partialResults(jobId, offset));
+    }
+
+    /**
+     * 최종 결과 조회
+     * GET /api/ocr/jobs/{jobId}/results
+     *
+     * 입력 순서로 정렬된 전체 결과를 반환합니다. 작업이 아직 끝나지 않았으면 409를 반환합니다.
+     */
+    @GetMapping("/{jobId}/results")
+    public ResponseEntity<ParseJobResultsResponse> getResults(@PathVariable String jobId) {
+        return ResponseEntity.ok(parseJobService.results(jobId));
+    }
+}
@@ -2,21 +2,36 @@ package RECO.Internship.Assignment.api.controller;
 
 import RECO.Internship.Assignment.api.dto.BatchParseResult;
 import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.OcrBatchService;
+import RECO.Internship.Assignment.application.OcrNdjsonService;
 import RECO.Internship.Assignment.application.OcrParseService;
+import RECO.Internship.Assignment.application.admission.AdmissionControl;
+import RECO.Internship.Assignment.application.admission.ConcurrencyLimiter;
+import RECO.Internship.Assignment.application.admission.TrafficClass;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * OCR 파싱 REST API 컨트롤러
+ *
+ * 파싱 엔드포인트는 AdmissionControl의 허가를 받은 뒤 처리하며,
+ * 한도를 넘으면 429 Too Many Requests(Retry-After)로 바로 거절됩니다.
+ * 단일 문서 요청과 일괄 요청은 서로 다른 한도를 사용합니다.
  */
 @RestController
 @RequestMapping("/api/ocr")
@@ -25,7 +40,12 @@ public class OcrParseController {
 
     private static final Logger log = LoggerFactory.getLogger(OcrParseController.class);
 
+    private static final String NDJSON_PERMIT_KEY = OcrParseController.class.getName() + ".ndjsonPermit";
+
     private final OcrParseService ocrParseService;
+    private final OcrBatchService ocrBatchService;
+    private final OcrNdjsonService ocrNdjsonService;
+    private final AdmissionControl admissionControl;
 
     /**
      * 단일 OCR JSON 파일 파싱
@@ -42,8 +62,34 @@ public class OcrParseController {
             throw new IllegalArgumentException("파일이 비어있습니다");
         }
 
-        ParsedResultResponse result = ocrParseService.parseFromFile(file);
-        return ResponseEntity.ok(result);
+        try (ConcurrencyLimiter.Permit permit = admissionControl.acquire(TrafficClass.INTERACTIVE)) {
+            ParsedResultResponse result = ocrParseService.parseFromFile(file);
+            return ResponseEntity.ok(result);
+        }
+    }
+
+    /**
+     * 다중 페이지 OCR JSON 파일을 페이지별로 파싱
+     * POST /api/ocr/parse/pages
+     *
+     * 한 스캔에 여러 계량표가 묶인 경우 페이지마다 독립된 결과를 반환합니다.
+     * 텍스트가 없는 페이지는 제외되며, 각 결과의 page에 페이지 번호(0부터)가 담깁니다.
+     */
+    @PostMapping(value = "/parse/pages", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<ParsedResultResponse>> parseOcrFilePages(
+            @RequestParam("file") MultipartFile file) throws IOException {
+
+        log.info("페이지별 파싱 요청 - 파일명: {}, 크기: {} bytes",
+                file.getOriginalFilename(), file.getSize());
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다");
+        }
+
+        try (ConcurrencyLimiter.Permit permit = admissionControl.acquire(TrafficClass.INTERACTIVE)) {
+            List<ParsedResultResponse> results = ocrParseService.parsePagesFromFile(file);
+            return ResponseEntity.ok(results);
+        }
     }
 
     /**
@@ -56,8 +102,10 @@ public class OcrParseController {
 
         log.info("JSON 직접 파싱 요청");
 
-        ParsedResultResponse result = ocrParseService.parseFromJson(jsonContent);
-        return ResponseEntity.ok(result);
+        try (ConcurrencyLimiter.Permit permit = admissionControl.acquire(TrafficClass.INTERACTIVE)) {
+            ParsedResultResponse result = ocrParseService.parseFromJson(jsonContent);
+            return ResponseEntity.ok(result);
+        }
     }
 
     /**
@@ -66,37 +114,60 @@ public class OcrParseController {
      * 
      * 각 파일의 파싱 결과를 개별적으로 반환하며,
      * 빈 파일이나 파싱 실패 시에도 에러 정보를 포함한 결과를 반환합니다.
+     * parallel=true이면 워커 풀에서 병렬 처리하며, concurrency로 요청당 동시성을 제한할 수 있습니다.
+     * 결과는 항상 입력 순서를 유지합니다.
      */
     @PostMapping(value = "/parse/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<List<BatchParseResult>> parseOcrFiles(
-            @RequestParam("files") MultipartFile[] files) {
-
-        log.info("일괄 파싱 요청 - 파일 수: {}", files.length);
+            @RequestParam("files") MultipartFile[] files,
+            @RequestParam(value = "parallel", defaultValue = "false") boolean parallel,
+            @RequestParam(value = "concurrency", required = false) Integer concurrency) {
 
-        List<BatchParseResult> results = new ArrayList<>();
-
-        for (MultipartFile file : files) {
-            String filename = file.getOriginalFilename();
-
-            if (file.isEmpty()) {
-                log.warn("빈 파일 발견: {}", filename);
-                results.add(BatchParseResult.error(filename, "파일이 비어있습니다"));
-                continue;
-            }
+        log.info("일괄 파싱 요청 - 파일 수: {}, 병렬: {}", files.length, parallel);
 
-            try {
-                ParsedResultResponse parsed = ocrParseService.parseFromFile(file);
-                results.add(BatchParseResult.success(filename, parsed));
-            } catch (IOException e) {
-                log.error("파일 파싱 실패: {}", filename, e);
-                results.add(BatchParseResult.error(filename, "파일 처리 중 오류가 발생했습니다."));
-            } catch (Exception e) {
-                log.error("예상치 못한 오류: {}", filename, e);
-                results.add(BatchParseResult.error(filename, "파싱 중 서버 내부 오류가 발생했습니다."));
-            }
+        try (ConcurrencyLimiter.Permit permit = admissionControl.acquire(TrafficClass.BULK)) {
+            List<BatchParseResult> results = ocrBatchService.parseAll(files, parallel, concurrency);
+            return ResponseEntity.ok(results);
         }
+    }
 
-        return ResponseEntity.ok(results);
+    /**
+     * NDJSON 스트리밍 일괄 파싱
+     * POST /api/ocr/parse/ndjson
+     *
+     * 요청 본문의 각 줄(OCR JSON 문서 하나)을 순서대로 파싱하여,
+     * 줄마다 ParsedResultResponse(/parse/json 응답과 같은 형식) 한 줄을 즉시 응답으로 흘려보냅니다.
+     * 파싱하지 못한 줄은 {"line": 입력 줄 번호, "error": 메시지} 한 줄로 대신하며, 빈 줄은 건너뜁니다.
+     * 본문 전체를 메모리에 올리지 않으므로 대용량 입력도 일정한 메모리로 처리합니다.
+     *
+     * 허가는 응답 스트리밍이 끝날 때 반환하며, 시간 초과나 연결 종료로 본문이 실행되지 못한 채
+     * 비동기 요청이 끝나더라도 완료 콜백에서 반환합니다.
+     */
+    @PostMapping(value = "/parse/ndjson",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> parseOcrNdjson(InputStream body, HttpServletRequest request) {
+
+        log.info("NDJSON 스트리밍 파싱 요청");
+
+        ConcurrencyLimiter.Permit permit = admissionControl.acquire(TrafficClass.BULK);
+        if (permit != null) {
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(
+                    NDJSON_PERMIT_KEY, new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                            permit.close();
+                        }
+                    });
+        }
+        StreamingResponseBody stream = output -> {
+            try (permit) {
+                ocrNdjsonService.process(body, output);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(stream);
     }
 
     /**
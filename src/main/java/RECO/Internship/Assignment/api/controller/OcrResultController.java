@@ -0,0 +1,49 @@
+package RECO.Internship.Assignment.api.controller;
+
+import RECO.Internship.Assignment.api.dto.ResultQueryResponse;
+import RECO.Internship.Assignment.application.index.ResultQuery;
+import RECO.Internship.Assignment.application.index.ResultQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 저장된 파싱 결과 조회 REST API 컨트롤러
+ *
+ * 원본을 다시 파싱하지 않고 결과 저장소와 색인에서 조회합니다.
+ */
+@RestController
+@RequestMapping("/api/ocr/results")
+@RequiredArgsConstructor
+public class OcrResultController {
+
+    private final ResultQueryService resultQueryService;
+
+    /**
+     * 조건 조회
+     * GET /api/ocr/results?vehicle=8713&from=2026-02-01&to=2026-02-07
+     * GET /api/ocr/results?customer=곰욕환경폐기물&status=INVALID
+     *
+     * 지정한 조건을 모두 만족하는 결과를 최근 기록 순서로 반환합니다.
+     * vehicle은 차량번호 전체 또는 끝 4자리, from/to는 계량일자(포함)입니다.
+     * 조건이 하나도 없으면 400을 반환합니다.
+     */
+    @GetMapping
+    public ResponseEntity<ResultQueryResponse> search(
+            @RequestParam(value = "vehicle", required = false) String vehicle,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "customer", required = false) String customer,
+            @RequestParam(value = "product", required = false) String productName,
+            @RequestParam(value = "issuer", required = false) String issuer,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+
+        ResultQuery query = new ResultQuery(vehicle, from, to, customer, productName, issuer, status);
+        return ResponseEntity.ok(resultQueryService.query(query, offset, limit));
+    }
+}
@@ -1,14 +1,18 @@
 package RECO.Internship.Assignment.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * 배치 파싱 개별 파일 결과 DTO
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class BatchParseResult {
 
@@ -17,6 +21,9 @@ public class BatchParseResult {
     private ParsedResultResponse result;
     private String error;
 
+    // 비동기 작업 결과에서만 사용: 입력 파일 순번 (0부터)
+    private Integer index;
+
     public static BatchParseResult success(String filename, ParsedResultResponse result) {
         return BatchParseResult.builder()
                 .filename(filename)
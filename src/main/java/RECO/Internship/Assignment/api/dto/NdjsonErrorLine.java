@@ -0,0 +1,30 @@
+package RECO.Internship.Assignment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * NDJSON 스트리밍 파싱의 실패 줄 DTO
+ *
+ * 성공한 줄은 ParsedResultResponse를 그대로 쓰고, 파싱하지 못한 줄만 이 형식으로 쓴다.
+ * ParsedResultResponse에는 error 필드가 없으므로 error 유무로 구분한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NdjsonErrorLine {
+
+    // 입력 줄 번호 (1부터, 빈 줄 포함)
+    private int line;
+    private String error;
+
+    public static NdjsonErrorLine of(int line, String error) {
+        return NdjsonErrorLine.builder()
+                .line(line)
+                .error(error)
+                .build();
+    }
+}
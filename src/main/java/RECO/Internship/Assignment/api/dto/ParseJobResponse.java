@@ -0,0 +1,33 @@
+package RECO.Internship.Assignment.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * 비동기 파싱 작업 상태 응답 DTO
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ParseJobResponse {
+
+    private String jobId;
+    // QUEUED, RUNNING, COMPLETED, FAILED
+    private String status;
+
+    // 진행 상황 (파일 수)
+    private int total;
+    private int completed;
+    private int succeeded;
+    private int failed;
+
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    // 작업 자체가 실패한 경우의 사유 (파일별 오류는 결과에 포함)
+    private String error;
+}
@@ -0,0 +1,26 @@
+package RECO.Internship.Assignment.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 비동기 파싱 작업 결과 응답 DTO
+ *
+ * 부분 결과는 완료 순서, 최종 결과는 입력 순서이며 각 결과의 index가 입력 파일 순번이다.
+ */
+@Data
+@Builder
+public class ParseJobResultsResponse {
+
+    private String jobId;
+    private String status;
+    private int total;
+    private int completed;
+
+    // 다음 부분 결과 조회에 넘길 offset
+    private int nextOffset;
+
+    private List<BatchParseResult> results;
+}
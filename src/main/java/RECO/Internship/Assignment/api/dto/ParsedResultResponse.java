@@ -1,14 +1,21 @@
 package RECO.Internship.Assignment.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * OCR 파싱 결과 응답 DTO
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ParsedResultResponse {
 
@@ -39,15 +46,60 @@ public class ParsedResultResponse {
     // OCR 신뢰도
     private Double confidence;
 
+    // 필드별 신뢰도 (값 구간에 걸친 단어 신뢰도의 글자 수 가중 평균, 계산할 수 없는 필드는 제외)
+    private Map<String, Double> fieldConfidence;
+
+    // 필드를 추출한 경로 (TEXT: 텍스트 정규식, LAYOUT: 단어 좌표 기반)
+    private String extractionTier;
+
+    // 다중 페이지 정보 (병합 결과: 페이지 수와 필드별 출처 페이지, 페이지별 결과: 페이지 번호, 0부터)
+    private Integer pageCount;
+    private Map<String, Integer> fieldPages;
+    private Integer page;
+
+    /**
+     * 깊은 복사 - 캐시 적중이나 병합으로 같은 결과를 여러 요청에 넘길 때 서로의 수정이 섞이지 않게 한다
+     */
+    public ParsedResultResponse copy() {
+        return ParsedResultResponse.builder()
+                .documentType(documentType)
+                .date(date)
+                .time(time)
+                .vehicleNumber(vehicleNumber)
+                .totalWeight(totalWeight)
+                .emptyWeight(emptyWeight)
+                .netWeight(netWeight)
+                .customer(customer)
+                .productName(productName)
+                .issuer(issuer)
+                .gps(gps == null ? null : gps.copy())
+                .validation(validation == null ? null : validation.copy())
+                .confidence(confidence)
+                .fieldConfidence(fieldConfidence == null ? null : new LinkedHashMap<>(fieldConfidence))
+                .extractionTier(extractionTier)
+                .pageCount(pageCount)
+                .fieldPages(fieldPages == null ? null : new LinkedHashMap<>(fieldPages))
+                .page(page)
+                .build();
+    }
+
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class GpsInfo {
         private Double latitude;
         private Double longitude;
+
+        public GpsInfo copy() {
+            return new GpsInfo(latitude, longitude);
+        }
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class ValidationInfo {
         // 전체 검증 상태 (모든 검증 종합)
         private String overallStatus;
@@ -64,13 +116,28 @@ public class ParsedResultResponse {
 
         // 차량번호 검증
         private FieldValidation vehicle;
+
+        public ValidationInfo copy() {
+            return new ValidationInfo(overallStatus, overallMessage, copy(weight), copy(dateTime), copy(gps),
+                    copy(vehicle));
+        }
+
+        private static FieldValidation copy(FieldValidation validation) {
+            return validation == null ? null : validation.copy();
+        }
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class FieldValidation {
         private String status;
         private String message;
         private Object value; // 계산된 값 등 (예: calculatedNetWeight)
+
+        public FieldValidation copy() {
+            return new FieldValidation(status, message, value);
+        }
     }
 }
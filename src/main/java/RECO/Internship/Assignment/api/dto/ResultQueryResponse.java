@@ -0,0 +1,22 @@
+package RECO.Internship.Assignment.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 저장된 파싱 결과 조회 응답 DTO
+ *
+ * 결과는 최근 기록 순서이며, total은 조건을 만족하는 전체 건수이다.
+ */
+@Data
+@Builder
+public class ResultQueryResponse {
+
+    private long total;
+    private int offset;
+    private int limit;
+
+    private List<StoredResultResponse> results;
+}
@@ -0,0 +1,39 @@
+package RECO.Internship.Assignment.api.dto;
+
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse.WeightSummary;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 조건에 맞는 저장 결과 전체의 요약 응답 DTO (열 저장소 스캔)
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResultSummaryResponse {
+
+    // 조회 기간 (지정하지 않으면 null)
+    private LocalDate from;
+    private LocalDate to;
+
+    // 계량표 수
+    private long tickets;
+
+    private WeightSummary totalWeight;
+    private WeightSummary emptyWeight;
+    private WeightSummary netWeight;
+
+    // GPS 좌표가 있는 계량표 수
+    private long withGps;
+
+    // 전체 검증 상태별 계량표 수
+    private Map<String, Long> statuses;
+
+    // 스캔한 행 수와 소요 시간
+    private long scannedRows;
+    private long elapsedMicros;
+}
@@ -0,0 +1,23 @@
+package RECO.Internship.Assignment.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 저장된 파싱 결과 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredResultResponse {
+
+    // 저장소 기록 번호
+    private long sequence;
+    private Instant storedAt;
+    private ParsedResultResponse result;
+}
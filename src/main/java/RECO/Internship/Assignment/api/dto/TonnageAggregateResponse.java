@@ -0,0 +1,60 @@
+package RECO.Internship.Assignment.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 거래처 × 품명 × 일자별 중량 집계 응답 DTO
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TonnageAggregateResponse {
+
+    // 조회 기간 (지정하지 않으면 null)
+    private LocalDate from;
+    private LocalDate to;
+
+    // day: 일자별, period: 기간 합계
+    private String groupBy;
+
+    private List<TonnageGroup> groups;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class TonnageGroup {
+        private String customer;
+        private String productName;
+        // groupBy=day일 때만 (계량일자가 없는 결과는 null)
+        private LocalDate date;
+
+        // 계량표 수
+        private long tickets;
+
+        private WeightSummary totalWeight;
+        private WeightSummary emptyWeight;
+        private WeightSummary netWeight;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class WeightSummary {
+        // 값이 있는 계량표 수
+        private long count;
+        private long sum;
+        private Integer min;
+        private Integer max;
+    }
+}
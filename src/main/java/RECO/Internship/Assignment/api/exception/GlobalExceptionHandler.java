@@ -1,12 +1,18 @@
 package RECO.Internship.Assignment.api.exception;
 
 import RECO.Internship.Assignment.api.dto.ErrorResponse;
+import RECO.Internship.Assignment.application.admission.AdmissionRejectedException;
+import RECO.Internship.Assignment.application.job.ParseJobNotFinishedException;
+import RECO.Internship.Assignment.application.job.ParseJobNotFoundException;
+import RECO.Internship.Assignment.application.job.ParseJobRejectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,6 +43,23 @@ public class GlobalExceptionHandler {
                                                 request.getRequestURI()));
         }
 
+        /**
+         * MethodArgumentTypeMismatchException 처리 (날짜 등 형식이 맞지 않는 요청 파라미터)
+         */
+        @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+        public ResponseEntity<ErrorResponse> handleArgumentTypeMismatch(
+                        MethodArgumentTypeMismatchException e, HttpServletRequest request) {
+
+                log.warn("잘못된 요청 파라미터: {}", e.getName());
+
+                return ResponseEntity.badRequest()
+                                .body(ErrorResponse.of(
+                                                HttpStatus.BAD_REQUEST.value(),
+                                                "Bad Request",
+                                                "요청 파라미터 형식이 올바르지 않습니다: " + e.getName(),
+                                                request.getRequestURI()));
+        }
+
         /**
          * IOException 처리 (파일 읽기 오류)
          */
@@ -71,6 +94,72 @@ public class GlobalExceptionHandler {
                                                 request.getRequestURI()));
         }
 
+        /**
+         * ParseJobNotFoundException 처리 (없거나 보관 기간이 지난 작업)
+         */
+        @ExceptionHandler(ParseJobNotFoundException.class)
+        public ResponseEntity<ErrorResponse> handleJobNotFound(
+                        ParseJobNotFoundException e, HttpServletRequest request) {
+
+                log.warn("작업 조회 실패: {}", e.getMessage());
+
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                                .body(ErrorResponse.of(
+                                                HttpStatus.NOT_FOUND.value(),
+                                                "Not Found",
+                                                e.getMessage(),
+                                                request.getRequestURI()));
+        }
+
+        /**
+         * ParseJobNotFinishedException 처리 (끝나지 않은 작업의 최종 결과 요청)
+         */
+        @ExceptionHandler(ParseJobNotFinishedException.class)
+        public ResponseEntity<ErrorResponse> handleJobNotFinished(
+                        ParseJobNotFinishedException e, HttpServletRequest request) {
+
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                                .body(ErrorResponse.of(
+                                                HttpStatus.CONFLICT.value(),
+                                                "Conflict",
+                                                e.getMessage(),
+                                                request.getRequestURI()));
+        }
+
+        /**
+         * ParseJobRejectedException 처리 (작업 큐 포화)
+         */
+        @ExceptionHandler(ParseJobRejectedException.class)
+        public ResponseEntity<ErrorResponse> handleJobRejected(
+                        ParseJobRejectedException e, HttpServletRequest request) {
+
+                log.warn("작업 거절: {}", e.getMessage());
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body(ErrorResponse.of(
+                                                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                                "Service Unavailable",
+                                                e.getMessage(),
+                                                request.getRequestURI()));
+        }
+
+        /**
+         * AdmissionRejectedException 처리 (동시 처리 한도 초과)
+         * 부하 상황에서 대량으로 발생하므로 경고 로그를 남기지 않는다.
+         */
+        @ExceptionHandler(AdmissionRejectedException.class)
+        public ResponseEntity<ErrorResponse> handleAdmissionRejected(
+                        AdmissionRejectedException e, HttpServletRequest request) {
+
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                                .body(ErrorResponse.of(
+                                                HttpStatus.TOO_MANY_REQUESTS.value(),
+                                                "Too Many Requests",
+                                                e.getMessage(),
+                                                request.getRequestURI()));
+        }
+
         /**
          * 기타 예외 처리
          */
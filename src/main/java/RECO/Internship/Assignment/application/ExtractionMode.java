@@ -0,0 +1,32 @@
+package RECO.Internship.Assignment.application;
+
+import java.util.Locale;
+
+/**
+ * 필드 추출 방식 (ocr.extraction.mode)
+ */
+public enum ExtractionMode {
+
+    /**
+     * 평탄화된 OCR 텍스트에 정규식 적용
+     */
+    TEXT,
+
+    /**
+     * 단어 좌표로 줄과 라벨 → 값 관계를 재구성한 뒤 추출
+     */
+    LAYOUT,
+
+    /**
+     * 신뢰도가 높은 문서는 TEXT로 먼저 추출하고, 신뢰도가 낮거나 결과가 불완전한 문서만 LAYOUT으로 다시 추출
+     */
+    TIERED;
+
+    public static ExtractionMode from(String value) {
+        try {
+            return ExtractionMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 추출 방식입니다: " + value);
+        }
+    }
+}
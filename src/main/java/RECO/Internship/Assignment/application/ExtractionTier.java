@@ -0,0 +1,17 @@
+package RECO.Internship.Assignment.application;
+
+/**
+ * 문서를 실제로 처리한 추출 경로 (응답의 extractionTier)
+ */
+public enum ExtractionTier {
+
+    /**
+     * 텍스트 정규식 추출 (빠른 경로)
+     */
+    TEXT,
+
+    /**
+     * 단어 좌표 기반 추출 (느린 경로)
+     */
+    LAYOUT
+}
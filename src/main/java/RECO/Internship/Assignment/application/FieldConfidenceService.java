@@ -0,0 +1,48 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.confidence.FieldConfidenceCalculator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * 필드별 신뢰도 산출 (ocr.confidence.per-field, 기본 꺼짐)
+ * 신뢰도가 높은 문서는 자동 승인하고 나머지만 검수로 보내는 데 사용한다
+ * 켜면 모든 요청이 words[]를 함께 읽어야 하므로 선택해서 사용한다
+ */
+@Service
+public class FieldConfidenceService {
+
+    private final FieldConfidenceCalculator fieldConfidenceCalculator;
+    private final boolean enabled;
+
+    public FieldConfidenceService(
+            FieldConfidenceCalculator fieldConfidenceCalculator,
+            @Value("${ocr.confidence.per-field:false}") boolean enabled) {
+        this.fieldConfidenceCalculator = fieldConfidenceCalculator;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 문서를 읽을 때 words[]까지 수집해야 하는지 여부
+     */
+    public boolean requiresWords() {
+        return enabled;
+    }
+
+    /**
+     * 필드별 신뢰도
+     *
+     * @return 필드명 → 신뢰도, 비활성화되었거나 계산할 수 있는 필드가 없으면 null
+     */
+    public Map<String, Double> score(OcrDocument document, ExtractedFields fields) {
+        if (!enabled) {
+            return null;
+        }
+        Map<String, Double> scores = fieldConfidenceCalculator.calculate(document, fields);
+        return scores.isEmpty() ? null : scores;
+    }
+}
@@ -0,0 +1,9 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+
+/**
+ * 필드 추출 결과와 처리한 추출 경로
+ */
+public record FieldExtraction(ExtractedFields fields, ExtractionTier tier) {
+}
@@ -0,0 +1,143 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.domain.model.LazyWordList;
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.domain.parser.LayoutFieldExtractor;
+import RECO.Internship.Assignment.domain.validator.WeightValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.util.regex.Pattern;
+
+/**
+ * 설정된 추출 방식(ocr.extraction.mode)에 따라 문서에서 필드를 추출
+ *
+ * TIERED 방식은 문서 신뢰도가 기준(ocr.extraction.tiered.confidence-threshold) 이상이면
+ * 텍스트 정규식 추출 결과를 먼저 확인하고, 필수 필드(날짜, 차량번호, 총/공차/실중량)가 모두 있고
+ * 총중량이 공차중량보다 크며 중량 계산(총중량 - 공차중량 = 실중량)이 맞고,
+ * 천 단위가 공백으로 분리된 중량("13 460 kg")이 없을 때만 그대로 사용한다.
+ * 그 외의 문서만 단어 좌표 기반 추출로 다시 처리하며, words[]도 이때 처음 읽는다.
+ * 이때 원본을 다시 읽지 못하면 텍스트 정규식 추출 결과를 사용한다.
+ */
+@Service
+public class FieldExtractionService {
+
+    private static final Logger log = LoggerFactory.getLogger(FieldExtractionService.class);
+
+    public static final double DEFAULT_CONFIDENCE_THRESHOLD = 0.9;
+
+    // 천 단위 구분자가 공백/기호로 인식된 중량 ("13 460 kg") - 텍스트 정규식은 앞자리만 읽는다
+    private static final Pattern SPLIT_WEIGHT = Pattern.compile("(?<![\\d,])\\d{1,3}[ ·.]\\d{3}\\s*kg",
+            Pattern.CASE_INSENSITIVE);
+
+    private final FieldExtractor fieldExtractor;
+    private final LayoutFieldExtractor layoutFieldExtractor;
+    private final WeightValidator weightValidator;
+    private final ExtractionMode mode;
+    private final double confidenceThreshold;
+
+    @Autowired
+    public FieldExtractionService(
+            FieldExtractor fieldExtractor,
+            LayoutFieldExtractor layoutFieldExtractor,
+            WeightValidator weightValidator,
+            @Value("${ocr.extraction.mode:text}") String mode,
+            @Value("${ocr.extraction.tiered.confidence-threshold:0.9}") double confidenceThreshold) {
+        this(fieldExtractor, layoutFieldExtractor, weightValidator, ExtractionMode.from(mode), confidenceThreshold);
+    }
+
+    public FieldExtractionService(
+            FieldExtractor fieldExtractor,
+            LayoutFieldExtractor layoutFieldExtractor,
+            WeightValidator weightValidator,
+            ExtractionMode mode,
+            double confidenceThreshold) {
+        this.fieldExtractor = fieldExtractor;
+        this.layoutFieldExtractor = layoutFieldExtractor;
+        this.weightValidator = weightValidator;
+        this.mode = mode;
+        this.confidenceThreshold = confidenceThreshold;
+        if (mode == ExtractionMode.TIERED) {
+            log.info("필드 추출 방식: {} (신뢰도 기준: {})", mode, confidenceThreshold);
+        } else {
+            log.info("필드 추출 방식: {}", mode);
+        }
+    }
+
+    public ExtractionMode mode() {
+        return mode;
+    }
+
+    /**
+     * 문서를 읽을 때 words[]까지 수집해야 하는지 여부
+     */
+    public boolean requiresWords() {
+        return mode == ExtractionMode.LAYOUT;
+    }
+
+    /**
+     * 레이아웃 경로로 전환할 때만 words[]가 필요한지 여부 (TIERED)
+     * 이 경우 words[]는 미리 읽지 않고 {@link LazyWordList}로 붙여 둔다.
+     */
+    public boolean defersWords() {
+        return mode == ExtractionMode.TIERED;
+    }
+
+    /**
+     * 필드 추출
+     */
+    public FieldExtraction extract(OcrDocument document) {
+        return switch (mode) {
+            case TEXT -> new FieldExtraction(fieldExtractor.extractAll(document.text()), ExtractionTier.TEXT);
+            case LAYOUT -> new FieldExtraction(layoutFieldExtractor.extract(document), ExtractionTier.LAYOUT);
+            case TIERED -> extractTiered(document);
+        };
+    }
+
+    private FieldExtraction extractTiered(OcrDocument document) {
+        Double confidence = document.confidence();
+        ExtractedFields textFields = null;
+        if (confidence != null && confidence >= confidenceThreshold) {
+            textFields = fieldExtractor.extractAll(document.text());
+            if (isComplete(textFields, document.text())) {
+                return new FieldExtraction(textFields, ExtractionTier.TEXT);
+            }
+            log.debug("빠른 경로 결과 불완전 - 레이아웃 추출로 전환");
+        } else {
+            log.debug("문서 신뢰도 {} < {} - 레이아웃 추출로 전환", confidence, confidenceThreshold);
+        }
+        try {
+            // 단어 좌표가 없으면 느린 경로도 같은 텍스트 추출로 끝나므로 텍스트 경로로 처리
+            if (document.hasWords()) {
+                return new FieldExtraction(layoutFieldExtractor.extract(document), ExtractionTier.LAYOUT);
+            }
+        } catch (UncheckedIOException e) {
+            // 지연 읽기(LazyWordList)로 원본을 다시 읽다 실패 - 요청 전체를 실패시키지 않고 텍스트 경로 결과 사용
+            log.warn("단어 정보를 읽을 수 없어 텍스트 추출 결과를 사용합니다: {}", e.getMessage());
+        }
+        return new FieldExtraction(textFields != null ? textFields : fieldExtractor.extractAll(document.text()),
+                ExtractionTier.TEXT);
+    }
+
+    /**
+     * 빠른 경로 결과를 그대로 사용할 수 있는지 (필수 필드 존재 + 중량 계산 일치 + 분리된 숫자 없음)
+     */
+    private boolean isComplete(ExtractedFields fields, String text) {
+        if (fields.date() == null || fields.vehicleNumber() == null
+                || fields.totalWeight() == null || fields.emptyWeight() == null || fields.netWeight() == null) {
+            return false;
+        }
+        // 총중량이 공차중량 이하이거나 분리된 중량 숫자가 있으면 숫자가 잘렸을 가능성이 높다
+        if (fields.totalWeight() <= fields.emptyWeight() || SPLIT_WEIGHT.matcher(text).find()) {
+            return false;
+        }
+        return weightValidator.validateWeightCalculation(
+                fields.totalWeight(), fields.emptyWeight(), fields.netWeight()).isValid();
+    }
+}
@@ -0,0 +1,151 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다중 파일 일괄 파싱 서비스
+ *
+ * 순차 모드와 병렬 모드를 제공한다. 병렬 모드는 공유 워커 풀(전역 동시성 상한)에
+ * 파일을 분배하되, 요청 단위 세마포어로 한 요청이 동시에 점유하는 워커 수를 제한한다.
+ * 파일별 오류는 BatchParseResult로 격리되며, 결과는 입력 순서를 유지한다.
+ *
+ * Java 17 툴체인이므로 가상 스레드 대신 고정 크기 플랫폼 스레드 풀을 사용한다.
+ */
+@Service
+public class OcrBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(OcrBatchService.class);
+
+    private final OcrParseService ocrParseService;
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+    private final int perRequestConcurrency;
+
+    public OcrBatchService(
+            OcrParseService ocrParseService,
+            @Value("${ocr.batch.max-concurrency:0}") int maxConcurrency,
+            @Value("${ocr.batch.per-request-concurrency:4}") int perRequestConcurrency) {
+        this.ocrParseService = ocrParseService;
+        this.maxConcurrency = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+        this.perRequestConcurrency = Math.max(1, Math.min(perRequestConcurrency, this.maxConcurrency));
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "ocr-batch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("일괄 파싱 워커 풀 초기화 - 전역 동시성: {}, 요청당 동시성: {}",
+                this.maxConcurrency, this.perRequestConcurrency);
+    }
+
+    /**
+     * 파일 목록 일괄 파싱
+     *
+     * @param files       업로드 파일 목록
+     * @param parallel    병렬 처리 여부
+     * @param concurrency 요청당 동시성 (null이면 기본값, 설정된 상한을 넘을 수 없음)
+     * @return 입력 순서와 동일한 파일별 결과
+     */
+    public List<BatchParseResult> parseAll(MultipartFile[] files, boolean parallel, Integer concurrency) {
+        if (!parallel || files.length <= 1) {
+            List<BatchParseResult> results = new ArrayList<>(files.length);
+            for (MultipartFile file : files) {
+                results.add(parseOne(file));
+            }
+            return results;
+        }
+
+        int limit = resolveConcurrency(concurrency);
+        log.info("병렬 일괄 파싱 - 파일 수: {}, 동시성: {}", files.length, limit);
+
+        Semaphore window = new Semaphore(limit);
+        List<CompletableFuture<BatchParseResult>> futures = new ArrayList<>(files.length);
+
+        for (MultipartFile file : files) {
+            futures.add(submit(file, window));
+        }
+
+        List<BatchParseResult> results = new ArrayList<>(files.length);
+        for (CompletableFuture<BatchParseResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * 요청당 동시성 결정 (1 ~ 설정 상한)
+     */
+    int resolveConcurrency(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return perRequestConcurrency;
+        }
+        return Math.min(requested, perRequestConcurrency);
+    }
+
+    private CompletableFuture<BatchParseResult> submit(MultipartFile file, Semaphore window) {
+        String filename = file.getOriginalFilename();
+        try {
+            window.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(
+                    BatchParseResult.error(filename, "파싱 요청이 중단되었습니다."));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> parseOne(file), executor)
+                    .whenComplete((result, error) -> window.release());
+        } catch (RejectedExecutionException e) {
+            window.release();
+            log.error("파싱 작업 제출 실패: {}", filename, e);
+            return CompletableFuture.completedFuture(
+                    BatchParseResult.error(filename, "파싱 중 서버 내부 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 단일 파일 파싱 - 모든 오류를 결과 객체로 격리
+     */
+    private BatchParseResult parseOne(MultipartFile file) {
+        String filename = file.getOriginalFilename();
+
+        if (file.isEmpty()) {
+            log.warn("빈 파일 발견: {}", filename);
+            return BatchParseResult.error(filename, "파일이 비어있습니다");
+        }
+
+        try {
+            ParsedResultResponse parsed = ocrParseService.parseFromFile(file);
+            return BatchParseResult.success(filename, parsed);
+        } catch (IOException e) {
+            log.error("파일 파싱 실패: {}", filename, e);
+            return BatchParseResult.error(filename, "파일 처리 중 오류가 발생했습니다.");
+        } catch (Exception e) {
+            log.error("예상치 못한 오류: {}", filename, e);
+            return BatchParseResult.error(filename, "파싱 중 서버 내부 오류가 발생했습니다.");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,83 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.api.dto.NdjsonErrorLine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NDJSON(한 줄당 OCR JSON 문서 하나) 스트리밍 파싱 서비스
+ *
+ * 입력을 한 줄씩 읽어 파싱하고, 결과를 한 줄씩 즉시 기록/flush한다.
+ * 한 번에 한 줄만 메모리에 올리므로 본문 크기와 무관하게 메모리 사용량이 일정하다.
+ *
+ * 빈 줄을 뺀 입력 한 줄마다 같은 순서로 한 줄을 쓴다. 성공한 줄은 /parse/json 응답과 같은
+ * ParsedResultResponse, 실패한 줄은 입력 줄 번호와 오류 메시지를 담은 NdjsonErrorLine이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OcrNdjsonService {
+
+    private static final Logger log = LoggerFactory.getLogger(OcrNdjsonService.class);
+
+    private static final byte NEWLINE = '\n';
+
+    private final OcrParseService ocrParseService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON 입력을 파싱하여 줄 단위 결과를 출력
+     *
+     * @param input  NDJSON 입력 스트림
+     * @param output 결과 출력 스트림 (입력 한 줄당 ParsedResultResponse 또는 NdjsonErrorLine 한 줄)
+     * @return 처리한 문서 수
+     */
+    public int process(InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        int lineNumber = 0;
+        int processed = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Object result = parseLine(lineNumber, line);
+            output.write(objectMapper.writeValueAsBytes(result));
+            output.write(NEWLINE);
+            output.flush();
+            processed++;
+        }
+
+        log.info("NDJSON 파싱 완료 - 처리 문서 수: {}", processed);
+        return processed;
+    }
+
+    /**
+     * 한 줄 파싱 - 줄 단위로 오류를 격리
+     *
+     * @return 성공하면 ParsedResultResponse, 실패하면 NdjsonErrorLine
+     */
+    private Object parseLine(int lineNumber, String line) {
+        try {
+            return ocrParseService.parseFromJson(line);
+        } catch (IllegalArgumentException e) {
+            log.warn("NDJSON {}번째 줄 파싱 실패: {}", lineNumber, e.getMessage());
+            return NdjsonErrorLine.of(lineNumber, e.getMessage());
+        } catch (Exception e) {
+            log.error("NDJSON {}번째 줄 처리 중 예상치 못한 오류", lineNumber, e);
+            return NdjsonErrorLine.of(lineNumber, "파싱 중 서버 내부 오류가 발생했습니다.");
+        }
+    }
+}
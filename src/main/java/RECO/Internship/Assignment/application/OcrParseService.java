@@ -1,7 +1,14 @@
 package RECO.Internship.Assignment.application;
 
 import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
-import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.application.cache.ParseCoalescer;
+import RECO.Internship.Assignment.application.cache.ParseResultCache;
+import RECO.Internship.Assignment.application.cache.PayloadHash;
+import RECO.Internship.Assignment.application.metrics.ParseMetrics;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.domain.model.LazyWordList;
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
 import RECO.Internship.Assignment.domain.validator.DateTimeValidator;
 import RECO.Internship.Assignment.domain.validator.GpsValidator;
 import RECO.Internship.Assignment.domain.validator.VehicleValidator;
@@ -14,8 +21,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * OCR 파싱 서비스
@@ -28,11 +42,17 @@ public class OcrParseService {
     private static final Logger log = LoggerFactory.getLogger(OcrParseService.class);
 
     private final OcrFileReader ocrFileReader;
-    private final FieldExtractor fieldExtractor;
+    private final FieldExtractionService fieldExtractionService;
+    private final FieldConfidenceService fieldConfidenceService;
+    private final PageExtractionService pageExtractionService;
     private final WeightValidator weightValidator;
     private final DateTimeValidator dateTimeValidator;
     private final GpsValidator gpsValidator;
     private final VehicleValidator vehicleValidator;
+    private final ParseResultCache parseResultCache;
+    private final ParseCoalescer parseCoalescer;
+    private final ParseResultStore parseResultStore;
+    private final ParseMetrics parseMetrics;
 
     /**
      * MultipartFile로부터 OCR 파싱 수행
@@ -40,12 +60,65 @@ public class OcrParseService {
     public ParsedResultResponse parseFromFile(MultipartFile file) throws IOException {
         log.info("OCR 파싱 시작 - 파일명: {}", file.getOriginalFilename());
 
-        // 1. JSON 파일에서 텍스트 추출
-        String ocrText = ocrFileReader.readFromMultipartFile(file);
-        Double confidence = ocrFileReader.extractConfidence(file);
+        // 0. 동일 페이로드 캐시 확인
+        PayloadHash key = null;
+        if (parseResultCache.isEnabled() || parseCoalescer.isEnabled()) {
+            try (InputStream input = file.getInputStream()) {
+                key = PayloadHash.of(input);
+            }
+            ParsedResultResponse cached = parseResultCache.get(key);
+            if (cached != null) {
+                log.info("OCR 파싱 캐시 적중 - 파일명: {}", file.getOriginalFilename());
+                return cached;
+            }
+        }
+
+        PayloadHash cacheKey = key;
+        return coalesce(key, () -> {
+            // 1. JSON 파일을 한 번만 파싱
+            long readStart = System.nanoTime();
+            OcrDocument document = deferWords(ocrFileReader.readDocument(file, requiresWords()),
+                    () -> ocrFileReader.readWords(file));
+            parseMetrics.recordStage(ParseMetrics.STAGE_READ, System.nanoTime() - readStart);
+
+            // 2. 필드 추출
+            ParsedResultResponse result = extractAndValidate(document);
+            cache(cacheKey, result);
+            store(result);
+            return result;
+        });
+    }
+
+    /**
+     * 로컬 파일로부터 OCR 파싱 수행 (드롭 폴더 등)
+     */
+    public ParsedResultResponse parseFromPath(Path path) throws IOException {
+        log.info("OCR 파싱 시작 - 파일: {}", path.getFileName());
 
-        // 2. 필드 추출
-        return extractAndValidate(ocrText, confidence);
+        PayloadHash key = null;
+        if (parseResultCache.isEnabled() || parseCoalescer.isEnabled()) {
+            try (InputStream input = Files.newInputStream(path)) {
+                key = PayloadHash.of(input);
+            }
+            ParsedResultResponse cached = parseResultCache.get(key);
+            if (cached != null) {
+                log.info("OCR 파싱 캐시 적중 - 파일: {}", path.getFileName());
+                return cached;
+            }
+        }
+
+        PayloadHash cacheKey = key;
+        return coalesce(key, () -> {
+            long readStart = System.nanoTime();
+            OcrDocument document = deferWords(ocrFileReader.readDocument(path, requiresWords()),
+                    () -> ocrFileReader.readWords(path));
+            parseMetrics.recordStage(ParseMetrics.STAGE_READ, System.nanoTime() - readStart);
+
+            ParsedResultResponse result = extractAndValidate(document);
+            cache(cacheKey, result);
+            store(result);
+            return result;
+        });
     }
 
     /**
@@ -54,34 +127,188 @@ public class OcrParseService {
     public ParsedResultResponse parseFromJson(String jsonContent) {
         log.info("OCR 파싱 시작 - JSON 직접 입력");
 
-        String ocrText = ocrFileReader.readFromString(jsonContent);
-        Double confidence = ocrFileReader.extractConfidenceFromString(jsonContent);
+        PayloadHash key = null;
+        if (parseResultCache.isEnabled() || parseCoalescer.isEnabled()) {
+            key = PayloadHash.of(jsonContent);
+            ParsedResultResponse cached = parseResultCache.get(key);
+            if (cached != null) {
+                log.info("OCR 파싱 캐시 적중 - JSON 직접 입력");
+                return cached;
+            }
+        }
+
+        PayloadHash cacheKey = key;
+        return coalesce(key, () -> {
+            long readStart = System.nanoTime();
+            OcrDocument document = deferWords(ocrFileReader.readDocument(jsonContent, requiresWords()),
+                    () -> ocrFileReader.readWords(jsonContent));
+            parseMetrics.recordStage(ParseMetrics.STAGE_READ, System.nanoTime() - readStart);
+
+            ParsedResultResponse result = extractAndValidate(document);
+            cache(cacheKey, result);
+            store(result);
+            return result;
+        });
+    }
+
+    /**
+     * MultipartFile의 페이지마다 독립된 결과 반환 (한 스캔에 여러 계량표가 묶인 경우)
+     * 텍스트가 없는 페이지는 건너뛰며, 각 결과의 page에 페이지 번호(0부터)를 기록한다.
+     * 페이지 단위 결과는 캐시하지 않는다.
+     */
+    public List<ParsedResultResponse> parsePagesFromFile(MultipartFile file) throws IOException {
+        log.info("페이지별 OCR 파싱 시작 - 파일명: {}", file.getOriginalFilename());
+
+        long readStart = System.nanoTime();
+        OcrDocument document = deferWords(ocrFileReader.readDocument(file, requiresWords()),
+                () -> ocrFileReader.readWords(file));
+        parseMetrics.recordStage(ParseMetrics.STAGE_READ, System.nanoTime() - readStart);
+
+        if (!document.isMultiPage()) {
+            // 텍스트가 있는 페이지가 하나뿐이면 그 페이지의 결과 (앞 페이지가 비어 있을 수 있음)
+            ParsedResultResponse response = extractAndValidate(document);
+            response.setPage(document.firstTextPage());
+            store(response);
+            return List.of(response);
+        }
+
+        List<ParsedResultResponse> results = pageExtractionService.mapPages(document, index -> {
+            OcrDocument page = document.page(index);
+            if (page.text().isBlank()) {
+                return null;
+            }
+            long extractStart = System.nanoTime();
+            FieldExtraction extraction = fieldExtractionService.extract(page);
+            parseMetrics.recordStage(ParseMetrics.STAGE_EXTRACT, System.nanoTime() - extractStart);
+            ParsedResultResponse response = validate(extraction.fields(), extraction.tier(), page.confidence(),
+                    fieldConfidenceService.score(page, extraction.fields()));
+            response.setPage(index);
+            return response;
+        });
+        results.removeIf(Objects::isNull);
+        results.forEach(this::store);
+        log.info("페이지별 OCR 파싱 완료 - 전체 페이지: {}, 결과: {}", document.pageCount(), results.size());
+        return results;
+    }
+
+    /**
+     * 필드 추출 방식 또는 필드별 신뢰도 계산에 words[]가 필요한지 여부
+     */
+    private boolean requiresWords() {
+        return fieldExtractionService.requiresWords() || fieldConfidenceService.requiresWords();
+    }
+
+    /**
+     * TIERED 추출이면 words[]는 미리 읽지 않고, 레이아웃 경로로 전환할 때 원본에서 처음 읽도록 로더를 붙여 둔다
+     */
+    private OcrDocument deferWords(OcrDocument document, LazyWordList.Loader loader) {
+        if (requiresWords() || !fieldExtractionService.defersWords()) {
+            return document;
+        }
+        return document.withWords(new LazyWordList(loader));
+    }
+
+    /**
+     * 같은 페이로드를 동시에 파싱 중이면 그 결과를 함께 받고, 아니면 직접 파싱
+     */
+    private <E extends Exception> ParsedResultResponse coalesce(PayloadHash key,
+            ParseCoalescer.ParseCall<E> call) throws E {
+        if (key == null || !parseCoalescer.isEnabled()) {
+            return call.parse();
+        }
+        return parseCoalescer.execute(key, call);
+    }
+
+    private void cache(PayloadHash key, ParsedResultResponse result) {
+        if (key != null) {
+            parseResultCache.put(key, result);
+        }
+    }
 
-        return extractAndValidate(ocrText, confidence);
+    /**
+     * 결과 저장소에 기록 - 디스크 확정은 기다리지 않는다 (캐시 적중, 병합으로 받은 결과는 기록하지 않음)
+     */
+    private void store(ParsedResultResponse result) {
+        if (parseResultStore.isEnabled()) {
+            parseResultStore.append(result).whenComplete((stored, error) -> {
+                if (error != null) {
+                    log.error("파싱 결과 저장 실패", error);
+                }
+            });
+        }
     }
 
     /**
      * 필드 추출 및 검증 수행
+     * 텍스트가 있는 페이지가 둘 이상이면 페이지별로 추출한 뒤 병합하고, 필드별 출처 페이지를 함께 반환한다.
      */
-    private ParsedResultResponse extractAndValidate(String ocrText, Double confidence) {
-        // 필드 추출
-        String documentType = fieldExtractor.extractDocumentType(ocrText);
-        String date = fieldExtractor.extractDate(ocrText);
-        String time = fieldExtractor.extractTime(ocrText);
-        String vehicleNumber = fieldExtractor.extractVehicleNumber(ocrText);
-        Integer totalWeight = fieldExtractor.extractTotalWeight(ocrText);
-        Integer emptyWeight = fieldExtractor.extractEmptyWeight(ocrText);
-        Integer netWeight = fieldExtractor.extractNetWeight(ocrText);
-        String customer = fieldExtractor.extractCustomer(ocrText);
-        String productName = fieldExtractor.extractProductName(ocrText);
-        String issuer = fieldExtractor.extractIssuer(ocrText);
-        double[] gpsCoords = fieldExtractor.extractGpsCoordinates(ocrText);
+    private ParsedResultResponse extractAndValidate(OcrDocument document) {
+        long extractStart = System.nanoTime();
+        if (!document.isMultiPage()) {
+            // 필드 추출 (설정된 추출 방식)
+            FieldExtraction extraction = fieldExtractionService.extract(document);
+            parseMetrics.recordStage(ParseMetrics.STAGE_EXTRACT, System.nanoTime() - extractStart);
+            Map<String, Double> fieldConfidence = fieldConfidenceService.score(document, extraction.fields());
+            return validate(extraction.fields(), extraction.tier(), document.confidence(), fieldConfidence);
+        }
+
+        List<FieldExtraction> pages = pageExtractionService.extractPages(document);
+        PageExtractionService.MergedExtraction merged = pageExtractionService.merge(pages);
+        parseMetrics.recordStage(ParseMetrics.STAGE_EXTRACT, System.nanoTime() - extractStart);
+        Map<String, Double> fieldConfidence = mergeFieldConfidence(document, pages, merged.fieldPages());
+
+        ParsedResultResponse response = validate(merged.fields(), merged.tier(), document.confidence(),
+                fieldConfidence);
+        response.setPageCount(document.pageCount());
+        response.setFieldPages(merged.fieldPages());
+        return response;
+    }
+
+    /**
+     * 병합된 필드의 신뢰도는 값을 가져온 페이지에서 계산한 신뢰도를 사용
+     */
+    private Map<String, Double> mergeFieldConfidence(OcrDocument document, List<FieldExtraction> pages,
+            Map<String, Integer> fieldPages) {
+        Map<Integer, Map<String, Double>> pageScores = new HashMap<>();
+        Map<String, Double> merged = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : fieldPages.entrySet()) {
+            int page = entry.getValue();
+            Map<String, Double> scores = pageScores.computeIfAbsent(page,
+                    index -> fieldConfidenceService.score(document.page(index), pages.get(index).fields()));
+            if (scores != null && scores.containsKey(entry.getKey())) {
+                merged.put(entry.getKey(), scores.get(entry.getKey()));
+            }
+        }
+        return merged.isEmpty() ? null : merged;
+    }
+
+    /**
+     * 추출된 필드 검증 및 응답 구성
+     */
+    private ParsedResultResponse validate(ExtractedFields fields, ExtractionTier tier, Double confidence,
+            Map<String, Double> fieldConfidence) {
+        parseMetrics.recordTier(tier.name());
+        parseMetrics.recordFields(fields);
+        String documentType = fields.documentType();
+        String date = fields.date();
+        String time = fields.time();
+        String vehicleNumber = fields.vehicleNumber();
+        Integer totalWeight = fields.totalWeight();
+        Integer emptyWeight = fields.emptyWeight();
+        Integer netWeight = fields.netWeight();
+        String customer = fields.customer();
+        String productName = fields.productName();
+        String issuer = fields.issuer();
+        double[] gpsCoords = fields.gpsCoordinates();
 
         // === 모든 검증 수행 ===
+        long validateStart = System.nanoTime();
 
         // 1. 중량 검증
+        long validatorStart = validateStart;
         WeightValidator.ValidationResult weightResult = weightValidator.validateWeightCalculation(
                 totalWeight, emptyWeight, netWeight);
+        parseMetrics.recordValidator(ParseMetrics.VALIDATOR_WEIGHT, System.nanoTime() - validatorStart);
         ParsedResultResponse.FieldValidation weightValidation = ParsedResultResponse.FieldValidation.builder()
                 .status(weightResult.status().name())
                 .message(weightResult.message())
@@ -89,8 +316,10 @@ public class OcrParseService {
                 .build();
 
         // 2. 날짜/시간 검증
+        validatorStart = System.nanoTime();
         DateTimeValidator.ValidationResult dateResult = dateTimeValidator.validateDate(date);
         DateTimeValidator.ValidationResult timeResult = dateTimeValidator.validateTime(time);
+        parseMetrics.recordValidator(ParseMetrics.VALIDATOR_DATE_TIME, System.nanoTime() - validatorStart);
         String dateTimeStatus = combineStatus(dateResult.status().name(), timeResult.status().name());
         String dateTimeMessage = combineMessages(dateResult.message(), timeResult.message());
         ParsedResultResponse.FieldValidation dateTimeValidation = ParsedResultResponse.FieldValidation.builder()
@@ -99,19 +328,26 @@ public class OcrParseService {
                 .build();
 
         // 3. GPS 검증
+        validatorStart = System.nanoTime();
         GpsValidator.ValidationResult gpsResult = gpsValidator.validateCoordinates(gpsCoords);
+        parseMetrics.recordValidator(ParseMetrics.VALIDATOR_GPS, System.nanoTime() - validatorStart);
         ParsedResultResponse.FieldValidation gpsValidation = ParsedResultResponse.FieldValidation.builder()
                 .status(gpsResult.status().name())
                 .message(gpsResult.message())
                 .build();
 
         // 4. 차량번호 검증
+        validatorStart = System.nanoTime();
         VehicleValidator.ValidationResult vehicleResult = vehicleValidator.validateVehicleNumber(vehicleNumber);
+        parseMetrics.recordValidator(ParseMetrics.VALIDATOR_VEHICLE, System.nanoTime() - validatorStart);
         ParsedResultResponse.FieldValidation vehicleValidation = ParsedResultResponse.FieldValidation.builder()
                 .status(vehicleResult.status().name())
                 .message(vehicleResult.message())
                 .build();
 
+        long responseStart = System.nanoTime();
+        parseMetrics.recordStage(ParseMetrics.STAGE_VALIDATE, responseStart - validateStart);
+
         // 전체 검증 상태 종합
         String overallStatus = determineOverallStatus(
                 weightResult.status().name(),
@@ -139,9 +375,9 @@ public class OcrParseService {
                 .vehicle(vehicleValidation)
                 .build();
 
-        log.info("OCR 파싱 완료 - 문서종류: {}, 전체검증: {}", documentType, overallStatus);
+        log.info("OCR 파싱 완료 - 문서종류: {}, 전체검증: {}, 추출경로: {}", documentType, overallStatus, tier);
 
-        return ParsedResultResponse.builder()
+        ParsedResultResponse response = ParsedResultResponse.builder()
                 .documentType(documentType)
                 .date(date)
                 .time(time)
@@ -155,7 +391,13 @@ public class OcrParseService {
                 .gps(gpsInfo)
                 .validation(validationInfo)
                 .confidence(confidence)
+                .fieldConfidence(fieldConfidence)
+                .extractionTier(tier.name())
                 .build();
+
+        parseMetrics.recordStage(ParseMetrics.STAGE_RESPONSE, System.nanoTime() - responseStart);
+        parseMetrics.recordStatus(overallStatus);
+        return response;
     }
 
     /**
@@ -0,0 +1,141 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 다중 페이지 문서의 페이지별 필드 추출
+ *
+ * 각 페이지를 독립된 문서(페이지 텍스트 + 해당 페이지 단어)로 보고 설정된 추출 방식으로 처리한다.
+ * 페이지 수가 기준(ocr.pages.parallel-threshold) 이상이면 전용 워커 풀에서 병렬로 추출한다.
+ * 일괄 파싱 워커 안에서도 호출되므로, 일괄 파싱 풀과 공유하지 않아 서로를 기다리며 멈추는 일이 없다.
+ */
+@Service
+public class PageExtractionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PageExtractionService.class);
+
+    private final FieldExtractionService fieldExtractionService;
+    private final int parallelThreshold;
+    private final ExecutorService executor;
+
+    public PageExtractionService(
+            FieldExtractionService fieldExtractionService,
+            @Value("${ocr.pages.parallel-threshold:4}") int parallelThreshold,
+            @Value("${ocr.pages.max-concurrency:0}") int maxConcurrency) {
+        this.fieldExtractionService = fieldExtractionService;
+        this.parallelThreshold = Math.max(2, parallelThreshold);
+
+        int threads = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ocr-page-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("페이지 추출 워커 풀 초기화 - 스레드: {}, 병렬 처리 기준: {} 페이지", threads, this.parallelThreshold);
+    }
+
+    /**
+     * 페이지별 필드 추출 (페이지 순서 유지)
+     * 단일 페이지 문서는 문서 전체를 한 페이지로 추출한다.
+     */
+    public List<FieldExtraction> extractPages(OcrDocument document) {
+        if (!document.isMultiPage()) {
+            return List.of(fieldExtractionService.extract(document));
+        }
+        return mapPages(document, page -> fieldExtractionService.extract(document.page(page)));
+    }
+
+    /**
+     * 페이지마다 작업을 수행하여 페이지 순서대로 결과 반환
+     * 페이지 수가 병렬 처리 기준 이상이면 워커 풀에서 동시에 수행한다.
+     */
+    public <T> List<T> mapPages(OcrDocument document, Function<Integer, T> task) {
+        int pageCount = document.pageCount();
+        List<T> results = new ArrayList<>(pageCount);
+        if (pageCount < parallelThreshold) {
+            for (int page = 0; page < pageCount; page++) {
+                results.add(task.apply(page));
+            }
+            return results;
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(pageCount);
+        for (int page = 0; page < pageCount; page++) {
+            int index = page;
+            futures.add(CompletableFuture.supplyAsync(() -> task.apply(index), executor));
+        }
+        for (CompletableFuture<T> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * 페이지별 추출 결과 병합
+     * 필드마다 값이 있는 첫 페이지의 값을 사용하고, 그 페이지 번호(0부터)를 출처로 기록한다.
+     * 어느 한 페이지라도 레이아웃 경로를 거쳤으면 병합 결과의 추출 경로는 LAYOUT이다.
+     */
+    public MergedExtraction merge(List<FieldExtraction> pages) {
+        Map<String, Integer> fieldPages = new LinkedHashMap<>();
+        ExtractedFields merged = new ExtractedFields(
+                pick(pages, "documentType", ExtractedFields::documentType, fieldPages),
+                pick(pages, "date", ExtractedFields::date, fieldPages),
+                pick(pages, "time", ExtractedFields::time, fieldPages),
+                pick(pages, "vehicleNumber", ExtractedFields::vehicleNumber, fieldPages),
+                pick(pages, "totalWeight", ExtractedFields::totalWeight, fieldPages),
+                pick(pages, "emptyWeight", ExtractedFields::emptyWeight, fieldPages),
+                pick(pages, "netWeight", ExtractedFields::netWeight, fieldPages),
+                pick(pages, "customer", ExtractedFields::customer, fieldPages),
+                pick(pages, "productName", ExtractedFields::productName, fieldPages),
+                pick(pages, "issuer", ExtractedFields::issuer, fieldPages),
+                pick(pages, "gps", ExtractedFields::gpsCoordinates, fieldPages));
+
+        ExtractionTier tier = pages.stream().anyMatch(page -> page.tier() == ExtractionTier.LAYOUT)
+                ? ExtractionTier.LAYOUT
+                : ExtractionTier.TEXT;
+        return new MergedExtraction(merged, tier, Collections.unmodifiableMap(fieldPages));
+    }
+
+    private static <T> T pick(List<FieldExtraction> pages, String field, Function<ExtractedFields, T> getter,
+            Map<String, Integer> fieldPages) {
+        for (int page = 0; page < pages.size(); page++) {
+            T value = getter.apply(pages.get(page).fields());
+            if (value != null) {
+                fieldPages.put(field, page);
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 페이지 병합 결과
+     *
+     * @param fieldPages 필드명 → 값을 가져온 페이지 번호 (0부터)
+     */
+    public record MergedExtraction(ExtractedFields fields, ExtractionTier tier, Map<String, Integer> fieldPages) {
+    }
+}
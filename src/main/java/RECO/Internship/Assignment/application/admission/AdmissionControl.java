@@ -0,0 +1,102 @@
+package RECO.Internship.Assignment.application.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 파싱 API 진입 제어 (부하 차단)
+ *
+ * 단일 문서(INTERACTIVE)와 일괄(BULK) 요청에 서로 다른 동시성 제한기를 두어,
+ * 일괄 요청이 몰려도 단일 문서 요청의 처리 자리를 빼앗지 못하게 한다.
+ * 한도와 대기열을 넘는 요청은 처리 시간이 끝없이 늘어나기 전에 AdmissionRejectedException으로 바로 거절한다.
+ *
+ * 클래스별 한도/처리 중/거절 수는 ocr.admission.* 지표로 노출된다.
+ */
+@Component
+public class AdmissionControl implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControl.class);
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final Map<TrafficClass, ConcurrencyLimiter> limiters = new EnumMap<>(TrafficClass.class);
+
+    @Autowired
+    public AdmissionControl(
+            @Value("${ocr.admission.enabled:true}") boolean enabled,
+            @Value("${ocr.admission.adaptive:true}") boolean adaptive,
+            @Value("${ocr.admission.max-wait-ms:50}") long maxWaitMs,
+            @Value("${ocr.admission.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${ocr.admission.interactive.limit:16}") int interactiveLimit,
+            @Value("${ocr.admission.interactive.max-limit:64}") int interactiveMaxLimit,
+            @Value("${ocr.admission.interactive.queue-size:32}") int interactiveQueueSize,
+            @Value("${ocr.admission.interactive.latency-threshold-ms:500}") long interactiveLatencyMs,
+            @Value("${ocr.admission.bulk.limit:2}") int bulkLimit,
+            @Value("${ocr.admission.bulk.max-limit:4}") int bulkMaxLimit,
+            @Value("${ocr.admission.bulk.queue-size:2}") int bulkQueueSize,
+            @Value("${ocr.admission.bulk.latency-threshold-ms:30000}") long bulkLatencyMs) {
+        this(enabled, retryAfterSeconds,
+                new ConcurrencyLimiter(adaptive, interactiveLimit, interactiveMaxLimit, interactiveQueueSize,
+                        Duration.ofMillis(maxWaitMs), Duration.ofMillis(interactiveLatencyMs)),
+                new ConcurrencyLimiter(adaptive, bulkLimit, bulkMaxLimit, bulkQueueSize,
+                        Duration.ofMillis(maxWaitMs), Duration.ofMillis(bulkLatencyMs)));
+    }
+
+    AdmissionControl(boolean enabled, long retryAfterSeconds,
+            ConcurrencyLimiter interactive, ConcurrencyLimiter bulk) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+        limiters.put(TrafficClass.INTERACTIVE, interactive);
+        limiters.put(TrafficClass.BULK, bulk);
+        log.info("파싱 진입 제어 - 사용: {}, 단일: {}, 일괄: {}", enabled, interactive, bulk);
+    }
+
+    /**
+     * 처리 허가 획득
+     * 진입 제어를 끄면 항상 null을 반환하므로 try-with-resources에 그대로 쓸 수 있다.
+     *
+     * @return 허가 (처리가 끝나면 close)
+     * @throws AdmissionRejectedException 한도와 대기열이 모두 찬 경우
+     */
+    public ConcurrencyLimiter.Permit acquire(TrafficClass trafficClass) {
+        if (!enabled) {
+            return null;
+        }
+        ConcurrencyLimiter.Permit permit = limiters.get(trafficClass).tryAcquire();
+        if (permit == null) {
+            log.debug("{} 요청 거절 - 한도: {}, 처리 중: {}", trafficClass,
+                    limiters.get(trafficClass).limit(), limiters.get(trafficClass).inFlight());
+            throw new AdmissionRejectedException(trafficClass, retryAfterSeconds);
+        }
+        return permit;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((trafficClass, limiter) -> {
+            Gauge.builder("ocr.admission.limit", limiter, ConcurrencyLimiter::limit)
+                    .description("현재 동시 처리 한도")
+                    .tag("class", trafficClass.tag())
+                    .register(registry);
+            Gauge.builder("ocr.admission.inflight", limiter, ConcurrencyLimiter::inFlight)
+                    .description("처리 중인 요청 수")
+                    .tag("class", trafficClass.tag())
+                    .register(registry);
+            FunctionCounter.builder("ocr.admission.rejected", limiter, ConcurrencyLimiter::rejected)
+                    .description("한도 초과로 거절된 요청 수")
+                    .tag("class", trafficClass.tag())
+                    .register(registry);
+        });
+    }
+}
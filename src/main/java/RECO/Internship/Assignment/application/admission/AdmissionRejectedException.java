@@ -0,0 +1,24 @@
+package RECO.Internship.Assignment.application.admission;
+
+/**
+ * 동시 처리 한도와 대기열이 모두 찬 요청 거절
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final TrafficClass trafficClass;
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(TrafficClass trafficClass, long retryAfterSeconds) {
+        super("요청이 많아 처리할 수 없습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.trafficClass = trafficClass;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public TrafficClass getTrafficClass() {
+        return trafficClass;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
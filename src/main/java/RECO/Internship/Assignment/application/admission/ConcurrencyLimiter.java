@@ -0,0 +1,176 @@
+package RECO.Internship.Assignment.application.admission;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 동시 처리 수 제한기 (짧은 대기열 + AIMD 적응형 한도)
+ *
+ * 처리 중인 요청 수가 한도 미만이면 바로 허가하고, 한도에 도달하면 대기열(queueSize)에서
+ * 최대 maxWait 동안 빈자리를 기다린다. 대기열도 가득 찼거나 대기 시간이 지나면 거절한다.
+ *
+ * adaptive 모드에서는 요청이 끝날 때마다 처리 시간으로 한도를 조정한다.
+ * 처리 시간이 기준(latencyThreshold)을 넘으면 한도를 backoffRatio배로 줄이고(곱 감소),
+ * 기준 이내이고 한도의 절반 이상을 실제로 쓰고 있으면 1씩 늘린다(합 증가).
+ * 한도는 [1, maxLimit] 범위를 벗어나지 않으며, 고정 모드에서는 처음 한도를 그대로 유지한다.
+ */
+public final class ConcurrencyLimiter {
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final boolean adaptive;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long maxWaitNanos;
+    private final long latencyThresholdNanos;
+    private final LongSupplier nanoTime;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimiter(boolean adaptive, int initialLimit, int maxLimit, int queueSize,
+            Duration maxWait, Duration latencyThreshold) {
+        this(adaptive, initialLimit, maxLimit, queueSize, maxWait, latencyThreshold, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(boolean adaptive, int initialLimit, int maxLimit, int queueSize,
+            Duration maxWait, Duration latencyThreshold, LongSupplier nanoTime) {
+        this.adaptive = adaptive;
+        this.limit = Math.max(1, initialLimit);
+        this.maxLimit = Math.max((int) limit, maxLimit);
+        this.queueSize = Math.max(0, queueSize);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 허가 획득 시도
+     *
+     * @return 허가 (작업이 끝나면 close) 또는 거절되면 null
+     */
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return new Permit(nanoTime.getAsLong());
+            }
+            if (waiting >= queueSize || maxWaitNanos <= 0) {
+                rejected.incrementAndGet();
+                return null;
+            }
+
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        rejected.incrementAndGet();
+                        return null;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected.incrementAndGet();
+                return null;
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+            return new Permit(nanoTime.getAsLong());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latencyNanos) {
+        lock.lock();
+        try {
+            if (adaptive) {
+                if (latencyNanos > latencyThresholdNanos) {
+                    limit = Math.max(1, limit * BACKOFF_RATIO);
+                } else if (inFlight * 2 >= limit) {
+                    limit = Math.min(maxLimit, limit + 1);
+                }
+            }
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 현재 동시 처리 한도
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리 중인 요청 수
+     */
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 누적 거절 수
+     */
+    public long rejected() {
+        return rejected.get();
+    }
+
+    /**
+     * 동시 처리 허가 - 작업이 끝나면 close하여 반환 (여러 번 호출해도 한 번만 반환)
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long startNanos;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(nanoTime.getAsLong() - startNanos);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter[adaptive=" + adaptive + ", limit=" + limit() + ", maxLimit=" + maxLimit
+                + ", queueSize=" + queueSize + ", maxWait=" + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms"
+                + ", latencyThreshold=" + TimeUnit.NANOSECONDS.toMillis(latencyThresholdNanos) + "ms]";
+    }
+}
@@ -0,0 +1,25 @@
+package RECO.Internship.Assignment.application.admission;
+
+/**
+ * 동시성 제한을 따로 적용하는 요청 분류
+ */
+public enum TrafficClass {
+
+    /** 단일 문서 파싱 (/parse, /parse/json, /parse/pages) */
+    INTERACTIVE("interactive"),
+    /** 일괄 파싱 (/parse/batch, /parse/ndjson) */
+    BULK("bulk");
+
+    private final String tag;
+
+    TrafficClass(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 지표 태그 값
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,84 @@
+package RECO.Internship.Assignment.application.aggregate;
+
+import java.util.Arrays;
+
+/**
+ * long → int 해시 맵 (개방 주소법, 박싱 없음)
+ *
+ * 집계 묶음 키 → 통계 배열 위치를 찾는 데만 쓰므로 삭제는 지원하지 않는다.
+ * 동기화하지 않으므로 TonnageAggregates의 잠금 안에서만 사용한다.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+            if (values[index] == MISSING) {
+                return MISSING;
+            }
+            if (keys[index] == key) {
+                return values[index];
+            }
+        }
+    }
+
+    /**
+     * @param value 0 이상
+     */
+    void put(long key, int value) {
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        for (int index = hash(key) & mask; ; index = (index + 1) & mask) {
+            if (values[index] == MISSING) {
+                keys[index] = key;
+                values[index] = value;
+                size++;
+                return;
+            }
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        Arrays.fill(values, MISSING);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != MISSING) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,558 @@
+package RECO.Internship.Assignment.application.aggregate;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse.TonnageGroup;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse.WeightSummary;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+import RECO.Internship.Assignment.application.index.ResultIndex;
+import RECO.Internship.Assignment.application.index.ResultQuery;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.ResultStoreListener;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 거래처 × 품명 × 계량일자별 중량 집계 (총중량/공차중량/실중량의 합계, 건수, 최소, 최대)
+ *
+ * 결과 저장소에 기록될 때마다 해당 묶음의 통계만 갱신하므로, 조회는 계량표 수가 아니라 묶음 수에 비례한다.
+ * 거래처/품명은 공용 문자열 사전의 int 번호로 바꾸고 (거래처, 품명, 일자)를 long 하나로 묶어 키로 쓴다.
+ * 통계는 묶음 위치별 기본형 배열에 두고, 거래처/품명 문자열은 응답을 만들 때 사전에서 찾는다.
+ *
+ * 압축으로 기록이 빠지면 합계와 건수는 바로 빼고, 빠진 값이 최소/최대였던 묶음만 표시해 두었다가
+ * 다음 조회 때 결과 색인으로 그 묶음의 기록만 다시 읽어 최소/최대를 계산한다.
+ * 다시 읽는 동안에는 집계 잠금을 잡지 않으므로 저장소의 기록 알림(onAppend/onRemove)이 막히지 않는다.
+ *
+ * 사전이 가득 차 번호를 받지 못한 거래처/품명은 키 범위의 위쪽(MAX_ID부터 아래로)에 집계 전용 번호를 매겨
+ * 원래 문자열로 따로 묶는다. 그 번호까지 사전 번호와 겹쳐 더 매길 수 없을 때만 집계에서 빠지며,
+ * 빠진 계량표는 ocr.aggregate.dropped로 센다.
+ */
+@Component
+public class TonnageAggregates implements ResultStoreListener, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TonnageAggregates.class);
+
+    static final String GROUP_BY_DAY = "day";
+    static final String GROUP_BY_PERIOD = "period";
+
+    // 키 구성: 거래처 22비트 | 품명 22비트 | 일자 20비트 (epochDay + 1, 0이면 계량일자 없음)
+    // 거래처 번호가 크면 키가 음수가 되므로, 묶음 없음은 부호가 아니라 NO_GROUP(일자 비트가 모두 1)으로 구분한다
+    private static final int ID_BITS = 22;
+    private static final int DAY_BITS = 20;
+    private static final int MAX_ID = (1 << ID_BITS) - 1;
+    private static final long MAX_DAY = (1L << DAY_BITS) - 3;
+    private static final long NO_GROUP = -1L;
+    private static final int NONE = StringDictionary.NONE;
+
+    private static final int TOTAL = 0;
+    private static final int EMPTY = 1;
+    private static final int NET = 2;
+    private static final int METRICS = 3;
+
+    private static final int INITIAL_GROUPS = 1024;
+
+    private final ParseResultStore parseResultStore;
+    private final ResultIndex resultIndex;
+    private final StringDictionary stringDictionary;
+
+    // 사전에 등록하지 못한 값 ↔ 집계 전용 번호 (등록은 쓰기 잠금 안에서, 조회는 잠금 없이도)
+    private final Map<String, Integer> overflowIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> overflowNames = new ConcurrentHashMap<>();
+    // 번호를 매길 수 없어 집계에서 빠진 계량표 수
+    private final AtomicLong droppedTickets = new AtomicLong();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 최소/최대 재계산은 한 번에 하나만 (재계산 중인 묶음을 다른 조회가 보지 않도록)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 묶음 키 → 통계 위치
+    private final LongIntHashMap slots = new LongIntHashMap(INITIAL_GROUPS);
+    private int groupCount;
+    private long[] groupKeys = new long[INITIAL_GROUPS];
+    private int[] tickets = new int[INITIAL_GROUPS];
+    private boolean[] dirty = new boolean[INITIAL_GROUPS];
+    // 묶음에서 기록이 빠진 횟수 - 재계산 중에 기록이 빠졌는지 확인
+    private int[] removals = new int[INITIAL_GROUPS];
+    private final long[][] sums = new long[METRICS][INITIAL_GROUPS];
+    private final int[][] counts = new int[METRICS][INITIAL_GROUPS];
+    private final int[][] mins = new int[METRICS][INITIAL_GROUPS];
+    private final int[][] maxs = new int[METRICS][INITIAL_GROUPS];
+    private int dirtyCount;
+
+    public TonnageAggregates(ParseResultStore parseResultStore, ResultIndex resultIndex,
+            StringDictionary stringDictionary) {
+        this.parseResultStore = parseResultStore;
+        this.resultIndex = resultIndex;
+        this.stringDictionary = stringDictionary;
+    }
+
+    @Override
+    public void onAppend(StoredResult stored) {
+        ParsedResultResponse result = stored.result();
+        lock.writeLock().lock();
+        try {
+            long key = groupKey(result, true);
+            if (key == NO_GROUP) {
+                if (droppedTickets.getAndIncrement() == 0) {
+                    log.warn("집계 번호를 매길 수 없어 계량표를 집계에서 제외합니다 - 거래처: {}, 품명: {}",
+                            result.getCustomer(), result.getProductName());
+                }
+                return;
+            }
+            int slot = slots.get(key);
+            if (slot == LongIntHashMap.MISSING) {
+                slot = newSlot(key);
+            }
+            tickets[slot]++;
+            add(slot, TOTAL, result.getTotalWeight());
+            add(slot, EMPTY, result.getEmptyWeight());
+            add(slot, NET, result.getNetWeight());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(StoredResult removed) {
+        ParsedResultResponse result = removed.result();
+        lock.writeLock().lock();
+        try {
+            long key = groupKey(result, false);
+            int slot = key == NO_GROUP ? LongIntHashMap.MISSING : slots.get(key);
+            if (slot == LongIntHashMap.MISSING) {
+                return;
+            }
+            tickets[slot]--;
+            removals[slot]++;
+            subtract(slot, TOTAL, result.getTotalWeight());
+            subtract(slot, EMPTY, result.getEmptyWeight());
+            subtract(slot, NET, result.getNetWeight());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 중량 집계 조회
+     *
+     * @param from        계량일자 시작 (포함, null이면 제한 없음)
+     * @param to          계량일자 끝 (포함, null이면 제한 없음)
+     * @param customer    거래처 (null이면 전체)
+     * @param productName 품명 (null이면 전체)
+     * @param groupBy     day: 일자별, period: 기간 전체를 거래처 × 품명으로 합침
+     * @throws IllegalArgumentException groupBy가 올바르지 않거나 from이 to보다 늦은 경우
+     */
+    public TonnageAggregateResponse query(LocalDate from, LocalDate to, String customer, String productName,
+            String groupBy) {
+        String grouping = groupBy == null ? GROUP_BY_DAY : groupBy.trim().toLowerCase(Locale.ROOT);
+        if (!GROUP_BY_DAY.equals(grouping) && !GROUP_BY_PERIOD.equals(grouping)) {
+            throw new IllegalArgumentException("groupBy는 day 또는 period여야 합니다: " + groupBy);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다");
+        }
+        refreshDirtyGroups();
+
+        boolean byDay = GROUP_BY_DAY.equals(grouping);
+        List<TonnageGroup> groups = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            String customerFilter = ResultQuery.normalize(customer);
+            String productFilter = ResultQuery.normalize(productName);
+            int customerId = id(customerFilter, false);
+            int productId = id(productFilter, false);
+            if (customerId < 0 || productId < 0) {
+                return response(from, to, grouping, groups);
+            }
+            long fromDay = from == null ? Long.MIN_VALUE : from.toEpochDay() + 1;
+            long toDay = to == null ? Long.MAX_VALUE : to.toEpochDay() + 1;
+            boolean ranged = from != null || to != null;
+
+            // period: (거래처, 품명) → 응답 묶음
+            Map<Long, TonnageGroup> merged = byDay ? null : new HashMap<>();
+            for (int slot = 0; slot < groupCount; slot++) {
+                if (tickets[slot] == 0) {
+                    continue;
+                }
+                long key = groupKeys[slot];
+                if ((customerFilter != null && customerOf(key) != customerId)
+                        || (productFilter != null && productOf(key) != productId)) {
+                    continue;
+                }
+                long day = dayOf(key);
+                if (ranged && (day == NONE || day < fromDay || day > toDay)) {
+                    continue;
+                }
+                if (byDay) {
+                    groups.add(toGroup(slot, day == NONE ? null : LocalDate.ofEpochDay(day - 1)));
+                } else {
+                    long pair = key >>> DAY_BITS;
+                    TonnageGroup group = merged.get(pair);
+                    if (group == null) {
+                        merged.put(pair, toGroup(slot, null));
+                    } else {
+                        merge(group, slot);
+                    }
+                }
+            }
+            if (!byDay) {
+                groups.addAll(merged.values());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        groups.sort(Comparator.comparing(TonnageGroup::getDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(TonnageGroup::getCustomer, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(TonnageGroup::getProductName, Comparator.nullsLast(Comparator.naturalOrder())));
+        return response(from, to, grouping, groups);
+    }
+
+    /**
+     * 계량표가 남아 있는 묶음 수
+     */
+    public int groups() {
+        lock.readLock().lock();
+        try {
+            int live = 0;
+            for (int slot = 0; slot < groupCount; slot++) {
+                if (tickets[slot] > 0) {
+                    live++;
+                }
+            }
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최소/최대가 빠진 묶음을 해당 묶음의 기록만 다시 읽어 계산
+     *
+     * 대상 묶음의 최소/최대를 비운 뒤 잠금 없이 기록을 읽고, 다 읽으면 그 사이 onAppend가 채운 값과 합친다.
+     * 읽는 동안 같은 묶음에서 기록이 빠졌다면 결과를 믿을 수 없으므로 표시를 남겨 다음 조회 때 다시 계산한다.
+     * 색인 조건으로 좁힐 수 없는 묶음 (거래처, 품명, 계량일자가 모두 없는 묶음)만 저장소 전체를 훑는다.
+     */
+    private void refreshDirtyGroups() {
+        lock.readLock().lock();
+        try {
+            if (dirtyCount == 0) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        refreshLock.lock();
+        try {
+            List<Recompute> targets = new ArrayList<>();
+            lock.writeLock().lock();
+            try {
+                for (int slot = 0; slot < groupCount && targets.size() < dirtyCount; slot++) {
+                    if (dirty[slot]) {
+                        targets.add(new Recompute(slot, groupKeys[slot], removals[slot], tickets[slot] > 0));
+                        resetMinMax(slot);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            for (Recompute target : targets) {
+                int[][] minMax = target.live() ? scan(target.key()) : emptyMinMax();
+                lock.writeLock().lock();
+                try {
+                    int slot = target.slot();
+                    for (int metric = 0; metric < METRICS; metric++) {
+                        mins[metric][slot] = Math.min(mins[metric][slot], minMax[0][metric]);
+                        maxs[metric][slot] = Math.max(maxs[metric][slot], minMax[1][metric]);
+                    }
+                    if (removals[slot] == target.removals()) {
+                        dirty[slot] = false;
+                        dirtyCount--;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 한 묶음의 기록을 읽어 지표별 최소/최대 계산 (집계 잠금 없이 호출)
+     *
+     * @return [0]: 지표별 최소, [1]: 지표별 최대
+     */
+    private int[][] scan(long key) {
+        int[][] minMax = emptyMinMax();
+        long day = dayOf(key);
+        LocalDate date = day == NONE ? null : LocalDate.ofEpochDay(day - 1);
+        ResultQuery query = new ResultQuery(null, date, date, name(customerOf(key)), name(productOf(key)), null,
+                null);
+
+        Consumer<StoredResult> collector = stored -> {
+            ParsedResultResponse result = stored.result();
+            if (groupKey(result, false) == key) {
+                collect(minMax, TOTAL, result.getTotalWeight());
+                collect(minMax, EMPTY, result.getEmptyWeight());
+                collect(minMax, NET, result.getNetWeight());
+            }
+        };
+        if (query.isEmpty()) {
+            parseResultStore.replay(collector);
+            return minMax;
+        }
+        for (int sequence : resultIndex.search(query)) {
+            StoredResult stored = parseResultStore.read(sequence);
+            if (stored != null) {
+                collector.accept(stored);
+            }
+        }
+        return minMax;
+    }
+
+    private static int[][] emptyMinMax() {
+        int[][] minMax = new int[2][METRICS];
+        Arrays.fill(minMax[0], Integer.MAX_VALUE);
+        Arrays.fill(minMax[1], Integer.MIN_VALUE);
+        return minMax;
+    }
+
+    private static void collect(int[][] minMax, int metric, Integer value) {
+        if (value == null) {
+            return;
+        }
+        minMax[0][metric] = Math.min(minMax[0][metric], value);
+        minMax[1][metric] = Math.max(minMax[1][metric], value);
+    }
+
+    /**
+     * 결과의 묶음 키
+     *
+     * @param register 사전에 없는 거래처/품명을 새로 등록할지 여부
+     * @return 묶음 키, 사전에 없거나 번호를 매길 수 없는 경우 {@link #NO_GROUP}
+     */
+    private long groupKey(ParsedResultResponse result, boolean register) {
+        int customerId = id(ResultQuery.normalize(result.getCustomer()), register);
+        int productId = id(ResultQuery.normalize(result.getProductName()), register);
+        if (customerId < 0 || productId < 0) {
+            return NO_GROUP;
+        }
+        return ((long) customerId << (ID_BITS + DAY_BITS)) | ((long) productId << DAY_BITS) | day(result.getDate());
+    }
+
+    private int id(String value, boolean register) {
+        int id = register ? stringDictionary.encode(value) : stringDictionary.find(value);
+        if (id != StringDictionary.MISSING && id <= MAX_ID) {
+            return id;
+        }
+        Integer overflow = overflowIds.get(value);
+        if (overflow != null) {
+            return overflow;
+        }
+        return register ? registerOverflow(value) : -1;
+    }
+
+    /**
+     * 사전에 등록하지 못한 값에 집계 전용 번호 부여 (쓰기 잠금 안에서 호출)
+     *
+     * 사전은 가득 차면 더 늘지 않으므로, 사전의 마지막 번호보다 큰 번호만 쓰면 겹치지 않는다.
+     *
+     * @return 번호, 남은 번호가 없으면 -1
+     */
+    private int registerOverflow(String value) {
+        int id = MAX_ID - overflowIds.size();
+        if (id <= stringDictionary.size()) {
+            return -1;
+        }
+        overflowNames.put(id, value);
+        overflowIds.put(value, id);
+        return id;
+    }
+
+    /**
+     * 계량일자 → epochDay + 1 (없거나 형식이 다르거나 범위를 벗어나면 0)
+     */
+    private static long day(String date) {
+        if (date == null) {
+            return NONE;
+        }
+        try {
+            long epochDay = LocalDate.parse(date.trim()).toEpochDay();
+            return epochDay < 0 || epochDay > MAX_DAY ? NONE : epochDay + 1;
+        } catch (DateTimeParseException e) {
+            return NONE;
+        }
+    }
+
+    private static int customerOf(long key) {
+        return (int) (key >>> (ID_BITS + DAY_BITS));
+    }
+
+    private static int productOf(long key) {
+        return (int) ((key >>> DAY_BITS) & MAX_ID);
+    }
+
+    private static long dayOf(long key) {
+        return key & ((1L << DAY_BITS) - 1);
+    }
+
+    private int newSlot(long key) {
+        if (groupCount == groupKeys.length) {
+            int capacity = groupKeys.length * 2;
+            groupKeys = Arrays.copyOf(groupKeys, capacity);
+            tickets = Arrays.copyOf(tickets, capacity);
+            dirty = Arrays.copyOf(dirty, capacity);
+            removals = Arrays.copyOf(removals, capacity);
+            for (int metric = 0; metric < METRICS; metric++) {
+                sums[metric] = Arrays.copyOf(sums[metric], capacity);
+                counts[metric] = Arrays.copyOf(counts[metric], capacity);
+                mins[metric] = Arrays.copyOf(mins[metric], capacity);
+                maxs[metric] = Arrays.copyOf(maxs[metric], capacity);
+            }
+        }
+        int slot = groupCount++;
+        groupKeys[slot] = key;
+        resetMinMax(slot);
+        slots.put(key, slot);
+        return slot;
+    }
+
+    private void resetMinMax(int slot) {
+        for (int metric = 0; metric < METRICS; metric++) {
+            mins[metric][slot] = Integer.MAX_VALUE;
+            maxs[metric][slot] = Integer.MIN_VALUE;
+        }
+    }
+
+    private void add(int slot, int metric, Integer value) {
+        if (value == null) {
+            return;
+        }
+        sums[metric][slot] += value;
+        counts[metric][slot]++;
+        updateMinMax(slot, metric, value);
+    }
+
+    private void updateMinMax(int slot, int metric, Integer value) {
+        if (value == null) {
+            return;
+        }
+        mins[metric][slot] = Math.min(mins[metric][slot], value);
+        maxs[metric][slot] = Math.max(maxs[metric][slot], value);
+    }
+
+    private void subtract(int slot, int metric, Integer value) {
+        if (value == null) {
+            return;
+        }
+        sums[metric][slot] -= value;
+        counts[metric][slot]--;
+        if (!dirty[slot] && (value == mins[metric][slot] || value == maxs[metric][slot])) {
+            dirty[slot] = true;
+            dirtyCount++;
+        }
+    }
+
+    private TonnageGroup toGroup(int slot, LocalDate date) {
+        long key = groupKeys[slot];
+        return TonnageGroup.builder()
+                .customer(name(customerOf(key)))
+                .productName(name(productOf(key)))
+                .date(date)
+                .tickets(tickets[slot])
+                .totalWeight(summary(slot, TOTAL))
+                .emptyWeight(summary(slot, EMPTY))
+                .netWeight(summary(slot, NET))
+                .build();
+    }
+
+    private void merge(TonnageGroup group, int slot) {
+        group.setTickets(group.getTickets() + tickets[slot]);
+        merge(group.getTotalWeight(), slot, TOTAL);
+        merge(group.getEmptyWeight(), slot, EMPTY);
+        merge(group.getNetWeight(), slot, NET);
+    }
+
+    private void merge(WeightSummary summary, int slot, int metric) {
+        int count = counts[metric][slot];
+        if (count == 0) {
+            return;
+        }
+        summary.setCount(summary.getCount() + count);
+        summary.setSum(summary.getSum() + sums[metric][slot]);
+        summary.setMin(summary.getMin() == null ? mins[metric][slot] : Math.min(summary.getMin(), mins[metric][slot]));
+        summary.setMax(summary.getMax() == null ? maxs[metric][slot] : Math.max(summary.getMax(), maxs[metric][slot]));
+    }
+
+    private WeightSummary summary(int slot, int metric) {
+        int count = counts[metric][slot];
+        return WeightSummary.builder()
+                .count(count)
+                .sum(sums[metric][slot])
+                .min(count == 0 ? null : mins[metric][slot])
+                .max(count == 0 ? null : maxs[metric][slot])
+                .build();
+    }
+
+    private String name(int id) {
+        String overflow = overflowNames.get(id);
+        return overflow != null ? overflow : stringDictionary.decode(id);
+    }
+
+    /**
+     * 번호를 매길 수 없어 집계에서 빠진 계량표 수
+     */
+    public long droppedTickets() {
+        return droppedTickets.get();
+    }
+
+    private static TonnageAggregateResponse response(LocalDate from, LocalDate to, String groupBy,
+            List<TonnageGroup> groups) {
+        return TonnageAggregateResponse.builder()
+                .from(from)
+                .to(to)
+                .groupBy(groupBy)
+                .groups(groups)
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ocr.aggregate.groups", this, TonnageAggregates::groups)
+                .description("중량 집계 묶음 수")
+                .register(registry);
+        FunctionCounter.builder("ocr.aggregate.dropped", droppedTickets, AtomicLong::get)
+                .description("번호를 매길 수 없어 중량 집계에서 빠진 계량표 수")
+                .register(registry);
+    }
+
+    /**
+     * 다시 계산할 묶음과 계산을 시작할 때의 상태
+     */
+    private record Recompute(int slot, long key, int removals, boolean live) {
+    }
+}
@@ -0,0 +1,312 @@
+package RECO.Internship.Assignment.application.cache;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 최근 파싱 결과를 direct ByteBuffer 슬랩에 두는 캐시 저장 공간
+ *
+ * 결과는 {@link ResultRecordCodec}의 이진 기록으로 현재 슬랩 끝에 이어 쓰고,
+ * heap에는 키 → 위치(슬랩 번호, offset)를 기본형 배열 해시 표로만 둔다.
+ * 슬랩은 고리 모양으로 돌려 쓰며, 다음 슬랩으로 넘어갈 때 그 슬랩에 남아 있던 (가장 오래된) 기록을 통째로 제거한다.
+ * 따라서 제거는 LRU가 아니라 기록 순서(FIFO)이고, 같은 키를 다시 쓰면 이전 기록은 빈 공간으로 남았다가 함께 정리된다.
+ *
+ * 동기화하지 않으므로 ParseResultCache의 잠금 안에서만 사용한다.
+ */
+final class OffHeapResultWindow {
+
+    private static final long EMPTY = -1;
+    private static final int INITIAL_SCRATCH_BYTES = 4096;
+
+    private final StringDictionary stringDictionary;
+    private final int slabBytes;
+    private final ByteBuffer[] slabs;
+    // 슬랩별 사용한 바이트와, 앞에서부터 이미 제거한 위치 (head == limit이면 비어 있음)
+    private final int[] slabLimits;
+    private final int[] slabHeads;
+    private int writeSlab;
+
+    private final KeyIndex index = new KeyIndex(1024);
+    private long liveBytes;
+    private ByteBuffer scratch = ByteBuffer.allocate(INITIAL_SCRATCH_BYTES);
+
+    OffHeapResultWindow(StringDictionary stringDictionary, long maxBytes, int slabBytes) {
+        this.stringDictionary = stringDictionary;
+        this.slabBytes = Math.max(ResultRecordCodec.HEADER_BYTES * 4, slabBytes);
+        int slabCount = (int) Math.max(2, Math.min(Integer.MAX_VALUE, maxBytes / this.slabBytes));
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabLimits = new int[slabCount];
+        this.slabHeads = new int[slabCount];
+    }
+
+    int size() {
+        return index.size;
+    }
+
+    /**
+     * 살아 있는 기록이 차지하는 바이트
+     */
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * 할당된 direct 메모리
+     */
+    long allocatedBytes() {
+        long bytes = 0;
+        for (ByteBuffer slab : slabs) {
+            if (slab != null) {
+                bytes += slab.capacity();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 키의 기록 위치 (없으면 -1)
+     */
+    long locate(PayloadHash key) {
+        return index.get(key);
+    }
+
+    long createdAt(long location) {
+        return ResultRecordCodec.createdAt(slabs[slabOf(location)], offsetOf(location));
+    }
+
+    long validatedOn(long location) {
+        return ResultRecordCodec.validatedOn(slabs[slabOf(location)], offsetOf(location));
+    }
+
+    ParsedResultResponse read(long location) {
+        return ResultRecordCodec.decode(slabs[slabOf(location)], offsetOf(location), stringDictionary);
+    }
+
+    void remove(PayloadHash key) {
+        long location = index.remove(key);
+        if (location != EMPTY) {
+            liveBytes -= recordLength(location);
+        }
+    }
+
+    /**
+     * 기록 추가
+     *
+     * @return 공간을 만들려고 제거한 기록 수, 기록이 슬랩보다 커서 넣지 못하면 -1
+     */
+    int put(PayloadHash key, ParsedResultResponse result, long createdAt, long validatedOn) {
+        scratch.clear();
+        scratch = ResultRecordCodec.encode(scratch, key, createdAt, validatedOn, result, stringDictionary);
+        int length = scratch.position();
+        if (length > slabBytes) {
+            return -1;
+        }
+
+        int evicted = 0;
+        if (slabs[writeSlab] == null) {
+            slabs[writeSlab] = ByteBuffer.allocateDirect(slabBytes);
+        }
+        if (slabLimits[writeSlab] + length > slabBytes) {
+            writeSlab = (writeSlab + 1) % slabs.length;
+            evicted = evictSlab(writeSlab);
+            if (slabs[writeSlab] == null) {
+                slabs[writeSlab] = ByteBuffer.allocateDirect(slabBytes);
+            }
+        }
+
+        int offset = slabLimits[writeSlab];
+        ByteBuffer target = slabs[writeSlab].duplicate();
+        target.position(offset);
+        scratch.flip();
+        target.put(scratch);
+        slabLimits[writeSlab] = offset + length;
+
+        long previous = index.put(key, location(writeSlab, offset));
+        if (previous != EMPTY) {
+            liveBytes -= recordLength(previous);
+        }
+        liveBytes += length;
+        return evicted;
+    }
+
+    /**
+     * 가장 오래된 기록 하나를 제거 (항목 수 상한 적용용)
+     * 쓰는 중인 슬랩 다음 슬랩부터 고리 순서로 찾으므로 쓰는 중인 슬랩은 마지막에 본다.
+     *
+     * @return 제거한 기록 수 (이미 덮어쓰거나 만료된 자리였으면 0)
+     */
+    int evictOldest() {
+        for (int step = 1; step <= slabs.length; step++) {
+            int slab = (writeSlab + step) % slabs.length;
+            int head = slabHeads[slab];
+            if (head < slabLimits[slab]) {
+                slabHeads[slab] = head + ResultRecordCodec.length(slabs[slab], head);
+                return evictRecord(slab, head);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 슬랩에 남은 기록 중 아직 색인이 가리키는 것을 색인에서 빼고 슬랩을 비움
+     */
+    private int evictSlab(int slab) {
+        ByteBuffer buffer = slabs[slab];
+        int limit = slabLimits[slab];
+        int evicted = 0;
+        for (int offset = slabHeads[slab]; offset < limit; offset += ResultRecordCodec.length(buffer, offset)) {
+            evicted += evictRecord(slab, offset);
+        }
+        slabLimits[slab] = 0;
+        slabHeads[slab] = 0;
+        return evicted;
+    }
+
+    private int evictRecord(int slab, int offset) {
+        ByteBuffer buffer = slabs[slab];
+        PayloadHash key = ResultRecordCodec.key(buffer, offset);
+        if (index.get(key) != location(slab, offset)) {
+            return 0;
+        }
+        index.remove(key);
+        liveBytes -= ResultRecordCodec.length(buffer, offset);
+        return 1;
+    }
+
+    private int recordLength(long location) {
+        return ResultRecordCodec.length(slabs[slabOf(location)], offsetOf(location));
+    }
+
+    private static long location(int slab, int offset) {
+        return ((long) slab << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int slabOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    /**
+     * PayloadHash → 기록 위치 해시 표 (개방 주소법, 삭제는 뒤 항목 당기기)
+     */
+    private static final class KeyIndex {
+
+        long[] highs;
+        long[] lows;
+        long[] lengths;
+        long[] locations;
+        int size;
+
+        KeyIndex(int capacity) {
+            allocate(capacity);
+        }
+
+        long get(PayloadHash key) {
+            int mask = locations.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (locations[slot] == EMPTY) {
+                    return EMPTY;
+                }
+                if (matches(slot, key)) {
+                    return locations[slot];
+                }
+            }
+        }
+
+        /**
+         * @return 이전 위치 (없었으면 -1)
+         */
+        long put(PayloadHash key, long location) {
+            if ((size + 1) * 2 > locations.length) {
+                grow();
+            }
+            int mask = locations.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (locations[slot] == EMPTY) {
+                    highs[slot] = key.high();
+                    lows[slot] = key.low();
+                    lengths[slot] = key.length();
+                    locations[slot] = location;
+                    size++;
+                    return EMPTY;
+                }
+                if (matches(slot, key)) {
+                    long previous = locations[slot];
+                    locations[slot] = location;
+                    return previous;
+                }
+            }
+        }
+
+        /**
+         * @return 제거한 위치 (없었으면 -1)
+         */
+        long remove(PayloadHash key) {
+            int mask = locations.length - 1;
+            int slot = hash(key) & mask;
+            while (locations[slot] != EMPTY && !matches(slot, key)) {
+                slot = (slot + 1) & mask;
+            }
+            long removed = locations[slot];
+            if (removed == EMPTY) {
+                return EMPTY;
+            }
+            // 뒤에 이어진 항목 중 제자리로 당길 수 있는 것을 빈칸으로 옮김
+            int hole = slot;
+            for (int next = (hole + 1) & mask; locations[next] != EMPTY; next = (next + 1) & mask) {
+                int home = hash(highs[next], lows[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    highs[hole] = highs[next];
+                    lows[hole] = lows[next];
+                    lengths[hole] = lengths[next];
+                    locations[hole] = locations[next];
+                    hole = next;
+                }
+            }
+            locations[hole] = EMPTY;
+            size--;
+            return removed;
+        }
+
+        private boolean matches(int slot, PayloadHash key) {
+            return highs[slot] == key.high() && lows[slot] == key.low() && lengths[slot] == key.length();
+        }
+
+        private void grow() {
+            long[] oldHighs = highs;
+            long[] oldLows = lows;
+            long[] oldLengths = lengths;
+            long[] oldLocations = locations;
+            allocate(oldLocations.length * 2);
+            size = 0;
+            for (int i = 0; i < oldLocations.length; i++) {
+                if (oldLocations[i] != EMPTY) {
+                    put(new PayloadHash(oldHighs[i], oldLows[i], oldLengths[i]), oldLocations[i]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            highs = new long[capacity];
+            lows = new long[capacity];
+            lengths = new long[capacity];
+            locations = new long[capacity];
+            Arrays.fill(locations, EMPTY);
+        }
+
+        private static int hash(PayloadHash key) {
+            return hash(key.high(), key.low());
+        }
+
+        private static int hash(long high, long low) {
+            // 이미 고르게 퍼진 해시값
+            return (int) (high ^ (high >>> 32) ^ low);
+        }
+    }
+}
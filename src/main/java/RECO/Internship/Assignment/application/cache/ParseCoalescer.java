@@ -0,0 +1,131 @@
+package RECO.Internship.Assignment.application.cache;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동일 페이로드 동시 파싱 병합 (single-flight)
+ *
+ * 스캐너 재전송처럼 같은 OCR JSON이 거의 동시에 여러 번 들어오면, 먼저 들어온 요청(리더)만 파싱하고
+ * 나머지 요청은 그 결과를 함께 받는다. 결과 캐시는 파싱이 끝난 뒤에만 채워지므로,
+ * 캐시로는 막을 수 없는 "처리 중" 구간의 중복을 제거한다.
+ *
+ * 기다리던 요청은 리더 결과의 복사본을 받으므로, 한 요청이 결과를 고쳐도 다른 요청의 응답은 바뀌지 않는다.
+ *
+ * 리더가 IllegalArgumentException 등 페이로드 자체의 오류로 실패하면 같은 오류를 함께 받는다.
+ * 업로드 읽기 실패 같은 검사 예외는 리더 요청에만 해당하므로, 기다리던 요청은 직접 다시 파싱한다.
+ *
+ * 리더/병합 횟수와 처리 중인 키 수는 ocr.parse.coalescing.* 지표로 노출된다.
+ */
+@Component
+public class ParseCoalescer implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseCoalescer.class);
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<PayloadHash, CompletableFuture<ParsedResultResponse>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final AtomicLong leaders = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public ParseCoalescer(@Value("${ocr.coalescing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        log.info("동일 페이로드 동시 파싱 병합 - 사용: {}", enabled);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 같은 키로 처리 중인 파싱이 있으면 그 결과를 기다리고, 없으면 직접 파싱
+     */
+    public <E extends Exception> ParsedResultResponse execute(PayloadHash key, ParseCall<E> call) throws E {
+        CompletableFuture<ParsedResultResponse> own = new CompletableFuture<>();
+        CompletableFuture<ParsedResultResponse> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            log.debug("처리 중인 동일 페이로드 파싱에 병합 - 키: {}", key);
+            return await(running, call);
+        }
+
+        leaders.incrementAndGet();
+        try {
+            ParsedResultResponse result = call.parse();
+            own.complete(result);
+            return result;
+        } catch (Exception | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private <E extends Exception> ParsedResultResponse await(CompletableFuture<ParsedResultResponse> running,
+            ParseCall<E> call) throws E {
+        try {
+            return running.join().copy();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            // 리더 요청에만 해당하는 검사 예외 - 직접 파싱
+            return call.parse();
+        }
+    }
+
+    /**
+     * 현재 처리 중인 키 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 다른 요청의 파싱 결과를 함께 받은 누적 요청 수
+     */
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ocr.parse.coalescing.requests", leaders, AtomicLong::get)
+                .description("동일 페이로드 병합 대상 요청 수")
+                .tag("role", "leader")
+                .register(registry);
+        FunctionCounter.builder("ocr.parse.coalescing.requests", coalesced, AtomicLong::get)
+                .description("동일 페이로드 병합 대상 요청 수")
+                .tag("role", "coalesced")
+                .register(registry);
+        Gauge.builder("ocr.parse.coalescing.inflight", this, ParseCoalescer::inFlightCount)
+                .description("처리 중인 페이로드 수")
+                .register(registry);
+    }
+
+    /**
+     * 병합 대상 파싱 작업
+     */
+    @FunctionalInterface
+    public interface ParseCall<E extends Exception> {
+        ParsedResultResponse parse() throws E;
+    }
+}
@@ -0,0 +1,330 @@
+package RECO.Internship.Assignment.application.cache;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 원본 페이로드 해시 기반 파싱 결과 캐시
+ *
+ * 재시도, 중복 제출, 재처리로 같은 OCR JSON이 다시 들어오면 파싱/검증을 건너뛴다.
+ * LRU 순서로 관리하며 항목 수와 추정 메모리 사용량 상한을 넘으면 오래된 항목부터 제거한다.
+ * 거래처/품명/발행처는 문자열 사전이 공유하는 문자열로 바꿔 두므로 항목마다 따로 차지하지 않는다.
+ *
+ * DateTimeValidator의 날짜 검증(미래 날짜, 10년 이전 날짜)은 "오늘" 기준이므로,
+ * 항목은 TTL과 별개로 계산한 날짜가 바뀌면 만료된다.
+ *
+ * 적중/실패/제거/만료 횟수와 크기는 ocr.cache.* 지표로 노출된다.
+ *
+ * ocr.cache.off-heap=true이면 결과를 heap 객체 대신 direct 메모리 슬랩에 이진 기록으로 두고
+ * (OffHeapResultWindow), heap에는 키 → 위치 표만 남긴다. 이때 max-bytes는 슬랩 전체 크기이고,
+ * 제거는 LRU 대신 기록 순서(가장 오래된 슬랩부터)이며, 적중할 때마다 결과 객체를 새로 복원한다.
+ */
+@Component
+public class ParseResultCache implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseResultCache.class);
+
+    // 응답 객체 고정 오버헤드 추정치 (중첩 DTO, 박싱된 숫자 등)
+    private static final long BASE_ENTRY_BYTES = 512;
+
+    private final StringDictionary stringDictionary;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Duration ttl;
+    private final Clock clock;
+    // off-heap 모드가 아니면 null
+    private final OffHeapResultWindow offHeapWindow;
+
+    private final LinkedHashMap<PayloadHash, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    @Autowired
+    public ParseResultCache(
+            StringDictionary stringDictionary,
+            @Value("${ocr.cache.enabled:true}") boolean enabled,
+            @Value("${ocr.cache.max-entries:10000}") int maxEntries,
+            @Value("${ocr.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${ocr.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${ocr.cache.off-heap:false}") boolean offHeap,
+            @Value("${ocr.cache.slab-bytes:4194304}") int slabBytes) {
+        this(stringDictionary, enabled, maxEntries, maxBytes, Duration.ofSeconds(ttlSeconds),
+                Clock.systemDefaultZone(), offHeap, slabBytes);
+    }
+
+    ParseResultCache(StringDictionary stringDictionary, boolean enabled, int maxEntries, long maxBytes,
+            Duration ttl, Clock clock) {
+        this(stringDictionary, enabled, maxEntries, maxBytes, ttl, clock, false, 0);
+    }
+
+    ParseResultCache(StringDictionary stringDictionary, boolean enabled, int maxEntries, long maxBytes,
+            Duration ttl, Clock clock, boolean offHeap, int slabBytes) {
+        this.stringDictionary = stringDictionary;
+        this.enabled = enabled && maxEntries > 0 && maxBytes > 0;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.offHeapWindow = this.enabled && offHeap
+                ? new OffHeapResultWindow(stringDictionary, maxBytes, slabBytes) : null;
+        log.info("파싱 결과 캐시 - 사용: {}, 최대 항목: {}, 최대 크기: {} bytes, TTL: {}, off-heap: {}",
+                this.enabled, maxEntries, maxBytes, ttl, offHeapWindow != null);
+    }
+
+    /**
+     * 아무것도 저장하지 않는 캐시 (스프링 컨텍스트 밖의 CLI, 벤치마크용)
+     */
+    public static ParseResultCache disabled() {
+        return new ParseResultCache(new StringDictionary(0), false, 0, 0, Duration.ZERO, Clock.systemDefaultZone());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 조회 - TTL이 지났거나 날짜가 바뀐 항목은 만료 처리
+     *
+     * @return 캐시된 결과 또는 null
+     */
+    public ParsedResultResponse get(PayloadHash key) {
+        if (!enabled) {
+            return null;
+        }
+        Instant now = clock.instant();
+        LocalDate today = LocalDate.now(clock);
+
+        synchronized (entries) {
+            if (offHeapWindow != null) {
+                return getOffHeap(key, now, today);
+            }
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (isExpired(entry, now, today)) {
+                removeEntry(key, entry);
+                expirations.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.result().copy();
+        }
+    }
+
+    /**
+     * 캐시 저장 - 상한을 넘으면 LRU 순으로 제거
+     * 호출자의 결과는 건드리지 않고 복사본을 저장하며, 조회할 때도 복사본을 돌려준다.
+     */
+    public void put(PayloadHash key, ParsedResultResponse result) {
+        if (!enabled || result == null) {
+            return;
+        }
+        if (offHeapWindow != null) {
+            putOffHeap(key, result);
+            return;
+        }
+        ParsedResultResponse copy = result.copy();
+        copy.setCustomer(stringDictionary.canonical(copy.getCustomer()));
+        copy.setProductName(stringDictionary.canonical(copy.getProductName()));
+        copy.setIssuer(stringDictionary.canonical(copy.getIssuer()));
+        long weight = estimateBytes(copy);
+        if (weight > maxBytes) {
+            return;
+        }
+        Entry entry = new Entry(copy, weight, clock.instant(), LocalDate.now(clock));
+
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                currentBytes -= previous.weight();
+            }
+            currentBytes += weight;
+            evictIfNeeded();
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public CacheStats stats() {
+        synchronized (entries) {
+            if (offHeapWindow != null) {
+                return new CacheStats(hits.get(), misses.get(), evictions.get(), expirations.get(),
+                        offHeapWindow.size(), offHeapWindow.liveBytes());
+            }
+            return new CacheStats(hits.get(), misses.get(), evictions.get(), expirations.get(),
+                    entries.size(), currentBytes);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("ocr.cache.requests", hits, AtomicLong::get)
+                .description("파싱 결과 캐시 조회 횟수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("ocr.cache.requests", misses, AtomicLong::get)
+                .description("파싱 결과 캐시 조회 횟수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("ocr.cache.evictions", evictions, AtomicLong::get)
+                .description("용량 초과로 제거된 항목 수")
+                .register(registry);
+        FunctionCounter.builder("ocr.cache.expirations", expirations, AtomicLong::get)
+                .description("TTL/날짜 변경으로 만료된 항목 수")
+                .register(registry);
+        Gauge.builder("ocr.cache.size", this, cache -> cache.stats().size())
+                .description("캐시 항목 수")
+                .register(registry);
+        Gauge.builder("ocr.cache.estimated.bytes", this, cache -> cache.stats().estimatedBytes())
+                .description("캐시 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(registry);
+        if (offHeapWindow != null) {
+            Gauge.builder("ocr.cache.offheap.allocated", this, cache -> cache.offHeapAllocatedBytes())
+                    .description("캐시 슬랩에 할당된 direct 메모리")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+    }
+
+    private long offHeapAllocatedBytes() {
+        synchronized (entries) {
+            return offHeapWindow.allocatedBytes();
+        }
+    }
+
+    private ParsedResultResponse getOffHeap(PayloadHash key, Instant now, LocalDate today) {
+        long location = offHeapWindow.locate(key);
+        if (location < 0) {
+            misses.incrementAndGet();
+            return null;
+        }
+        Instant createdAt = Instant.ofEpochMilli(offHeapWindow.createdAt(location));
+        LocalDate validatedOn = LocalDate.ofEpochDay(offHeapWindow.validatedOn(location));
+        if (!createdAt.plus(ttl).isAfter(now) || !validatedOn.equals(today)) {
+            offHeapWindow.remove(key);
+            expirations.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return offHeapWindow.read(location);
+    }
+
+    private void putOffHeap(PayloadHash key, ParsedResultResponse result) {
+        long createdAt = clock.millis();
+        long validatedOn = LocalDate.now(clock).toEpochDay();
+        synchronized (entries) {
+            int evicted = offHeapWindow.put(key, result, createdAt, validatedOn);
+            if (evicted < 0) {
+                return;
+            }
+            evictions.addAndGet(evicted);
+            while (offHeapWindow.size() > maxEntries) {
+                evictions.addAndGet(offHeapWindow.evictOldest());
+            }
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<PayloadHash, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || currentBytes > maxBytes) && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            currentBytes -= eldest.weight();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void removeEntry(PayloadHash key, Entry entry) {
+        entries.remove(key);
+        currentBytes -= entry.weight();
+    }
+
+    private boolean isExpired(Entry entry, Instant now, LocalDate today) {
+        return !entry.createdAt().plus(ttl).isAfter(now) || !entry.validatedOn().equals(today);
+    }
+
+    /**
+     * 응답 객체의 대략적인 힙 사용량 추정 (문자열은 UTF-16 기준)
+     * 거래처/품명/발행처는 사전의 문자열을 공유하므로 세지 않는다.
+     */
+    static long estimateBytes(ParsedResultResponse result) {
+        long bytes = BASE_ENTRY_BYTES;
+        bytes += stringBytes(result.getDocumentType());
+        bytes += stringBytes(result.getDate());
+        bytes += stringBytes(result.getTime());
+        bytes += stringBytes(result.getVehicleNumber());
+        if (result.getFieldConfidence() != null) {
+            // 엔트리 + 박싱된 Double (키는 상수 문자열이라 공유됨)
+            bytes += 64 + 48L * result.getFieldConfidence().size();
+        }
+        if (result.getFieldPages() != null) {
+            bytes += 64 + 48L * result.getFieldPages().size();
+        }
+
+        ParsedResultResponse.ValidationInfo validation = result.getValidation();
+        if (validation != null) {
+            bytes += stringBytes(validation.getOverallStatus());
+            bytes += stringBytes(validation.getOverallMessage());
+            bytes += fieldValidationBytes(validation.getWeight());
+            bytes += fieldValidationBytes(validation.getDateTime());
+            bytes += fieldValidationBytes(validation.getGps());
+            bytes += fieldValidationBytes(validation.getVehicle());
+        }
+        return bytes;
+    }
+
+    private static long fieldValidationBytes(ParsedResultResponse.FieldValidation validation) {
+        if (validation == null) {
+            return 0;
+        }
+        return 32 + stringBytes(validation.getStatus()) + stringBytes(validation.getMessage());
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
+
+    private record Entry(ParsedResultResponse result, long weight, Instant createdAt, LocalDate validatedOn) {
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public record CacheStats(
+            long hits,
+            long misses,
+            long evictions,
+            long expirations,
+            int size,
+            long estimatedBytes) {
+    }
+}
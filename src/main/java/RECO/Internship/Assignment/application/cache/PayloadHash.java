@@ -0,0 +1,156 @@
+package RECO.Internship.Assignment.application.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 원본 페이로드 바이트의 128비트 해시 (MurmurHash3 x64_128) + 길이
+ * 재업로드된 동일 OCR JSON을 식별하는 캐시 키로 사용한다.
+ */
+public record PayloadHash(long high, long low, long length) {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public static PayloadHash of(byte[] content) {
+        Hasher hasher = new Hasher();
+        hasher.update(content, 0, content.length);
+        return hasher.finish();
+    }
+
+    /**
+     * 문자열은 UTF-8 바이트 기준으로 해시 (파일 업로드와 같은 키가 나오도록)
+     */
+    public static PayloadHash of(String content) {
+        return of(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 스트림을 끝까지 읽으며 해시 (전체 바이트 배열을 만들지 않음)
+     */
+    public static PayloadHash of(InputStream input) throws IOException {
+        Hasher hasher = new Hasher();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            hasher.update(buffer, 0, read);
+        }
+        return hasher.finish();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    /**
+     * 점진적 MurmurHash3 x64_128 계산기
+     */
+    public static final class Hasher {
+
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private final byte[] block = new byte[16];
+        private int blockLength;
+        private long length;
+        private long h1;
+        private long h2;
+
+        public Hasher update(byte[] bytes, int offset, int count) {
+            int index = offset;
+            int end = offset + count;
+
+            // 이전 호출에서 남은 블록 채우기
+            if (blockLength > 0) {
+                while (blockLength < 16 && index < end) {
+                    block[blockLength++] = bytes[index++];
+                }
+                if (blockLength == 16) {
+                    mix(block, 0);
+                    blockLength = 0;
+                }
+            }
+            while (end - index >= 16) {
+                mix(bytes, index);
+                index += 16;
+            }
+            while (index < end) {
+                block[blockLength++] = bytes[index++];
+            }
+            length += count;
+            return this;
+        }
+
+        public PayloadHash finish() {
+            long k1 = 0;
+            long k2 = 0;
+            for (int i = blockLength - 1; i >= 8; i--) {
+                k2 = (k2 << 8) | (block[i] & 0xffL);
+            }
+            for (int i = Math.min(blockLength, 8) - 1; i >= 0; i--) {
+                k1 = (k1 << 8) | (block[i] & 0xffL);
+            }
+            if (blockLength > 8) {
+                k2 *= C2;
+                k2 = Long.rotateLeft(k2, 33);
+                k2 *= C1;
+                h2 ^= k2;
+            }
+            if (blockLength > 0) {
+                k1 *= C1;
+                k1 = Long.rotateLeft(k1, 31);
+                k1 *= C2;
+                h1 ^= k1;
+            }
+
+            long a = h1 ^ length;
+            long b = h2 ^ length;
+            a += b;
+            b += a;
+            a = fmix(a);
+            b = fmix(b);
+            a += b;
+            b += a;
+            return new PayloadHash(a, b, length);
+        }
+
+        private void mix(byte[] bytes, int offset) {
+            long k1 = littleEndianLong(bytes, offset);
+            long k2 = littleEndianLong(bytes, offset + 8);
+
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        private static long littleEndianLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = 7; i >= 0; i--) {
+                value = (value << 8) | (bytes[offset + i] & 0xffL);
+            }
+            return value;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
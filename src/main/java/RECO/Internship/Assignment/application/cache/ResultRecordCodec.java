@@ -0,0 +1,368 @@
+package RECO.Internship.Assignment.application.cache;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse.FieldValidation;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse.ValidationInfo;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 파싱 결과 ↔ 고정 배치 이진 기록 (off-heap 슬랩용)
+ * <pre>
+ *  0 int    기록 길이 (헤더 포함)
+ *  4 long   키 high
+ * 12 long   키 low
+ * 20 long   키 length
+ * 28 long   저장 시각 (epoch millis)
+ * 36 int    검증 기준 날짜 (epochDay)
+ * 40 int    거래처   사전 번호 (0 = 없음, -1 = 사전에 없어 가변 영역에 문자열)
+ * 44 int    품명     사전 번호
+ * 48 int    발행처   사전 번호
+ * 52 int    총중량   (NULL_INT = 없음)
+ * 56 int    공차중량
+ * 60 int    실중량
+ * 64 int    페이지 수
+ * 68 int    페이지
+ * 72 double 위도     (NaN = 없음)
+ * 80 double 경도
+ * 88 double 신뢰도
+ * 96 가변 영역: 문서종류, 날짜, 시간, 차량번호, 추출 경로, (사전에 없는 거래처/품명/발행처),
+ *    검증 정보, 필드별 신뢰도, 필드별 페이지
+ * </pre>
+ * 문자열은 int 길이(-1 = null) + UTF-8, 맵은 int 개수(-1 = null) + (키, 값) 순서로 쓴다.
+ * 검증 값(FieldValidation.value)은 숫자/문자열/불리언만 그대로 복원하고 그 밖의 타입은 문자열로 복원한다.
+ */
+final class ResultRecordCodec {
+
+    static final int HEADER_BYTES = 96;
+
+    static final int LENGTH_OFFSET = 0;
+    static final int KEY_OFFSET = 4;
+    static final int CREATED_AT_OFFSET = 28;
+    static final int VALIDATED_ON_OFFSET = 36;
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_LENGTH = -1;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_INT = 1;
+    private static final byte VALUE_LONG = 2;
+    private static final byte VALUE_DOUBLE = 3;
+    private static final byte VALUE_STRING = 4;
+    private static final byte VALUE_BOOLEAN = 5;
+
+    private ResultRecordCodec() {
+    }
+
+    /**
+     * 기록을 buffer의 현재 위치부터 쓴다 (공간이 모자라면 더 큰 버퍼를 만들어 돌려준다)
+     *
+     * @return 기록이 담긴 버퍼 (position = 기록 끝)
+     */
+    static ByteBuffer encode(ByteBuffer buffer, PayloadHash key, long createdAt, long validatedOn,
+            ParsedResultResponse result, StringDictionary dictionary) {
+        Writer writer = new Writer(buffer);
+        int start = writer.buffer.position();
+        writer.putInt(0);
+        writer.putLong(key.high());
+        writer.putLong(key.low());
+        writer.putLong(key.length());
+        writer.putLong(createdAt);
+        writer.putInt((int) validatedOn);
+
+        int customer = dictionary.encode(result.getCustomer());
+        int productName = dictionary.encode(result.getProductName());
+        int issuer = dictionary.encode(result.getIssuer());
+        writer.putInt(customer);
+        writer.putInt(productName);
+        writer.putInt(issuer);
+        writer.putInt(nullableInt(result.getTotalWeight()));
+        writer.putInt(nullableInt(result.getEmptyWeight()));
+        writer.putInt(nullableInt(result.getNetWeight()));
+        writer.putInt(nullableInt(result.getPageCount()));
+        writer.putInt(nullableInt(result.getPage()));
+        ParsedResultResponse.GpsInfo gps = result.getGps();
+        writer.putDouble(gps == null ? null : gps.getLatitude());
+        writer.putDouble(gps == null ? null : gps.getLongitude());
+        writer.putDouble(result.getConfidence());
+
+        writer.putString(result.getDocumentType());
+        writer.putString(result.getDate());
+        writer.putString(result.getTime());
+        writer.putString(result.getVehicleNumber());
+        writer.putString(result.getExtractionTier());
+        if (customer == StringDictionary.MISSING) {
+            writer.putString(result.getCustomer());
+        }
+        if (productName == StringDictionary.MISSING) {
+            writer.putString(result.getProductName());
+        }
+        if (issuer == StringDictionary.MISSING) {
+            writer.putString(result.getIssuer());
+        }
+        writeValidation(writer, result.getValidation());
+        writeDoubleMap(writer, result.getFieldConfidence());
+        writeIntMap(writer, result.getFieldPages());
+
+        ByteBuffer written = writer.buffer;
+        written.putInt(start + LENGTH_OFFSET, written.position() - start);
+        return written;
+    }
+
+    /**
+     * slab의 offset 위치 기록을 파싱 결과로 복원
+     */
+    static ParsedResultResponse decode(ByteBuffer slab, int offset, StringDictionary dictionary) {
+        ByteBuffer buffer = slab.duplicate();
+        buffer.position(offset + KEY_OFFSET + 24 + 12);
+
+        int customer = buffer.getInt();
+        int productName = buffer.getInt();
+        int issuer = buffer.getInt();
+        Integer totalWeight = nullableInt(buffer.getInt());
+        Integer emptyWeight = nullableInt(buffer.getInt());
+        Integer netWeight = nullableInt(buffer.getInt());
+        Integer pageCount = nullableInt(buffer.getInt());
+        Integer page = nullableInt(buffer.getInt());
+        Double latitude = nullableDouble(buffer.getDouble());
+        Double longitude = nullableDouble(buffer.getDouble());
+        Double confidence = nullableDouble(buffer.getDouble());
+
+        ParsedResultResponse.ParsedResultResponseBuilder builder = ParsedResultResponse.builder()
+                .totalWeight(totalWeight)
+                .emptyWeight(emptyWeight)
+                .netWeight(netWeight)
+                .pageCount(pageCount)
+                .page(page)
+                .confidence(confidence)
+                .documentType(getString(buffer))
+                .date(getString(buffer))
+                .time(getString(buffer))
+                .vehicleNumber(getString(buffer))
+                .extractionTier(getString(buffer));
+        if (latitude != null || longitude != null) {
+            builder.gps(ParsedResultResponse.GpsInfo.builder().latitude(latitude).longitude(longitude).build());
+        }
+        builder.customer(customer == StringDictionary.MISSING ? getString(buffer) : dictionary.decode(customer));
+        builder.productName(
+                productName == StringDictionary.MISSING ? getString(buffer) : dictionary.decode(productName));
+        builder.issuer(issuer == StringDictionary.MISSING ? getString(buffer) : dictionary.decode(issuer));
+        builder.validation(readValidation(buffer));
+        builder.fieldConfidence(readDoubleMap(buffer));
+        builder.fieldPages(readIntMap(buffer));
+        return builder.build();
+    }
+
+    static int length(ByteBuffer slab, int offset) {
+        return slab.getInt(offset + LENGTH_OFFSET);
+    }
+
+    static PayloadHash key(ByteBuffer slab, int offset) {
+        return new PayloadHash(slab.getLong(offset + KEY_OFFSET), slab.getLong(offset + KEY_OFFSET + 8),
+                slab.getLong(offset + KEY_OFFSET + 16));
+    }
+
+    static long createdAt(ByteBuffer slab, int offset) {
+        return slab.getLong(offset + CREATED_AT_OFFSET);
+    }
+
+    static long validatedOn(ByteBuffer slab, int offset) {
+        return slab.getInt(offset + VALIDATED_ON_OFFSET);
+    }
+
+    private static void writeValidation(Writer writer, ValidationInfo validation) {
+        if (validation == null) {
+            writer.putByte((byte) 0);
+            return;
+        }
+        writer.putByte((byte) 1);
+        writer.putString(validation.getOverallStatus());
+        writer.putString(validation.getOverallMessage());
+        writeFieldValidation(writer, validation.getWeight());
+        writeFieldValidation(writer, validation.getDateTime());
+        writeFieldValidation(writer, validation.getGps());
+        writeFieldValidation(writer, validation.getVehicle());
+    }
+
+    private static ValidationInfo readValidation(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return ValidationInfo.builder()
+                .overallStatus(getString(buffer))
+                .overallMessage(getString(buffer))
+                .weight(readFieldValidation(buffer))
+                .dateTime(readFieldValidation(buffer))
+                .gps(readFieldValidation(buffer))
+                .vehicle(readFieldValidation(buffer))
+                .build();
+    }
+
+    private static void writeFieldValidation(Writer writer, FieldValidation validation) {
+        if (validation == null) {
+            writer.putByte((byte) 0);
+            return;
+        }
+        writer.putByte((byte) 1);
+        writer.putString(validation.getStatus());
+        writer.putString(validation.getMessage());
+        Object value = validation.getValue();
+        if (value == null) {
+            writer.putByte(VALUE_NULL);
+        } else if (value instanceof Integer number) {
+            writer.putByte(VALUE_INT);
+            writer.putInt(number);
+        } else if (value instanceof Long number) {
+            writer.putByte(VALUE_LONG);
+            writer.putLong(number);
+        } else if (value instanceof Double number) {
+            writer.putByte(VALUE_DOUBLE);
+            writer.putDouble(number);
+        } else if (value instanceof Boolean flag) {
+            writer.putByte(VALUE_BOOLEAN);
+            writer.putByte((byte) (flag ? 1 : 0));
+        } else {
+            writer.putByte(VALUE_STRING);
+            writer.putString(value.toString());
+        }
+    }
+
+    private static FieldValidation readFieldValidation(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        String status = getString(buffer);
+        String message = getString(buffer);
+        Object value = switch (buffer.get()) {
+            case VALUE_INT -> buffer.getInt();
+            case VALUE_LONG -> buffer.getLong();
+            case VALUE_DOUBLE -> buffer.getDouble();
+            case VALUE_BOOLEAN -> buffer.get() != 0;
+            case VALUE_STRING -> getString(buffer);
+            default -> null;
+        };
+        return FieldValidation.builder().status(status).message(message).value(value).build();
+    }
+
+    private static void writeDoubleMap(Writer writer, Map<String, Double> map) {
+        if (map == null) {
+            writer.putInt(NULL_LENGTH);
+            return;
+        }
+        writer.putInt(map.size());
+        for (Map.Entry<String, Double> entry : map.entrySet()) {
+            writer.putString(entry.getKey());
+            writer.putDouble(entry.getValue());
+        }
+    }
+
+    private static Map<String, Double> readDoubleMap(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        Map<String, Double> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(getString(buffer), nullableDouble(buffer.getDouble()));
+        }
+        return map;
+    }
+
+    private static void writeIntMap(Writer writer, Map<String, Integer> map) {
+        if (map == null) {
+            writer.putInt(NULL_LENGTH);
+            return;
+        }
+        writer.putInt(map.size());
+        for (Map.Entry<String, Integer> entry : map.entrySet()) {
+            writer.putString(entry.getKey());
+            writer.putInt(nullableInt(entry.getValue()));
+        }
+    }
+
+    private static Map<String, Integer> readIntMap(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size == NULL_LENGTH) {
+            return null;
+        }
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(getString(buffer), nullableInt(buffer.getInt()));
+        }
+        return map;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int nullableInt(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+
+    private static Integer nullableInt(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    private static Double nullableDouble(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * 모자라면 두 배로 키우는 heap 버퍼 쓰기
+     */
+    private static final class Writer {
+
+        ByteBuffer buffer;
+
+        Writer(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        void putByte(byte value) {
+            ensure(1).put(value);
+        }
+
+        void putInt(int value) {
+            ensure(4).putInt(value);
+        }
+
+        void putLong(long value) {
+            ensure(8).putLong(value);
+        }
+
+        void putDouble(Double value) {
+            ensure(8).putDouble(value == null ? Double.NaN : value);
+        }
+
+        void putString(String value) {
+            if (value == null) {
+                putInt(NULL_LENGTH);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensure(bytes.length).put(bytes);
+        }
+
+        private ByteBuffer ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package RECO.Internship.Assignment.application.column;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 열 저장소의 고정 크기 묶음 (행 수만큼 미리 잡은 기본형 배열)
+ *
+ * 추가와 삭제 표시는 ColumnarResultStore의 잠금 안에서 한 스레드만 하고,
+ * 조회는 잠금 없이 {@link #rows}까지만 읽는다 (배열에 쓴 뒤 rows를 올리므로 그 앞의 행은 완성되어 있다).
+ * 모든 행이 삭제된 묶음은 배열을 놓아 준다.
+ */
+final class ColumnChunk {
+
+    final long firstSequence;
+    final int capacity;
+
+    long[] sequences;
+    long[] timestamps;
+    long[] storedAts;
+    int[] totalWeights;
+    int[] emptyWeights;
+    int[] netWeights;
+    int[] customers;
+    int[] products;
+    int[] issuers;
+    double[] latitudes;
+    double[] longitudes;
+    byte[] statuses;
+    // 삭제된 행 (1비트씩)
+    final AtomicLongArray removed;
+
+    volatile int rows;
+    int removedRows;
+
+    ColumnChunk(long firstSequence, int capacity) {
+        this.firstSequence = firstSequence;
+        this.capacity = capacity;
+        this.sequences = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.storedAts = new long[capacity];
+        this.totalWeights = new int[capacity];
+        this.emptyWeights = new int[capacity];
+        this.netWeights = new int[capacity];
+        this.customers = new int[capacity];
+        this.products = new int[capacity];
+        this.issuers = new int[capacity];
+        this.latitudes = new double[capacity];
+        this.longitudes = new double[capacity];
+        this.statuses = new byte[capacity];
+        this.removed = new AtomicLongArray((capacity + 63) >>> 6);
+    }
+
+    boolean isFull() {
+        return rows == capacity;
+    }
+
+    boolean isReleased() {
+        return sequences == null;
+    }
+
+    boolean isRemoved(int row) {
+        return (removed.get(row >>> 6) & (1L << row)) != 0;
+    }
+
+    /**
+     * 삭제 표시
+     *
+     * @return 새로 표시했으면 true
+     */
+    boolean markRemoved(int row) {
+        long bit = 1L << row;
+        long word = removed.get(row >>> 6);
+        if ((word & bit) != 0) {
+            return false;
+        }
+        removed.set(row >>> 6, word | bit);
+        removedRows++;
+        return true;
+    }
+
+    /**
+     * 기록 번호의 행 위치 (없으면 -1)
+     */
+    int find(long sequence) {
+        long[] column = sequences;
+        if (column == null) {
+            return -1;
+        }
+        int low = 0;
+        int high = rows - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = column[mid];
+            if (value < sequence) {
+                low = mid + 1;
+            } else if (value > sequence) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    void release() {
+        sequences = null;
+        timestamps = null;
+        storedAts = null;
+        totalWeights = null;
+        emptyWeights = null;
+        netWeights = null;
+        customers = null;
+        products = null;
+        issuers = null;
+        latitudes = null;
+        longitudes = null;
+        statuses = null;
+    }
+
+    long bytes() {
+        if (isReleased()) {
+            return 0;
+        }
+        // long 3개 + int 6개 + double 2개 + byte 1개 + 삭제 비트
+        return (long) capacity * (3 * 8 + 6 * 4 + 2 * 8 + 1) + removed.length() * 8L;
+    }
+}
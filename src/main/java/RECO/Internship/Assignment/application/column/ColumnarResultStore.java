@@ -0,0 +1,384 @@
+package RECO.Internship.Assignment.application.column;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.api.dto.ResultSummaryResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse.WeightSummary;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+import RECO.Internship.Assignment.application.index.ResultQuery;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.ResultStoreListener;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장된 파싱 결과의 열 방향 메모리 사본
+ *
+ * 결과 객체(박싱된 중량, 중첩 DTO) 대신 항목별 기본형 배열에 행 단위로 이어 붙인다.
+ * 중량은 int[], 계량 일시와 저장 시각은 long[], GPS는 double[], 전체 검증 상태는 byte[],
+ * 거래처/품명/발행처는 문자열 사전 번호(int[])로 둔다.
+ * 배열은 고정 크기 묶음(chunk) 단위로 잡으므로 추가할 때 기존 배열을 복사하지 않는다.
+ *
+ * 요약 조회는 묶음마다 필요한 열 배열만 처음부터 끝까지 훑으므로 객체를 따라가는 조회보다 캐시 적중이 높다.
+ * 시작할 때 결과 저장소를 재생해 채우고, 이후에는 저장소의 기록/압축 통지로 갱신한다.
+ */
+@Component
+public class ColumnarResultStore implements ResultStoreListener, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarResultStore.class);
+
+    static final int DEFAULT_CHUNK_ROWS = 1 << 14;
+
+    // 값 없음 표시
+    static final int NULL_WEIGHT = Integer.MIN_VALUE;
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    // 전체 검증 상태 코드 (0 = 없음/기타)
+    private static final String[] STATUS_NAMES = { null, "VALID", "WARNING", "INVALID", "CANNOT_VALIDATE" };
+
+    private final ParseResultStore parseResultStore;
+    private final StringDictionary stringDictionary;
+    private final boolean enabled;
+    private final int chunkRows;
+
+    // 추가/삭제는 이 잠금 안에서, 조회는 잠금 없이 chunks 스냅샷을 읽는다
+    private final Object writeLock = new Object();
+    private volatile ColumnChunk[] chunks = new ColumnChunk[0];
+    private long lastSequence;
+
+    private final AtomicLong liveRows = new AtomicLong();
+
+    @Autowired
+    public ColumnarResultStore(ParseResultStore parseResultStore, StringDictionary stringDictionary,
+            @Value("${ocr.columns.enabled:false}") boolean enabled) {
+        this(parseResultStore, stringDictionary, enabled, DEFAULT_CHUNK_ROWS);
+    }
+
+    ColumnarResultStore(ParseResultStore parseResultStore, StringDictionary stringDictionary, boolean enabled,
+            int chunkRows) {
+        this.parseResultStore = parseResultStore;
+        this.stringDictionary = stringDictionary;
+        this.enabled = enabled;
+        this.chunkRows = Math.max(64, chunkRows);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void onAppend(StoredResult stored) {
+        ParsedResultResponse result = stored.result();
+        synchronized (writeLock) {
+            if (stored.sequence() <= lastSequence) {
+                log.debug("이미 반영한 기록 번호는 건너뜁니다: {}", stored.sequence());
+                return;
+            }
+            ColumnChunk chunk = chunks.length == 0 ? null : chunks[chunks.length - 1];
+            if (chunk == null || chunk.isFull()) {
+                chunk = new ColumnChunk(stored.sequence(), chunkRows);
+                ColumnChunk[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+                grown[grown.length - 1] = chunk;
+                chunks = grown;
+            }
+
+            int row = chunk.rows;
+            chunk.sequences[row] = stored.sequence();
+            chunk.storedAts[row] = stored.storedAt();
+            chunk.timestamps[row] = timestamp(result.getDate(), result.getTime());
+            chunk.totalWeights[row] = weight(result.getTotalWeight());
+            chunk.emptyWeights[row] = weight(result.getEmptyWeight());
+            chunk.netWeights[row] = weight(result.getNetWeight());
+            chunk.customers[row] = stringDictionary.encode(ResultQuery.normalize(result.getCustomer()));
+            chunk.products[row] = stringDictionary.encode(ResultQuery.normalize(result.getProductName()));
+            chunk.issuers[row] = stringDictionary.encode(ResultQuery.normalize(result.getIssuer()));
+            ParsedResultResponse.GpsInfo gps = result.getGps();
+            chunk.latitudes[row] = gps == null || gps.getLatitude() == null ? Double.NaN : gps.getLatitude();
+            chunk.longitudes[row] = gps == null || gps.getLongitude() == null ? Double.NaN : gps.getLongitude();
+            chunk.statuses[row] = statusCode(result.getValidation() == null
+                    ? null : result.getValidation().getOverallStatus());
+            chunk.rows = row + 1;
+
+            lastSequence = stored.sequence();
+            liveRows.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onRemove(StoredResult removed) {
+        synchronized (writeLock) {
+            ColumnChunk chunk = chunkOf(removed.sequence());
+            int row = chunk == null ? -1 : chunk.find(removed.sequence());
+            if (row < 0 || !chunk.markRemoved(row)) {
+                return;
+            }
+            liveRows.decrementAndGet();
+            if (chunk.isFull() && chunk.removedRows == chunk.capacity) {
+                chunk.release();
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 계량표 전체의 중량 요약 (열 스캔)
+     *
+     * @param from        계량일자 시작 (포함, null이면 제한 없음)
+     * @param to          계량일자 끝 (포함, null이면 제한 없음)
+     * @param customer    거래처 (null이면 전체)
+     * @param productName 품명 (null이면 전체)
+     * @param status      전체 검증 상태 (null이면 전체)
+     * @throws IllegalArgumentException from이 to보다 늦은 경우
+     */
+    public ResultSummaryResponse summarize(LocalDate from, LocalDate to, String customer, String productName,
+            String status) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다");
+        }
+        long start = System.nanoTime();
+        // 기간을 지정하면 계량일자가 없는 행(NULL_TIMESTAMP)은 제외
+        boolean ranged = from != null || to != null;
+        Scan scan = new Scan(
+                from != null ? from.atStartOfDay().toEpochSecond(ZoneOffset.UTC)
+                        : ranged ? NULL_TIMESTAMP + 1 : NULL_TIMESTAMP,
+                to == null ? Long.MAX_VALUE : to.plusDays(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC) - 1,
+                filterId(customer), filterId(productName), statusFilter(status));
+        if (scan.customer != StringDictionary.MISSING && scan.product != StringDictionary.MISSING
+                && scan.status != StringDictionary.MISSING) {
+            for (ColumnChunk chunk : chunks) {
+                scan.accept(chunk);
+            }
+        }
+
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        for (int code = 1; code < STATUS_NAMES.length; code++) {
+            if (scan.statusCounts[code] > 0) {
+                statuses.put(STATUS_NAMES[code], scan.statusCounts[code]);
+            }
+        }
+        return ResultSummaryResponse.builder()
+                .from(from)
+                .to(to)
+                .tickets(scan.tickets)
+                .totalWeight(scan.summary(0))
+                .emptyWeight(scan.summary(1))
+                .netWeight(scan.summary(2))
+                .withGps(scan.withGps)
+                .statuses(statuses)
+                .scannedRows(scan.scannedRows)
+                .elapsedMicros((System.nanoTime() - start) / 1_000)
+                .build();
+    }
+
+    /**
+     * 삭제되지 않은 행 수
+     */
+    public long size() {
+        return liveRows.get();
+    }
+
+    /**
+     * 열 배열이 차지하는 메모리 (해제된 묶음 제외)
+     */
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (ColumnChunk chunk : chunks) {
+            bytes += chunk.bytes();
+        }
+        return bytes;
+    }
+
+    int chunkCount() {
+        return chunks.length;
+    }
+
+    /**
+     * 기록 번호가 들어 있는 묶음 (묶음은 첫 기록 번호 순서)
+     */
+    private ColumnChunk chunkOf(long sequence) {
+        ColumnChunk[] snapshot = chunks;
+        int low = 0;
+        int high = snapshot.length - 1;
+        ColumnChunk found = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].firstSequence <= sequence) {
+                found = snapshot[mid];
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private int filterId(String value) {
+        String normalized = ResultQuery.normalize(value);
+        return normalized == null ? Scan.ANY : stringDictionary.find(normalized);
+    }
+
+    private static int statusFilter(String status) {
+        String normalized = ResultQuery.normalize(status);
+        if (normalized == null) {
+            return Scan.ANY;
+        }
+        int code = statusCode(normalized.toUpperCase(Locale.ROOT));
+        return code == 0 ? StringDictionary.MISSING : code;
+    }
+
+    private static byte statusCode(String status) {
+        if (status != null) {
+            for (int code = 1; code < STATUS_NAMES.length; code++) {
+                if (STATUS_NAMES[code].equals(status)) {
+                    return (byte) code;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static int weight(Integer value) {
+        return value == null ? NULL_WEIGHT : value;
+    }
+
+    /**
+     * 계량 일시 → 초 (시간대 없이 현지 시각 그대로, 시각이 없으면 자정)
+     */
+    static long timestamp(String date, String time) {
+        if (date == null) {
+            return NULL_TIMESTAMP;
+        }
+        try {
+            LocalTime localTime = LocalTime.MIDNIGHT;
+            if (time != null) {
+                try {
+                    localTime = LocalTime.parse(time.trim());
+                } catch (DateTimeParseException e) {
+                    // 시각만 잘못된 경우 날짜는 살린다
+                }
+            }
+            return LocalDateTime.of(LocalDate.parse(date.trim()), localTime).toEpochSecond(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            return NULL_TIMESTAMP;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ocr.columns.rows", liveRows, AtomicLong::get)
+                .description("열 저장소의 행 수")
+                .register(registry);
+        Gauge.builder("ocr.columns.size", this, ColumnarResultStore::sizeInBytes)
+                .description("열 저장소 배열 크기")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * 한 번의 요약 스캔 (조건과 누적값)
+     */
+    private static final class Scan {
+
+        static final int ANY = Integer.MIN_VALUE;
+
+        final long fromSecond;
+        final long toSecond;
+        final int customer;
+        final int product;
+        final int status;
+
+        long tickets;
+        long withGps;
+        long scannedRows;
+        final long[] statusCounts = new long[STATUS_NAMES.length];
+        final long[] counts = new long[3];
+        final long[] sums = new long[3];
+        final int[] mins = { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE };
+        final int[] maxs = { Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE };
+
+        Scan(long fromSecond, long toSecond, int customer, int product, int status) {
+            this.fromSecond = fromSecond;
+            this.toSecond = toSecond;
+            this.customer = customer;
+            this.product = product;
+            this.status = status;
+        }
+
+        void accept(ColumnChunk chunk) {
+            int rows = chunk.rows;
+            long[] timestamps = chunk.timestamps;
+            int[] customers = chunk.customers;
+            int[] products = chunk.products;
+            byte[] statuses = chunk.statuses;
+            int[] totals = chunk.totalWeights;
+            int[] empties = chunk.emptyWeights;
+            int[] nets = chunk.netWeights;
+            double[] latitudes = chunk.latitudes;
+            if (timestamps == null || customers == null || products == null || statuses == null || totals == null
+                    || empties == null || nets == null || latitudes == null) {
+                return;
+            }
+            scannedRows += rows;
+            boolean anyCustomer = customer == ANY;
+            boolean anyProduct = product == ANY;
+            boolean anyStatus = status == ANY;
+            boolean hasRemoved = chunk.removedRows > 0;
+
+            for (int row = 0; row < rows; row++) {
+                long timestamp = timestamps[row];
+                if (timestamp < fromSecond || timestamp > toSecond
+                        || (!anyCustomer && customers[row] != customer)
+                        || (!anyProduct && products[row] != product)
+                        || (!anyStatus && statuses[row] != status)
+                        || (hasRemoved && chunk.isRemoved(row))) {
+                    continue;
+                }
+                tickets++;
+                statusCounts[statuses[row]]++;
+                if (!Double.isNaN(latitudes[row])) {
+                    withGps++;
+                }
+                add(0, totals[row]);
+                add(1, empties[row]);
+                add(2, nets[row]);
+            }
+        }
+
+        private void add(int metric, int value) {
+            if (value == NULL_WEIGHT) {
+                return;
+            }
+            counts[metric]++;
+            sums[metric] += value;
+            mins[metric] = Math.min(mins[metric], value);
+            maxs[metric] = Math.max(maxs[metric], value);
+        }
+
+        WeightSummary summary(int metric) {
+            long count = counts[metric];
+            return WeightSummary.builder()
+                    .count(count)
+                    .sum(sums[metric])
+                    .min(count == 0 ? null : mins[metric])
+                    .max(count == 0 ? null : maxs[metric])
+                    .build();
+        }
+    }
+}
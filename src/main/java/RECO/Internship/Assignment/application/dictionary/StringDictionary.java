@@ -0,0 +1,130 @@
+package RECO.Internship.Assignment.application.dictionary;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래처, 품명, 발행처 문자열 사전 (문자열 ↔ int 번호)
+ *
+ * 계량표마다 추출되는 거래처/품명/발행처는 종류가 수천 개뿐이므로,
+ * 메모리에 오래 두는 곳(캐시, 집계 등)은 같은 값의 문자열을 따로 들고 있지 않고
+ * 번호나 사전의 문자열 하나를 공유한다. 문자열은 응답을 만들 때 번호로 찾는다.
+ *
+ * 번호는 1부터 등록 순서대로 매기고 지우지 않는다 (0은 값 없음).
+ * 등록 수가 상한에 닿으면 새 값은 번호 없이 원래 문자열을 그대로 쓴다.
+ * 값은 그대로 등록하므로 공백 정리 등은 호출하는 쪽에서 한다.
+ */
+@Component
+public class StringDictionary implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(StringDictionary.class);
+
+    public static final int NONE = 0;
+    public static final int MISSING = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int maxEntries;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    // 번호 → 문자열 (등록은 잠금 안에서, 조회는 잠금 없이)
+    private volatile String[] values = new String[INITIAL_CAPACITY];
+    private int nextId = 1;
+    private volatile boolean full;
+
+    @Autowired
+    public StringDictionary(@Value("${ocr.dictionary.max-entries:1000000}") int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+    }
+
+    /**
+     * 값의 번호 (없으면 등록)
+     *
+     * @return 번호, null이면 {@link #NONE}, 사전이 가득 차 등록할 수 없으면 {@link #MISSING}
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        if (full) {
+            return MISSING;
+        }
+        Integer registered = ids.computeIfAbsent(value, this::register);
+        return registered == null ? MISSING : registered;
+    }
+
+    /**
+     * 등록된 값의 번호 (등록하지 않음)
+     *
+     * @return 번호, null이면 {@link #NONE}, 등록되지 않은 값이면 {@link #MISSING}
+     */
+    public int find(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        return ids.getOrDefault(value, MISSING);
+    }
+
+    /**
+     * 번호의 문자열
+     *
+     * @return 문자열, {@link #NONE}이거나 등록되지 않은 번호면 null
+     */
+    public String decode(int id) {
+        String[] snapshot = values;
+        return id <= NONE || id >= snapshot.length ? null : snapshot[id];
+    }
+
+    /**
+     * 사전이 공유하는 같은 값의 문자열 (사전이 가득 차 등록할 수 없으면 받은 문자열)
+     */
+    public String canonical(String value) {
+        int id = encode(value);
+        return id > NONE ? decode(id) : value;
+    }
+
+    /**
+     * 등록된 값 수
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    private synchronized Integer register(String value) {
+        if (nextId > maxEntries) {
+            if (!full) {
+                full = true;
+                log.warn("문자열 사전이 가득 찼습니다 - 상한: {}개, 이후 값은 번호 없이 사용합니다", maxEntries);
+            }
+            return null;
+        }
+        String[] current = values;
+        if (nextId == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[nextId] = value;
+        values = current;
+        return nextId++;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ocr.dictionary.entries", this, StringDictionary::size)
+                .description("문자열 사전에 등록된 값 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,311 @@
+package RECO.Internship.Assignment.application.index;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.ResultStoreListener;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 저장된 파싱 결과의 메모리 보조 색인
+ *
+ * 차량번호(전체, 끝 4자리), 계량일자, 거래처, 품명, 발행처, 전체 검증 상태별로
+ * 해당 기록 번호의 정렬된 목록을 둔다. 계량일자는 날짜 순서 맵에 두어 기간 조회를 날짜 수만큼의 목록 합치기로 처리한다.
+ * 조회는 조건별 목록 중 가장 짧은 것부터 교집합을 구하므로 전체 기록을 훑지 않는다.
+ *
+ * 시작할 때 결과 저장소를 재생해 다시 만들고, 이후에는 저장소의 기록/압축 통지로 하나씩 갱신한다.
+ * 기록 번호는 int 범위(약 21억 건)까지 색인한다.
+ */
+@Component
+public class ResultIndex implements ResultStoreListener, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultIndex.class);
+
+    private static final int VEHICLE_SUFFIX_LENGTH = 4;
+
+    private final ParseResultStore parseResultStore;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, SequenceList> byVehicle = new HashMap<>();
+    private final Map<String, SequenceList> byVehicleSuffix = new HashMap<>();
+    private final NavigableMap<Long, SequenceList> byDate = new TreeMap<>();
+    private final Map<String, SequenceList> byCustomer = new HashMap<>();
+    private final Map<String, SequenceList> byProductName = new HashMap<>();
+    private final Map<String, SequenceList> byIssuer = new HashMap<>();
+    private final Map<String, SequenceList> byStatus = new HashMap<>();
+
+    private final AtomicLong indexed = new AtomicLong();
+
+    public ResultIndex(ParseResultStore parseResultStore) {
+        this.parseResultStore = parseResultStore;
+    }
+
+    @Override
+    public void onAppend(StoredResult stored) {
+        int sequence = toIndexKey(stored.sequence());
+        if (sequence < 0) {
+            return;
+        }
+        ParsedResultResponse result = stored.result();
+        lock.writeLock().lock();
+        try {
+            String vehicle = ResultQuery.normalize(result.getVehicleNumber());
+            add(byVehicle, vehicle, sequence);
+            add(byVehicleSuffix, vehicleSuffix(vehicle), sequence);
+            Long day = epochDay(result.getDate());
+            if (day != null) {
+                byDate.computeIfAbsent(day, key -> new SequenceList()).add(sequence);
+            }
+            add(byCustomer, ResultQuery.normalize(result.getCustomer()), sequence);
+            add(byProductName, ResultQuery.normalize(result.getProductName()), sequence);
+            add(byIssuer, ResultQuery.normalize(result.getIssuer()), sequence);
+            add(byStatus, status(result), sequence);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        indexed.incrementAndGet();
+    }
+
+    @Override
+    public void onRemove(StoredResult removed) {
+        onRemoveAll(List.of(removed));
+    }
+
+    /**
+     * 압축 한 번의 삭제를 목록별로 모은 뒤, 목록마다 배열을 한 번만 훑어 제거
+     * 오래된 기록은 목록 앞쪽에 있으므로 하나씩 지우면 목록 길이만큼의 이동이 삭제 수만큼 반복된다.
+     */
+    @Override
+    public void onRemoveAll(List<StoredResult> removed) {
+        Map<SequenceList, PendingRemoval> pending = new IdentityHashMap<>();
+        int count = 0;
+        lock.writeLock().lock();
+        try {
+            for (StoredResult stored : removed) {
+                int sequence = toIndexKey(stored.sequence());
+                if (sequence < 0) {
+                    continue;
+                }
+                ParsedResultResponse result = stored.result();
+                String vehicle = ResultQuery.normalize(result.getVehicleNumber());
+                collectRemoval(pending, byVehicle, vehicle, sequence);
+                collectRemoval(pending, byVehicleSuffix, vehicleSuffix(vehicle), sequence);
+                collectRemoval(pending, byDate, epochDay(result.getDate()), sequence);
+                collectRemoval(pending, byCustomer, ResultQuery.normalize(result.getCustomer()), sequence);
+                collectRemoval(pending, byProductName, ResultQuery.normalize(result.getProductName()), sequence);
+                collectRemoval(pending, byIssuer, ResultQuery.normalize(result.getIssuer()), sequence);
+                collectRemoval(pending, byStatus, status(result), sequence);
+                count++;
+            }
+            for (Map.Entry<SequenceList, PendingRemoval> entry : pending.entrySet()) {
+                entry.getKey().removeAll(entry.getValue().sequences());
+                entry.getValue().dropIfEmpty().run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        indexed.addAndGet(-count);
+    }
+
+    /**
+     * 조건을 모두 만족하는 기록 번호 (오름차순)
+     *
+     * @throws IllegalArgumentException 조건이 하나도 없는 경우 (전체 조회 방지)
+     */
+    public int[] search(ResultQuery query) {
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("조회 조건을 하나 이상 지정해야 합니다");
+        }
+        lock.readLock().lock();
+        try {
+            List<SequenceList> lists = new ArrayList<>();
+            if (!ResultQuery.isBlank(query.vehicle())) {
+                String vehicle = ResultQuery.normalize(query.vehicle());
+                boolean suffixOnly = vehicle.length() == VEHICLE_SUFFIX_LENGTH && isDigits(vehicle);
+                if (!collect(lists, suffixOnly ? byVehicleSuffix : byVehicle, vehicle)) {
+                    return new int[0];
+                }
+            }
+            if (!collect(lists, byCustomer, ResultQuery.normalize(query.customer()))
+                    || !collect(lists, byProductName, ResultQuery.normalize(query.productName()))
+                    || !collect(lists, byIssuer, ResultQuery.normalize(query.issuer()))
+                    || !collect(lists, byStatus, upper(query.status()))) {
+                return new int[0];
+            }
+
+            int[] candidates = null;
+            if (query.from() != null || query.to() != null) {
+                long from = query.from() == null ? Long.MIN_VALUE : query.from().toEpochDay();
+                long to = query.to() == null ? Long.MAX_VALUE : query.to().toEpochDay();
+                if (from > to) {
+                    return new int[0];
+                }
+                List<SequenceList> days = new ArrayList<>(byDate.subMap(from, true, to, true).values());
+                // 날짜 범위가 다른 조건보다 넓으면 합치기 전에 짧은 목록부터 교집합
+                long daysSize = days.stream().mapToLong(SequenceList::size).sum();
+                long shortest = lists.stream().mapToLong(SequenceList::size).min().orElse(Long.MAX_VALUE);
+                if (daysSize <= shortest) {
+                    candidates = SequenceList.union(days);
+                } else {
+                    candidates = intersectAll(lists);
+                    return filterByDays(candidates, days);
+                }
+            }
+            return candidates == null ? intersectAll(lists) : intersectInto(candidates, lists);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 기록 수
+     */
+    public long size() {
+        return indexed.get();
+    }
+
+    private static int[] intersectAll(List<SequenceList> lists) {
+        lists.sort((left, right) -> Integer.compare(left.size(), right.size()));
+        int[] candidates = lists.get(0).toArray();
+        return intersectInto(candidates, lists.subList(1, lists.size()));
+    }
+
+    private static int[] intersectInto(int[] candidates, List<SequenceList> lists) {
+        lists.sort((left, right) -> Integer.compare(left.size(), right.size()));
+        for (SequenceList list : lists) {
+            if (candidates.length == 0) {
+                break;
+            }
+            candidates = SequenceList.intersect(candidates, list);
+        }
+        return candidates;
+    }
+
+    private static int[] filterByDays(int[] candidates, List<SequenceList> days) {
+        int[] result = new int[candidates.length];
+        int count = 0;
+        for (SequenceList day : days) {
+            int[] matched = SequenceList.intersect(candidates, day);
+            System.arraycopy(matched, 0, result, count, matched.length);
+            count += matched.length;
+        }
+        int[] filtered = Arrays.copyOf(result, count);
+        Arrays.sort(filtered);
+        return filtered;
+    }
+
+    /**
+     * 조건 값에 해당하는 목록을 추가 (조건이 없으면 건너뜀)
+     *
+     * @return 조건이 있는데 해당 기록이 없으면 false
+     */
+    private static boolean collect(List<SequenceList> lists, Map<String, SequenceList> index, String value) {
+        if (value == null) {
+            return true;
+        }
+        SequenceList list = index.get(value);
+        if (list == null || list.isEmpty()) {
+            return false;
+        }
+        lists.add(list);
+        return true;
+    }
+
+    private static <K> void add(Map<K, SequenceList> index, K key, int sequence) {
+        if (key != null) {
+            index.computeIfAbsent(key, ignored -> new SequenceList()).add(sequence);
+        }
+    }
+
+    private static <K> void collectRemoval(Map<SequenceList, PendingRemoval> pending, Map<K, SequenceList> index,
+            K key, int sequence) {
+        if (key == null) {
+            return;
+        }
+        SequenceList list = index.get(key);
+        if (list != null) {
+            pending.computeIfAbsent(list, target -> new PendingRemoval(new SequenceList(), () -> {
+                if (target.isEmpty()) {
+                    index.remove(key);
+                }
+            })).sequences().add(sequence);
+        }
+    }
+
+    private static int toIndexKey(long sequence) {
+        if (sequence > Integer.MAX_VALUE) {
+            log.warn("색인 범위를 넘는 기록 번호는 색인하지 않습니다: {}", sequence);
+            return -1;
+        }
+        return (int) sequence;
+    }
+
+    private static String upper(String value) {
+        String normalized = ResultQuery.normalize(value);
+        return normalized == null ? null : normalized.toUpperCase(Locale.ROOT);
+    }
+
+    private static String vehicleSuffix(String vehicle) {
+        if (vehicle == null || vehicle.length() < VEHICLE_SUFFIX_LENGTH) {
+            return null;
+        }
+        String suffix = vehicle.substring(vehicle.length() - VEHICLE_SUFFIX_LENGTH);
+        return isDigits(suffix) ? suffix : null;
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Long epochDay(String date) {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim()).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String status(ParsedResultResponse result) {
+        return result.getValidation() == null ? null : upper(result.getValidation().getOverallStatus());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ocr.index.records", indexed, AtomicLong::get)
+                .description("색인된 파싱 결과 수")
+                .register(registry);
+    }
+
+    /**
+     * 목록 하나에서 지울 기록 번호와, 다 지운 뒤 목록이 비면 색인에서 빼는 동작
+     */
+    private record PendingRemoval(SequenceList sequences, Runnable dropIfEmpty) {
+    }
+}
@@ -0,0 +1,43 @@
+package RECO.Internship.Assignment.application.index;
+
+import java.time.LocalDate;
+
+/**
+ * 저장된 파싱 결과 조회 조건 (지정한 조건은 모두 만족해야 함)
+ *
+ * @param vehicle     차량번호 전체(예: 80구8713) 또는 끝 4자리(예: 8713)
+ * @param from        계량일자 시작 (포함)
+ * @param to          계량일자 끝 (포함)
+ * @param customer    거래처
+ * @param productName 품명
+ * @param issuer      발행처
+ * @param status      전체 검증 상태 (VALID, INVALID, WARNING, CANNOT_VALIDATE 등)
+ */
+public record ResultQuery(String vehicle, LocalDate from, LocalDate to, String customer, String productName,
+        String issuer, String status) {
+
+    /**
+     * 색인을 쓸 수 있는 조건이 하나도 없는지 여부
+     */
+    public boolean isEmpty() {
+        return isBlank(vehicle) && from == null && to == null && isBlank(customer) && isBlank(productName)
+                && isBlank(issuer) && isBlank(status);
+    }
+
+    static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 색인/집계 키 정규화 - 공백 제거 (OCR 결과의 "80구 8713"과 조회 조건 "80구8713"을 같게 취급)
+     *
+     * @return 정규화한 값 또는 값이 없으면 null
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.replaceAll("\\s+", "");
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
@@ -0,0 +1,70 @@
+package RECO.Internship.Assignment.application.index;
+
+import RECO.Internship.Assignment.api.dto.ResultQueryResponse;
+import RECO.Internship.Assignment.api.dto.StoredResultResponse;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장된 파싱 결과 조회 서비스
+ *
+ * 색인으로 조건에 맞는 기록 번호를 구한 뒤, 요청한 페이지의 기록만 저장소에서 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResultQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultQueryService.class);
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final ResultIndex resultIndex;
+    private final ParseResultStore parseResultStore;
+
+    /**
+     * 조건 조회 (최근 기록 순서)
+     *
+     * @throws IllegalArgumentException 조건이 없거나 offset/limit이 범위를 벗어난 경우
+     */
+    public ResultQueryResponse query(ResultQuery query, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset은 0 이상이어야 합니다");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+        }
+
+        long start = System.nanoTime();
+        int[] sequences = resultIndex.search(query);
+
+        List<StoredResultResponse> results = new ArrayList<>(Math.min(limit, sequences.length));
+        // 최근 기록부터 - 색인 갱신과 압축 사이에 삭제된 기록은 건너뜀
+        for (int i = sequences.length - 1 - offset; i >= 0 && results.size() < limit; i--) {
+            StoredResult stored = parseResultStore.read(sequences[i]);
+            if (stored != null) {
+                results.add(StoredResultResponse.builder()
+                        .sequence(stored.sequence())
+                        .storedAt(Instant.ofEpochMilli(stored.storedAt()))
+                        .result(stored.result())
+                        .build());
+            }
+        }
+
+        log.debug("결과 조회 - 조건: {}, 전체: {}건, 반환: {}건, 소요: {}µs", query, sequences.length, results.size(),
+                (System.nanoTime() - start) / 1_000);
+        return ResultQueryResponse.builder()
+                .total(sequences.length)
+                .offset(offset)
+                .limit(limit)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package RECO.Internship.Assignment.application.index;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정렬된 기록 번호 목록 (색인 한 항목의 posting list)
+ *
+ * 기록 번호는 증가하는 순서로 들어오므로 추가는 대부분 배열 끝에 붙이기이며,
+ * 박싱 없이 int 배열에 두어 항목당 4바이트만 쓴다.
+ * 동기화하지 않으므로 ResultIndex의 잠금 안에서만 사용한다.
+ */
+final class SequenceList {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] values = new int[4];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(int value) {
+        if (size > 0 && values[size - 1] >= value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return;
+            }
+            insert(-index - 1, value);
+            return;
+        }
+        insert(size, value);
+    }
+
+    private void insert(int index, int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * 정렬된 목록에 있는 값을 모두 제거 - 배열을 한 번만 훑는다 (압축 한 번의 삭제를 묶어서 처리)
+     */
+    void removeAll(SequenceList removals) {
+        int[] removing = removals.values;
+        int count = removals.size;
+        if (count == 0 || size == 0) {
+            return;
+        }
+        int start = Arrays.binarySearch(values, 0, size, removing[0]);
+        int write = start < 0 ? -start - 1 : start;
+        int next = 0;
+        for (int read = write; read < size; read++) {
+            int value = values[read];
+            while (next < count && removing[next] < value) {
+                next++;
+            }
+            if (next < count && removing[next] == value) {
+                next++;
+                continue;
+            }
+            values[write++] = value;
+        }
+        size = write;
+        if (size < values.length / 4 && values.length > 16) {
+            values = Arrays.copyOf(values, Math.max(4, size * 2));
+        }
+    }
+
+    int[] toArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * 정렬된 목록들의 합집합 (날짜 범위 조회)
+     */
+    static int[] union(List<SequenceList> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        if (lists.size() == 1) {
+            return lists.get(0).toArray();
+        }
+        int total = 0;
+        for (SequenceList list : lists) {
+            total += list.size;
+        }
+        int[] merged = new int[total];
+        int offset = 0;
+        for (SequenceList list : lists) {
+            System.arraycopy(list.values, 0, merged, offset, list.size);
+            offset += list.size;
+        }
+        // 기록 하나는 날짜 하나에만 속하므로 중복 없음
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    /**
+     * 정렬된 배열과 목록의 교집합
+     * 작은 쪽을 기준으로 큰 쪽을 지수 탐색(galloping)하므로 비용이 O(작은 쪽 × log 큰 쪽)이다.
+     */
+    static int[] intersect(int[] candidates, SequenceList list) {
+        return intersect(candidates, candidates.length, list.values, list.size);
+    }
+
+    static int[] intersect(int[] left, int leftSize, int[] right, int rightSize) {
+        if (leftSize > rightSize) {
+            return intersect(right, rightSize, left, leftSize);
+        }
+        int[] result = new int[leftSize];
+        int count = 0;
+        int from = 0;
+        for (int i = 0; i < leftSize && from < rightSize; i++) {
+            int value = left[i];
+            int bound = 1;
+            while (from + bound < rightSize && right[from + bound] < value) {
+                bound <<= 1;
+            }
+            int index = Arrays.binarySearch(right, from, Math.min(from + bound + 1, rightSize), value);
+            if (index >= 0) {
+                result[count++] = value;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,41 @@
+package RECO.Internship.Assignment.application.job;
+
+import java.util.List;
+
+/**
+ * 비동기 파싱 작업 메타데이터 (작업 디렉터리의 job.json으로 저장)
+ *
+ * 시각은 epoch 밀리초이며, 아직 도달하지 않은 단계의 시각과 error는 null이다.
+ *
+ * @param filenames 입력 파일명 (입력 순서, 결과의 index와 대응)
+ */
+public record ParseJob(
+        String jobId,
+        ParseJobStatus status,
+        List<String> filenames,
+        long createdAt,
+        Long startedAt,
+        Long finishedAt,
+        String error) {
+
+    public static ParseJob queued(String jobId, List<String> filenames, long now) {
+        return new ParseJob(jobId, ParseJobStatus.QUEUED, List.copyOf(filenames), now, null, null, null);
+    }
+
+    public int total() {
+        return filenames.size();
+    }
+
+    public ParseJob running(long now) {
+        return new ParseJob(jobId, ParseJobStatus.RUNNING, filenames, createdAt,
+                startedAt != null ? startedAt : now, null, null);
+    }
+
+    public ParseJob completed(long now) {
+        return new ParseJob(jobId, ParseJobStatus.COMPLETED, filenames, createdAt, startedAt, now, null);
+    }
+
+    public ParseJob failed(long now, String message) {
+        return new ParseJob(jobId, ParseJobStatus.FAILED, filenames, createdAt, startedAt, now, message);
+    }
+}
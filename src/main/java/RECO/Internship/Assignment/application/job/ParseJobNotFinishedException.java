@@ -0,0 +1,11 @@
+package RECO.Internship.Assignment.application.job;
+
+/**
+ * 아직 끝나지 않은 작업의 최종 결과 요청
+ */
+public class ParseJobNotFinishedException extends RuntimeException {
+
+    public ParseJobNotFinishedException(String jobId, ParseJobStatus status) {
+        super("작업이 아직 끝나지 않았습니다: " + jobId + " (" + status + ")");
+    }
+}
@@ -0,0 +1,11 @@
+package RECO.Internship.Assignment.application.job;
+
+/**
+ * 존재하지 않거나 보관 기간이 지나 삭제된 작업 조회
+ */
+public class ParseJobNotFoundException extends RuntimeException {
+
+    public ParseJobNotFoundException(String jobId) {
+        super("작업을 찾을 수 없습니다: " + jobId);
+    }
+}
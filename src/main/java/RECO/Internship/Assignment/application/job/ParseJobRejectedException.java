@@ -0,0 +1,11 @@
+package RECO.Internship.Assignment.application.job;
+
+/**
+ * 작업 큐가 가득 차 새 작업을 받을 수 없음
+ */
+public class ParseJobRejectedException extends RuntimeException {
+
+    public ParseJobRejectedException(String message) {
+        super(message);
+    }
+}
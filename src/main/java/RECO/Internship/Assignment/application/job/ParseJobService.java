@@ -0,0 +1,427 @@
+package RECO.Internship.Assignment.application.job;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParseJobResponse;
+import RECO.Internship.Assignment.api.dto.ParseJobResultsResponse;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.OcrParseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 일괄 파싱 작업 서비스
+ *
+ * 업로드 파일을 작업 저장소에 복사한 뒤 작업 ID를 바로 반환하고, 파싱은 고정 크기 워커 풀에서 수행한다.
+ * 워커 하나가 작업 하나의 파일을 입력 순서대로 처리하며, 대기 큐가 가득 차면 새 작업을 거절한다.
+ * 파일별 결과는 완료되는 즉시 저장소에 기록되므로 처리 중에도 부분 결과를 조회할 수 있다.
+ *
+ * 재시작하면 저장소의 작업을 다시 읽어, 끝나지 않은 작업은 아직 결과가 없는 파일부터 이어서 처리한다.
+ * 끝난 작업은 보관 기간(ocr.jobs.retention-seconds)이 지나거나 보관 개수(ocr.jobs.max-retained)를
+ * 넘으면 오래된 것부터 삭제된다. 정리는 제출/복구 때와 함께 주기적으로(ocr.jobs.purge-interval-seconds)
+ * 수행하므로 요청이 없는 서버에서도 끝난 작업이 쌓이지 않는다.
+ */
+@Service
+public class ParseJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseJobService.class);
+
+    private final OcrParseService ocrParseService;
+    private final ParseJobStore store;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final int maxRetained;
+    private final Duration purgeInterval;
+    private final Clock clock;
+
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService purger;
+
+    @Autowired
+    public ParseJobService(
+            OcrParseService ocrParseService,
+            ParseJobStore store,
+            @Value("${ocr.jobs.workers:2}") int workers,
+            @Value("${ocr.jobs.queue-capacity:16}") int queueCapacity,
+            @Value("${ocr.jobs.retention-seconds:3600}") long retentionSeconds,
+            @Value("${ocr.jobs.max-retained:100}") int maxRetained,
+            @Value("${ocr.jobs.purge-interval-seconds:60}") long purgeIntervalSeconds) {
+        this(ocrParseService, store, workers, queueCapacity, Duration.ofSeconds(retentionSeconds), maxRetained,
+                Duration.ofSeconds(Math.max(0, purgeIntervalSeconds)), Clock.systemDefaultZone());
+    }
+
+    ParseJobService(OcrParseService ocrParseService, ParseJobStore store, int workers, int queueCapacity,
+            Duration retention, int maxRetained, Duration purgeInterval, Clock clock) {
+        this.ocrParseService = ocrParseService;
+        this.store = store;
+        this.retention = retention;
+        this.maxRetained = Math.max(0, maxRetained);
+        this.purgeInterval = purgeInterval;
+        this.clock = clock;
+
+        int threads = Math.max(1, workers);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "ocr-job-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("비동기 작업 워커 풀 초기화 - 워커: {}, 대기 큐: {}, 보관 기간: {}, 보관 개수: {}",
+                threads, Math.max(1, queueCapacity), retention, this.maxRetained);
+    }
+
+    /**
+     * 저장소에 남아 있는 작업 복구
+     * 끝나지 않은 작업은 결과가 없는 파일부터 다시 큐에 넣는다.
+     */
+    @PostConstruct
+    void recover() {
+        int resumed = 0;
+        for (ParseJobStore.StoredJob stored : store.loadAll()) {
+            JobState state = new JobState(stored.job(), stored.results());
+            jobs.put(state.job.jobId(), state);
+            if (!state.job.status().isFinished()) {
+                try {
+                    executor.execute(() -> run(state));
+                    resumed++;
+                } catch (RejectedExecutionException e) {
+                    finish(state, state.job.failed(clock.millis(), "재시작 후 작업 큐가 가득 차 재개하지 못했습니다"));
+                }
+            }
+        }
+        purge();
+        if (!jobs.isEmpty()) {
+            log.info("저장된 작업 복구 - 전체: {}, 재개: {}", jobs.size(), resumed);
+        }
+
+        // 제출이 없어도 보관 기간이 지난 작업을 정리
+        if (!purgeInterval.isZero()) {
+            purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ocr-job-purger");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = purgeInterval.toMillis();
+            purger.scheduleWithFixedDelay(this::purgeQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 작업 제출 - 업로드 파일을 저장한 뒤 즉시 반환
+     *
+     * @throws ParseJobRejectedException 작업 큐가 가득 찬 경우
+     */
+    public ParseJobResponse submit(MultipartFile[] files) throws IOException {
+        if (files == null || files.length == 0) {
+            throw new IllegalArgumentException("파일이 없습니다");
+        }
+        purge();
+
+        String jobId = UUID.randomUUID().toString();
+        List<String> filenames = new ArrayList<>(files.length);
+        try {
+            for (int i = 0; i < files.length; i++) {
+                filenames.add(filename(files[i], i));
+                try (InputStream input = files[i].getInputStream()) {
+                    store.saveInput(jobId, i, input);
+                }
+            }
+            ParseJob job = ParseJob.queued(jobId, filenames, clock.millis());
+            store.save(job);
+
+            JobState state = new JobState(job, List.of());
+            jobs.put(jobId, state);
+            executor.execute(() -> run(state));
+            log.info("작업 제출 - ID: {}, 파일 수: {}", jobId, files.length);
+            return toResponse(state);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            store.delete(jobId);
+            log.warn("작업 큐 포화로 작업 거절 - 파일 수: {}", files.length);
+            throw new ParseJobRejectedException("처리 대기 중인 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (IOException e) {
+            store.delete(jobId);
+            throw e;
+        }
+    }
+
+    /**
+     * 결과에 표시할 파일명 - 클라이언트가 파일명을 보내지 않으면 입력 순번으로 대신한다
+     */
+    private static String filename(MultipartFile file, int index) {
+        String filename = file.getOriginalFilename();
+        return filename == null || filename.isBlank() ? "file-" + index : filename;
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public ParseJobResponse status(String jobId) {
+        return toResponse(find(jobId));
+    }
+
+    /**
+     * 부분 결과 조회 - 완료 순서로 offset번째부터 지금까지 끝난 결과
+     * 응답의 nextOffset을 다음 조회의 offset으로 넘기면 새로 끝난 결과만 받는다.
+     */
+    public ParseJobResultsResponse partialResults(String jobId, int offset) {
+        JobState state = find(jobId);
+        ParseJob job = state.job;
+        List<BatchParseResult> results;
+        int from;
+        synchronized (state.results) {
+            from = Math.min(Math.max(0, offset), state.results.size());
+            results = new ArrayList<>(state.results.subList(from, state.results.size()));
+        }
+        return toResultsResponse(job, state, results, from + results.size());
+    }
+
+    /**
+     * 최종 결과 조회 - 입력 순서로 정렬한 전체 결과
+     *
+     * @throws ParseJobNotFinishedException 작업이 아직 끝나지 않은 경우
+     */
+    public ParseJobResultsResponse results(String jobId) {
+        JobState state = find(jobId);
+        ParseJob job = state.job;
+        if (!job.status().isFinished()) {
+            throw new ParseJobNotFinishedException(jobId, job.status());
+        }
+        List<BatchParseResult> results;
+        synchronized (state.results) {
+            results = new ArrayList<>(state.results);
+        }
+        results.sort(Comparator.comparing(BatchParseResult::getIndex));
+        return toResultsResponse(job, state, results, results.size());
+    }
+
+    private JobState find(String jobId) {
+        JobState state = jobs.get(jobId);
+        if (state == null || isExpired(state.job, clock.millis())) {
+            throw new ParseJobNotFoundException(jobId);
+        }
+        return state;
+    }
+
+    /**
+     * 작업 처리 (워커 스레드)
+     * 종료(인터럽트) 시에는 상태를 RUNNING으로 남겨 재시작 후 이어서 처리되게 한다.
+     */
+    private void run(JobState state) {
+        try {
+            update(state, state.job.running(clock.millis()));
+            log.info("작업 시작 - ID: {}, 남은 파일: {}/{}",
+                    state.job.jobId(), state.job.total() - state.done.size(), state.job.total());
+
+            for (int index = 0; index < state.job.total(); index++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("작업 처리 중단 (종료) - ID: {}", state.job.jobId());
+                    return;
+                }
+                if (state.done.contains(index)) {
+                    continue;
+                }
+                BatchParseResult result = parseOne(state.job, index);
+                result.setIndex(index);
+                store.appendResult(state.job.jobId(), result);
+                state.add(result);
+            }
+
+            finish(state, state.job.completed(clock.millis()));
+            log.info("작업 완료 - ID: {}, 성공: {}, 실패: {}",
+                    state.job.jobId(), state.succeeded.get(), state.failed.get());
+        } catch (IOException e) {
+            log.error("작업 저장소 오류로 작업 실패 - ID: {}", state.job.jobId(), e);
+            finish(state, state.job.failed(clock.millis(), "작업 결과를 저장하지 못했습니다."));
+        } catch (RuntimeException e) {
+            log.error("작업 처리 중 예상치 못한 오류 - ID: {}", state.job.jobId(), e);
+            finish(state, state.job.failed(clock.millis(), "작업 처리 중 서버 내부 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 파일 하나 파싱 - 모든 오류를 결과 객체로 격리
+     */
+    private BatchParseResult parseOne(ParseJob job, int index) {
+        String filename = job.filenames().get(index);
+        try {
+            Path input = store.inputPath(job.jobId(), index);
+            if (Files.size(input) == 0) {
+                return BatchParseResult.error(filename, "파일이 비어있습니다");
+            }
+            ParsedResultResponse parsed = ocrParseService.parseFromPath(input);
+            return BatchParseResult.success(filename, parsed);
+        } catch (JsonProcessingException e) {
+            log.warn("작업 {} 파일 JSON 형식 오류: {} - {}", job.jobId(), filename, e.getOriginalMessage());
+            return BatchParseResult.error(filename, "유효하지 않은 JSON 형식입니다");
+        } catch (IllegalArgumentException e) {
+            log.warn("작업 {} 파일 파싱 실패: {} - {}", job.jobId(), filename, e.getMessage());
+            return BatchParseResult.error(filename, e.getMessage());
+        } catch (IOException e) {
+            log.error("작업 {} 파일 읽기 실패: {}", job.jobId(), filename, e);
+            return BatchParseResult.error(filename, "파일 처리 중 오류가 발생했습니다.");
+        } catch (Exception e) {
+            log.error("작업 {} 예상치 못한 오류: {}", job.jobId(), filename, e);
+            return BatchParseResult.error(filename, "파싱 중 서버 내부 오류가 발생했습니다.");
+        }
+    }
+
+    private void update(JobState state, ParseJob job) throws IOException {
+        store.save(job);
+        state.job = job;
+    }
+
+    /**
+     * 작업 종료 기록 - 메타데이터 저장에 실패해도 메모리 상태는 종료로 바꾼다
+     */
+    private void finish(JobState state, ParseJob job) {
+        state.job = job;
+        try {
+            store.save(job);
+        } catch (IOException e) {
+            log.error("작업 상태 저장 실패 - ID: {}", job.jobId(), e);
+        }
+        store.deleteInputs(job.jobId());
+    }
+
+    /**
+     * 보관 기간이 지난 작업과, 보관 개수를 넘는 오래된 작업 삭제 (끝난 작업만 대상)
+     */
+    synchronized void purge() {
+        long now = clock.millis();
+        List<ParseJob> finished = new ArrayList<>();
+        for (JobState state : jobs.values()) {
+            ParseJob job = state.job;
+            if (isExpired(job, now)) {
+                remove(job.jobId());
+            } else if (job.status().isFinished()) {
+                finished.add(job);
+            }
+        }
+        if (finished.size() > maxRetained) {
+            finished.sort(Comparator.comparingLong(ParseJob::finishedAt));
+            for (ParseJob job : finished.subList(0, finished.size() - maxRetained)) {
+                remove(job.jobId());
+            }
+        }
+    }
+
+    /**
+     * 주기적 정리 - 실패해도 다음 주기에 다시 시도하도록 예외를 삼킨다
+     */
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("작업 정리 실패", e);
+        }
+    }
+
+    private boolean isExpired(ParseJob job, long now) {
+        return job.status().isFinished() && job.finishedAt() + retention.toMillis() <= now;
+    }
+
+    private void remove(String jobId) {
+        jobs.remove(jobId);
+        store.delete(jobId);
+        log.debug("작업 삭제 - ID: {}", jobId);
+    }
+
+    private ParseJobResponse toResponse(JobState state) {
+        ParseJob job = state.job;
+        return ParseJobResponse.builder()
+                .jobId(job.jobId())
+                .status(job.status().name())
+                .total(job.total())
+                .completed(state.done.size())
+                .succeeded(state.succeeded.get())
+                .failed(state.failed.get())
+                .createdAt(Instant.ofEpochMilli(job.createdAt()))
+                .startedAt(job.startedAt() != null ? Instant.ofEpochMilli(job.startedAt()) : null)
+                .finishedAt(job.finishedAt() != null ? Instant.ofEpochMilli(job.finishedAt()) : null)
+                .error(job.error())
+                .build();
+    }
+
+    private ParseJobResultsResponse toResultsResponse(ParseJob job, JobState state,
+            List<BatchParseResult> results, int nextOffset) {
+        return ParseJobResultsResponse.builder()
+                .jobId(job.jobId())
+                .status(job.status().name())
+                .total(job.total())
+                .completed(state.done.size())
+                .nextOffset(nextOffset)
+                .results(results)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 메모리 상태 - 메타데이터와 완료 순서의 결과
+     * 결과는 작업을 처리하는 워커 하나만 추가하고, 조회 스레드는 results 잠금 아래에서 복사한다.
+     */
+    private static final class JobState {
+
+        volatile ParseJob job;
+        final List<BatchParseResult> results = new ArrayList<>();
+        final Set<Integer> done = ConcurrentHashMap.newKeySet();
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+
+        JobState(ParseJob job, List<BatchParseResult> restored) {
+            this.job = job;
+            Set<Integer> seen = new HashSet<>();
+            for (BatchParseResult result : restored) {
+                if (result.getIndex() != null && seen.add(result.getIndex())) {
+                    add(result);
+                }
+            }
+        }
+
+        void add(BatchParseResult result) {
+            synchronized (results) {
+                results.add(result);
+            }
+            done.add(result.getIndex());
+            (result.isSuccess() ? succeeded : failed).incrementAndGet();
+        }
+    }
+}
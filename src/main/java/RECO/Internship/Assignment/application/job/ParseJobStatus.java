@@ -0,0 +1,20 @@
+package RECO.Internship.Assignment.application.job;
+
+/**
+ * 비동기 파싱 작업 상태
+ */
+public enum ParseJobStatus {
+
+    /** 작업 큐에서 대기 중 */
+    QUEUED,
+    /** 워커가 파일을 처리 중 */
+    RUNNING,
+    /** 모든 파일 처리 완료 (파일별 실패는 결과에 기록) */
+    COMPLETED,
+    /** 작업 자체가 중단됨 (저장소 오류, 재시작 후 재개 불가 등) */
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
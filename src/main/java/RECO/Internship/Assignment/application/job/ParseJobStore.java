@@ -0,0 +1,202 @@
+package RECO.Internship.Assignment.application.job;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.infrastructure.file.DirectoryLock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 파일 기반 작업 저장소
+ *
+ * 작업마다 디렉터리 하나를 사용한다.
+ * <pre>
+ * {ocr.jobs.dir}/{jobId}/job.json        작업 메타데이터 (임시 파일 작성 후 교체)
+ * {ocr.jobs.dir}/{jobId}/input/{i}.json  업로드 원본 (처리가 끝나면 삭제)
+ * {ocr.jobs.dir}/{jobId}/results.ndjson  파일별 결과 (완료 순서로 한 줄씩 추가)
+ * </pre>
+ * 결과는 추가 기록만 하므로, 처리 도중 종료되어 마지막 줄이 잘려도 그 줄만 버리고 앞의 결과는 그대로 복구된다.
+ * 재시작 후에도 남아 있어야 하므로 임시 디렉터리가 아닌 경로를 쓰고, 열려 있는 동안 디렉터리에 배타 잠금을 건다.
+ */
+@Component
+public class ParseJobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseJobStore.class);
+
+    private static final String JOB_FILE = "job.json";
+    private static final String RESULTS_FILE = "results.ndjson";
+    private static final String INPUT_DIR = "input";
+
+    private final ObjectMapper objectMapper;
+    private final Path root;
+    private final DirectoryLock directoryLock;
+
+    public ParseJobStore(ObjectMapper objectMapper, @Value("${ocr.jobs.dir:ocr-data/jobs}") String dir) {
+        this.objectMapper = objectMapper;
+        this.root = Path.of(dir);
+        try {
+            this.directoryLock = DirectoryLock.acquire(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 저장 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+        log.info("작업 저장소 초기화 - 경로: {}", root.toAbsolutePath());
+    }
+
+    /**
+     * 디렉터리 잠금 해제
+     */
+    @PreDestroy
+    void close() {
+        try {
+            directoryLock.close();
+        } catch (IOException e) {
+            log.warn("작업 저장소 잠금 해제 실패: {}", root, e);
+        }
+    }
+
+    /**
+     * 업로드 원본 저장 (요청 스레드에서 호출, 메모리에 올리지 않고 복사)
+     */
+    public void saveInput(String jobId, int index, InputStream input) throws IOException {
+        Path inputDir = root.resolve(jobId).resolve(INPUT_DIR);
+        Files.createDirectories(inputDir);
+        Files.copy(input, inputDir.resolve(index + ".json"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 업로드 원본 경로 (파싱은 이 파일에서 스트리밍으로 읽는다)
+     */
+    public Path inputPath(String jobId, int index) {
+        return root.resolve(jobId).resolve(INPUT_DIR).resolve(index + ".json");
+    }
+
+    public void deleteInputs(String jobId) {
+        deleteRecursively(root.resolve(jobId).resolve(INPUT_DIR));
+    }
+
+    /**
+     * 작업 메타데이터 저장 - 임시 파일에 쓴 뒤 교체하여 읽는 쪽이 반쯤 쓰인 파일을 보지 않게 한다
+     */
+    public void save(ParseJob job) throws IOException {
+        Path dir = root.resolve(job.jobId());
+        Files.createDirectories(dir);
+        Path temp = dir.resolve(JOB_FILE + ".tmp");
+        Files.write(temp, objectMapper.writeValueAsBytes(job));
+        try {
+            Files.move(temp, dir.resolve(JOB_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, dir.resolve(JOB_FILE), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 파일별 결과 한 줄 추가
+     */
+    public void appendResult(String jobId, BatchParseResult result) throws IOException {
+        byte[] line = objectMapper.writeValueAsBytes(result);
+        byte[] record = new byte[line.length + 1];
+        System.arraycopy(line, 0, record, 0, line.length);
+        record[line.length] = '\n';
+        Files.write(root.resolve(jobId).resolve(RESULTS_FILE), record,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * 저장된 작업 전체 로드 (재시작 시 복구용)
+     * 메타데이터를 읽을 수 없는 디렉터리는 건너뛰고, 읽을 수 없는 결과 줄(잘린 마지막 줄 등)은 버린다.
+     */
+    public List<StoredJob> loadAll() {
+        List<StoredJob> jobs = new ArrayList<>();
+        try (Stream<Path> dirs = Files.list(root)) {
+            for (Path dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                Path jobFile = dir.resolve(JOB_FILE);
+                if (!Files.exists(jobFile)) {
+                    continue;
+                }
+                try {
+                    ParseJob job = objectMapper.readValue(jobFile.toFile(), ParseJob.class);
+                    jobs.add(new StoredJob(job, readResults(dir.resolve(RESULTS_FILE))));
+                } catch (IOException e) {
+                    log.warn("작업 메타데이터를 읽을 수 없어 건너뜀: {}", dir.getFileName(), e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("작업 저장소 목록 조회 실패: {}", root, e);
+        }
+        return jobs;
+    }
+
+    private List<BatchParseResult> readResults(Path resultsFile) throws IOException {
+        List<BatchParseResult> results = new ArrayList<>();
+        if (!Files.exists(resultsFile)) {
+            return results;
+        }
+        byte[] content = Files.readAllBytes(resultsFile);
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        if (end < content.length) {
+            // 기록 도중 종료되어 잘린 마지막 줄 - 이어서 추가될 결과와 섞이지 않도록 잘라낸다
+            log.warn("잘린 결과 줄을 제거: {} ({} bytes)", resultsFile, content.length - end);
+            try (FileChannel channel = FileChannel.open(resultsFile, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+        for (String line : new String(content, 0, end, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                results.add(objectMapper.readValue(line, BatchParseResult.class));
+            } catch (IOException e) {
+                log.warn("손상된 결과 줄을 건너뜀: {}", resultsFile);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 작업 디렉터리 삭제
+     */
+    public void delete(String jobId) {
+        deleteRecursively(root.resolve(jobId));
+    }
+
+    private void deleteRecursively(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path target : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(target);
+            }
+        } catch (IOException e) {
+            log.warn("작업 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * 저장된 작업과 그 시점까지의 결과 (완료 순서)
+     */
+    public record StoredJob(ParseJob job, List<BatchParseResult> results) {
+    }
+}
@@ -0,0 +1,134 @@
+package RECO.Internship.Assignment.application.metrics;
+
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.FieldTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파싱 파이프라인 단계별 지표 (Micrometer → /actuator/metrics, /actuator/prometheus)
+ *
+ * - ocr.parse.stage{stage}: 단계별 소요 시간 (read, extract, validate, response)
+ * - ocr.parse.validator{validator}: 검증기별 소요 시간
+ * - ocr.parse.field{field, result}: 필드별 추출 성공(hit)/실패(miss) 횟수
+ * - ocr.parse.field.time{field}: 필드(패턴)별 추출 소요 시간 (ocr.extraction.field-timing을 켠 경우만)
+ * - ocr.parse.status{status}: 전체 검증 상태별 문서 수
+ * - ocr.parse.tier{tier}: 추출 경로별 문서 수 (TEXT, LAYOUT)
+ */
+@Component
+public class ParseMetrics implements FieldTimer {
+
+    public static final String STAGE_READ = "read";
+    public static final String STAGE_EXTRACT = "extract";
+    public static final String STAGE_VALIDATE = "validate";
+    public static final String STAGE_RESPONSE = "response";
+
+    public static final String VALIDATOR_WEIGHT = "weight";
+    public static final String VALIDATOR_DATE_TIME = "dateTime";
+    public static final String VALIDATOR_GPS = "gps";
+    public static final String VALIDATOR_VEHICLE = "vehicle";
+
+    private final MeterRegistry registry;
+
+    // 태그 조합별 미터 캐시 (요청마다 레지스트리 조회를 피함)
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> validatorTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> fieldCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> fieldTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> statusCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> tierCounters = new ConcurrentHashMap<>();
+
+    public ParseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 파이프라인 단계 소요 시간 기록
+     */
+    public void recordStage(String stage, long elapsedNanos) {
+        stageTimers.computeIfAbsent(stage, key -> Timer.builder("ocr.parse.stage")
+                .description("OCR 파싱 단계별 소요 시간")
+                .tag("stage", key)
+                .publishPercentileHistogram()
+                .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 검증기 소요 시간 기록
+     */
+    public void recordValidator(String validator, long elapsedNanos) {
+        validatorTimers.computeIfAbsent(validator, key -> Timer.builder("ocr.parse.validator")
+                .description("검증기별 소요 시간")
+                .tag("validator", key)
+                .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 필드(패턴)별 추출 소요 시간 기록
+     */
+    @Override
+    public void recordFieldTime(String field, long elapsedNanos) {
+        fieldTimers.computeIfAbsent(field, key -> Timer.builder("ocr.parse.field.time")
+                .description("필드별 추출 소요 시간")
+                .tag("field", key)
+                .register(registry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 필드별 추출 성공/실패 집계
+     */
+    public void recordFields(ExtractedFields fields) {
+        recordField("documentType", fields.documentType());
+        recordField("date", fields.date());
+        recordField("time", fields.time());
+        recordField("vehicleNumber", fields.vehicleNumber());
+        recordField("totalWeight", fields.totalWeight());
+        recordField("emptyWeight", fields.emptyWeight());
+        recordField("netWeight", fields.netWeight());
+        recordField("customer", fields.customer());
+        recordField("productName", fields.productName());
+        recordField("issuer", fields.issuer());
+        recordField("gps", fields.gpsCoordinates());
+    }
+
+    /**
+     * 전체 검증 상태 집계 (VALID / WARNING / INVALID / CANNOT_VALIDATE)
+     */
+    public void recordStatus(String overallStatus) {
+        statusCounters.computeIfAbsent(overallStatus, key -> Counter.builder("ocr.parse.status")
+                .description("전체 검증 상태별 문서 수")
+                .tag("status", key)
+                .register(registry))
+                .increment();
+    }
+
+    /**
+     * 문서를 처리한 추출 경로 집계
+     */
+    public void recordTier(String tier) {
+        tierCounters.computeIfAbsent(tier, key -> Counter.builder("ocr.parse.tier")
+                .description("추출 경로별 문서 수")
+                .tag("tier", key)
+                .register(registry))
+                .increment();
+    }
+
+    private void recordField(String field, Object value) {
+        String result = value != null ? "hit" : "miss";
+        fieldCounters.computeIfAbsent(field + ':' + result, key -> Counter.builder("ocr.parse.field")
+                .description("필드별 추출 성공/실패 횟수")
+                .tag("field", field)
+                .tag("result", result)
+                .register(registry))
+                .increment();
+    }
+}
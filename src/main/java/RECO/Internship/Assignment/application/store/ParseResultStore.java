@@ -0,0 +1,915 @@
+package RECO.Internship.Assignment.application.store;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.cache.PayloadHash;
+import RECO.Internship.Assignment.infrastructure.file.DirectoryLock;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 파싱 결과 저장소 (추가 기록 전용 세그먼트 로그)
+ *
+ * 외부 DB 없이 로컬 디렉터리에 파싱 결과를 기록한다.
+ * <pre>
+ * {ocr.store.dir}/segment-{첫 기록 번호 20자리}.log
+ *
+ * 기록 = 헤더 40 bytes + 본문(ParsedResultResponse JSON)
+ *   int  본문 길이
+ *   int  CRC32C (헤더의 나머지 + 본문)
+ *   long 기록 번호
+ *   long 기록 시각 (epoch millis)
+ *   long, long 계량표 키 (차량번호/날짜/시간 해시, 셋 중 하나라도 없으면 0)
+ * </pre>
+ *
+ * 기록은 요청 스레드에서 직렬화한 뒤 대기열에 넣고, 기록 스레드 하나가 모여 있는 기록을 한 번에 쓰고
+ * fsync 한 번으로 함께 확정한다(group commit). 동시 요청이 많을수록 fsync 한 번이 더 많은 기록을 덮으므로
+ * 파싱 처리량이 늘어도 저장이 병목이 되지 않는다. 대기열이 가득 차면 요청 스레드가 기다린다.
+ * 활성 세그먼트가 ocr.store.segment-bytes를 넘으면 새 세그먼트로 넘어간다.
+ *
+ * 시작할 때 모든 세그먼트를 읽어 CRC를 확인하고, 비정상 종료로 잘리거나 깨진 꼬리는 잘라낸다.
+ * 압축은 닫힌 세그먼트만 다시 써서, 같은 계량표를 나중에 다시 기록한 경우의 이전 기록과
+ * 보관 기간(ocr.store.retention-days)이 지난 기록을 지운다.
+ *
+ * 기본으로 꺼져 있으며, 켤 때는 OS가 비울 수 있는 임시 디렉터리가 아닌 경로를 ocr.store.dir로 지정한다.
+ * 디렉터리는 열려 있는 동안 배타 잠금을 걸어 두 프로세스가 같은 세그먼트에 기록하지 못하게 한다.
+ */
+@Component
+public class ParseResultStore implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseResultStore.class);
+
+    static final int HEADER_BYTES = 40;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    // 위치 표의 오프셋은 32비트
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path root;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final int maxBatch;
+    private final Duration retention;
+    private final Clock clock;
+
+    private final BlockingQueue<PendingAppend> queue;
+    private final PositionTable positions = new PositionTable();
+    // 파일명 순서, 마지막이 활성 세그먼트 - this로 보호
+    private final List<ResultSegment> segments = new ArrayList<>();
+    private final Map<Integer, ResultSegment> segmentsById = new ConcurrentHashMap<>();
+    private final AtomicInteger segmentIds = new AtomicInteger();
+    private final List<ResultStoreListener> listeners = new CopyOnWriteArrayList<>();
+    // 구독 시작(기존 기록 재생)과 기록 통지 사이의 순서 보장
+    private final Object notifyLock = new Object();
+    // 압축은 한 번에 하나만
+    private final Object compactionLock = new Object();
+
+    private volatile ResultSegment active;
+    private long nextSequence = 1;
+
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong appends = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong compactedRecords = new AtomicLong();
+
+    private DirectoryLock directoryLock;
+    private Thread writer;
+    private ScheduledExecutorService compactor;
+    private volatile boolean running;
+
+    @Autowired
+    public ParseResultStore(
+            ObjectMapper objectMapper,
+            @Value("${ocr.store.enabled:false}") boolean enabled,
+            @Value("${ocr.store.dir:ocr-data/results}") String dir,
+            @Value("${ocr.store.segment-bytes:67108864}") long segmentBytes,
+            @Value("${ocr.store.fsync:true}") boolean fsync,
+            @Value("${ocr.store.max-batch:256}") int maxBatch,
+            @Value("${ocr.store.queue-capacity:4096}") int queueCapacity,
+            @Value("${ocr.store.retention-days:30}") long retentionDays,
+            @Value("${ocr.store.compaction-interval-seconds:600}") long compactionIntervalSeconds) {
+        this(objectMapper, enabled, Path.of(dir), segmentBytes, fsync, maxBatch, queueCapacity,
+                Duration.ofDays(Math.max(0, retentionDays)), Duration.ofSeconds(Math.max(0, compactionIntervalSeconds)),
+                Clock.systemDefaultZone());
+    }
+
+    ParseResultStore(ObjectMapper objectMapper, boolean enabled, Path root, long segmentBytes, boolean fsync,
+            int maxBatch, int queueCapacity, Duration retention, Duration compactionInterval, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.root = root;
+        this.segmentBytes = Math.min(Math.max(HEADER_BYTES * 2L, segmentBytes), MAX_SEGMENT_BYTES);
+        this.fsync = fsync;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.retention = retention;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        if (!enabled) {
+            log.info("파싱 결과 저장소 - 사용: false");
+            return;
+        }
+
+        try {
+            directoryLock = DirectoryLock.acquire(root);
+            recover();
+        } catch (IOException e) {
+            releaseLock();
+            throw new UncheckedIOException("결과 저장소를 열 수 없습니다: " + root, e);
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "ocr-store-writer");
+        writer.setDaemon(true);
+        writer.start();
+        if (!compactionInterval.isZero()) {
+            compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ocr-store-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = compactionInterval.toMillis();
+            compactor.scheduleWithFixedDelay(this::compactQuietly, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        log.info("파싱 결과 저장소 - 경로: {}, 기록: {}, 세그먼트: {}, 세그먼트 크기: {} bytes, fsync: {}, 보관: {}",
+                root.toAbsolutePath(), records.get(), segments.size(), this.segmentBytes, fsync, retention);
+    }
+
+    /**
+     * 디스크를 쓰지 않는 저장소 (스프링 컨텍스트 밖의 CLI, 벤치마크용)
+     */
+    public static ParseResultStore disabled() {
+        return new ParseResultStore(null, false, Path.of(""), 0, false, 0, 0, Duration.ZERO, Duration.ZERO,
+                Clock.systemDefaultZone());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 파싱 결과 기록 요청
+     * 직렬화는 호출 스레드에서 끝내므로, 반환 후 결과 객체를 고쳐도 기록 내용은 바뀌지 않는다.
+     *
+     * @return 디스크에 확정되면 완료되는 Future (저장소를 끄면 null로 바로 완료)
+     */
+    public CompletableFuture<StoredResult> append(ParsedResultResponse result) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (HEADER_BYTES + (long) payload.length > segmentBytes) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("기록이 세그먼트 크기보다 큽니다: " + payload.length + " bytes"));
+        }
+
+        PendingAppend pending = new PendingAppend(result, payload, clock.millis(), ticketKey(result),
+                new CompletableFuture<>());
+        if (!running) {
+            pending.future().completeExceptionally(new IllegalStateException("결과 저장소가 닫혔습니다"));
+            return pending.future();
+        }
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future().completeExceptionally(e);
+        }
+        return pending.future();
+    }
+
+    /**
+     * 기록 번호로 조회
+     *
+     * @return 기록 또는 없거나 압축으로 삭제되었으면 null
+     */
+    public StoredResult read(long sequence) {
+        if (!enabled) {
+            return null;
+        }
+        // 압축이 세그먼트를 교체하는 중이면 새 위치로 다시 조회
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long position = positions.get(sequence);
+            if (position == PositionTable.ABSENT) {
+                return null;
+            }
+            ResultSegment segment = segmentsById.get(PositionTable.segmentId(position));
+            if (segment == null) {
+                continue;
+            }
+            try {
+                RawRecord record = readRecord(segment.channel(), PositionTable.offset(position), segment.size());
+                if (record != null && record.sequence() == sequence) {
+                    return decode(record);
+                }
+            } catch (ClosedChannelException e) {
+                // 교체된 세그먼트
+            } catch (IOException e) {
+                throw new UncheckedIOException("결과를 읽을 수 없습니다: " + sequence, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 저장된 모든 기록을 기록 번호 순서로 재생
+     */
+    public void replay(Consumer<StoredResult> consumer) {
+        if (!enabled) {
+            return;
+        }
+        List<ResultSegment> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(segments);
+        }
+        try {
+            for (ResultSegment segment : snapshot) {
+                scan(segment, (record, offset) -> {
+                    if (positions.get(record.sequence()) == PositionTable.position(segment.id(), offset)) {
+                        consumer.accept(decode(record));
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("결과 저장소를 읽을 수 없습니다: " + root, e);
+        }
+    }
+
+    /**
+     * 기존 기록을 모두 재생한 뒤 이후 변경을 구독
+     * 재생과 구독 시작 사이에 확정된 기록이 빠지거나 두 번 전달되지 않도록, 재생하는 동안 기록 통지를 멈춘다.
+     */
+    public void subscribe(ResultStoreListener listener) {
+        subscribeAll(List.of(listener));
+    }
+
+    /**
+     * 기존 기록을 한 번만 재생해 모든 구독자에게 전달한 뒤 이후 변경을 함께 구독
+     * 구독자마다 따로 재생하면 세그먼트를 구독자 수만큼 다시 읽고 그동안 기록 통지도 멈추므로, 시작할 때는 이쪽을 쓴다.
+     */
+    public void subscribeAll(List<? extends ResultStoreListener> subscribers) {
+        synchronized (notifyLock) {
+            replay(stored -> {
+                for (ResultStoreListener subscriber : subscribers) {
+                    subscriber.onAppend(stored);
+                }
+            });
+            listeners.addAll(subscribers);
+        }
+    }
+
+    /**
+     * 저장된 (삭제되지 않은) 기록 수
+     */
+    public long size() {
+        return records.get();
+    }
+
+    /**
+     * fsync로 확정한 묶음 수 - appends / commits가 묶음당 평균 기록 수
+     */
+    public long commitCount() {
+        return commits.get();
+    }
+
+    public long appendCount() {
+        return appends.get();
+    }
+
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (ResultSegment segment : segmentsById.values()) {
+            bytes += segment.size();
+        }
+        return bytes;
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 같은 계량표인지 판단하는 키 (차량번호 + 날짜 + 시간)
+     */
+    static PayloadHash ticketKey(ParsedResultResponse result) {
+        if (result.getVehicleNumber() == null || result.getDate() == null || result.getTime() == null) {
+            return null;
+        }
+        return PayloadHash.of(result.getVehicleNumber() + '\u0000' + result.getDate() + '\u0000' + result.getTime());
+    }
+
+    // ===== 복구 =====
+
+    private void recover() throws IOException {
+        Files.createDirectories(root);
+        List<Path> files;
+        try (Stream<Path> list = Files.list(root)) {
+            files = list.sorted().toList();
+        }
+
+        long maxSequence = 0;
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(COMPACTING_SUFFIX)) {
+                // 압축 도중 종료 - 원본이 그대로 남아 있다
+                Files.deleteIfExists(file);
+                continue;
+            }
+            if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+                continue;
+            }
+
+            ResultSegment segment = ResultSegment.open(segmentIds.incrementAndGet(), file);
+            long fileSize = segment.channel().size();
+            long offset = 0;
+            RawRecord record;
+            while ((record = readRecord(segment.channel(), offset, fileSize)) != null) {
+                positions.set(record.sequence(), PositionTable.position(segment.id(), offset));
+                records.incrementAndGet();
+                maxSequence = Math.max(maxSequence, record.sequence());
+                offset += record.size();
+            }
+            if (offset < fileSize) {
+                log.warn("결과 저장소 복구 - 잘리거나 손상된 기록 제거: {} ({} bytes)", name, fileSize - offset);
+                segment.channel().truncate(offset);
+                segment.channel().force(true);
+            }
+            segment.size(offset);
+            segments.add(segment);
+            segmentsById.put(segment.id(), segment);
+        }
+
+        nextSequence = maxSequence + 1;
+        if (segments.isEmpty()) {
+            roll();
+        } else {
+            active = segments.get(segments.size() - 1);
+        }
+    }
+
+    // ===== 기록 =====
+
+    private void writeLoop() {
+        List<PendingAppend> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            PendingAppend first;
+            try {
+                first = queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatch - 1);
+            try {
+                commit(batch);
+            } catch (RuntimeException e) {
+                log.error("결과 기록 중 예상치 못한 오류", e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 묶음 기록 - 세그먼트마다 한 번 쓰고 한 번 fsync
+     */
+    private void commit(List<PendingAppend> batch) {
+        int from = 0;
+        while (from < batch.size()) {
+            ResultSegment segment = active;
+            if (segment.size() > 0 && segment.size() + batch.get(from).recordBytes() > segmentBytes) {
+                try {
+                    segment = roll();
+                } catch (IOException e) {
+                    log.error("새 세그먼트를 만들 수 없습니다", e);
+                    batch.subList(from, batch.size()).forEach(pending -> pending.future().completeExceptionally(e));
+                    return;
+                }
+            }
+
+            long size = segment.size();
+            int to = from;
+            while (to < batch.size() && (to == from || size + batch.get(to).recordBytes() <= segmentBytes)) {
+                size += batch.get(to).recordBytes();
+                to++;
+            }
+            write(segment, batch.subList(from, to));
+            from = to;
+        }
+    }
+
+    private void write(ResultSegment segment, List<PendingAppend> group) {
+        long start = segment.size();
+        ByteBuffer[] buffers = new ByteBuffer[group.size() * 2];
+        List<StoredResult> stored = new ArrayList<>(group.size());
+        long[] offsets = new long[group.size()];
+        long sequence = nextSequence;
+        long offset = start;
+        for (int i = 0; i < group.size(); i++) {
+            PendingAppend pending = group.get(i);
+            buffers[i * 2] = header(sequence, pending.storedAt(), pending.ticketKey(), pending.payload());
+            buffers[i * 2 + 1] = ByteBuffer.wrap(pending.payload());
+            stored.add(new StoredResult(sequence, pending.storedAt(), pending.result()));
+            offsets[i] = offset;
+            offset += pending.recordBytes();
+            sequence++;
+        }
+
+        FileChannel channel = segment.channel();
+        try {
+            channel.position(start);
+            long remaining = offset - start;
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            log.error("결과 기록 실패 - {}건", group.size(), e);
+            try {
+                channel.truncate(start);
+            } catch (IOException truncateError) {
+                e.addSuppressed(truncateError);
+            }
+            group.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        nextSequence = sequence;
+        segment.size(offset);
+        for (int i = 0; i < group.size(); i++) {
+            positions.set(stored.get(i).sequence(), PositionTable.position(segment.id(), offsets[i]));
+        }
+        records.addAndGet(group.size());
+        appends.addAndGet(group.size());
+        commits.incrementAndGet();
+
+        synchronized (notifyLock) {
+            for (StoredResult result : stored) {
+                for (ResultStoreListener listener : listeners) {
+                    try {
+                        listener.onAppend(result);
+                    } catch (RuntimeException e) {
+                        log.error("결과 저장소 구독자 오류 - 기록 번호: {}", result.sequence(), e);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).future().complete(stored.get(i));
+        }
+    }
+
+    private ResultSegment roll() throws IOException {
+        Path path = root.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence, SEGMENT_SUFFIX));
+        ResultSegment segment = ResultSegment.open(segmentIds.incrementAndGet(), path);
+        synchronized (this) {
+            segments.add(segment);
+            segmentsById.put(segment.id(), segment);
+        }
+        active = segment;
+        log.debug("결과 저장소 세그먼트 추가: {}", path.getFileName());
+        return segment;
+    }
+
+    // ===== 압축 =====
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            log.error("결과 저장소 압축 실패", e);
+        }
+    }
+
+    /**
+     * 닫힌 세그먼트에서 같은 계량표의 이전 기록과 보관 기간이 지난 기록을 제거
+     * 남길 기록이 없는 세그먼트는 삭제하고, 일부만 남으면 임시 파일에 다시 쓴 뒤 교체한다.
+     * 읽기와 복사는 잠금 없이 하고 세그먼트 목록을 바꿀 때만 잠그므로, 압축 중에도 기록은 멈추지 않는다.
+     *
+     * @return 제거한 기록 수
+     */
+    long compact() throws IOException {
+        if (!enabled || !running) {
+            return 0;
+        }
+        synchronized (compactionLock) {
+            return compactSealed();
+        }
+    }
+
+    private long compactSealed() throws IOException {
+        List<ResultSegment> all;
+        synchronized (this) {
+            all = new ArrayList<>(segments);
+        }
+        List<ResultSegment> sealed = all.subList(0, all.size() - 1);
+        if (sealed.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 계량표마다 가장 최근 기록 번호 (활성 세그먼트 포함, 헤더만 읽음)
+        Map<PayloadHash, Long> latest = new HashMap<>();
+        for (ResultSegment segment : all) {
+            scanHeaders(segment, (header, offset) -> {
+                if (header.ticketKey() != null && isLive(segment, header.sequence(), offset)) {
+                    latest.merge(header.ticketKey(), header.sequence(), Math::max);
+                }
+            });
+        }
+
+        // 2. 닫힌 세그먼트 다시 쓰기
+        long cutoff = retention.isZero() ? Long.MIN_VALUE : clock.millis() - retention.toMillis();
+        long removed = 0;
+        for (ResultSegment segment : sealed) {
+            List<RecordHeader> kept = new ArrayList<>();
+            List<RecordHeader> dropped = new ArrayList<>();
+            scanHeaders(segment, (header, offset) -> {
+                if (!isLive(segment, header.sequence(), offset)) {
+                    dropped.add(header.asMoved());
+                } else if (header.storedAt() < cutoff
+                        || (header.ticketKey() != null && latest.get(header.ticketKey()) != header.sequence())) {
+                    dropped.add(header);
+                } else {
+                    kept.add(header);
+                }
+            });
+            if (dropped.isEmpty()) {
+                continue;
+            }
+            List<StoredResult> removedResults = removedResults(segment, dropped);
+            if (kept.isEmpty()) {
+                delete(segment, dropped);
+            } else {
+                rewrite(segment, kept, dropped);
+            }
+            removed += removedResults.size();
+            notifyRemoved(removedResults);
+        }
+
+        positions.trim();
+        compactedRecords.addAndGet(removed);
+        if (removed > 0) {
+            log.info("결과 저장소 압축 - 제거: {}건, 남은 기록: {}건, 세그먼트: {}", removed, records.get(), segmentCount());
+        }
+        return removed;
+    }
+
+    private boolean isLive(ResultSegment segment, long sequence, long offset) {
+        return positions.get(sequence) == PositionTable.position(segment.id(), offset);
+    }
+
+    private List<StoredResult> removedResults(ResultSegment segment, List<RecordHeader> dropped) throws IOException {
+        List<StoredResult> removed = new ArrayList<>();
+        for (RecordHeader header : dropped) {
+            if (!header.live()) {
+                continue;
+            }
+            if (listeners.isEmpty()) {
+                removed.add(null);
+                continue;
+            }
+            RawRecord record = readRecord(segment.channel(), header.offset(), segment.size());
+            removed.add(record == null ? null : decode(record));
+        }
+        return removed;
+    }
+
+    private void notifyRemoved(List<StoredResult> removed) {
+        List<StoredResult> results = new ArrayList<>(removed.size());
+        for (StoredResult result : removed) {
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+        for (ResultStoreListener listener : listeners) {
+            try {
+                listener.onRemoveAll(results);
+            } catch (RuntimeException e) {
+                log.error("결과 저장소 구독자 오류 - 삭제 통지 {}건", results.size(), e);
+            }
+        }
+    }
+
+    private void delete(ResultSegment segment, List<RecordHeader> dropped) throws IOException {
+        synchronized (this) {
+            segments.remove(segment);
+            segmentsById.remove(segment.id());
+            clearPositions(dropped);
+        }
+        segment.close();
+        Files.deleteIfExists(segment.path());
+    }
+
+    private void rewrite(ResultSegment segment, List<RecordHeader> kept, List<RecordHeader> dropped)
+            throws IOException {
+        Path temp = segment.path().resolveSibling(segment.path().getFileName() + COMPACTING_SUFFIX);
+        long[] newOffsets = new long[kept.size()];
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = 0;
+            for (int i = 0; i < kept.size(); i++) {
+                RecordHeader header = kept.get(i);
+                newOffsets[i] = offset;
+                long transferred = 0;
+                while (transferred < header.size()) {
+                    transferred += segment.channel().transferTo(header.offset() + transferred,
+                            header.size() - transferred, out);
+                }
+                offset += header.size();
+            }
+            out.force(true);
+        }
+        move(temp, segment.path());
+
+        ResultSegment replacement = ResultSegment.open(segmentIds.incrementAndGet(), segment.path());
+        synchronized (this) {
+            segments.set(segments.indexOf(segment), replacement);
+            segmentsById.put(replacement.id(), replacement);
+            for (int i = 0; i < kept.size(); i++) {
+                positions.set(kept.get(i).sequence(), PositionTable.position(replacement.id(), newOffsets[i]));
+            }
+            segmentsById.remove(segment.id());
+            clearPositions(dropped);
+        }
+        segment.close();
+    }
+
+    private void clearPositions(List<RecordHeader> dropped) {
+        for (RecordHeader header : dropped) {
+            if (header.live()) {
+                positions.clear(header.sequence());
+                records.decrementAndGet();
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ===== 직렬화 =====
+
+    private static ByteBuffer header(long sequence, long storedAt, PayloadHash ticketKey, byte[] payload) {
+        long keyHigh = ticketKey == null ? 0 : ticketKey.high();
+        long keyLow = ticketKey == null ? 0 : ticketKey.low();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(payload.length);
+        header.putInt(checksum(sequence, storedAt, keyHigh, keyLow, payload));
+        header.putLong(sequence);
+        header.putLong(storedAt);
+        header.putLong(keyHigh);
+        header.putLong(keyLow);
+        return header.flip();
+    }
+
+    private static int checksum(long sequence, long storedAt, long keyHigh, long keyLow, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer fields = ByteBuffer.allocate(32);
+        fields.putLong(sequence).putLong(storedAt).putLong(keyHigh).putLong(keyLow).flip();
+        crc.update(fields);
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 오프셋의 기록 읽기
+     *
+     * @return 기록 또는 limit를 넘거나 CRC가 맞지 않으면 null
+     */
+    private static RawRecord readRecord(FileChannel channel, long offset, long limit) throws IOException {
+        RecordHeader header = readHeader(channel, offset, limit);
+        if (header == null) {
+            return null;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(header.length());
+        readFully(channel, payload, offset + HEADER_BYTES);
+        byte[] bytes = payload.array();
+        long keyHigh = header.ticketKey() == null ? 0 : header.ticketKey().high();
+        long keyLow = header.ticketKey() == null ? 0 : header.ticketKey().low();
+        if (checksum(header.sequence(), header.storedAt(), keyHigh, keyLow, bytes) != header.checksum()) {
+            return null;
+        }
+        return new RawRecord(header.sequence(), header.storedAt(), bytes);
+    }
+
+    private static RecordHeader readHeader(FileChannel channel, long offset, long limit) throws IOException {
+        if (offset + HEADER_BYTES > limit) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(channel, header, offset);
+        header.flip();
+        int length = header.getInt();
+        int checksum = header.getInt();
+        long sequence = header.getLong();
+        long storedAt = header.getLong();
+        long keyHigh = header.getLong();
+        long keyLow = header.getLong();
+        if (length <= 0 || sequence <= 0 || offset + HEADER_BYTES + length > limit) {
+            return null;
+        }
+        PayloadHash ticketKey = keyHigh == 0 && keyLow == 0 ? null : new PayloadHash(keyHigh, keyLow, 0);
+        return new RecordHeader(offset, length, checksum, sequence, storedAt, ticketKey, true);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private void scan(ResultSegment segment, RecordVisitor<RawRecord> visitor) throws IOException {
+        long limit = segment.size();
+        long offset = 0;
+        RawRecord record;
+        while ((record = readRecord(segment.channel(), offset, limit)) != null) {
+            visitor.visit(record, offset);
+            offset += record.size();
+        }
+    }
+
+    private void scanHeaders(ResultSegment segment, RecordVisitor<RecordHeader> visitor) throws IOException {
+        long limit = segment.size();
+        long offset = 0;
+        RecordHeader header;
+        while ((header = readHeader(segment.channel(), offset, limit)) != null) {
+            visitor.visit(header, offset);
+            offset += header.size();
+        }
+    }
+
+    private StoredResult decode(RawRecord record) {
+        try {
+            return new StoredResult(record.sequence(), record.storedAt(),
+                    objectMapper.readValue(record.payload(), ParsedResultResponse.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장된 결과를 읽을 수 없습니다: " + record.sequence() + " ("
+                    + new String(record.payload(), 0, Math.min(64, record.payload().length), StandardCharsets.UTF_8)
+                    + ")", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ocr.store.records", records, AtomicLong::get)
+                .description("저장된 파싱 결과 수")
+                .register(registry);
+        Gauge.builder("ocr.store.size", this, ParseResultStore::sizeInBytes)
+                .description("결과 저장소 세그먼트 크기 합계")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("ocr.store.appends", appends, AtomicLong::get)
+                .description("기록한 파싱 결과 수")
+                .register(registry);
+        FunctionCounter.builder("ocr.store.commits", commits, AtomicLong::get)
+                .description("fsync로 확정한 기록 묶음 수")
+                .register(registry);
+        FunctionCounter.builder("ocr.store.compacted", compactedRecords, AtomicLong::get)
+                .description("압축으로 제거한 기록 수")
+                .register(registry);
+    }
+
+    /**
+     * 대기 중인 기록을 모두 확정한 뒤 닫기
+     */
+    @PreDestroy
+    void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        PendingAppend pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new IllegalStateException("결과 저장소가 닫혔습니다"));
+        }
+        synchronized (this) {
+            for (ResultSegment segment : segments) {
+                try {
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("세그먼트 닫기 실패: {}", segment.path(), e);
+                }
+            }
+        }
+        releaseLock();
+        log.info("파싱 결과 저장소 닫힘 - 기록: {}", records.get());
+    }
+
+    private void releaseLock() {
+        if (directoryLock == null) {
+            return;
+        }
+        try {
+            directoryLock.close();
+        } catch (IOException e) {
+            log.warn("결과 저장소 잠금 해제 실패: {}", root, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordVisitor<T> {
+        void visit(T record, long offset) throws IOException;
+    }
+
+    private record PendingAppend(ParsedResultResponse result, byte[] payload, long storedAt, PayloadHash ticketKey,
+            CompletableFuture<StoredResult> future) {
+
+        long recordBytes() {
+            return HEADER_BYTES + (long) payload.length;
+        }
+    }
+
+    private record RawRecord(long sequence, long storedAt, byte[] payload) {
+
+        long size() {
+            return HEADER_BYTES + (long) payload.length;
+        }
+    }
+
+    /**
+     * @param live 살아 있는 기록인지 (이미 다른 위치로 옮겨진 기록이면 false - 삭제 통지/위치 정리 대상 아님)
+     */
+    private record RecordHeader(long offset, int length, int checksum, long sequence, long storedAt,
+            PayloadHash ticketKey, boolean live) {
+
+        long size() {
+            return HEADER_BYTES + (long) length;
+        }
+
+        RecordHeader asMoved() {
+            return new RecordHeader(offset, length, checksum, sequence, storedAt, ticketKey, false);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package RECO.Internship.Assignment.application.store;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 기록 번호 → 파일 위치 표
+ *
+ * 기록 번호는 1부터 빈틈없이 증가하므로 해시 맵 대신 번호를 그대로 첨자로 쓰는 청크 배열에 둔다 (기록당 8바이트).
+ * 위치는 (세그먼트 id << 32 | 파일 내 오프셋)이며, 없거나 삭제된 기록은 -1이다.
+ * 쓰기는 기록 스레드와 압축 스레드가 잠금 안에서, 읽기는 잠금 없이 수행한다.
+ */
+final class PositionTable {
+
+    static final long ABSENT = -1L;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile AtomicLongArray[] chunks = new AtomicLongArray[0];
+
+    static long position(int segmentId, long offset) {
+        return (long) segmentId << 32 | offset;
+    }
+
+    static int segmentId(long position) {
+        return (int) (position >>> 32);
+    }
+
+    static long offset(long position) {
+        return position & 0xFFFFFFFFL;
+    }
+
+    long get(long sequence) {
+        AtomicLongArray chunk = chunk(sequence);
+        return chunk == null ? ABSENT : chunk.get((int) (sequence & CHUNK_MASK));
+    }
+
+    synchronized void set(long sequence, long position) {
+        int index = (int) (sequence >>> CHUNK_BITS);
+        AtomicLongArray[] current = chunks;
+        if (index >= current.length) {
+            current = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+        }
+        if (current[index] == null) {
+            AtomicLongArray chunk = new AtomicLongArray(CHUNK_SIZE);
+            for (int i = 0; i < CHUNK_SIZE; i++) {
+                chunk.lazySet(i, ABSENT);
+            }
+            current[index] = chunk;
+        }
+        current[index].set((int) (sequence & CHUNK_MASK), position);
+        chunks = current;
+    }
+
+    synchronized void clear(long sequence) {
+        AtomicLongArray chunk = chunk(sequence);
+        if (chunk != null) {
+            chunk.set((int) (sequence & CHUNK_MASK), ABSENT);
+        }
+    }
+
+    /**
+     * 모든 기록이 삭제된 청크를 해제 (압축 후 호출)
+     */
+    synchronized void trim() {
+        AtomicLongArray[] current = chunks;
+        for (int index = 0; index < current.length; index++) {
+            AtomicLongArray chunk = current[index];
+            if (chunk != null && isEmpty(chunk)) {
+                current[index] = null;
+            }
+        }
+    }
+
+    private static boolean isEmpty(AtomicLongArray chunk) {
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            if (chunk.get(i) != ABSENT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private AtomicLongArray chunk(long sequence) {
+        int index = (int) (sequence >>> CHUNK_BITS);
+        AtomicLongArray[] current = chunks;
+        return index < current.length ? current[index] : null;
+    }
+}
@@ -0,0 +1,59 @@
+package RECO.Internship.Assignment.application.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 결과 로그 세그먼트 파일 하나
+ *
+ * id는 프로세스 안에서만 쓰는 번호로, 압축으로 파일을 교체하면 새 id를 받는다.
+ * size는 검증이 끝난(읽어도 되는) 바이트 수이며, 기록 스레드만 늘린다.
+ */
+final class ResultSegment implements Closeable {
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private volatile long size;
+
+    private ResultSegment(int id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    static ResultSegment open(int id, Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new ResultSegment(id, path, channel, channel.size());
+    }
+
+    int id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    FileChannel channel() {
+        return channel;
+    }
+
+    long size() {
+        return size;
+    }
+
+    void size(long size) {
+        this.size = size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
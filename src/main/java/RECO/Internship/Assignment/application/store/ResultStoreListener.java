@@ -0,0 +1,40 @@
+package RECO.Internship.Assignment.application.store;
+
+import java.util.List;
+
+/**
+ * 결과 저장소 변경 구독자 (색인, 집계 등)
+ *
+ * 기록 통지는 저장소의 기록 스레드, 삭제 통지는 압축 스레드에서 호출되므로 구현은 스레드 안전해야 하고
+ * 오래 걸리는 작업을 하지 않아야 한다.
+ */
+public interface ResultStoreListener {
+
+    /**
+     * 저장소를 구독할지 여부 (설정으로 끄는 구독자는 재정의)
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 기록이 디스크에 반영된 뒤 호출
+     */
+    void onAppend(StoredResult stored);
+
+    /**
+     * 압축(같은 계량표의 이전 기록, 보관 기간 경과)으로 기록이 삭제된 뒤 호출
+     */
+    default void onRemove(StoredResult removed) {
+    }
+
+    /**
+     * 압축 한 번(세그먼트 하나)에서 삭제된 기록을 묶어서 통지
+     * 삭제를 한 번에 처리하는 편이 싼 구독자(색인 등)는 재정의한다.
+     */
+    default void onRemoveAll(List<StoredResult> removed) {
+        for (StoredResult result : removed) {
+            onRemove(result);
+        }
+    }
+}
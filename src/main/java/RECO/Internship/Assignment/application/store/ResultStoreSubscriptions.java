@@ -0,0 +1,49 @@
+package RECO.Internship.Assignment.application.store;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시작할 때 결과 저장소 구독자(색인, 집계, 열 저장소 등)를 한꺼번에 구독
+ *
+ * 구독자가 각자 구독하면 저장소를 구독자 수만큼 재생하고, 그동안 기록 통지가 멈춘다.
+ * 여기서 켜져 있는 구독자를 모아 저장소를 한 번만 재생하고 기록마다 모든 구독자에게 나눠 준다.
+ */
+@Component
+public class ResultStoreSubscriptions {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultStoreSubscriptions.class);
+
+    private final ParseResultStore parseResultStore;
+    private final List<ResultStoreListener> listeners;
+
+    public ResultStoreSubscriptions(ParseResultStore parseResultStore, List<ResultStoreListener> listeners) {
+        this.parseResultStore = parseResultStore;
+        this.listeners = listeners;
+    }
+
+    /**
+     * 저장소를 한 번 재생해 모든 구독자를 채운 뒤 이후 기록을 구독
+     */
+    @PostConstruct
+    void subscribe() {
+        if (!parseResultStore.isEnabled()) {
+            return;
+        }
+        List<ResultStoreListener> subscribers = listeners.stream()
+                .filter(ResultStoreListener::isEnabled)
+                .toList();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        parseResultStore.subscribeAll(subscribers);
+        log.info("결과 저장소 재생 완료 - 기록: {}건, 구독자: {}, 소요: {}ms", parseResultStore.size(),
+                subscribers.stream().map(listener -> listener.getClass().getSimpleName()).toList(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
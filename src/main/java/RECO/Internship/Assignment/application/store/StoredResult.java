@@ -0,0 +1,13 @@
+package RECO.Internship.Assignment.application.store;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+
+/**
+ * 저장소에 기록된 파싱 결과
+ *
+ * @param sequence 기록 순서대로 1부터 증가하는 번호 (압축 후에도 바뀌지 않음)
+ * @param storedAt 기록 시각 (epoch millis)
+ * @param result   파싱 결과
+ */
+public record StoredResult(long sequence, long storedAt, ParsedResultResponse result) {
+}
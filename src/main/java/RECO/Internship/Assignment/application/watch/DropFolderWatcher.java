@@ -0,0 +1,481 @@
+package RECO.Internship.Assignment.application.watch;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.OcrParseService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 드롭 폴더 수집 모드
+ *
+ * HTTP 대신 공유 디스크에 OCR JSON을 떨어뜨리는 현장을 위해 입력 폴더를 WatchService로 감시한다.
+ * 새 *.json 파일은 크기와 수정 시각이 ocr.watch.settle-ms 동안 바뀌지 않을 때(쓰기 완료)까지 기다린 뒤
+ * 워커 풀에서 파싱하고, 결과를 출력 폴더에 {파일명}.result.json으로 기록한다.
+ * 처리한 원본은 성공하면 archive 폴더, 실패하면 error 폴더로 옮긴다.
+ *
+ * 시작할 때 입력 폴더에 이미 있는 파일을 먼저 수집하고(중단 중 들어온 파일 처리),
+ * 이벤트 유실(OVERFLOW) 시에도 입력 폴더를 다시 훑는다.
+ * 동시에 처리하는 파일 수는 ocr.watch.concurrency로 제한되며, 워커가 모두 바쁘면 감시 스레드가 기다린다.
+ *
+ * 감시 중 오류가 나거나 입력 폴더가 지워져 감시가 풀리면, 잠시 뒤 폴더를 다시 만들고 감시를 다시 등록한 다음
+ * 입력 폴더를 다시 훑는다. 감시 상태와 오류 횟수는 ocr.watch.* 지표로 노출된다.
+ */
+@Component
+public class DropFolderWatcher implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(DropFolderWatcher.class);
+
+    private static final String RESULT_SUFFIX = ".result.json";
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final OcrParseService ocrParseService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path inputDir;
+    private final Path outputDir;
+    private final Path archiveDir;
+    private final Path errorDir;
+    private final int concurrency;
+    private final long settleNanos;
+
+    // 쓰기 완료를 기다리는 파일 (감지 순서 유지) - 감시 스레드만 접근
+    private final Map<Path, PendingFile> pending = new LinkedHashMap<>();
+    // 워커에 넘긴 뒤 아직 옮겨지지 않은 파일
+    private final Set<Path> inProgress = ConcurrentHashMap.newKeySet();
+
+    private final Semaphore window;
+    private ExecutorService executor;
+    private volatile WatchService watchService;
+    private Thread watcherThread;
+    private volatile boolean running;
+    // 입력 폴더 감시가 등록되어 있는지 여부
+    private volatile boolean watching;
+    private final AtomicLong watchFailures = new AtomicLong();
+
+    public DropFolderWatcher(
+            OcrParseService ocrParseService,
+            ObjectMapper objectMapper,
+            @Value("${ocr.watch.enabled:false}") boolean enabled,
+            @Value("${ocr.watch.input-dir:ocr-drop/inbox}") String inputDir,
+            @Value("${ocr.watch.output-dir:ocr-drop/results}") String outputDir,
+            @Value("${ocr.watch.archive-dir:ocr-drop/archive}") String archiveDir,
+            @Value("${ocr.watch.error-dir:ocr-drop/error}") String errorDir,
+            @Value("${ocr.watch.concurrency:2}") int concurrency,
+            @Value("${ocr.watch.settle-ms:1000}") long settleMs) {
+        this.ocrParseService = ocrParseService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.inputDir = Path.of(inputDir);
+        this.outputDir = Path.of(outputDir);
+        this.archiveDir = Path.of(archiveDir);
+        this.errorDir = Path.of(errorDir);
+        this.concurrency = Math.max(1, concurrency);
+        this.settleNanos = Duration.ofMillis(Math.max(0, settleMs)).toNanos();
+        this.window = new Semaphore(this.concurrency);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() throws IOException {
+        if (enabled) {
+            start();
+        }
+    }
+
+    /**
+     * 폴더 준비, 기존 파일 수집, 감시 스레드 시작
+     */
+    synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        for (Path dir : new Path[] { inputDir, outputDir, archiveDir, errorDir }) {
+            Files.createDirectories(dir);
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "ocr-watch-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        int existing;
+        try {
+            existing = register();
+        } catch (IOException e) {
+            running = false;
+            executor.shutdownNow();
+            throw e;
+        }
+        watcherThread = new Thread(this::watchLoop, "ocr-watch");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("드롭 폴더 감시 시작 - 입력: {}, 출력: {}, 기존 파일: {}, 동시성: {}",
+                inputDir.toAbsolutePath(), outputDir.toAbsolutePath(), existing, concurrency);
+    }
+
+    /**
+     * 입력 폴더 감시 등록 후 기존 파일 수집 (이전 감시가 있으면 닫고 새로 등록)
+     *
+     * @return 대기 목록에 추가한 파일 수
+     */
+    private synchronized int register() throws IOException {
+        if (!running) {
+            return 0;
+        }
+        watching = false;
+        if (watchService != null) {
+            watchService.close();
+        }
+        Files.createDirectories(inputDir);
+        watchService = FileSystems.getDefault().newWatchService();
+        inputDir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watching = true;
+        return scanInput();
+    }
+
+    private void watchLoop() {
+        long pollMillis = Math.max(10, TimeUnit.NANOSECONDS.toMillis(settleNanos) / 2);
+        while (running) {
+            try {
+                if (!watching) {
+                    int found = register();
+                    log.info("드롭 폴더 감시 재등록 - 입력: {}, 대기 파일: {}", inputDir.toAbsolutePath(), found);
+                }
+                WatchKey key = watchService.poll(pollMillis, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    handleEvents(key);
+                }
+                dispatchSettled();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                if (!running) {
+                    return;
+                }
+                if (!awaitRetry(e)) {
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                if (!awaitRetry(e)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 감시 오류 기록 후 다시 등록하기 전까지 대기
+     *
+     * @return 계속 감시해야 하면 true, 종료 중이면 false
+     */
+    private boolean awaitRetry(Exception cause) {
+        watching = false;
+        watchFailures.incrementAndGet();
+        log.error("드롭 폴더 감시 오류 - {}ms 후 다시 등록합니다", RETRY_DELAY_MILLIS, cause);
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return running;
+    }
+
+    private void handleEvents(WatchKey key) throws IOException {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                log.warn("감시 이벤트 유실 - 입력 폴더를 다시 확인합니다");
+                scanInput();
+                continue;
+            }
+            track(inputDir.resolve((Path) event.context()));
+        }
+        if (!key.reset()) {
+            throw new IOException("입력 폴더를 더 이상 감시할 수 없습니다: " + inputDir);
+        }
+    }
+
+    /**
+     * 입력 폴더의 기존 파일을 모두 대기 목록에 추가
+     */
+    private int scanInput() throws IOException {
+        int count = 0;
+        try (Stream<Path> files = Files.list(inputDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (track(file)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 대상 파일이면 대기 목록에 추가하거나, 이미 있으면 마지막 변경 시각을 갱신
+     */
+    private synchronized boolean track(Path file) {
+        if (!isCandidate(file) || inProgress.contains(file)) {
+            return false;
+        }
+        try {
+            pending.put(file, new PendingFile(Files.size(file), Files.getLastModifiedTime(file), System.nanoTime()));
+            return true;
+        } catch (IOException e) {
+            // 감지 직후 삭제/이동된 파일
+            pending.remove(file);
+            return false;
+        }
+    }
+
+    static boolean isCandidate(Path file) {
+        String name = file.getFileName().toString();
+        return !name.startsWith(".")
+                && name.toLowerCase(Locale.ROOT).endsWith(".json")
+                && Files.isRegularFile(file);
+    }
+
+    /**
+     * 대기 시간 동안 크기/수정 시각이 바뀌지 않은 파일을 워커에 넘김
+     */
+    private void dispatchSettled() throws InterruptedException {
+        long now = System.nanoTime();
+        Map<Path, PendingFile> settled = new LinkedHashMap<>();
+        synchronized (this) {
+            Iterator<Map.Entry<Path, PendingFile>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Path, PendingFile> entry = iterator.next();
+                PendingFile file = entry.getValue();
+                if (now - file.seenNanos() < settleNanos) {
+                    continue;
+                }
+                try {
+                    long size = Files.size(entry.getKey());
+                    FileTime modified = Files.getLastModifiedTime(entry.getKey());
+                    if (size == file.size() && modified.equals(file.modified())) {
+                        iterator.remove();
+                        settled.put(entry.getKey(), file);
+                    } else {
+                        // 아직 쓰는 중
+                        entry.setValue(new PendingFile(size, modified, now));
+                    }
+                } catch (IOException e) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        for (Path file : settled.keySet()) {
+            submit(file);
+        }
+    }
+
+    private void submit(Path file) throws InterruptedException {
+        inProgress.add(file);
+        window.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    process(file);
+                } finally {
+                    inProgress.remove(file);
+                    window.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inProgress.remove(file);
+            window.release();
+        }
+    }
+
+    /**
+     * 파일 하나 처리: 파싱 → 결과 기록 → 원본 이동
+     */
+    void process(Path file) {
+        String filename = file.getFileName().toString();
+        BatchParseResult result = parse(file, filename);
+
+        Path target = result.isSuccess() ? archiveDir : errorDir;
+        try {
+            writeResult(filename, result);
+        } catch (IOException e) {
+            log.error("결과 기록 실패: {}", filename, e);
+            target = errorDir;
+        }
+
+        try {
+            Path moved = moveTo(file, target);
+            log.info("드롭 파일 처리 완료 - {} → {}", filename, moved);
+        } catch (NoSuchFileException e) {
+            log.warn("처리 중 원본이 사라짐: {}", filename);
+        } catch (IOException e) {
+            log.error("원본 이동 실패: {}", filename, e);
+        }
+    }
+
+    private BatchParseResult parse(Path file, String filename) {
+        try {
+            if (Files.size(file) == 0) {
+                return BatchParseResult.error(filename, "파일이 비어있습니다");
+            }
+            ParsedResultResponse parsed = ocrParseService.parseFromPath(file);
+            return BatchParseResult.success(filename, parsed);
+        } catch (JsonProcessingException e) {
+            log.warn("드롭 파일 JSON 형식 오류: {} - {}", filename, e.getOriginalMessage());
+            return BatchParseResult.error(filename, "유효하지 않은 JSON 형식입니다");
+        } catch (IllegalArgumentException e) {
+            log.warn("드롭 파일 파싱 실패: {} - {}", filename, e.getMessage());
+            return BatchParseResult.error(filename, e.getMessage());
+        } catch (IOException e) {
+            log.error("드롭 파일 읽기 실패: {}", filename, e);
+            return BatchParseResult.error(filename, "파일 처리 중 오류가 발생했습니다.");
+        } catch (Exception e) {
+            log.error("드롭 파일 처리 중 예상치 못한 오류: {}", filename, e);
+            return BatchParseResult.error(filename, "파싱 중 서버 내부 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 결과 파일 기록 - 임시 파일에 쓴 뒤 교체하여 출력 폴더를 읽는 쪽이 반쯤 쓰인 결과를 보지 않게 한다
+     */
+    private void writeResult(String filename, BatchParseResult result) throws IOException {
+        String baseName = filename.substring(0, filename.length() - ".json".length());
+        Path temp = outputDir.resolve("." + baseName + RESULT_SUFFIX + ".tmp");
+        Files.write(temp, objectMapper.writeValueAsBytes(result));
+        move(temp, outputDir.resolve(baseName + RESULT_SUFFIX), true);
+    }
+
+    /**
+     * 원본을 대상 폴더로 이동 (같은 이름이 있으면 시각을 붙여 보존)
+     */
+    private Path moveTo(Path file, Path dir) throws IOException {
+        String filename = file.getFileName().toString();
+        Path target = dir.resolve(filename);
+        if (Files.exists(target)) {
+            String baseName = filename.substring(0, filename.length() - ".json".length());
+            target = dir.resolve(baseName + "-" + System.currentTimeMillis() + ".json");
+        }
+        move(file, target, false);
+        return target;
+    }
+
+    private static void move(Path source, Path target, boolean replace) throws IOException {
+        try {
+            if (replace) {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (AtomicMoveNotSupportedException e) {
+            // 다른 파일 시스템 간 이동
+            if (replace) {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.move(source, target);
+            }
+        }
+    }
+
+    /**
+     * 입력 폴더를 감시하고 있는지 여부
+     */
+    public boolean isWatching() {
+        return running && watching;
+    }
+
+    /**
+     * 감시 오류로 감시를 다시 등록한 누적 횟수
+     */
+    public long watchFailures() {
+        return watchFailures.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ocr.watch.active", this, watcher -> watcher.isWatching() ? 1 : 0)
+                .description("입력 폴더 감시 여부 (1 = 감시 중)")
+                .register(registry);
+        Gauge.builder("ocr.watch.inprogress", inProgress, Set::size)
+                .description("처리 중인 드롭 파일 수")
+                .register(registry);
+        FunctionCounter.builder("ocr.watch.failures", watchFailures, AtomicLong::get)
+                .description("감시 오류로 감시를 다시 등록한 횟수")
+                .register(registry);
+    }
+
+    /**
+     * 감시 중지 - 처리 중인 파일은 마칠 때까지 잠시 기다리고, 남은 파일은 다음 시작 시 다시 수집된다
+     */
+    @PreDestroy
+    synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        watching = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("감시 서비스 종료 실패", e);
+        }
+        watcherThread.interrupt();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+        log.info("드롭 폴더 감시 중지");
+    }
+
+    /**
+     * 쓰기 완료를 기다리는 파일의 마지막 관측 상태
+     */
+    private record PendingFile(long size, FileTime modified, long seenNanos) {
+    }
+}
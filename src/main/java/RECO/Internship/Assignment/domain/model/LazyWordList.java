@@ -0,0 +1,82 @@
+package RECO.Internship.Assignment.domain.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 처음 접근할 때 words[]를 읽어 오는 단어 목록
+ *
+ * TIERED 추출은 대부분의 문서를 텍스트 정규식으로 끝내므로 words[]를 미리 파싱하지 않는다.
+ * 대신 원본을 다시 읽는 로더를 들고 있다가, 레이아웃 경로로 전환해 단어가 실제로 필요해질 때 한 번만 읽는다.
+ * 여러 페이지를 병렬로 추출해도 원본은 한 번만 읽도록 로드는 동기화한다.
+ */
+public final class LazyWordList extends AbstractList<OcrWord> {
+
+    /**
+     * 원본에서 words[]만 다시 읽는 로더
+     */
+    @FunctionalInterface
+    public interface Loader {
+        List<OcrWord> load() throws IOException;
+    }
+
+    private final Loader loader;
+    private volatile List<OcrWord> words;
+
+    public LazyWordList(Loader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * 이미 단어를 읽었는지 여부
+     */
+    public boolean isLoaded() {
+        return words != null;
+    }
+
+    /**
+     * 한 페이지의 단어만 담은 목록 (이 목록을 처음 접근할 때 함께 읽음)
+     */
+    public LazyWordList page(int index) {
+        return new LazyWordList(() -> {
+            List<OcrWord> pageWords = new ArrayList<>();
+            for (OcrWord word : words()) {
+                if (word.page() == index) {
+                    pageWords.add(word);
+                }
+            }
+            return pageWords;
+        });
+    }
+
+    @Override
+    public OcrWord get(int index) {
+        return words().get(index);
+    }
+
+    @Override
+    public int size() {
+        return words().size();
+    }
+
+    private List<OcrWord> words() {
+        List<OcrWord> loaded = words;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = words;
+                if (loaded == null) {
+                    try {
+                        loaded = List.copyOf(loader.load());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("단어 정보를 읽을 수 없습니다", e);
+                    }
+                    words = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,113 @@
+package RECO.Internship.Assignment.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 요청당 한 번만 파싱되는 OCR 문서 모델
+ * 텍스트 추출, 신뢰도 추출 등 파이프라인 전 단계가 이 객체를 공유한다.
+ *
+ * @param text            필드 추출에 사용할 텍스트 (root.text → 텍스트가 있는 첫 페이지의 text 순)
+ * @param pageTexts       페이지별 텍스트 (pages[i].text, 없으면 null)
+ * @param confidence      문서 전체 신뢰도 (없으면 null)
+ * @param modelVersion    OCR 모델 버전 (없으면 null)
+ * @param words           단어 단위 인식 결과 (요청한 경우에만 채워짐, {@link LazyWordList}면 처음 접근할 때 읽음)
+ * @param pageConfidences 페이지별 신뢰도 (pages[i].confidence, 없으면 null)
+ */
+public record OcrDocument(
+        String text,
+        List<String> pageTexts,
+        Double confidence,
+        String modelVersion,
+        List<OcrWord> words,
+        List<Double> pageConfidences) {
+
+    public OcrDocument {
+        text = text != null ? text : "";
+        // pageTexts/pageConfidences는 null 원소를 허용하므로 List.copyOf 대신 방어적 복사
+        pageTexts = pageTexts != null ? Collections.unmodifiableList(new ArrayList<>(pageTexts)) : List.of();
+        if (!(words instanceof LazyWordList)) {
+            words = words != null ? List.copyOf(words) : List.of();
+        }
+        pageConfidences = pageConfidences != null
+                ? Collections.unmodifiableList(new ArrayList<>(pageConfidences))
+                : List.of();
+    }
+
+    public OcrDocument(String text, List<String> pageTexts, Double confidence, String modelVersion,
+            List<OcrWord> words) {
+        this(text, pageTexts, confidence, modelVersion, words, null);
+    }
+
+    /**
+     * 텍스트와 신뢰도만 가진 문서 생성
+     */
+    public static OcrDocument of(String text, Double confidence) {
+        return new OcrDocument(text, List.of(), confidence, null, List.of());
+    }
+
+    /**
+     * words[]만 바꾼 문서 (나중에 읽을 단어 목록을 붙일 때 사용)
+     */
+    public OcrDocument withWords(List<OcrWord> words) {
+        return new OcrDocument(text, pageTexts, confidence, modelVersion, words, pageConfidences);
+    }
+
+    public boolean hasWords() {
+        return !words.isEmpty();
+    }
+
+    public int pageCount() {
+        return pageTexts.size();
+    }
+
+    /**
+     * 텍스트가 있는 페이지가 둘 이상인 문서인지 여부
+     */
+    public boolean isMultiPage() {
+        int pagesWithText = 0;
+        for (String pageText : pageTexts) {
+            if (pageText != null && !pageText.isBlank() && ++pagesWithText > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 텍스트가 있는 첫 페이지 번호 (0부터, 텍스트가 있는 페이지가 없으면 0)
+     */
+    public int firstTextPage() {
+        for (int index = 0; index < pageTexts.size(); index++) {
+            String pageText = pageTexts.get(index);
+            if (pageText != null && !pageText.isBlank()) {
+                return index;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 한 페이지만 담은 문서 (페이지 텍스트, 해당 페이지 단어, 페이지 신뢰도 → 없으면 문서 신뢰도)
+     */
+    public OcrDocument page(int index) {
+        String pageText = pageTexts.get(index);
+        Double pageConfidence = index < pageConfidences.size() && pageConfidences.get(index) != null
+                ? pageConfidences.get(index)
+                : confidence;
+        List<OcrWord> pageWords;
+        if (words instanceof LazyWordList lazyWords) {
+            pageWords = lazyWords.page(index);
+        } else {
+            pageWords = new ArrayList<>();
+            for (OcrWord word : words) {
+                if (word.page() == index) {
+                    pageWords.add(word);
+                }
+            }
+        }
+        return new OcrDocument(pageText, Collections.singletonList(pageText), pageConfidence, modelVersion,
+                pageWords, Collections.singletonList(pageConfidence));
+    }
+}
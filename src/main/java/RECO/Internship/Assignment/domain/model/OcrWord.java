@@ -0,0 +1,32 @@
+package RECO.Internship.Assignment.domain.model;
+
+/**
+ * OCR 단어 단위 인식 결과 (pages[].words[])
+ * boundingBox.vertices는 축 정렬 사각형(min/max 좌표)으로 보관한다.
+ */
+public record OcrWord(
+        int page,
+        int id,
+        String text,
+        double confidence,
+        int minX,
+        int minY,
+        int maxX,
+        int maxY) {
+
+    public int width() {
+        return maxX - minX;
+    }
+
+    public int height() {
+        return maxY - minY;
+    }
+
+    public double centerX() {
+        return (minX + maxX) / 2.0;
+    }
+
+    public double centerY() {
+        return (minY + maxY) / 2.0;
+    }
+}
@@ -0,0 +1,33 @@
+package RECO.Internship.Assignment.domain.parser;
+
+import java.util.Map;
+
+/**
+ * OCR 텍스트에서 일괄 추출된 필드 묶음
+ * 찾지 못한 필드는 null
+ *
+ * @param gpsCoordinates {위도, 경도} 또는 null
+ * @param spans          응답 필드명 → 추출에 사용한 텍스트에서 값이 매칭된 구간
+ *                       (좌표 기반 추출, 페이지 병합처럼 구간을 모르는 필드는 없음)
+ */
+public record ExtractedFields(
+        String documentType,
+        String date,
+        String time,
+        String vehicleNumber,
+        Integer totalWeight,
+        Integer emptyWeight,
+        Integer netWeight,
+        String customer,
+        String productName,
+        String issuer,
+        double[] gpsCoordinates,
+        Map<String, FieldSpan> spans) {
+
+    public ExtractedFields(String documentType, String date, String time, String vehicleNumber,
+            Integer totalWeight, Integer emptyWeight, Integer netWeight, String customer, String productName,
+            String issuer, double[] gpsCoordinates) {
+        this(documentType, date, time, vehicleNumber, totalWeight, emptyWeight, netWeight, customer, productName,
+                issuer, gpsCoordinates, Map.of());
+    }
+}
@@ -2,8 +2,14 @@ package RECO.Internship.Assignment.domain.parser;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,10 +22,10 @@ public class FieldExtractor {
 
     private static final Logger log = LoggerFactory.getLogger(FieldExtractor.class);
 
-    // 정규표현식 패턴 (컴파일 캐싱으로 성능 최적화)
-    private static final Pattern DOCUMENT_TYPE_PATTERN = Pattern
-            .compile("(계\\s*량\\s*증\\s*명\\s*서|계\\s*[근그]\\s*표|계\\s*량\\s*확\\s*인\\s*서|계\\s*량\\s*증\\s*명\\s*표)");
+    // 문서 종류는 공백 허용 라벨 사전(Aho–Corasick)으로 탐지
+    private static final LabelDictionary<String> DOCUMENT_TYPES = LabelDictionary.DOCUMENT_TYPES;
 
+    // 정규표현식 패턴 (컴파일 캐싱으로 성능 최적화)
     private static final Pattern DATE_PATTERN = Pattern.compile("(\\d{4})[-./](\\d{1,2})[-./](\\d{1,2})");
 
     private static final Pattern TIME_PATTERN = Pattern.compile("(\\d{2}):(\\d{2}):(\\d{2})");
@@ -46,6 +52,54 @@ public class FieldExtractor {
 
     private static final Pattern GPS_PATTERN = Pattern.compile("(\\d{2,3}\\.\\d+)[,\\s]+(\\d{2,3}\\.\\d+)");
 
+    // 일괄 추출용 단일 순회 스캐너 (패턴별 시작 문자 앵커)
+    private static final int DATE = 0;
+    private static final int TIME = 1;
+    private static final int VEHICLE_NUMBER = 2;
+    private static final int TOTAL_WEIGHT = 3;
+    private static final int EMPTY_WEIGHT = 4;
+    private static final int NET_WEIGHT = 5;
+    private static final int CUSTOMER = 6;
+    private static final int PRODUCT_NAME = 7;
+    private static final int ISSUER = 8;
+    private static final int GPS = 9;
+
+    private static final FieldScanner SCANNER = new FieldScanner(
+            new Pattern[] {
+                    DATE_PATTERN, TIME_PATTERN, VEHICLE_NUMBER_PATTERN,
+                    TOTAL_WEIGHT_PATTERN, EMPTY_WEIGHT_PATTERN, NET_WEIGHT_PATTERN,
+                    CUSTOMER_PATTERN, PRODUCT_PATTERN, ISSUER_PATTERN, GPS_PATTERN },
+            new FieldScanner.Anchor[] {
+                    FieldScanner.DIGIT, FieldScanner.DIGIT, FieldScanner.digitOr("차"),
+                    FieldScanner.anyOf("총"), FieldScanner.anyOf("공차"), FieldScanner.anyOf("실"),
+                    FieldScanner.anyOf("거상"), FieldScanner.anyOf("품"), FieldScanner.HANGUL_RUN_START,
+                    FieldScanner.DIGIT });
+
+    // 스캐너 인덱스 순서의 필드 이름 (시간 기록용)
+    private static final String[] SCANNED_FIELDS = {
+            "date", "time", "vehicleNumber", "totalWeight", "emptyWeight", "netWeight",
+            "customer", "productName", "issuer", "gps" };
+
+    // null이면 필드별 시간을 재지 않음
+    private final FieldTimer fieldTimer;
+
+    public FieldExtractor() {
+        this((FieldTimer) null);
+    }
+
+    /**
+     * @param fieldTiming true면 일괄 추출에서 필드(패턴)별 소요 시간을 fieldTimer로 넘긴다
+     */
+    @Autowired
+    public FieldExtractor(FieldTimer fieldTimer,
+            @Value("${ocr.extraction.field-timing:false}") boolean fieldTiming) {
+        this(fieldTiming ? fieldTimer : null);
+    }
+
+    FieldExtractor(FieldTimer fieldTimer) {
+        this.fieldTimer = fieldTimer;
+    }
+
     /**
      * 텍스트 전처리 - 노이즈 제거
      */
@@ -62,132 +116,261 @@ public class FieldExtractor {
         return processed;
     }
 
+    /**
+     * 모든 필드 일괄 추출
+     * 텍스트를 한 번만 순회하며 각 필드를 찾는다 (개별 extract* 메서드와 동일한 결과)
+     * 문서 종류는 라벨 사전으로 별도 탐지하며, 보통 문서 앞부분에서 바로 끝난다
+     * 값을 찾은 필드는 매칭된 텍스트 구간을 함께 반환한다 (필드별 신뢰도 계산용)
+     */
+    public ExtractedFields extractAll(String text) {
+        MatchResult[] matches;
+        LabelDictionary.LabelMatch<String> documentType;
+        if (fieldTimer == null) {
+            matches = SCANNER.scan(text);
+            documentType = DOCUMENT_TYPES.findFirst(text);
+        } else {
+            long[] elapsedNanos = new long[SCANNED_FIELDS.length];
+            matches = SCANNER.scan(text, elapsedNanos);
+            long start = System.nanoTime();
+            documentType = DOCUMENT_TYPES.findFirst(text);
+            fieldTimer.recordFieldTime("documentType", System.nanoTime() - start);
+            for (int f = 0; f < SCANNED_FIELDS.length; f++) {
+                fieldTimer.recordFieldTime(SCANNED_FIELDS[f], elapsedNanos[f]);
+            }
+        }
+        String documentTypeValue = toDocumentType(documentType);
+        String date = toDate(matches[DATE]);
+        String time = toTime(matches[TIME]);
+        String vehicleNumber = toVehicleNumber(matches[VEHICLE_NUMBER]);
+        Integer totalWeight = toTotalWeight(matches[TOTAL_WEIGHT]);
+        Integer emptyWeight = toEmptyWeight(matches[EMPTY_WEIGHT]);
+        Integer netWeight = toNetWeight(matches[NET_WEIGHT]);
+        String customer = toCustomer(matches[CUSTOMER]);
+        String productName = toProductName(matches[PRODUCT_NAME]);
+        String issuer = toIssuer(matches[ISSUER]);
+        double[] gpsCoordinates = toGpsCoordinates(matches[GPS]);
+
+        // 값을 찾은 필드의 매칭 구간 - 같은 값이 여러 번 나와도 실제로 읽은 위치를 가리킨다
+        Map<String, FieldSpan> spans = new LinkedHashMap<>();
+        if (documentTypeValue != null) {
+            spans.put("documentType", new FieldSpan(documentType.start(), documentType.end()));
+        }
+        if (date != null) {
+            spans.put("date", span(matches[DATE], 1, 3));
+        }
+        if (time != null) {
+            spans.put("time", span(matches[TIME], 0, 0));
+        }
+        if (vehicleNumber != null) {
+            int group = matches[VEHICLE_NUMBER].group(1) != null ? 1 : 2;
+            spans.put("vehicleNumber", trimmed(text, span(matches[VEHICLE_NUMBER], group, group)));
+        }
+        if (totalWeight != null) {
+            spans.put("totalWeight", span(matches[TOTAL_WEIGHT], 1, 1));
+        }
+        if (emptyWeight != null) {
+            spans.put("emptyWeight", span(matches[EMPTY_WEIGHT], 1, 1));
+        }
+        if (netWeight != null) {
+            spans.put("netWeight", span(matches[NET_WEIGHT], 1, 1));
+        }
+        if (customer != null) {
+            spans.put("customer", trimmed(text, span(matches[CUSTOMER], 1, 1)));
+        }
+        if (productName != null) {
+            spans.put("productName", span(matches[PRODUCT_NAME], 1, 1));
+        }
+        if (issuer != null) {
+            spans.put("issuer", span(matches[ISSUER], 1, 1));
+        }
+        if (gpsCoordinates != null) {
+            spans.put("gps", span(matches[GPS], 1, 2));
+        }
+        return new ExtractedFields(documentTypeValue, date, time, vehicleNumber, totalWeight, emptyWeight,
+                netWeight, customer, productName, issuer, gpsCoordinates, Collections.unmodifiableMap(spans));
+    }
+
+    private static FieldSpan span(MatchResult match, int firstGroup, int lastGroup) {
+        return new FieldSpan(match.start(firstGroup), match.end(lastGroup));
+    }
+
+    /**
+     * 값을 trim()해서 사용하는 필드는 구간에서도 같은 앞뒤 공백을 제외
+     */
+    private static FieldSpan trimmed(String text, FieldSpan span) {
+        int start = span.start();
+        int end = span.end();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return new FieldSpan(start, end);
+    }
+
     /**
      * 문서 종류 추출
      */
     public String extractDocumentType(String text) {
-        Matcher matcher = DOCUMENT_TYPE_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String result = matcher.group(1).replaceAll("\\s+", "");
-            log.debug("문서종류 추출: {}", result);
-            return result;
-        }
-        log.warn("문서종류를 찾을 수 없습니다");
-        return null;
+        return toDocumentType(DOCUMENT_TYPES.findFirst(text));
     }
 
     /**
      * 날짜 추출 (yyyy-MM-dd 형식)
      */
     public String extractDate(String text) {
-        Matcher matcher = DATE_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String year = matcher.group(1);
-            String month = String.format("%02d", Integer.parseInt(matcher.group(2)));
-            String day = String.format("%02d", Integer.parseInt(matcher.group(3)));
-            String result = year + "-" + month + "-" + day;
-            log.debug("날짜 추출: {}", result);
-            return result;
-        }
-        log.warn("날짜를 찾을 수 없습니다");
-        return null;
+        return toDate(find(DATE_PATTERN, text));
     }
 
     /**
      * 시간 추출 (HH:mm:ss 형식)
      */
     public String extractTime(String text) {
-        Matcher matcher = TIME_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String result = matcher.group(0);
-            log.debug("시간 추출: {}", result);
-            return result;
-        }
-        log.debug("시간을 찾을 수 없습니다");
-        return null;
+        return toTime(find(TIME_PATTERN, text));
     }
 
     /**
      * 차량번호 추출
      */
     public String extractVehicleNumber(String text) {
-        Matcher matcher = VEHICLE_NUMBER_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String result = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
-            if (result != null) {
-                result = result.trim();
-                log.debug("차량번호 추출: {}", result);
-                return result;
-            }
-        }
-        log.warn("차량번호를 찾을 수 없습니다");
-        return null;
+        return toVehicleNumber(find(VEHICLE_NUMBER_PATTERN, text));
     }
 
     /**
      * 총중량 추출 (kg 단위 정수)
      */
     public Integer extractTotalWeight(String text) {
-        Matcher matcher = TOTAL_WEIGHT_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String weightStr = matcher.group(1).replace(",", "");
-            try {
-                int result = Integer.parseInt(weightStr);
-                log.debug("총중량 추출: {} kg", result);
-                return result;
-            } catch (NumberFormatException e) {
-                log.warn("총중량 파싱 실패: {}", weightStr);
-            }
-        }
-        log.warn("총중량을 찾을 수 없습니다");
-        return null;
+        return toTotalWeight(find(TOTAL_WEIGHT_PATTERN, text));
     }
 
     /**
      * 공차중량 추출 (kg 단위 정수)
      */
     public Integer extractEmptyWeight(String text) {
-        Matcher matcher = EMPTY_WEIGHT_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String weightStr = matcher.group(1).replace(",", "");
-            try {
-                int result = Integer.parseInt(weightStr);
-                log.debug("공차중량 추출: {} kg", result);
-                return result;
-            } catch (NumberFormatException e) {
-                log.warn("공차중량 파싱 실패: {}", weightStr);
-            }
-        }
-        log.warn("공차중량을 찾을 수 없습니다");
-        return null;
+        return toEmptyWeight(find(EMPTY_WEIGHT_PATTERN, text));
     }
 
     /**
      * 실중량 추출 (kg 단위 정수)
      */
     public Integer extractNetWeight(String text) {
-        Matcher matcher = NET_WEIGHT_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String weightStr = matcher.group(1).replace(",", "");
+        return toNetWeight(find(NET_WEIGHT_PATTERN, text));
+    }
+
+    /**
+     * 거래처/상호 추출
+     */
+    public String extractCustomer(String text) {
+        return toCustomer(find(CUSTOMER_PATTERN, text));
+    }
+
+    /**
+     * 품명 추출
+     */
+    public String extractProductName(String text) {
+        return toProductName(find(PRODUCT_PATTERN, text));
+    }
+
+    /**
+     * 발행업체 추출
+     */
+    public String extractIssuer(String text) {
+        return toIssuer(find(ISSUER_PATTERN, text));
+    }
+
+    /**
+     * GPS 좌표 추출
+     * 
+     * @return double[] {위도, 경도} 또는 null
+     */
+    public double[] extractGpsCoordinates(String text) {
+        return toGpsCoordinates(find(GPS_PATTERN, text));
+    }
+
+    private static MatchResult find(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.toMatchResult() : null;
+    }
+
+    // === 매칭 결과 → 필드 값 변환 ===
+
+    private String toDocumentType(LabelDictionary.LabelMatch<String> match) {
+        if (match != null) {
+            String result = match.value();
+            log.debug("문서종류 추출: {}", result);
+            return result;
+        }
+        log.warn("문서종류를 찾을 수 없습니다");
+        return null;
+    }
+
+    private String toDate(MatchResult match) {
+        if (match != null) {
+            String year = match.group(1);
+            String month = String.format("%02d", Integer.parseInt(match.group(2)));
+            String day = String.format("%02d", Integer.parseInt(match.group(3)));
+            String result = year + "-" + month + "-" + day;
+            log.debug("날짜 추출: {}", result);
+            return result;
+        }
+        log.warn("날짜를 찾을 수 없습니다");
+        return null;
+    }
+
+    private String toTime(MatchResult match) {
+        if (match != null) {
+            String result = match.group(0);
+            log.debug("시간 추출: {}", result);
+            return result;
+        }
+        log.debug("시간을 찾을 수 없습니다");
+        return null;
+    }
+
+    private String toVehicleNumber(MatchResult match) {
+        if (match != null) {
+            String result = match.group(1) != null ? match.group(1) : match.group(2);
+            if (result != null) {
+                result = result.trim();
+                log.debug("차량번호 추출: {}", result);
+                return result;
+            }
+        }
+        log.warn("차량번호를 찾을 수 없습니다");
+        return null;
+    }
+
+    private Integer toTotalWeight(MatchResult match) {
+        return toWeight(match, "총중량");
+    }
+
+    private Integer toEmptyWeight(MatchResult match) {
+        return toWeight(match, "공차중량");
+    }
+
+    private Integer toNetWeight(MatchResult match) {
+        return toWeight(match, "실중량");
+    }
+
+    private Integer toWeight(MatchResult match, String label) {
+        if (match != null) {
+            String weightStr = match.group(1).replace(",", "");
             try {
                 int result = Integer.parseInt(weightStr);
-                log.debug("실중량 추출: {} kg", result);
+                log.debug("{} 추출: {} kg", label, result);
                 return result;
             } catch (NumberFormatException e) {
-                log.warn("실중량 파싱 실패: {}", weightStr);
+                log.warn("{} 파싱 실패: {}", label, weightStr);
             }
         }
-        log.warn("실중량을 찾을 수 없습니다");
+        log.warn("{}을 찾을 수 없습니다", label);
         return null;
     }
 
-    /**
-     * 거래처/상호 추출
-     */
-    public String extractCustomer(String text) {
-        Matcher matcher = CUSTOMER_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String result = matcher.group(1).trim();
+    private String toCustomer(MatchResult match) {
+        if (match != null) {
+            String result = match.group(1).trim();
             log.debug("거래처 추출: {}", result);
             return result;
         }
@@ -195,13 +378,9 @@ public class FieldExtractor {
         return null;
     }
 
-    /**
-     * 품명 추출
-     */
-    public String extractProductName(String text) {
-        Matcher matcher = PRODUCT_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String result = matcher.group(1).trim();
+    private String toProductName(MatchResult match) {
+        if (match != null) {
+            String result = match.group(1).trim();
             log.debug("품명 추출: {}", result);
             return result;
         }
@@ -209,13 +388,9 @@ public class FieldExtractor {
         return null;
     }
 
-    /**
-     * 발행업체 추출
-     */
-    public String extractIssuer(String text) {
-        Matcher matcher = ISSUER_PATTERN.matcher(text);
-        if (matcher.find()) {
-            String result = matcher.group(1);
+    private String toIssuer(MatchResult match) {
+        if (match != null) {
+            String result = match.group(1);
             log.debug("발행업체 추출: {}", result);
             return result;
         }
@@ -223,17 +398,11 @@ public class FieldExtractor {
         return null;
     }
 
-    /**
-     * GPS 좌표 추출
-     * 
-     * @return double[] {위도, 경도} 또는 null
-     */
-    public double[] extractGpsCoordinates(String text) {
-        Matcher matcher = GPS_PATTERN.matcher(text);
-        if (matcher.find()) {
+    private double[] toGpsCoordinates(MatchResult match) {
+        if (match != null) {
             try {
-                double latitude = Double.parseDouble(matcher.group(1));
-                double longitude = Double.parseDouble(matcher.group(2));
+                double latitude = Double.parseDouble(match.group(1));
+                double longitude = Double.parseDouble(match.group(2));
                 log.debug("GPS 추출: {}, {}", latitude, longitude);
                 return new double[] { latitude, longitude };
             } catch (NumberFormatException e) {
@@ -0,0 +1,106 @@
+package RECO.Internship.Assignment.domain.parser;
+
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 필드 패턴을 텍스트 한 번의 순회로 매칭하는 스캐너
+ *
+ * 필드마다 Matcher.find()로 텍스트 처음부터 다시 훑는 대신, 텍스트를 앞에서부터 한 번만 걸으며
+ * 각 위치의 문자가 해당 필드의 시작 문자(라벨 앵커: 총, 공, 실, 거, 품, 차, 숫자 등)일 때만
+ * 그 위치에서 lookingAt()을 시도한다. 가장 먼저 성공한 위치가 곧 find()의 결과와 같으므로
+ * 기존 필드별 추출과 동일한 값을 얻는다. 모든 필드를 찾으면 즉시 순회를 멈춘다.
+ *
+ * 필드별 소요 시간이 필요하면 패턴마다 lookingAt() 시도 시간을 합산할 수 있다 (정규식 역추적 확인용).
+ * 시도마다 System.nanoTime()을 두 번 부르므로 필요할 때만 켠다.
+ */
+final class FieldScanner {
+
+    /**
+     * 매칭 시작 위치 후보 판별 (현재 문자, 직전 문자)
+     */
+    @FunctionalInterface
+    interface Anchor {
+        boolean test(char current, char previous);
+    }
+
+    static final Anchor DIGIT = (c, p) -> c >= '0' && c <= '9';
+
+    static final Anchor HANGUL_RUN_START = (c, p) -> isHangul(c) && !isHangul(p);
+
+    static Anchor anyOf(String chars) {
+        return (c, p) -> chars.indexOf(c) >= 0;
+    }
+
+    static Anchor digitOr(String chars) {
+        return (c, p) -> (c >= '0' && c <= '9') || chars.indexOf(c) >= 0;
+    }
+
+    private final Pattern[] patterns;
+    private final Anchor[] anchors;
+
+    FieldScanner(Pattern[] patterns, Anchor[] anchors) {
+        if (patterns.length != anchors.length) {
+            throw new IllegalArgumentException("패턴과 앵커 수가 일치하지 않습니다");
+        }
+        this.patterns = patterns.clone();
+        this.anchors = anchors.clone();
+    }
+
+    /**
+     * 텍스트를 한 번 순회하며 각 패턴의 첫 번째 매칭 결과 수집
+     *
+     * @return 패턴 순서와 같은 인덱스의 매칭 결과 (없으면 null)
+     */
+    MatchResult[] scan(String text) {
+        return scan(text, null);
+    }
+
+    /**
+     * @param elapsedNanos null이 아니면 패턴 순서와 같은 인덱스에 lookingAt() 시도 시간을 더한다
+     */
+    MatchResult[] scan(String text, long[] elapsedNanos) {
+        int count = patterns.length;
+        MatchResult[] results = new MatchResult[count];
+        Matcher[] matchers = new Matcher[count];
+        int remaining = count;
+        int length = text.length();
+
+        char previous = 0;
+        for (int i = 0; i < length && remaining > 0; i++) {
+            char current = text.charAt(i);
+            for (int f = 0; f < count; f++) {
+                if (results[f] != null || !anchors[f].test(current, previous)) {
+                    continue;
+                }
+                Matcher matcher = matchers[f];
+                if (matcher == null) {
+                    matcher = patterns[f].matcher(text)
+                            .useTransparentBounds(true)
+                            .useAnchoringBounds(false);
+                    matchers[f] = matcher;
+                }
+                matcher.region(i, length);
+                boolean matched;
+                if (elapsedNanos == null) {
+                    matched = matcher.lookingAt();
+                } else {
+                    long start = System.nanoTime();
+                    matched = matcher.lookingAt();
+                    elapsedNanos[f] += System.nanoTime() - start;
+                }
+                if (matched) {
+                    results[f] = matcher.toMatchResult();
+                    remaining--;
+                }
+            }
+            previous = current;
+        }
+        return results;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
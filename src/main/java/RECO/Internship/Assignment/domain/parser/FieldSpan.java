@@ -0,0 +1,10 @@
+package RECO.Internship.Assignment.domain.parser;
+
+/**
+ * 추출한 값이 매칭된 텍스트 구간
+ *
+ * @param start 시작 오프셋
+ * @param end   끝 오프셋 (미포함)
+ */
+public record FieldSpan(int start, int end) {
+}
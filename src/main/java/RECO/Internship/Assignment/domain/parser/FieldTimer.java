@@ -0,0 +1,13 @@
+package RECO.Internship.Assignment.domain.parser;
+
+/**
+ * 필드별 추출 소요 시간 수신자
+ *
+ * FieldExtractor는 지표 라이브러리에 의존하지 않고 이 인터페이스로만 시간을 넘긴다.
+ * 필드 이름은 ExtractedFields의 필드 이름과 같다 (gpsCoordinates는 gps).
+ */
+@FunctionalInterface
+public interface FieldTimer {
+
+    void recordFieldTime(String field, long elapsedNanos);
+}
@@ -0,0 +1,271 @@
+package RECO.Internship.Assignment.domain.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공백 허용 라벨 사전 (Aho–Corasick 오토마톤)
+ *
+ * "계 량 증 명 서"처럼 음절 사이에 공백이 끼어든 라벨을 찾기 위해, 정규식의 음절마다 \s*를 두는 대신
+ * 공백을 제거한 라벨 변형들로 오토마톤을 만들고 텍스트의 공백 문자를 건너뛰며 한 번에 훑는다.
+ * 매칭 결과는 원본 텍스트 기준 오프셋으로 돌려준다.
+ * 라벨 변형 수와 무관하게 텍스트 길이에 선형인 시간으로 동작한다.
+ *
+ * @param <T> 라벨 변형에 연결된 값 (예: 정규화된 문서 종류, 필드 종류)
+ */
+public final class LabelDictionary<T> {
+
+    /**
+     * 문서 종류 라벨 (FieldExtractor의 기존 문서종류 패턴과 동일한 변형)
+     */
+    public static final LabelDictionary<String> DOCUMENT_TYPES = LabelDictionary.<String>builder()
+            .add("계량증명서", "계량증명서")
+            .add("계근표", "계근표")
+            .add("계그표", "계그표")
+            .add("계량확인서", "계량확인서")
+            .add("계량증명표", "계량증명표")
+            .build();
+
+    /**
+     * 원본 텍스트 기준 라벨 매칭 결과
+     *
+     * @param value   라벨에 연결된 값
+     * @param variant 매칭된 라벨 변형 (공백 제거 형태)
+     * @param start   시작 오프셋 (포함)
+     * @param end     끝 오프셋 (미포함)
+     */
+    public record LabelMatch<T>(T value, String variant, int start, int end) {
+    }
+
+    private static final int ROOT = 0;
+
+    // 노드별 전이 (자식 수가 적으므로 정렬되지 않은 배열 선형 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 노드에서 끝나는 패턴 인덱스 (-1: 없음), 출력 링크 (접미사 중 패턴이 끝나는 가장 가까운 노드)
+    private final int[] terminal;
+    private final int[] outputLink;
+
+    private final String[] variants;
+    private final List<T> values;
+    private final int maxLength;
+
+    private LabelDictionary(Map<String, T> entries) {
+        this.variants = entries.keySet().toArray(new String[0]);
+        this.values = new ArrayList<>(entries.values());
+        this.maxLength = Arrays.stream(variants).mapToInt(String::length).max().orElse(0);
+
+        int capacity = 1 + Arrays.stream(variants).mapToInt(String::length).sum();
+        char[][] chars = new char[capacity][];
+        int[][] targets = new int[capacity][];
+        int[] terminalOf = new int[capacity];
+        Arrays.fill(terminalOf, -1);
+        chars[ROOT] = new char[0];
+        targets[ROOT] = new int[0];
+        int nodeCount = 1;
+
+        // 1. 트라이 구성
+        for (int p = 0; p < variants.length; p++) {
+            int node = ROOT;
+            for (char c : variants[p].toCharArray()) {
+                int next = step(chars, targets, node, c);
+                if (next < 0) {
+                    next = nodeCount++;
+                    chars[next] = new char[0];
+                    targets[next] = new int[0];
+                    chars[node] = Arrays.copyOf(chars[node], chars[node].length + 1);
+                    targets[node] = Arrays.copyOf(targets[node], targets[node].length + 1);
+                    chars[node][chars[node].length - 1] = c;
+                    targets[node][targets[node].length - 1] = next;
+                }
+                node = next;
+            }
+            terminalOf[node] = p;
+        }
+
+        this.edgeChars = Arrays.copyOf(chars, nodeCount);
+        this.edgeTargets = Arrays.copyOf(targets, nodeCount);
+        this.terminal = Arrays.copyOf(terminalOf, nodeCount);
+        this.fail = new int[nodeCount];
+        this.outputLink = new int[nodeCount];
+        Arrays.fill(outputLink, -1);
+
+        // 2. BFS로 실패 링크/출력 링크 계산
+        int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int f = fail[node];
+                while (f != ROOT && step(edgeChars, edgeTargets, f, c) < 0) {
+                    f = fail[f];
+                }
+                int target = step(edgeChars, edgeTargets, f, c);
+                fail[child] = target >= 0 && target != child ? target : ROOT;
+                outputLink[child] = terminal[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 텍스트에서 모든 라벨 매칭 (끝 위치 순)
+     */
+    public List<LabelMatch<T>> findAll(CharSequence text) {
+        List<LabelMatch<T>> matches = new ArrayList<>();
+        scan(text, matches, false);
+        return matches;
+    }
+
+    /**
+     * 서로 겹치지 않는 라벨 매칭 (시작 위치 순, 앞에서부터 가장 긴 라벨 우선)
+     * 예: "공차중량"은 "차중량", "중량"으로 다시 매칭되지 않는다
+     */
+    public List<LabelMatch<T>> findAllLongest(CharSequence text) {
+        List<LabelMatch<T>> matches = findAll(text);
+        matches.sort(Comparator.<LabelMatch<T>>comparingInt(LabelMatch::start)
+                .thenComparing(Comparator.<LabelMatch<T>>comparingInt(match -> match.variant().length()).reversed()));
+
+        List<LabelMatch<T>> selected = new ArrayList<>();
+        int end = -1;
+        for (LabelMatch<T> match : matches) {
+            if (match.start() >= end) {
+                selected.add(match);
+                end = match.end();
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 가장 먼저 시작하는 라벨 매칭 (같은 위치에서 시작하면 가장 긴 라벨)
+     *
+     * @return 매칭 결과 또는 null
+     */
+    public LabelMatch<T> findFirst(CharSequence text) {
+        List<LabelMatch<T>> matches = new ArrayList<>(1);
+        scan(text, matches, true);
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * 공백을 건너뛰며 오토마톤 순회
+     *
+     * @param firstOnly true면 가장 앞선 매칭 하나만 유지하고, 더 앞선 매칭이 나올 수 없는 시점에 종료
+     */
+    private void scan(CharSequence text, List<LabelMatch<T>> matches, boolean firstOnly) {
+        if (maxLength == 0) {
+            return;
+        }
+        // 최근 maxLength개 비공백 문자의 원본 오프셋 (링 버퍼)
+        int[] offsets = new int[maxLength];
+        int stripped = 0;
+        int bestStart = Integer.MAX_VALUE;
+        int bestLength = 0;
+        int node = ROOT;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+            if (firstOnly && stripped - maxLength + 1 > bestStart) {
+                break;
+            }
+            offsets[stripped % maxLength] = i;
+
+            int next;
+            while ((next = step(edgeChars, edgeTargets, node, c)) < 0 && node != ROOT) {
+                node = fail[node];
+            }
+            node = Math.max(next, ROOT);
+
+            for (int out = terminal[node] >= 0 ? node : outputLink[node]; out >= 0; out = outputLink[out]) {
+                int pattern = terminal[out];
+                int length = variants[pattern].length();
+                int startStripped = stripped - length + 1;
+                if (firstOnly) {
+                    if (startStripped < bestStart || (startStripped == bestStart && length > bestLength)) {
+                        bestStart = startStripped;
+                        bestLength = length;
+                        matches.clear();
+                        matches.add(toMatch(pattern, offsets[startStripped % maxLength], i + 1));
+                    }
+                } else {
+                    matches.add(toMatch(pattern, offsets[startStripped % maxLength], i + 1));
+                }
+            }
+            stripped++;
+        }
+    }
+
+    private LabelMatch<T> toMatch(int pattern, int start, int end) {
+        return new LabelMatch<>(values.get(pattern), variants[pattern], start, end);
+    }
+
+    private static int step(char[][] chars, int[][] targets, int node, char c) {
+        char[] keys = chars[node];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == c) {
+                return targets[node][i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 정규식 \s와 같은 공백 문자 집합 ([ \t\n\x0B\f\r])
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * 라벨 사전 빌더
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, T> entries = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 라벨 변형 추가 (공백은 제거되어 등록됨)
+         */
+        public Builder<T> add(String variant, T value) {
+            StringBuilder stripped = new StringBuilder(variant.length());
+            for (int i = 0; i < variant.length(); i++) {
+                char c = variant.charAt(i);
+                if (!isWhitespace(c)) {
+                    stripped.append(c);
+                }
+            }
+            if (stripped.length() == 0) {
+                throw new IllegalArgumentException("빈 라벨은 등록할 수 없습니다");
+            }
+            entries.putIfAbsent(stripped.toString(), value);
+            return this;
+        }
+
+        public LabelDictionary<T> build() {
+            return new LabelDictionary<>(entries);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package RECO.Internship.Assignment.domain.parser;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import RECO.Internship.Assignment.domain.parser.layout.FieldLabel;
+import RECO.Internship.Assignment.domain.parser.layout.LayoutLine;
+import RECO.Internship.Assignment.domain.parser.layout.LineReconstructor;
+import RECO.Internship.Assignment.domain.parser.layout.WordGrid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단어 좌표(pages[].words[].boundingBox) 기반 필드 추출
+ *
+ * 평탄화된 OCR 텍스트는 인식기가 줄 순서를 뒤섞으면 라벨과 값이 떨어진다.
+ * 이 추출기는 단어 좌표로 줄을 재구성하고, 라벨 단어의 같은 행 오른쪽(없으면 바로 아래) 단어를
+ * 격자 색인({@link WordGrid})으로 찾아 라벨 → 값 인접 관계로 필드를 채운다.
+ *
+ * - 중량: 라벨이 깨져 "중량"만 남았거나 라벨 없이 "7,470 kg"만 있는 행은
+ *   위에서부터 비어 있는 총중량 → 공차중량 → 실중량 순으로 채운다.
+ *   "13 460", "7 , 560"처럼 천 단위 구분자가 공백/기호로 인식된 값도 하나의 숫자로 읽는다.
+ * - 라벨 → 값으로 찾지 못한 필드는 재구성한 줄 텍스트, 원본 텍스트 순으로 {@link FieldExtractor} 결과를 사용한다.
+ *   단, 라벨은 있는데 값이 비어 있는 필드("제 품 명 :")는 다음 줄의 글자를 값으로 잘못 읽지 않도록 비워 둔다.
+ *
+ * 단어 정보가 없는 문서는 원본 텍스트로 {@link FieldExtractor#extractAll(String)}과 같은 결과를 반환한다.
+ */
+@Component
+public class LayoutFieldExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(LayoutFieldExtractor.class);
+
+    private static final LabelDictionary<FieldLabel> FIELD_LABELS = LabelDictionary.<FieldLabel>builder()
+            .add("계량일자", FieldLabel.DATE)
+            .add("날짜", FieldLabel.DATE)
+            .add("일자", FieldLabel.DATE)
+            .add("일시", FieldLabel.DATE)
+            .add("차량번호", FieldLabel.VEHICLE_NUMBER)
+            .add("차번호", FieldLabel.VEHICLE_NUMBER)
+            .add("차량No", FieldLabel.VEHICLE_NUMBER)
+            .add("총중량", FieldLabel.TOTAL_WEIGHT)
+            .add("공차중량", FieldLabel.EMPTY_WEIGHT)
+            .add("차중량", FieldLabel.EMPTY_WEIGHT)
+            .add("실중량", FieldLabel.NET_WEIGHT)
+            .add("중량", FieldLabel.WEIGHT)
+            .add("거래처", FieldLabel.CUSTOMER)
+            .add("상호", FieldLabel.CUSTOMER)
+            .add("회사명", FieldLabel.CUSTOMER)
+            .add("품명", FieldLabel.PRODUCT_NAME)
+            .add("품목", FieldLabel.PRODUCT_NAME)
+            .build();
+
+    // 천 단위 구분자가 공백/쉼표/점/가운뎃점으로 인식된 숫자 포함 ("12,480", "13 · 460", "5 900")
+    private static final String NUMBER = "\\d{1,3}(?:[\\s,.·]+\\d{3})+(?!\\d)|\\d+";
+
+    private static final Pattern WEIGHT_WITH_UNIT = Pattern.compile("(" + NUMBER + ")\\s*(?:kg|KG)");
+
+    private static final Pattern WEIGHT_NUMBER = Pattern.compile(NUMBER);
+
+    // 중량 앞에 찍힌 계량 시각 ("05:26:18", "02:07", "02 : 13")
+    private static final Pattern LEADING_TIME = Pattern
+            .compile("^[\\s:]*\\d{1,2}\\s*:\\s*\\d{2}(?:\\s*:\\s*\\d{2})?");
+
+    private static final Pattern PLATE_NUMBER = Pattern.compile("[0-9]{2,4}[가-힣][0-9]{4}");
+
+    private static final Pattern VEHICLE_TOKEN = Pattern.compile("[\\d가-힣]*\\d[\\d가-힣]*");
+
+    private static final Pattern PRODUCT_TOKEN = Pattern.compile("[가-힣a-zA-Z0-9]+");
+
+    private static final Pattern LEADING_SEPARATOR = Pattern.compile("^[\\s:;.,]+");
+
+    private static final FieldLabel[] WEIGHT_SLOTS = {
+            FieldLabel.TOTAL_WEIGHT, FieldLabel.EMPTY_WEIGHT, FieldLabel.NET_WEIGHT };
+
+    private final FieldExtractor fieldExtractor;
+
+    public LayoutFieldExtractor(FieldExtractor fieldExtractor) {
+        this.fieldExtractor = fieldExtractor;
+    }
+
+    /**
+     * 단어 좌표로 필드 추출 (단어가 없으면 텍스트 기반 추출)
+     */
+    public ExtractedFields extract(OcrDocument document) {
+        if (!document.hasWords()) {
+            return fieldExtractor.extractAll(document.text());
+        }
+
+        List<LayoutLine> lines = new ArrayList<>();
+        Map<FieldLabel, Object> values = new EnumMap<>(FieldLabel.class);
+        Set<FieldLabel> emptyLabels = EnumSet.noneOf(FieldLabel.class);
+        for (List<OcrWord> pageWords : groupByPage(document.words()).values()) {
+            List<LayoutLine> pageLines = LineReconstructor.reconstruct(pageWords);
+            extractLabeledValues(pageLines, WordGrid.of(pageWords), values, emptyLabels);
+            lines.addAll(pageLines);
+        }
+        emptyLabels.removeAll(values.keySet());
+        log.debug("레이아웃 추출 - 단어: {}, 줄: {}, 라벨 값: {}, 빈 라벨: {}",
+                document.words().size(), lines.size(), values.keySet(), emptyLabels);
+
+        ExtractedFields fromLines = fieldExtractor.extractAll(joinLines(lines));
+        ExtractedFields merged = merge(values, emptyLabels, fromLines);
+        if (hasMissingField(merged)) {
+            ExtractedFields fromText = fill(fromLines, fieldExtractor.extractAll(document.text()));
+            merged = merge(values, emptyLabels, fromText);
+        }
+        return merged;
+    }
+
+    /**
+     * 라벨 → 값 인접 관계로 필드 값 수집
+     */
+    private void extractLabeledValues(List<LayoutLine> lines, WordGrid grid, Map<FieldLabel, Object> values,
+            Set<FieldLabel> emptyLabels) {
+        // 1. 모든 라벨 매칭과 라벨에 속한 단어 수집 (값 탐색을 다음 라벨 앞에서 멈추기 위함)
+        List<LabelOccurrence> occurrences = new ArrayList<>();
+        Set<OcrWord> labelWords = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (LayoutLine line : lines) {
+            for (LabelDictionary.LabelMatch<FieldLabel> match : FIELD_LABELS.findAllLongest(line.text())) {
+                LabelOccurrence occurrence = new LabelOccurrence(line, match);
+                occurrences.add(occurrence);
+                labelWords.addAll(line.words().subList(occurrence.firstWord(), occurrence.lastWord() + 1));
+            }
+        }
+
+        // 2. 라벨별 값 해석
+        List<PendingWeight> unassignedWeights = new ArrayList<>();
+        Set<LayoutLine> weightLabelLines = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (LabelOccurrence occurrence : occurrences) {
+            FieldLabel label = occurrence.match().value();
+            String valueText = valueText(occurrence, grid, labelWords);
+            switch (label) {
+                case DATE -> values.computeIfAbsent(label, key -> blankToNull(fieldExtractor.extractDate(valueText)));
+                case VEHICLE_NUMBER -> values.computeIfAbsent(label, key -> parseVehicleNumber(valueText));
+                case CUSTOMER -> values.computeIfAbsent(label, key -> blankToNull(valueText));
+                case PRODUCT_NAME -> values.computeIfAbsent(label, key -> firstMatch(PRODUCT_TOKEN, valueText));
+                case TOTAL_WEIGHT, EMPTY_WEIGHT, NET_WEIGHT, WEIGHT -> {
+                    weightLabelLines.add(occurrence.line());
+                    Integer weight = parseWeight(valueText);
+                    if (weight == null) {
+                        continue;
+                    }
+                    if (label == FieldLabel.WEIGHT || values.containsKey(label)) {
+                        unassignedWeights.add(new PendingWeight(occurrence.line().minY(), weight));
+                    } else {
+                        values.put(label, weight);
+                    }
+                }
+            }
+            if (!values.containsKey(label)) {
+                emptyLabels.add(label);
+            }
+        }
+
+        // 3. 라벨 없이 "숫자 kg"만 있는 행
+        for (LayoutLine line : lines) {
+            if (!weightLabelLines.contains(line)) {
+                String rest = LEADING_TIME.matcher(line.text()).replaceFirst("");
+                Matcher matcher = WEIGHT_WITH_UNIT.matcher(rest);
+                Integer weight = matcher.find() ? toInt(matcher.group(1)) : null;
+                if (weight != null) {
+                    unassignedWeights.add(new PendingWeight(line.minY(), weight));
+                }
+            }
+        }
+
+        // 4. 라벨이 불완전한 중량은 위에서부터 빈 슬롯 순서대로 배정
+        unassignedWeights.sort(Comparator.comparingInt(PendingWeight::y));
+        int next = 0;
+        for (FieldLabel slot : WEIGHT_SLOTS) {
+            if (!values.containsKey(slot) && next < unassignedWeights.size()) {
+                values.put(slot, unassignedWeights.get(next++).weight());
+            }
+        }
+    }
+
+    /**
+     * 라벨 뒤의 값 텍스트 - 라벨과 같은 단어에 붙은 글자 + 같은 행 오른쪽 단어 (없으면 바로 아래 단어)
+     */
+    private String valueText(LabelOccurrence occurrence, WordGrid grid, Set<OcrWord> labelWords) {
+        LayoutLine line = occurrence.line();
+        int lastWord = occurrence.lastWord();
+        OcrWord anchor = line.words().get(lastWord);
+
+        int wordEnd = line.wordStarts()[lastWord] + anchor.text().length();
+        StringBuilder value = new StringBuilder(line.text().substring(occurrence.match().end(), wordEnd));
+
+        List<OcrWord> neighbours = grid.rightOf(anchor);
+        if (neighbours.isEmpty() || labelWords.contains(neighbours.get(0))) {
+            neighbours = grid.below(anchor, anchor.height() * 2);
+        }
+        for (OcrWord word : neighbours) {
+            if (labelWords.contains(word)) {
+                break;
+            }
+            value.append(' ').append(word.text());
+        }
+        return LEADING_SEPARATOR.matcher(value).replaceFirst("").trim();
+    }
+
+    private Integer parseWeight(String valueText) {
+        String rest = LEADING_TIME.matcher(valueText).replaceFirst("");
+        Matcher matcher = WEIGHT_WITH_UNIT.matcher(rest);
+        if (matcher.find()) {
+            return toInt(matcher.group(1));
+        }
+        matcher = WEIGHT_NUMBER.matcher(rest);
+        return matcher.find() ? toInt(matcher.group()) : null;
+    }
+
+    private String parseVehicleNumber(String valueText) {
+        String plate = firstMatch(PLATE_NUMBER, valueText);
+        return plate != null ? plate : firstMatch(VEHICLE_TOKEN, valueText);
+    }
+
+    private static Integer toInt(String number) {
+        try {
+            return Integer.parseInt(number.replaceAll("\\D", ""));
+        } catch (NumberFormatException e) {
+            log.warn("중량 파싱 실패: {}", number);
+            return null;
+        }
+    }
+
+    private static String firstMatch(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group() : null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static Map<Integer, List<OcrWord>> groupByPage(List<OcrWord> words) {
+        Map<Integer, List<OcrWord>> pages = new LinkedHashMap<>();
+        for (OcrWord word : words) {
+            pages.computeIfAbsent(word.page(), page -> new ArrayList<>()).add(word);
+        }
+        return pages;
+    }
+
+    private static String joinLines(List<LayoutLine> lines) {
+        StringBuilder text = new StringBuilder();
+        for (LayoutLine line : lines) {
+            text.append(line.text()).append('\n');
+        }
+        return text.toString();
+    }
+
+    // === 결과 병합: 라벨 → 값 > 재구성한 줄 텍스트 > 원본 텍스트 ===
+
+    private static ExtractedFields merge(Map<FieldLabel, Object> values, Set<FieldLabel> emptyLabels,
+            ExtractedFields fallback) {
+        return new ExtractedFields(
+                fallback.documentType(),
+                labeled(values, emptyLabels, FieldLabel.DATE, fallback.date()),
+                fallback.time(),
+                labeled(values, emptyLabels, FieldLabel.VEHICLE_NUMBER, fallback.vehicleNumber()),
+                firstNonNull((Integer) values.get(FieldLabel.TOTAL_WEIGHT), fallback.totalWeight()),
+                firstNonNull((Integer) values.get(FieldLabel.EMPTY_WEIGHT), fallback.emptyWeight()),
+                firstNonNull((Integer) values.get(FieldLabel.NET_WEIGHT), fallback.netWeight()),
+                labeled(values, emptyLabels, FieldLabel.CUSTOMER, fallback.customer()),
+                labeled(values, emptyLabels, FieldLabel.PRODUCT_NAME, fallback.productName()),
+                fallback.issuer(),
+                fallback.gpsCoordinates());
+    }
+
+    /**
+     * 라벨 값 → (라벨이 비어 있으면 null) → 텍스트 추출 값
+     */
+    private static String labeled(Map<FieldLabel, Object> values, Set<FieldLabel> emptyLabels, FieldLabel label,
+            String fallback) {
+        if (values.containsKey(label)) {
+            return (String) values.get(label);
+        }
+        return emptyLabels.contains(label) ? null : fallback;
+    }
+
+    private static ExtractedFields fill(ExtractedFields fields, ExtractedFields fallback) {
+        return new ExtractedFields(
+                firstNonNull(fields.documentType(), fallback.documentType()),
+                firstNonNull(fields.date(), fallback.date()),
+                firstNonNull(fields.time(), fallback.time()),
+                firstNonNull(fields.vehicleNumber(), fallback.vehicleNumber()),
+                firstNonNull(fields.totalWeight(), fallback.totalWeight()),
+                firstNonNull(fields.emptyWeight(), fallback.emptyWeight()),
+                firstNonNull(fields.netWeight(), fallback.netWeight()),
+                firstNonNull(fields.customer(), fallback.customer()),
+                firstNonNull(fields.productName(), fallback.productName()),
+                firstNonNull(fields.issuer(), fallback.issuer()),
+                firstNonNull(fields.gpsCoordinates(), fallback.gpsCoordinates()));
+    }
+
+    private static boolean hasMissingField(ExtractedFields fields) {
+        return fields.documentType() == null || fields.date() == null || fields.time() == null
+                || fields.vehicleNumber() == null || fields.totalWeight() == null
+                || fields.emptyWeight() == null || fields.netWeight() == null
+                || fields.customer() == null || fields.productName() == null
+                || fields.issuer() == null || fields.gpsCoordinates() == null;
+    }
+
+    private static <T> T firstNonNull(T first, T second) {
+        return first != null ? first : second;
+    }
+
+    /**
+     * 라벨이 불완전하거나 없는 중량 값과 행 위치
+     */
+    private record PendingWeight(int y, int weight) {
+    }
+
+    /**
+     * 줄 안의 라벨 매칭과 라벨이 걸친 단어 범위
+     */
+    private record LabelOccurrence(LayoutLine line, LabelDictionary.LabelMatch<FieldLabel> match) {
+
+        int firstWord() {
+            return line.wordIndexAt(match.start());
+        }
+
+        int lastWord() {
+            return line.wordIndexAt(match.end() - 1);
+        }
+    }
+}
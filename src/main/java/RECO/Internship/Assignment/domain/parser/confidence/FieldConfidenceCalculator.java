@@ -0,0 +1,102 @@
+package RECO.Internship.Assignment.domain.parser.confidence;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.FieldSpan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 필드별 신뢰도 계산
+ *
+ * 추출된 값의 원본 텍스트 구간(추출기가 넘긴 매칭 구간, 없으면 텍스트에서 탐색)을 찾고,
+ * 그 구간에 걸친 words[] 단어들의 신뢰도를 겹치는 글자 수로 가중 평균한다. 키는 응답 필드명(vehicleNumber, totalWeight, ...)이며,
+ * 값이 없거나 텍스트/단어와 연결할 수 없는 필드는 포함하지 않는다.
+ */
+@Component
+public class FieldConfidenceCalculator {
+
+    private static final Logger log = LoggerFactory.getLogger(FieldConfidenceCalculator.class);
+
+    /**
+     * 필드별 신뢰도 계산 (소수점 넷째 자리 반올림)
+     *
+     * @return 필드명 → 신뢰도 (단어 정보가 없으면 빈 맵)
+     */
+    public Map<String, Double> calculate(OcrDocument document, ExtractedFields fields) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (!document.hasWords()) {
+            return result;
+        }
+
+        String text = document.text();
+        WordOffsetIndex index = WordOffsetIndex.build(text, document.words());
+        ValueLocator locator = new ValueLocator(text);
+
+        put(result, "documentType", fields.documentType(), fields, index, locator);
+        put(result, "date", fields.date(), fields, index, locator);
+        put(result, "time", fields.time(), fields, index, locator);
+        put(result, "vehicleNumber", fields.vehicleNumber(), fields, index, locator);
+        put(result, "totalWeight", fields.totalWeight(), fields, index, locator);
+        put(result, "emptyWeight", fields.emptyWeight(), fields, index, locator);
+        put(result, "netWeight", fields.netWeight(), fields, index, locator);
+        put(result, "customer", fields.customer(), fields, index, locator);
+        put(result, "productName", fields.productName(), fields, index, locator);
+        put(result, "issuer", fields.issuer(), fields, index, locator);
+        putGps(result, fields, index, locator);
+
+        log.debug("필드별 신뢰도 계산 - 색인 단어: {}/{}, 결과: {}", index.size(), document.words().size(), result);
+        return result;
+    }
+
+    private void put(Map<String, Double> result, String field, Object value, ExtractedFields fields,
+            WordOffsetIndex index, ValueLocator locator) {
+        if (value == null) {
+            return;
+        }
+        int[] span = locator.find(value.toString(), span(fields, field));
+        if (span == null) {
+            return;
+        }
+        Double confidence = index.confidence(span[0], span[1]);
+        if (confidence != null) {
+            result.put(field, round(confidence));
+        }
+    }
+
+    /**
+     * GPS는 위도 시작부터 경도 끝까지를 하나의 구간으로 본다
+     */
+    private void putGps(Map<String, Double> result, ExtractedFields fields,
+            WordOffsetIndex index, ValueLocator locator) {
+        double[] coordinates = fields.gpsCoordinates();
+        if (coordinates == null || coordinates.length < 2) {
+            return;
+        }
+        int[] span = locator.bounds(span(fields, "gps"));
+        if (span == null) {
+            int[] latitude = locator.find(String.valueOf(coordinates[0]));
+            int[] longitude = locator.find(String.valueOf(coordinates[1]));
+            if (latitude == null || longitude == null) {
+                return;
+            }
+            span = new int[] { Math.min(latitude[0], longitude[0]), Math.max(latitude[1], longitude[1]) };
+        }
+        Double confidence = index.confidence(span[0], span[1]);
+        if (confidence != null) {
+            result.put("gps", round(confidence));
+        }
+    }
+
+    private static FieldSpan span(ExtractedFields fields, String field) {
+        return fields.spans() != null ? fields.spans().get(field) : null;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10000) / 10000.0;
+    }
+}
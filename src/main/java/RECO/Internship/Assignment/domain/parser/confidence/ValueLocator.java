@@ -0,0 +1,100 @@
+package RECO.Internship.Assignment.domain.parser.confidence;
+
+import RECO.Internship.Assignment.domain.parser.FieldSpan;
+
+/**
+ * 추출된 필드 값이 원본 텍스트의 어느 구간에서 왔는지 찾는 탐색기
+ *
+ * 추출기가 매칭 구간을 넘겨주면 그 구간을 그대로 사용한다. 같은 값이 여러 번 나오는 문서
+ * (총중량과 공차중량이 같은 숫자 등)에서도 실제로 읽은 위치를 가리키기 때문이다.
+ * 구간을 모르는 값(좌표 기반 추출 등)만 텍스트에서 다시 찾는다.
+ *
+ * 추출 값은 정규화되어 있으므로 ("12,480" → 12480, "2026.02.02" → "2026-02-02", "13 460" → 13460)
+ * 텍스트와 값 모두에서 문자/숫자만 남겨 비교하고, 일치 위치를 원본 오프셋으로 되돌린다.
+ * 숫자 뒤에 숫자가 붙는 식으로 다른 토큰의 일부에 걸친 일치는 건너뛴다.
+ */
+final class ValueLocator {
+
+    private final String text;
+    // 문자/숫자만 남긴 텍스트와, 각 글자의 원본 오프셋
+    private final String normalized;
+    private final int[] offsets;
+
+    ValueLocator(String text) {
+        this.text = text;
+        StringBuilder builder = new StringBuilder(text.length());
+        int[] map = new int[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                map[builder.length()] = i;
+                builder.append(c);
+            }
+        }
+        this.normalized = builder.toString();
+        this.offsets = map;
+    }
+
+    /**
+     * 값의 원본 텍스트 구간 - 추출기가 넘긴 매칭 구간이 있으면 그대로 사용
+     *
+     * @param span 추출기의 매칭 구간 (없으면 null)
+     * @return {시작, 끝} (끝 미포함) 또는 찾지 못하면 null
+     */
+    int[] find(String value, FieldSpan span) {
+        int[] bounds = bounds(span);
+        return bounds != null ? bounds : find(value);
+    }
+
+    /**
+     * 추출기가 넘긴 매칭 구간 (없거나 텍스트 범위를 벗어나면 null)
+     */
+    int[] bounds(FieldSpan span) {
+        if (span == null || span.start() < 0 || span.start() >= span.end() || span.end() > text.length()) {
+            return null;
+        }
+        return new int[] { span.start(), span.end() };
+    }
+
+    /**
+     * 값의 원본 텍스트 구간
+     *
+     * @return {시작, 끝} (끝 미포함) 또는 찾지 못하면 null
+     */
+    int[] find(String value) {
+        String key = normalize(value);
+        if (key.isEmpty()) {
+            return null;
+        }
+        for (int at = normalized.indexOf(key); at >= 0; at = normalized.indexOf(key, at + 1)) {
+            int start = offsets[at];
+            int end = offsets[at + key.length() - 1] + 1;
+            if (isBoundary(start - 1, text.charAt(start)) && isBoundary(end, text.charAt(end - 1))) {
+                return new int[] { start, end };
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 구간 바로 바깥 글자가 구간 끝 글자와 같은 종류(숫자/문자)가 아니면 토큰 경계
+     */
+    private boolean isBoundary(int outside, char inside) {
+        if (outside < 0 || outside >= text.length()) {
+            return true;
+        }
+        char c = text.charAt(outside);
+        return Character.isDigit(inside) ? !Character.isDigit(c) : !Character.isLetter(c);
+    }
+
+    private static String normalize(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package RECO.Internship.Assignment.domain.parser.confidence;
+
+import RECO.Internship.Assignment.domain.model.OcrWord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 텍스트 오프셋 → 단어 구간 색인
+ *
+ * words[]의 각 단어를 문서 텍스트에서 찾아 [시작, 끝) 구간을 부여한다.
+ * words[]는 텍스트와 같은 순서로 나오므로 직전에 배정한 단어 뒤에서부터만 찾고 (앞으로만 가는 커서),
+ * 뒤에서 찾지 못한 단어(순서가 어긋났거나 텍스트에 없는 단어)는 색인에 포함하지 않는다.
+ * 텍스트를 처음부터 다시 찾지 않으므로 배정은 텍스트 길이에 비례하고 (찾지 못한 단어만 나머지 텍스트를 훑는다),
+ * 구간은 배정 순서대로 겹치지 않아 시작/끝 오프셋이 모두 오름차순이다.
+ * 오프셋 범위 질의는 이진 탐색 한 번 + 겹치는 구간 순회로 끝난다.
+ */
+public final class WordOffsetIndex {
+
+    private final OcrWord[] words;
+    private final int[] starts;
+    private final int[] ends;
+
+    private WordOffsetIndex(OcrWord[] words, int[] starts, int[] ends) {
+        this.words = words;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * 문서 텍스트에 단어를 배정하여 색인 생성
+     */
+    public static WordOffsetIndex build(String text, List<OcrWord> words) {
+        int count = 0;
+        OcrWord[] placedWords = new OcrWord[words.size()];
+        int[] placedStarts = new int[words.size()];
+        int[] placedEnds = new int[words.size()];
+
+        int cursor = 0;
+        for (OcrWord word : words) {
+            String token = word.text();
+            if (token == null || token.isEmpty()) {
+                continue;
+            }
+            int start = text.indexOf(token, cursor);
+            if (start < 0) {
+                continue;
+            }
+            cursor = start + token.length();
+            placedWords[count] = word;
+            placedStarts[count] = start;
+            placedEnds[count] = cursor;
+            count++;
+        }
+        return new WordOffsetIndex(Arrays.copyOf(placedWords, count), Arrays.copyOf(placedStarts, count),
+                Arrays.copyOf(placedEnds, count));
+    }
+
+    /**
+     * 색인된 단어 수
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 오프셋을 포함하는 단어 (없으면 null)
+     */
+    public OcrWord wordAt(int offset) {
+        int index = firstEndingAfter(offset);
+        return index < words.length && starts[index] <= offset ? words[index] : null;
+    }
+
+    /**
+     * [start, end) 구간과 겹치는 단어 (텍스트 순)
+     */
+    public List<OcrWord> wordsIn(int start, int end) {
+        List<OcrWord> result = new ArrayList<>();
+        for (int i = firstEndingAfter(start); i < words.length && starts[i] < end; i++) {
+            result.add(words[i]);
+        }
+        return result;
+    }
+
+    /**
+     * [start, end) 구간의 신뢰도
+     * 구간과 겹치는 글자 수로 가중한 단어 신뢰도 평균 (단어가 없는 공백/구분자 글자는 제외)
+     *
+     * @return 신뢰도 또는 구간에 걸친 단어가 없으면 null
+     */
+    public Double confidence(int start, int end) {
+        double weighted = 0;
+        int covered = 0;
+        for (int i = firstEndingAfter(start); i < words.length && starts[i] < end; i++) {
+            int overlap = Math.min(end, ends[i]) - Math.max(start, starts[i]);
+            weighted += overlap * words[i].confidence();
+            covered += overlap;
+        }
+        return covered > 0 ? weighted / covered : null;
+    }
+
+    /**
+     * 끝 오프셋이 offset보다 큰 첫 구간 인덱스 (끝 오프셋 오름차순 이진 탐색)
+     */
+    private int firstEndingAfter(int offset) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= offset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
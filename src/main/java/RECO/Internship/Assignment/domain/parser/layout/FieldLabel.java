@@ -0,0 +1,16 @@
+package RECO.Internship.Assignment.domain.parser.layout;
+
+/**
+ * 레이아웃 추출에서 인식하는 필드 라벨 종류
+ */
+public enum FieldLabel {
+    DATE,
+    VEHICLE_NUMBER,
+    TOTAL_WEIGHT,
+    EMPTY_WEIGHT,
+    NET_WEIGHT,
+    // 총/공차/실 구분 없이 "중량"만 인식된 라벨 (글자 누락)
+    WEIGHT,
+    CUSTOMER,
+    PRODUCT_NAME
+}
@@ -0,0 +1,53 @@
+package RECO.Internship.Assignment.domain.parser.layout;
+
+import RECO.Internship.Assignment.domain.model.OcrWord;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 단어 좌표로 재구성한 한 줄
+ *
+ * @param words      왼쪽부터 정렬된 단어
+ * @param text       단어를 공백 하나로 이어 붙인 텍스트
+ * @param wordStarts text에서 각 단어의 시작 오프셋 (오름차순)
+ */
+public record LayoutLine(List<OcrWord> words, String text, int[] wordStarts) {
+
+    public LayoutLine {
+        words = List.copyOf(words);
+        wordStarts = wordStarts.clone();
+    }
+
+    /**
+     * 단어들을 공백으로 이어 한 줄 구성
+     */
+    public static LayoutLine of(List<OcrWord> words) {
+        StringBuilder text = new StringBuilder();
+        int[] starts = new int[words.size()];
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            starts[i] = text.length();
+            text.append(words.get(i).text());
+        }
+        return new LayoutLine(words, text.toString(), starts);
+    }
+
+    /**
+     * 텍스트 오프셋이 속한 단어 인덱스 (단어 사이 공백은 앞 단어로 간주, 이진 탐색)
+     */
+    public int wordIndexAt(int offset) {
+        int index = Arrays.binarySearch(wordStarts, offset);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    public int minY() {
+        return words.stream().mapToInt(OcrWord::minY).min().orElse(0);
+    }
+
+    public int maxY() {
+        return words.stream().mapToInt(OcrWord::maxY).max().orElse(0);
+    }
+}
@@ -0,0 +1,74 @@
+package RECO.Internship.Assignment.domain.parser.layout;
+
+import RECO.Internship.Assignment.domain.model.OcrWord;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 단어 좌표로 줄 재구성
+ *
+ * OCR 텍스트의 줄 순서는 인식기가 정하므로 라벨과 값이 다른 줄로 흩어지기도 한다
+ * (예: "품종명랑 05:26:18 12,480 kg"). 단어를 세로 중심 순으로 정렬한 뒤 한 번 훑으며,
+ * 세로 중심이 현재 줄과 중앙값 높이의 절반 이내인 단어를 같은 줄로 묶고 각 줄을 왼쪽부터 정렬한다.
+ *
+ * 여러 줄에 걸쳐 인식된 비정상적으로 큰 단어는 다른 줄을 합쳐버리지 않도록 별도의 줄로 둔다.
+ */
+public final class LineReconstructor {
+
+    // 중앙값 높이 대비 이 배수를 넘는 단어는 여러 줄에 걸친 단어로 간주
+    private static final double SPANNING_HEIGHT_RATIO = 1.8;
+
+    private LineReconstructor() {
+    }
+
+    /**
+     * 한 페이지의 단어들을 위에서 아래 순서의 줄로 재구성
+     */
+    public static List<LayoutLine> reconstruct(List<OcrWord> words) {
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        double medianHeight = medianHeight(words);
+        double tolerance = medianHeight / 2.0;
+
+        List<OcrWord> sorted = new ArrayList<>(words);
+        sorted.sort(Comparator.comparingDouble(OcrWord::centerY));
+
+        List<List<OcrWord>> groups = new ArrayList<>();
+        List<OcrWord> current = null;
+        double currentCenter = 0;
+        for (OcrWord word : sorted) {
+            if (word.height() > medianHeight * SPANNING_HEIGHT_RATIO) {
+                groups.add(new ArrayList<>(List.of(word)));
+                continue;
+            }
+            if (current != null && Math.abs(word.centerY() - currentCenter) <= tolerance) {
+                current.add(word);
+                // 기울어진 줄을 따라가도록 줄 중심은 누적 평균으로 갱신
+                currentCenter += (word.centerY() - currentCenter) / current.size();
+            } else {
+                current = new ArrayList<>();
+                current.add(word);
+                currentCenter = word.centerY();
+                groups.add(current);
+            }
+        }
+
+        List<LayoutLine> lines = new ArrayList<>(groups.size());
+        for (List<OcrWord> group : groups) {
+            group.sort(Comparator.comparingInt(OcrWord::minX));
+            lines.add(LayoutLine.of(group));
+        }
+        lines.sort(Comparator.comparingDouble(line -> (line.minY() + line.maxY()) / 2.0));
+        return lines;
+    }
+
+    private static double medianHeight(List<OcrWord> words) {
+        int[] heights = words.stream().mapToInt(OcrWord::height).sorted().toArray();
+        int middle = heights.length / 2;
+        double median = heights.length % 2 == 1 ? heights[middle] : (heights[middle - 1] + heights[middle]) / 2.0;
+        return Math.max(1.0, median);
+    }
+}
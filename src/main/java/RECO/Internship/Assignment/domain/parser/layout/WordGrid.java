@@ -0,0 +1,174 @@
+package RECO.Internship.Assignment.domain.parser.layout;
+
+import RECO.Internship.Assignment.domain.model.OcrWord;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 단어 경계 상자 균일 격자 색인
+ *
+ * 페이지를 평균 단어 높이의 2배 크기 셀로 나누고, 각 단어를 경계 상자가 걸치는 셀들에 등록한다.
+ * 색인은 단어 수에 선형인 시간으로 만들고 (셀별 단어 수 집계 → 누적합 → 배치, CSR 형식),
+ * 사각형 질의는 질의 영역에 걸친 셀만 훑으므로 전체 단어를 순회하지 않는다.
+ *
+ * 한 단어가 여러 셀에 등록되므로, 질의 결과 중복은 "단어와 질의 영역 교차 사각형의 좌상단이 속한 셀"에서만
+ * 보고하는 방식으로 제거한다 (상태를 두지 않으므로 여러 스레드에서 동시에 질의해도 안전).
+ */
+public final class WordGrid {
+
+    // 셀 수 상한 (단어 수 대비) - 작은 단어가 큰 페이지에 흩어져 있을 때 격자가 과도하게 커지는 것을 방지
+    private static final int MAX_CELLS_PER_WORD = 4;
+
+    private final OcrWord[] words;
+    private final int originX;
+    private final int originY;
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int maxX;
+    // CSR: 셀 c의 단어 인덱스는 cellWords[cellStart[c] .. cellStart[c + 1])
+    private final int[] cellStart;
+    private final int[] cellWords;
+
+    private WordGrid(List<OcrWord> words) {
+        this.words = words.toArray(new OcrWord[0]);
+
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        long heightSum = 0;
+        for (OcrWord word : this.words) {
+            minX = Math.min(minX, word.minX());
+            minY = Math.min(minY, word.minY());
+            maxX = Math.max(maxX, word.maxX());
+            maxY = Math.max(maxY, word.maxY());
+            heightSum += word.height();
+        }
+        if (this.words.length == 0) {
+            minX = minY = maxX = maxY = 0;
+        }
+
+        int size = (int) Math.max(1, this.words.length == 0 ? 1 : 2 * heightSum / this.words.length);
+        long maxCells = (long) MAX_CELLS_PER_WORD * this.words.length + 16;
+        while ((long) ((maxX - minX) / size + 1) * ((maxY - minY) / size + 1) > maxCells) {
+            size *= 2;
+        }
+
+        this.originX = minX;
+        this.originY = minY;
+        this.maxX = maxX;
+        this.cellSize = size;
+        this.columns = (maxX - minX) / size + 1;
+        this.rows = (maxY - minY) / size + 1;
+
+        // 1. 셀별 단어 수 집계
+        int[] counts = new int[columns * rows + 1];
+        for (OcrWord word : this.words) {
+            for (int row = rowOf(word.minY()); row <= rowOf(word.maxY()); row++) {
+                for (int column = columnOf(word.minX()); column <= columnOf(word.maxX()); column++) {
+                    counts[row * columns + column + 1]++;
+                }
+            }
+        }
+        // 2. 누적합으로 셀 시작 위치 계산
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        this.cellStart = counts.clone();
+        // 3. 단어 인덱스 배치
+        this.cellWords = new int[counts[counts.length - 1]];
+        for (int w = 0; w < this.words.length; w++) {
+            OcrWord word = this.words[w];
+            for (int row = rowOf(word.minY()); row <= rowOf(word.maxY()); row++) {
+                for (int column = columnOf(word.minX()); column <= columnOf(word.maxX()); column++) {
+                    cellWords[counts[row * columns + column]++] = w;
+                }
+            }
+        }
+    }
+
+    /**
+     * 단어 목록으로 격자 색인 생성
+     */
+    public static WordGrid of(List<OcrWord> words) {
+        return new WordGrid(words);
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 사각형 영역과 겹치는 단어 (경계 포함)
+     */
+    public List<OcrWord> query(int minX, int minY, int maxX, int maxY) {
+        List<OcrWord> result = new ArrayList<>();
+        if (words.length == 0 || minX > maxX || minY > maxY) {
+            return result;
+        }
+        int fromColumn = columnOf(minX);
+        int toColumn = columnOf(maxX);
+        int fromRow = rowOf(minY);
+        int toRow = rowOf(maxY);
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = row * columns + column;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    OcrWord word = words[cellWords[i]];
+                    if (word.maxX() < minX || word.minX() > maxX || word.maxY() < minY || word.minY() > maxY) {
+                        continue;
+                    }
+                    // 교차 사각형의 좌상단이 속한 셀에서만 보고 (중복 제거)
+                    if (columnOf(Math.max(minX, word.minX())) == column && rowOf(Math.max(minY, word.minY())) == row) {
+                        result.add(word);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 같은 행에서 기준 단어 오른쪽에 있는 단어 (왼쪽부터)
+     * 세로 중심이 기준 단어의 높이 범위 안에 있는 단어만 같은 행으로 본다.
+     */
+    public List<OcrWord> rightOf(OcrWord anchor) {
+        double halfHeight = anchor.height() / 2.0;
+        List<OcrWord> result = new ArrayList<>();
+        for (OcrWord word : query(anchor.maxX(), anchor.minY(), maxX, anchor.maxY())) {
+            if (word != anchor
+                    && word.centerX() > anchor.maxX()
+                    && Math.abs(word.centerY() - anchor.centerY()) <= halfHeight) {
+                result.add(word);
+            }
+        }
+        result.sort(Comparator.comparingInt(OcrWord::minX));
+        return result;
+    }
+
+    /**
+     * 기준 단어 바로 아래 단어 (위쪽부터) - 가로 범위가 겹치고 maxDistance 이내인 단어
+     */
+    public List<OcrWord> below(OcrWord anchor, int maxDistance) {
+        List<OcrWord> result = new ArrayList<>();
+        for (OcrWord word : query(anchor.minX(), anchor.maxY(), anchor.maxX(), anchor.maxY() + maxDistance)) {
+            if (word != anchor && word.centerY() > anchor.maxY()) {
+                result.add(word);
+            }
+        }
+        result.sort(Comparator.comparingInt(OcrWord::minY).thenComparingInt(OcrWord::minX));
+        return result;
+    }
+
+    private int columnOf(int x) {
+        return Math.min(columns - 1, Math.max(0, (x - originX) / cellSize));
+    }
+
+    private int rowOf(int y) {
+        return Math.min(rows - 1, Math.max(0, (y - originY) / cellSize));
+    }
+}
@@ -0,0 +1,78 @@
+package RECO.Internship.Assignment.infrastructure.file;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 디렉터리 배타 잠금
+ *
+ * 추가 기록 전용 파일을 두 프로세스가 함께 쓰면 기록이 뒤섞이므로, 디렉터리의 .lock 파일에 OS 파일 잠금을 건다.
+ * 같은 JVM 안의 중복 사용(스프링 컨텍스트 둘 등)은 OS 잠금으로 구분되지 않으므로 경로로 따로 막는다.
+ */
+public final class DirectoryLock implements AutoCloseable {
+
+    static final String LOCK_FILE = ".lock";
+
+    // 이 JVM에서 잠근 디렉터리
+    private static final Set<Path> HELD = ConcurrentHashMap.newKeySet();
+
+    private final Path dir;
+    private final FileChannel channel;
+    private final FileLock lock;
+
+    private DirectoryLock(Path dir, FileChannel channel, FileLock lock) {
+        this.dir = dir;
+        this.channel = channel;
+        this.lock = lock;
+    }
+
+    /**
+     * 디렉터리를 만들고 잠금
+     *
+     * @throws IllegalStateException 다른 프로세스나 이 JVM의 다른 인스턴스가 이미 사용 중인 경우
+     */
+    public static DirectoryLock acquire(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path key = dir.toRealPath();
+        if (!HELD.add(key)) {
+            throw new IllegalStateException("이미 사용 중인 디렉터리입니다: " + key);
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(key.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                throw new IllegalStateException("다른 프로세스가 사용 중인 디렉터리입니다: " + key);
+            }
+            return new DirectoryLock(key, channel, lock);
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            HELD.remove(key);
+            throw e;
+        }
+    }
+
+    /**
+     * 잠금 해제 (여러 번 호출해도 한 번만 해제)
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            lock.release();
+        } finally {
+            channel.close();
+            HELD.remove(dir);
+        }
+    }
+}
@@ -1,17 +1,28 @@
 package RECO.Internship.Assignment.infrastructure.file;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * OCR JSON 파일을 읽어서 텍스트를 추출하는 클래스
+ *
+ * JsonNode 트리를 만들지 않고 JsonParser 스트리밍으로 한 번만 훑으며,
+ * 필요한 필드 외의 하위 트리(words, lines 등 좌표 데이터)는 건너뛴다.
+ * 결과는 {@link OcrDocument}로 반환되어 파이프라인 전체에서 공유된다.
  */
 @Component
 public class OcrFileReader {
@@ -24,100 +35,145 @@ public class OcrFileReader {
     }
 
     /**
-     * OCR JSON 파일에서 텍스트 추출
-     * 
-     * @param filePath JSON 파일 경로
-     * @return 추출된 텍스트
+     * OCR JSON 파일을 문서 모델로 읽기
      */
-    public String extractText(Path filePath) throws IOException {
-        log.info("파일 읽기 시작 - {}", filePath.getFileName());
+    public OcrDocument readDocument(Path filePath) throws IOException {
+        return readDocument(filePath, false);
+    }
 
-        String jsonContent = Files.readString(filePath);
-        JsonNode rootNode = objectMapper.readTree(jsonContent);
+    /**
+     * OCR JSON 파일을 문서 모델로 읽기
+     *
+     * @param includeWords true면 pages[].words[]도 함께 수집
+     */
+    public OcrDocument readDocument(Path filePath, boolean includeWords) throws IOException {
+        log.info("파일 읽기 시작 - {}", filePath.getFileName());
 
-        // OCR JSON 구조: root.text 또는 root.pages[0].text
-        String text = extractTextFromJson(rootNode);
+        try (InputStream input = Files.newInputStream(filePath)) {
+            return readDocument(input, includeWords);
+        }
+    }
 
-        log.info("텍스트 추출 완료 - 길이: {} 글자", text.length());
-        return text;
+    /**
+     * MultipartFile을 문서 모델로 읽기
+     */
+    public OcrDocument readDocument(MultipartFile file) throws IOException {
+        return readDocument(file, false);
     }
 
     /**
-     * JSON 노드에서 텍스트 필드 추출
+     * MultipartFile을 문서 모델로 읽기
+     *
+     * @param includeWords true면 pages[].words[]도 함께 수집
      */
-    private String extractTextFromJson(JsonNode rootNode) {
-        // 먼저 root.text 확인 (존재하고 비어있지 않은 경우)
-        if (rootNode.has("text")) {
-            String text = rootNode.get("text").asText();
-            if (text != null && !text.trim().isEmpty()) {
-                return text;
-            }
+    public OcrDocument readDocument(MultipartFile file, boolean includeWords) throws IOException {
+        log.info("MultipartFile 읽기 - {}", file.getOriginalFilename());
+
+        try (InputStream input = file.getInputStream()) {
+            return readDocument(input, includeWords);
         }
+    }
 
-        // pages[0].text 확인 (존재하고 비어있지 않은 경우)
-        if (rootNode.has("pages") && rootNode.get("pages").isArray()) {
-            JsonNode pages = rootNode.get("pages");
-            if (pages.size() > 0 && pages.get(0).has("text")) {
-                String pageText = pages.get(0).get("text").asText();
-                if (pageText != null && !pageText.trim().isEmpty()) {
-                    return pageText;
-                }
-            }
+    /**
+     * 입력 스트림을 문서 모델로 읽기
+     *
+     * 스트림을 JsonParser에 바로 연결하여 고정 크기 버퍼로 조금씩 읽는다.
+     * 업로드 전체를 담는 byte[]나 String을 만들지 않으므로, 힙에는 추출한 텍스트와 단어만 남는다.
+     *
+     * @param includeWords true면 pages[].words[]도 함께 수집
+     */
+    public OcrDocument readDocument(InputStream input, boolean includeWords) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            return scan(parser, includeWords);
         }
+    }
 
-        log.warn("텍스트 필드를 찾을 수 없거나 비어있습니다");
-        return "";
+    /**
+     * JSON 문자열을 문서 모델로 읽기
+     */
+    public OcrDocument readDocument(String jsonContent) {
+        return readDocument(jsonContent, false);
     }
 
     /**
-     * OCR JSON 파일의 신뢰도 추출
+     * JSON 문자열을 문서 모델로 읽기
+     *
+     * @param includeWords true면 pages[].words[]도 함께 수집
      */
-    public double extractConfidence(Path filePath) throws IOException {
-        String jsonContent = Files.readString(filePath);
-        JsonNode rootNode = objectMapper.readTree(jsonContent);
+    public OcrDocument readDocument(String jsonContent, boolean includeWords) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(jsonContent)) {
+            return scan(parser, includeWords);
+        } catch (IOException e) {
+            log.error("JSON 파싱 실패: {}", e.getMessage());
+            throw new IllegalArgumentException("유효하지 않은 JSON 형식입니다", e);
+        }
+    }
 
-        if (rootNode.has("confidence")) {
-            return rootNode.get("confidence").asDouble();
+    /**
+     * OCR JSON 파일의 words[]만 다시 읽기 (텍스트만 먼저 읽은 문서를 레이아웃 추출로 전환할 때)
+     */
+    public List<OcrWord> readWords(Path filePath) throws IOException {
+        try (InputStream input = Files.newInputStream(filePath)) {
+            return readDocument(input, true).words();
         }
-        return 0.0;
     }
 
     /**
-     * MultipartFile에서 텍스트 추출
+     * MultipartFile의 words[]만 다시 읽기
      */
-    public String readFromMultipartFile(org.springframework.web.multipart.MultipartFile file) throws IOException {
-        log.info("MultipartFile 읽기 - {}", file.getOriginalFilename());
+    public List<OcrWord> readWords(MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return readDocument(input, true).words();
+        }
+    }
+
+    /**
+     * JSON 문자열의 words[]만 다시 읽기
+     */
+    public List<OcrWord> readWords(String jsonContent) {
+        return readDocument(jsonContent, true).words();
+    }
 
-        String jsonContent = new String(file.getBytes(), java.nio.charset.StandardCharsets.UTF_8);
-        JsonNode rootNode = objectMapper.readTree(jsonContent);
+    /**
+     * OCR JSON 파일에서 텍스트 추출
+     *
+     * @param filePath JSON 파일 경로
+     * @return 추출된 텍스트
+     */
+    public String extractText(Path filePath) throws IOException {
+        String text = readDocument(filePath).text();
 
-        return extractTextFromJson(rootNode);
+        log.info("텍스트 추출 완료 - 길이: {} 글자", text.length());
+        return text;
     }
 
     /**
-     * MultipartFile에서 신뢰도 추출
+     * OCR JSON 파일의 신뢰도 추출
      */
-    public Double extractConfidence(org.springframework.web.multipart.MultipartFile file) throws IOException {
-        String jsonContent = new String(file.getBytes(), java.nio.charset.StandardCharsets.UTF_8);
-        JsonNode rootNode = objectMapper.readTree(jsonContent);
+    public double extractConfidence(Path filePath) throws IOException {
+        Double confidence = readDocument(filePath).confidence();
+        return confidence != null ? confidence : 0.0;
+    }
 
-        if (rootNode.has("confidence")) {
-            return rootNode.get("confidence").asDouble();
-        }
-        return null;
+    /**
+     * MultipartFile에서 텍스트 추출
+     */
+    public String readFromMultipartFile(MultipartFile file) throws IOException {
+        return readDocument(file).text();
+    }
+
+    /**
+     * MultipartFile에서 신뢰도 추출
+     */
+    public Double extractConfidence(MultipartFile file) throws IOException {
+        return readDocument(file).confidence();
     }
 
     /**
      * JSON 문자열에서 텍스트 추출
      */
     public String readFromString(String jsonContent) {
-        try {
-            JsonNode rootNode = objectMapper.readTree(jsonContent);
-            return extractTextFromJson(rootNode);
-        } catch (IOException e) {
-            log.error("JSON 파싱 실패: {}", e.getMessage());
-            throw new IllegalArgumentException("유효하지 않은 JSON 형식입니다", e);
-        }
+        return readDocument(jsonContent).text();
     }
 
     /**
@@ -125,14 +181,178 @@ public class OcrFileReader {
      */
     public Double extractConfidenceFromString(String jsonContent) {
         try {
-            JsonNode rootNode = objectMapper.readTree(jsonContent);
-            if (rootNode.has("confidence")) {
-                return rootNode.get("confidence").asDouble();
-            }
-            return null;
-        } catch (IOException e) {
-            log.error("JSON 파싱 실패: {}", e.getMessage());
+            return readDocument(jsonContent).confidence();
+        } catch (IllegalArgumentException e) {
             return null;
         }
     }
+
+    /**
+     * 루트 객체를 한 번 순회하며 필요한 필드만 수집
+     */
+    private OcrDocument scan(JsonParser parser, boolean includeWords) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            log.warn("텍스트 필드를 찾을 수 없거나 비어있습니다");
+            return OcrDocument.of("", null);
+        }
+
+        String text = null;
+        Double confidence = null;
+        String modelVersion = null;
+        List<String> pageTexts = new ArrayList<>();
+        List<Double> pageConfidences = new ArrayList<>();
+        List<OcrWord> words = includeWords ? new ArrayList<>() : null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "text" -> text = readText(parser, token);
+                case "confidence" -> confidence = readDouble(parser, token);
+                case "modelVersion" -> modelVersion = readText(parser, token);
+                case "pages" -> readPages(parser, token, pageTexts, pageConfidences, words);
+                default -> parser.skipChildren();
+            }
+        }
+        return new OcrDocument(resolveText(text, pageTexts), pageTexts, confidence, modelVersion, words,
+                pageConfidences);
+    }
+
+    /**
+     * root.text → 텍스트가 있는 첫 페이지의 text 순으로 비어있지 않은 텍스트 선택
+     */
+    private String resolveText(String text, List<String> pageTexts) {
+        if (text != null && !text.trim().isEmpty()) {
+            return text;
+        }
+        for (String pageText : pageTexts) {
+            if (pageText != null && !pageText.trim().isEmpty()) {
+                return pageText;
+            }
+        }
+        log.warn("텍스트 필드를 찾을 수 없거나 비어있습니다");
+        return "";
+    }
+
+    /**
+     * pages 배열에서 각 페이지의 text, confidence (및 요청 시 words)만 수집
+     */
+    private void readPages(JsonParser parser, JsonToken token, List<String> pageTexts,
+            List<Double> pageConfidences, List<OcrWord> words) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        int page = 0;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                pageTexts.add(null);
+                pageConfidences.add(null);
+                page++;
+                continue;
+            }
+            String pageText = null;
+            Double pageConfidence = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("text".equals(fieldName)) {
+                    pageText = readText(parser, valueToken);
+                } else if ("confidence".equals(fieldName)) {
+                    pageConfidence = readDouble(parser, valueToken);
+                } else if ("words".equals(fieldName) && words != null && valueToken == JsonToken.START_ARRAY) {
+                    readWords(parser, page, words);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            pageTexts.add(pageText);
+            pageConfidences.add(pageConfidence);
+            page++;
+        }
+    }
+
+    /**
+     * words 배열 수집 - boundingBox.vertices는 min/max 좌표로 축약
+     */
+    private void readWords(JsonParser parser, int page, List<OcrWord> words) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            int id = words.size();
+            String text = "";
+            double confidence = 0.0;
+            int[] box = { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE };
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case "id" -> id = valueToken.isNumeric() ? parser.getIntValue() : id;
+                    case "text" -> text = readText(parser, valueToken);
+                    case "confidence" -> confidence = readDouble(parser, valueToken);
+                    case "boundingBox" -> readBoundingBox(parser, valueToken, box);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (box[0] == Integer.MAX_VALUE) {
+                box = new int[] { 0, 0, 0, 0 };
+            }
+            words.add(new OcrWord(page, id, text, confidence, box[0], box[1], box[2], box[3]));
+        }
+    }
+
+    private void readBoundingBox(JsonParser parser, JsonToken token, int[] box) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JsonToken valueToken = parser.nextToken();
+            if (!"vertices".equals(parser.currentName()) || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while ((valueToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (valueToken != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String axis = parser.currentName();
+                    parser.nextToken();
+                    int value = parser.getValueAsInt(0);
+                    if ("x".equals(axis)) {
+                        box[0] = Math.min(box[0], value);
+                        box[2] = Math.max(box[2], value);
+                    } else if ("y".equals(axis)) {
+                        box[1] = Math.min(box[1], value);
+                        box[3] = Math.max(box[3], value);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isScalarValue()) {
+            return parser.getValueAsString("");
+        }
+        parser.skipChildren();
+        return "";
+    }
+
+    private Double readDouble(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isScalarValue()) {
+            return parser.getValueAsDouble(0.0);
+        }
+        parser.skipChildren();
+        return 0.0;
+    }
 }
@@ -1,11 +1,27 @@
 package RECO.Internship.Assignment;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
 
 @SpringBootTest
 class AssignmentApplicationTests {
 
+	// 결과 저장소와 작업 디렉터리는 실행할 때마다 비어 있는 임시 경로 사용
+	@TempDir
+	static Path dataDir;
+
+	@DynamicPropertySource
+	static void dataDirectories(DynamicPropertyRegistry registry) {
+		registry.add("ocr.store.enabled", () -> "true");
+		registry.add("ocr.store.dir", () -> dataDir.resolve("results").toString());
+		registry.add("ocr.jobs.dir", () -> dataDir.resolve("jobs").toString());
+	}
+
 	@Test
 	void contextLoads() {
 	}
@@ -0,0 +1,131 @@
+package RECO.Internship.Assignment;
+
+import RECO.Internship.Assignment.application.ExtractionMode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OcrBatchCli 테스트")
+class OcrBatchCliTest {
+
+    private static final String VALID_JSON =
+            "{\"text\": \"계량증명서 날짜: 2026-02-02 차량번호: 80구8713\", \"confidence\": 0.93}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final OcrBatchCli cli = new OcrBatchCli(
+            OcrBatchCli.createParseService(objectMapper, ExtractionMode.TEXT), objectMapper, 2);
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("run 메서드")
+    class Run {
+
+        @Test
+        @DisplayName("디렉토리의 *.json 파일을 파싱하여 NDJSON으로 출력한다")
+        void directoryToNdjson() throws IOException {
+            // given
+            Files.writeString(tempDir.resolve("a.json"), VALID_JSON);
+            Files.writeString(tempDir.resolve("b.json"), "{invalid json}");
+            Files.writeString(tempDir.resolve("notes.txt"), "무시되는 파일");
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            // when
+            OcrBatchCli.Summary summary = cli.run(tempDir, output, OcrBatchCli.Format.NDJSON);
+
+            // then
+            assertThat(summary.total()).isEqualTo(2);
+            assertThat(summary.succeeded()).isEqualTo(1);
+
+            List<JsonNode> lines = readNdjson(output);
+            assertThat(lines).hasSize(2);
+            JsonNode a = lines.stream().filter(n -> n.get("filename").asText().equals("a.json")).findFirst().orElseThrow();
+            JsonNode b = lines.stream().filter(n -> n.get("filename").asText().equals("b.json")).findFirst().orElseThrow();
+            assertThat(a.get("success").asBoolean()).isTrue();
+            assertThat(a.get("result").get("documentType").asText()).isEqualTo("계량증명서");
+            assertThat(b.get("success").asBoolean()).isFalse();
+            assertThat(b.get("error").asText()).isEqualTo("유효하지 않은 JSON 형식입니다");
+        }
+
+        @Test
+        @DisplayName("NDJSON 파일을 줄 단위로 파싱하여 CSV로 출력하고 빈 줄은 건너뛴다")
+        void ndjsonToCsv() throws IOException {
+            // given
+            Path input = tempDir.resolve("archive.ndjson");
+            Files.writeString(input, VALID_JSON + "\n\n" + VALID_JSON + "\n");
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            // when
+            OcrBatchCli.Summary summary = cli.run(input, output, OcrBatchCli.Format.CSV);
+
+            // then
+            assertThat(summary.total()).isEqualTo(2);
+            assertThat(summary.succeeded()).isEqualTo(2);
+
+            String[] rows = output.toString(StandardCharsets.UTF_8).split("\r\n");
+            assertThat(rows).hasSize(3);
+            assertThat(rows[0]).startsWith("filename,success,documentType,date");
+            assertThat(Arrays.stream(rows).skip(1).map(row -> row.split(",")[0]))
+                    .containsExactlyInAnyOrder("line-1", "line-3");
+            assertThat(rows[1]).contains(",true,계량증명서,2026-02-02,");
+        }
+
+        @Test
+        @DisplayName("입력 경로가 없으면 IOException이 발생한다")
+        void missingInput() {
+            assertThatThrownBy(() -> cli.run(tempDir.resolve("missing.ndjson"),
+                    new ByteArrayOutputStream(), OcrBatchCli.Format.NDJSON))
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("명령행 옵션")
+    class OptionsParsing {
+
+        @Test
+        @DisplayName("출력 형식을 지정하지 않으면 출력 파일 확장자로 결정한다")
+        void formatFromOutputExtension() {
+            OcrBatchCli.Options options = OcrBatchCli.Options.parse(
+                    new String[] { "--input", "in.ndjson", "--output", "out.CSV", "--threads", "3" });
+
+            assertThat(options.format()).isEqualTo(OcrBatchCli.Format.CSV);
+            assertThat(options.threads()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("--input이 없거나 스레드 수가 잘못되면 예외가 발생한다")
+        void invalidOptions() {
+            assertThatThrownBy(() -> OcrBatchCli.Options.parse(new String[] { "--output", "out.csv" }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("--input");
+            assertThatThrownBy(() -> OcrBatchCli.Options.parse(new String[] { "--input", "in", "--threads", "0" }))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private List<JsonNode> readNdjson(ByteArrayOutputStream output) throws IOException {
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode[] nodes = new JsonNode[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            nodes[i] = objectMapper.readTree(lines[i]);
+        }
+        return List.of(nodes);
+    }
+}
@@ -0,0 +1,107 @@
+package RECO.Internship.Assignment.api.controller;
+
+import RECO.Internship.Assignment.api.dto.ResultSummaryResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse.TonnageGroup;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse.WeightSummary;
+import RECO.Internship.Assignment.application.aggregate.TonnageAggregates;
+import RECO.Internship.Assignment.application.column.ColumnarResultStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OcrAggregateController.class)
+@DisplayName("OcrAggregateController 테스트")
+class OcrAggregateControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockitoBean
+        private TonnageAggregates tonnageAggregates;
+
+        @MockitoBean
+        private ColumnarResultStore columnarResultStore;
+
+        @Test
+        @DisplayName("기간을 지정하면 일자별 중량 집계를 반환한다")
+        void tonnage_byDay() throws Exception {
+                // given
+                LocalDate day = LocalDate.of(2026, 2, 2);
+                given(tonnageAggregates.query(eq(day), eq(day), isNull(), isNull(), eq("day")))
+                                .willReturn(TonnageAggregateResponse.builder()
+                                                .from(day)
+                                                .to(day)
+                                                .groupBy("day")
+                                                .groups(List.of(TonnageGroup.builder()
+                                                                .customer("곰욕환경폐기물")
+                                                                .productName("국판")
+                                                                .date(day)
+                                                                .tickets(2)
+                                                                .netWeight(WeightSummary.builder()
+                                                                                .count(2).sum(10020).min(5010).max(5010)
+                                                                                .build())
+                                                                .build()))
+                                                .build());
+
+                // when & then
+                mockMvc.perform(get("/api/ocr/aggregates/tonnage")
+                                .param("from", "2026-02-02")
+                                .param("to", "2026-02-02"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.groupBy").value("day"))
+                                .andExpect(jsonPath("$.groups[0].customer").value("곰욕환경폐기물"))
+                                .andExpect(jsonPath("$.groups[0].date").value("2026-02-02"))
+                                .andExpect(jsonPath("$.groups[0].netWeight.sum").value(10020))
+                                .andExpect(jsonPath("$.groups[0].netWeight.max").value(5010));
+        }
+
+        @Test
+        @DisplayName("groupBy가 올바르지 않으면 400을 반환한다")
+        void tonnage_invalidGroupBy() throws Exception {
+                // given
+                given(tonnageAggregates.query(any(), any(), any(), any(), eq("week")))
+                                .willThrow(new IllegalArgumentException("groupBy는 day 또는 period여야 합니다: week"));
+
+                // when & then
+                mockMvc.perform(get("/api/ocr/aggregates/tonnage").param("groupBy", "week"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("groupBy는 day 또는 period여야 합니다: week"));
+        }
+
+        @Test
+        @DisplayName("검증 상태로 요약을 조회하면 열 저장소 스캔 결과를 반환한다")
+        void summary_byStatus() throws Exception {
+                // given
+                given(columnarResultStore.summarize(isNull(), isNull(), isNull(), isNull(), eq("INVALID")))
+                                .willReturn(ResultSummaryResponse.builder()
+                                                .tickets(3)
+                                                .netWeight(WeightSummary.builder()
+                                                                .count(3).sum(15030).min(5000).max(5020)
+                                                                .build())
+                                                .statuses(Map.of("INVALID", 3L))
+                                                .scannedRows(100)
+                                                .build());
+
+                // when & then
+                mockMvc.perform(get("/api/ocr/aggregates/summary").param("status", "INVALID"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.tickets").value(3))
+                                .andExpect(jsonPath("$.netWeight.sum").value(15030))
+                                .andExpect(jsonPath("$.statuses.INVALID").value(3));
+        }
+}
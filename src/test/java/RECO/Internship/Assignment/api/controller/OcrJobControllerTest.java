@@ -0,0 +1,152 @@
+package RECO.Internship.Assignment.api.controller;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParseJobResponse;
+import RECO.Internship.Assignment.api.dto.ParseJobResultsResponse;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.job.ParseJobNotFinishedException;
+import RECO.Internship.Assignment.application.job.ParseJobNotFoundException;
+import RECO.Internship.Assignment.application.job.ParseJobRejectedException;
+import RECO.Internship.Assignment.application.job.ParseJobService;
+import RECO.Internship.Assignment.application.job.ParseJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OcrJobController.class)
+@DisplayName("OcrJobController 테스트")
+class OcrJobControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockitoBean
+        private ParseJobService parseJobService;
+
+        private final MockMultipartFile file = new MockMultipartFile(
+                        "files", "a.json", MediaType.APPLICATION_JSON_VALUE, "{}".getBytes());
+
+        @Nested
+        @DisplayName("POST /api/ocr/jobs")
+        class SubmitJob {
+
+                @Test
+                @DisplayName("작업 제출 시 202와 작업 ID, 상태 조회 경로를 반환한다")
+                void submitJob_accepted() throws Exception {
+                        // given
+                        given(parseJobService.submit(any())).willReturn(ParseJobResponse.builder()
+                                        .jobId("job-1")
+                                        .status("QUEUED")
+                                        .total(1)
+                                        .build());
+
+                        // when & then
+                        mockMvc.perform(multipart("/api/ocr/jobs").file(file))
+                                        .andExpect(status().isAccepted())
+                                        .andExpect(header().string("Location", "/api/ocr/jobs/job-1"))
+                                        .andExpect(jsonPath("$.jobId").value("job-1"))
+                                        .andExpect(jsonPath("$.status").value("QUEUED"));
+                }
+
+                @Test
+                @DisplayName("작업 큐가 가득 차면 503을 반환한다")
+                void submitJob_queueFull() throws Exception {
+                        // given
+                        given(parseJobService.submit(any()))
+                                        .willThrow(new ParseJobRejectedException("처리 대기 중인 작업이 많습니다."));
+
+                        // when & then
+                        mockMvc.perform(multipart("/api/ocr/jobs").file(file))
+                                        .andExpect(status().isServiceUnavailable())
+                                        .andExpect(jsonPath("$.status").value(503));
+                }
+        }
+
+        @Nested
+        @DisplayName("GET /api/ocr/jobs/{jobId}")
+        class GetJob {
+
+                @Test
+                @DisplayName("진행 상황을 반환한다")
+                void getJob_progress() throws Exception {
+                        // given
+                        given(parseJobService.status("job-1")).willReturn(ParseJobResponse.builder()
+                                        .jobId("job-1")
+                                        .status("RUNNING")
+                                        .total(10)
+                                        .completed(4)
+                                        .build());
+
+                        // when & then
+                        mockMvc.perform(get("/api/ocr/jobs/job-1"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.status").value("RUNNING"))
+                                        .andExpect(jsonPath("$.completed").value(4));
+                }
+
+                @Test
+                @DisplayName("없는 작업이면 404를 반환한다")
+                void getJob_notFound() throws Exception {
+                        // given
+                        given(parseJobService.status("missing")).willThrow(new ParseJobNotFoundException("missing"));
+
+                        // when & then
+                        mockMvc.perform(get("/api/ocr/jobs/missing"))
+                                        .andExpect(status().isNotFound());
+                }
+        }
+
+        @Nested
+        @DisplayName("GET /api/ocr/jobs/{jobId}/results")
+        class GetResults {
+
+                @Test
+                @DisplayName("부분 결과는 offset 이후의 결과와 다음 offset을 반환한다")
+                void getPartialResults() throws Exception {
+                        // given
+                        BatchParseResult result = BatchParseResult.success("a.json",
+                                        ParsedResultResponse.builder().documentType("계량증명서").build());
+                        result.setIndex(0);
+                        given(parseJobService.partialResults("job-1", 3)).willReturn(ParseJobResultsResponse.builder()
+                                        .jobId("job-1")
+                                        .status("RUNNING")
+                                        .total(10)
+                                        .completed(4)
+                                        .nextOffset(4)
+                                        .results(List.of(result))
+                                        .build());
+
+                        // when & then
+                        mockMvc.perform(get("/api/ocr/jobs/job-1/results/partial").param("offset", "3"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.nextOffset").value(4))
+                                        .andExpect(jsonPath("$.results[0].index").value(0))
+                                        .andExpect(jsonPath("$.results[0].filename").value("a.json"));
+                }
+
+                @Test
+                @DisplayName("끝나지 않은 작업의 최종 결과 요청은 409를 반환한다")
+                void getResults_notFinished() throws Exception {
+                        // given
+                        given(parseJobService.results("job-1"))
+                                        .willThrow(new ParseJobNotFinishedException("job-1", ParseJobStatus.RUNNING));
+
+                        // when & then
+                        mockMvc.perform(get("/api/ocr/jobs/job-1/results"))
+                                        .andExpect(status().isConflict());
+                }
+        }
+}
@@ -1,7 +1,14 @@
 package RECO.Internship.Assignment.api.controller;
 
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
 import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.OcrBatchService;
+import RECO.Internship.Assignment.application.OcrNdjsonService;
 import RECO.Internship.Assignment.application.OcrParseService;
+import RECO.Internship.Assignment.application.admission.AdmissionControl;
+import RECO.Internship.Assignment.application.admission.AdmissionRejectedException;
+import RECO.Internship.Assignment.application.admission.ConcurrencyLimiter;
+import RECO.Internship.Assignment.application.admission.TrafficClass;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,9 +18,20 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -27,6 +45,15 @@ class OcrParseControllerTest {
         @MockitoBean
         private OcrParseService ocrParseService;
 
+        @MockitoBean
+        private OcrBatchService ocrBatchService;
+
+        @MockitoBean
+        private OcrNdjsonService ocrNdjsonService;
+
+        @MockitoBean
+        private AdmissionControl admissionControl;
+
         @Nested
         @DisplayName("POST /api/ocr/parse")
         class ParseOcrFile {
@@ -110,6 +137,49 @@ class OcrParseControllerTest {
                 }
         }
 
+        @Nested
+        @DisplayName("POST /api/ocr/parse/pages")
+        class ParseOcrFilePages {
+
+                @Test
+                @DisplayName("페이지별 파싱 결과 목록을 반환한다")
+                void parseOcrFilePages_success() throws Exception {
+                        // given
+                        MockMultipartFile file = new MockMultipartFile(
+                                        "file",
+                                        "stack.json",
+                                        MediaType.APPLICATION_JSON_VALUE,
+                                        "{\"pages\": [{\"text\": \"a\"}, {\"text\": \"b\"}]}".getBytes());
+
+                        given(ocrParseService.parsePagesFromFile(any())).willReturn(List.of(
+                                        ParsedResultResponse.builder().page(0).vehicleNumber("80구8713").build(),
+                                        ParsedResultResponse.builder().page(1).vehicleNumber("5405").build()));
+
+                        // when & then
+                        mockMvc.perform(multipart("/api/ocr/parse/pages")
+                                        .file(file))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.length()").value(2))
+                                        .andExpect(jsonPath("$[0].page").value(0))
+                                        .andExpect(jsonPath("$[1].page").value(1))
+                                        .andExpect(jsonPath("$[1].vehicleNumber").value("5405"));
+                }
+
+                @Test
+                @DisplayName("빈 파일 업로드 시 400 에러를 반환한다")
+                void parseOcrFilePages_emptyFile_returnsBadRequest() throws Exception {
+                        MockMultipartFile emptyFile = new MockMultipartFile(
+                                        "file",
+                                        "empty.json",
+                                        MediaType.APPLICATION_JSON_VALUE,
+                                        new byte[0]);
+
+                        mockMvc.perform(multipart("/api/ocr/parse/pages")
+                                        .file(emptyFile))
+                                        .andExpect(status().isBadRequest());
+                }
+        }
+
         @Nested
         @DisplayName("POST /api/ocr/parse/json")
         class ParseOcrJson {
@@ -142,6 +212,139 @@ class OcrParseControllerTest {
                 }
         }
 
+        @Nested
+        @DisplayName("POST /api/ocr/parse/batch")
+        class ParseOcrFiles {
+
+                @Test
+                @DisplayName("병렬 모드 요청 시 입력 순서대로 파일별 결과를 반환한다")
+                void parseOcrFiles_parallel() throws Exception {
+                        // given
+                        MockMultipartFile first = new MockMultipartFile(
+                                        "files", "a.json", MediaType.APPLICATION_JSON_VALUE, "{}".getBytes());
+                        MockMultipartFile second = new MockMultipartFile(
+                                        "files", "b.json", MediaType.APPLICATION_JSON_VALUE, new byte[0]);
+
+                        given(ocrBatchService.parseAll(any(), eq(true), eq(2)))
+                                        .willReturn(List.of(
+                                                        BatchParseResult.success("a.json",
+                                                                        ParsedResultResponse.builder()
+                                                                                        .documentType("계량증명서")
+                                                                                        .build()),
+                                                        BatchParseResult.error("b.json", "파일이 비어있습니다")));
+
+                        // when & then
+                        mockMvc.perform(multipart("/api/ocr/parse/batch")
+                                        .file(first)
+                                        .file(second)
+                                        .param("parallel", "true")
+                                        .param("concurrency", "2"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$[0].filename").value("a.json"))
+                                        .andExpect(jsonPath("$[0].success").value(true))
+                                        .andExpect(jsonPath("$[1].filename").value("b.json"))
+                                        .andExpect(jsonPath("$[1].success").value(false));
+                }
+        }
+
+        @Nested
+        @DisplayName("진입 제어")
+        class Admission {
+
+                @Test
+                @DisplayName("동시 처리 한도를 넘으면 429와 Retry-After를 반환하고 파싱하지 않는다")
+                void parseOcrJson_rejected() throws Exception {
+                        // given
+                        given(admissionControl.acquire(TrafficClass.INTERACTIVE))
+                                        .willThrow(new AdmissionRejectedException(TrafficClass.INTERACTIVE, 1));
+
+                        // when & then
+                        mockMvc.perform(post("/api/ocr/parse/json")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content("{\"text\": \"계량증명서\"}"))
+                                        .andExpect(status().isTooManyRequests())
+                                        .andExpect(header().string("Retry-After", "1"))
+                                        .andExpect(jsonPath("$.status").value(429));
+
+                        then(ocrParseService).should(never()).parseFromJson(any());
+                }
+
+                @Test
+                @DisplayName("일괄 요청은 BULK 한도로 허가를 받는다")
+                void parseOcrFiles_usesBulkLimit() throws Exception {
+                        // given
+                        given(admissionControl.acquire(TrafficClass.BULK))
+                                        .willThrow(new AdmissionRejectedException(TrafficClass.BULK, 3));
+                        MockMultipartFile file = new MockMultipartFile(
+                                        "files", "a.json", MediaType.APPLICATION_JSON_VALUE, "{}".getBytes());
+
+                        // when & then
+                        mockMvc.perform(multipart("/api/ocr/parse/batch").file(file))
+                                        .andExpect(status().isTooManyRequests())
+                                        .andExpect(header().string("Retry-After", "3"));
+                }
+        }
+
+        @Nested
+        @DisplayName("POST /api/ocr/parse/ndjson")
+        class ParseOcrNdjson {
+
+                @Test
+                @DisplayName("NDJSON 본문을 스트리밍 응답으로 처리한다")
+                void parseOcrNdjson_streamsResults() throws Exception {
+                        // given
+                        given(ocrNdjsonService.process(any(), any())).willAnswer(invocation -> {
+                                OutputStream output = invocation.getArgument(1);
+                                output.write("{\"vehicleNumber\":\"8713\"}\n"
+                                                .getBytes(StandardCharsets.UTF_8));
+                                return 1;
+                        });
+
+                        // when
+                        MvcResult mvcResult = mockMvc.perform(post("/api/ocr/parse/ndjson")
+                                        .contentType(MediaType.APPLICATION_NDJSON)
+                                        .content("{\"text\": \"계량증명서\"}\n"))
+                                        .andExpect(request().asyncStarted())
+                                        .andReturn();
+
+                        // then
+                        mockMvc.perform(asyncDispatch(mvcResult))
+                                        .andExpect(status().isOk())
+                                        .andExpect(content().string("{\"vehicleNumber\":\"8713\"}\n"));
+                }
+
+                @Test
+                @DisplayName("응답 본문이 끝나기 전에 비동기 요청이 끝나도 허가를 반환한다")
+                void parseOcrNdjson_releasesPermitOnCompletion() throws Exception {
+                        // given: 허가 하나, 본문은 끝나지 않고 멈춰 있다
+                        ConcurrencyLimiter limiter = new ConcurrencyLimiter(false, 1, 1, 0,
+                                        Duration.ZERO, Duration.ofSeconds(30));
+                        given(admissionControl.acquire(TrafficClass.BULK)).willReturn(limiter.tryAcquire());
+                        CountDownLatch stuck = new CountDownLatch(1);
+                        given(ocrNdjsonService.process(any(), any())).willAnswer(invocation -> {
+                                stuck.await();
+                                return 0;
+                        });
+
+                        try {
+                                MvcResult mvcResult = mockMvc.perform(post("/api/ocr/parse/ndjson")
+                                                .contentType(MediaType.APPLICATION_NDJSON)
+                                                .content("{\"text\": \"계량증명서\"}\n"))
+                                                .andExpect(request().asyncStarted())
+                                                .andReturn();
+                                assertThat(limiter.inFlight()).isEqualTo(1);
+
+                                // when: 시간 초과나 연결 종료로 컨테이너가 비동기 요청을 끝낸다
+                                mvcResult.getRequest().getAsyncContext().complete();
+
+                                // then
+                                assertThat(limiter.inFlight()).isZero();
+                        } finally {
+                                stuck.countDown();
+                        }
+                }
+        }
+
         @Nested
         @DisplayName("GET /api/ocr/health")
         class HealthCheck {
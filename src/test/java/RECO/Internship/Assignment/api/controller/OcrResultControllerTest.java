@@ -0,0 +1,83 @@
+package RECO.Internship.Assignment.api.controller;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.api.dto.ResultQueryResponse;
+import RECO.Internship.Assignment.api.dto.StoredResultResponse;
+import RECO.Internship.Assignment.application.index.ResultQuery;
+import RECO.Internship.Assignment.application.index.ResultQueryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OcrResultController.class)
+@DisplayName("OcrResultController 테스트")
+class OcrResultControllerTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockitoBean
+        private ResultQueryService resultQueryService;
+
+        @Test
+        @DisplayName("차량번호와 기간으로 조회하면 저장된 결과를 반환한다")
+        void search_byVehicleAndDateRange() throws Exception {
+                // given
+                ResultQuery query = new ResultQuery("8713", LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 7),
+                                null, null, null, null);
+                given(resultQueryService.query(eq(query), eq(0), eq(100))).willReturn(ResultQueryResponse.builder()
+                                .total(1)
+                                .offset(0)
+                                .limit(100)
+                                .results(List.of(StoredResultResponse.builder()
+                                                .sequence(42)
+                                                .storedAt(Instant.parse("2026-02-02T05:38:00Z"))
+                                                .result(ParsedResultResponse.builder().vehicleNumber("80구8713").build())
+                                                .build()))
+                                .build());
+
+                // when & then
+                mockMvc.perform(get("/api/ocr/results")
+                                .param("vehicle", "8713")
+                                .param("from", "2026-02-01")
+                                .param("to", "2026-02-07"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total").value(1))
+                                .andExpect(jsonPath("$.results[0].sequence").value(42))
+                                .andExpect(jsonPath("$.results[0].result.vehicleNumber").value("80구8713"));
+        }
+
+        @Test
+        @DisplayName("조건이 없으면 400을 반환한다")
+        void search_withoutCriteria() throws Exception {
+                // given
+                given(resultQueryService.query(any(ResultQuery.class), anyInt(), anyInt()))
+                                .willThrow(new IllegalArgumentException("조회 조건을 하나 이상 지정해야 합니다"));
+
+                // when & then
+                mockMvc.perform(get("/api/ocr/results"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("조회 조건을 하나 이상 지정해야 합니다"));
+        }
+
+        @Test
+        @DisplayName("날짜 형식이 잘못되면 400을 반환한다")
+        void search_invalidDate() throws Exception {
+                mockMvc.perform(get("/api/ocr/results").param("from", "2026/02/01"))
+                                .andExpect(status().isBadRequest());
+        }
+}
@@ -0,0 +1,168 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.domain.model.LazyWordList;
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.domain.parser.LayoutFieldExtractor;
+import RECO.Internship.Assignment.domain.validator.WeightValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FieldExtractionService 테스트")
+class FieldExtractionServiceTest {
+
+    private static final String[][] CLEAN_ROWS = {
+            { "계량일자:", "2026-02-02" },
+            { "차량번호:", "80구8713" },
+            { "총중량:", "12,480", "kg" },
+            { "공차중량:", "7,470", "kg" },
+            { "실중량:", "5,010", "kg" } };
+
+    // 천 단위 구분자가 공백으로 인식된 스캔 - 텍스트 정규식은 13/7/5로 읽는다
+    private static final String[][] SPLIT_ROWS = {
+            { "계량일자:", "2026-02-02" },
+            { "차량번호:", "80구8713" },
+            { "총중량:", "13", "460", "kg" },
+            { "공차중량:", "7", "560", "kg" },
+            { "실중량:", "5", "900", "kg" } };
+
+    private final FieldExtractor fieldExtractor = new FieldExtractor();
+
+    private FieldExtractionService service(ExtractionMode mode) {
+        return new FieldExtractionService(fieldExtractor, new LayoutFieldExtractor(fieldExtractor),
+                new WeightValidator(), mode, 0.9);
+    }
+
+    /**
+     * 행마다 단어를 왼쪽부터 배치한 문서
+     */
+    private static OcrDocument document(String[][] rows, Double confidence, boolean withWords) {
+        StringBuilder text = new StringBuilder();
+        List<OcrWord> words = new ArrayList<>();
+        for (int row = 0; row < rows.length; row++) {
+            int y = 100 + row * 80;
+            int x = 50;
+            for (String token : rows[row]) {
+                words.add(new OcrWord(0, words.size(), token, 0.95, x, y, x + 40 * token.length(), y + 50));
+                x += 40 * token.length() + 60;
+            }
+            text.append(String.join(" ", rows[row])).append(" \n");
+        }
+        return new OcrDocument(text.toString(), List.of(text.toString()), confidence, null,
+                withWords ? words : List.of());
+    }
+
+    @Test
+    @DisplayName("TEXT 방식은 words[] 없이 텍스트 정규식으로 추출한다")
+    void textMode() {
+        FieldExtractionService service = service(ExtractionMode.TEXT);
+
+        FieldExtraction extraction = service.extract(document(CLEAN_ROWS, 0.5, true));
+
+        assertThat(service.requiresWords()).isFalse();
+        assertThat(service.defersWords()).isFalse();
+        assertThat(extraction.tier()).isEqualTo(ExtractionTier.TEXT);
+        assertThat(extraction.fields().totalWeight()).isEqualTo(12480);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 추출 방식 이름이면 예외가 발생한다")
+    void unknownMode() {
+        assertThat(ExtractionMode.from(" tiered ")).isEqualTo(ExtractionMode.TIERED);
+        assertThatThrownBy(() -> ExtractionMode.from("fuzzy"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("TIERED 방식")
+    class Tiered {
+
+        private final FieldExtractionService service = service(ExtractionMode.TIERED);
+
+        @Test
+        @DisplayName("신뢰도가 높고 필수 필드와 중량 계산이 맞으면 빠른 경로 결과를 사용한다")
+        void fastPath() {
+            FieldExtraction extraction = service.extract(document(CLEAN_ROWS, 0.95, true));
+
+            assertThat(service.requiresWords()).isFalse();
+            assertThat(service.defersWords()).isTrue();
+            assertThat(extraction.tier()).isEqualTo(ExtractionTier.TEXT);
+            assertThat(extraction.fields().totalWeight()).isEqualTo(12480);
+            assertThat(extraction.fields().netWeight()).isEqualTo(5010);
+        }
+
+        @Test
+        @DisplayName("신뢰도가 기준보다 낮으면 레이아웃 경로로 추출한다")
+        void lowConfidence() {
+            FieldExtraction extraction = service.extract(document(CLEAN_ROWS, 0.85, true));
+
+            assertThat(extraction.tier()).isEqualTo(ExtractionTier.LAYOUT);
+            assertThat(extraction.fields().emptyWeight()).isEqualTo(7470);
+        }
+
+        @Test
+        @DisplayName("신뢰도가 높아도 중량 숫자가 분리되어 있으면 레이아웃 경로로 다시 추출한다")
+        void splitWeights() {
+            OcrDocument document = document(SPLIT_ROWS, 0.95, true);
+
+            FieldExtraction extraction = service.extract(document);
+
+            assertThat(fieldExtractor.extractAll(document.text()).totalWeight()).isEqualTo(13);
+            assertThat(extraction.tier()).isEqualTo(ExtractionTier.LAYOUT);
+            assertThat(extraction.fields().totalWeight()).isEqualTo(13460);
+            assertThat(extraction.fields().emptyWeight()).isEqualTo(7560);
+            assertThat(extraction.fields().netWeight()).isEqualTo(5900);
+        }
+
+        @Test
+        @DisplayName("words[]는 빠른 경로로 끝나면 읽지 않고, 레이아웃 경로로 전환할 때 처음 읽는다")
+        void lazyWords() {
+            OcrDocument clean = document(CLEAN_ROWS, 0.95, true);
+            OcrDocument split = document(SPLIT_ROWS, 0.95, true);
+            LazyWordList cleanWords = new LazyWordList(clean::words);
+            LazyWordList splitWords = new LazyWordList(split::words);
+
+            FieldExtraction fast = service.extract(clean.withWords(cleanWords));
+            FieldExtraction escalated = service.extract(split.withWords(splitWords));
+
+            assertThat(fast.tier()).isEqualTo(ExtractionTier.TEXT);
+            assertThat(cleanWords.isLoaded()).isFalse();
+            assertThat(escalated.tier()).isEqualTo(ExtractionTier.LAYOUT);
+            assertThat(escalated.fields().totalWeight()).isEqualTo(13460);
+            assertThat(splitWords.isLoaded()).isTrue();
+        }
+
+        @Test
+        @DisplayName("레이아웃 경로로 전환할 때 words[]를 다시 읽지 못하면 텍스트 경로 결과를 사용한다")
+        void lazyWordsUnreadable() {
+            OcrDocument split = document(SPLIT_ROWS, 0.95, true);
+            LazyWordList unreadable = new LazyWordList(() -> {
+                throw new IOException("원본 파일이 삭제되었습니다");
+            });
+
+            FieldExtraction extraction = service.extract(split.withWords(unreadable));
+
+            assertThat(extraction.tier()).isEqualTo(ExtractionTier.TEXT);
+            assertThat(extraction.fields().totalWeight()).isEqualTo(13);
+            assertThat(extraction.fields().date()).isEqualTo("2026-02-02");
+        }
+
+        @Test
+        @DisplayName("단어 정보가 없으면 신뢰도와 무관하게 텍스트 경로로 처리한다")
+        void withoutWords() {
+            FieldExtraction extraction = service.extract(document(SPLIT_ROWS, null, false));
+
+            assertThat(extraction.tier()).isEqualTo(ExtractionTier.TEXT);
+            assertThat(extraction.fields().totalWeight()).isEqualTo(13);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OcrBatchService 테스트")
+class OcrBatchServiceTest {
+
+    @Mock
+    private OcrParseService ocrParseService;
+
+    private OcrBatchService ocrBatchService;
+
+    @BeforeEach
+    void setUp() {
+        ocrBatchService = new OcrBatchService(ocrParseService, 4, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ocrBatchService.shutdown();
+    }
+
+    private MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("files", name, MediaType.APPLICATION_JSON_VALUE, content.getBytes());
+    }
+
+    @Test
+    @DisplayName("병렬 모드에서도 입력 순서대로 결과를 반환하고 파일별 오류를 격리한다")
+    void parseAll_parallel_keepsOrderAndIsolatesErrors() throws IOException {
+        // given
+        given(ocrParseService.parseFromFile(any(MultipartFile.class))).willAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            if ("broken.json".equals(file.getOriginalFilename())) {
+                throw new IOException("읽기 실패");
+            }
+            return ParsedResultResponse.builder().documentType(file.getOriginalFilename()).build();
+        });
+
+        MultipartFile[] files = {
+                file("a.json", "{}"),
+                file("broken.json", "{}"),
+                file("empty.json", ""),
+                file("d.json", "{}")
+        };
+
+        // when
+        List<BatchParseResult> results = ocrBatchService.parseAll(files, true, null);
+
+        // then
+        assertThat(results).extracting(BatchParseResult::getFilename)
+                .containsExactly("a.json", "broken.json", "empty.json", "d.json");
+        assertThat(results).extracting(BatchParseResult::isSuccess)
+                .containsExactly(true, false, false, true);
+        assertThat(results.get(0).getResult().getDocumentType()).isEqualTo("a.json");
+        assertThat(results.get(2).getError()).isEqualTo("파일이 비어있습니다");
+    }
+
+    @Test
+    @DisplayName("요청 동시성은 설정된 요청당 상한을 넘을 수 없다")
+    void resolveConcurrency_cappedByPerRequestLimit() {
+        assertThat(ocrBatchService.resolveConcurrency(null)).isEqualTo(2);
+        assertThat(ocrBatchService.resolveConcurrency(1)).isEqualTo(1);
+        assertThat(ocrBatchService.resolveConcurrency(100)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,71 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OcrNdjsonService 테스트")
+class OcrNdjsonServiceTest {
+
+    @Mock
+    private OcrParseService ocrParseService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OcrNdjsonService ocrNdjsonService;
+
+    @BeforeEach
+    void setUp() {
+        ocrNdjsonService = new OcrNdjsonService(ocrParseService, objectMapper);
+    }
+
+    @Test
+    @DisplayName("입력 한 줄당 결과 한 줄을 출력하고, 빈 줄은 건너뛰며 잘못된 줄은 오류로 격리한다")
+    void process_writesOneResultPerLine() throws IOException {
+        // given
+        String first = "{\"text\": \"계량증명서\"}";
+        String broken = "{\"text\": ";
+        String input = first + "\n\n" + broken + "\n";
+
+        given(ocrParseService.parseFromJson(first))
+                .willReturn(ParsedResultResponse.builder().documentType("계량증명서").build());
+        given(ocrParseService.parseFromJson(broken))
+                .willThrow(new IllegalArgumentException("유효하지 않은 JSON 형식입니다"));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        int processed = ocrNdjsonService.process(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        // then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(processed).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        // 성공한 줄은 /parse/json과 같은 ParsedResultResponse
+        JsonNode firstResult = objectMapper.readTree(lines[0]);
+        assertThat(firstResult.path("documentType").asText()).isEqualTo("계량증명서");
+        assertThat(firstResult.has("error")).isFalse();
+
+        // 실패한 줄은 입력 줄 번호와 오류
+        JsonNode secondResult = objectMapper.readTree(lines[1]);
+        assertThat(secondResult.path("line").asInt()).isEqualTo(3);
+        assertThat(secondResult.path("error").asText()).isEqualTo("유효하지 않은 JSON 형식입니다");
+    }
+}
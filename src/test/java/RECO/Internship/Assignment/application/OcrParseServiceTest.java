@@ -1,7 +1,13 @@
 package RECO.Internship.Assignment.application;
 
 import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
-import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.application.cache.ParseCoalescer;
+import RECO.Internship.Assignment.application.cache.ParseResultCache;
+import RECO.Internship.Assignment.application.cache.PayloadHash;
+import RECO.Internship.Assignment.application.metrics.ParseMetrics;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
 import RECO.Internship.Assignment.domain.validator.DateTimeValidator;
 import RECO.Internship.Assignment.domain.validator.GpsValidator;
 import RECO.Internship.Assignment.domain.validator.VehicleValidator;
@@ -11,18 +17,29 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OcrParseService 테스트")
@@ -31,7 +48,11 @@ class OcrParseServiceTest {
     @Mock
     private OcrFileReader ocrFileReader;
     @Mock
-    private FieldExtractor fieldExtractor;
+    private FieldExtractionService fieldExtractionService;
+    @Mock
+    private FieldConfidenceService fieldConfidenceService;
+    @Mock
+    private PageExtractionService pageExtractionService;
     @Mock
     private WeightValidator weightValidator;
     @Mock
@@ -40,6 +61,14 @@ class OcrParseServiceTest {
     private GpsValidator gpsValidator;
     @Mock
     private VehicleValidator vehicleValidator;
+    @Mock
+    private ParseResultCache parseResultCache;
+    @Mock
+    private ParseCoalescer parseCoalescer;
+    @Mock
+    private ParseResultStore parseResultStore;
+    @Mock
+    private ParseMetrics parseMetrics;
 
     @InjectMocks
     private OcrParseService ocrParseService;
@@ -91,23 +120,26 @@ class OcrParseServiceTest {
                     MediaType.APPLICATION_JSON_VALUE,
                     "{\"text\": \"test\"}".getBytes());
 
-            given(ocrFileReader.readFromMultipartFile(any())).willReturn(SAMPLE_OCR_TEXT);
-            given(ocrFileReader.extractConfidence(any(org.springframework.web.multipart.MultipartFile.class)))
-                    .willReturn(0.95);
+            given(ocrFileReader.readDocument(any(MultipartFile.class), anyBoolean()))
+                    .willReturn(OcrDocument.of(SAMPLE_OCR_TEXT, 0.95));
 
             // Mock field extractor
-            given(fieldExtractor.extractDocumentType(anyString())).willReturn("계량증명서");
-            given(fieldExtractor.extractDate(anyString())).willReturn("2026-02-02");
-            given(fieldExtractor.extractTime(anyString())).willReturn("05:37:55");
-            given(fieldExtractor.extractVehicleNumber(anyString())).willReturn("80구8713");
-            given(fieldExtractor.extractTotalWeight(anyString())).willReturn(12480);
-            given(fieldExtractor.extractEmptyWeight(anyString())).willReturn(7470);
-            given(fieldExtractor.extractNetWeight(anyString())).willReturn(5010);
-            given(fieldExtractor.extractCustomer(anyString())).willReturn("테스트업체");
-            given(fieldExtractor.extractProductName(anyString())).willReturn(null);
-            given(fieldExtractor.extractIssuer(anyString())).willReturn("동우바이오(주)");
-            given(fieldExtractor.extractGpsCoordinates(anyString()))
-                    .willReturn(new double[] { 37.105317, 127.375673 });
+            given(fieldExtractionService.extract(any(OcrDocument.class))).willReturn(new FieldExtraction(new ExtractedFields(
+                    "계량증명서",
+                    "2026-02-02",
+                    "05:37:55",
+                    "80구8713",
+                    12480,
+                    7470,
+                    5010,
+                    "테스트업체",
+                    null,
+                    "동우바이오(주)",
+                    new double[] { 37.105317, 127.375673 }), ExtractionTier.TEXT));
+
+            // Mock field confidence
+            given(fieldConfidenceService.score(any(OcrDocument.class), any(ExtractedFields.class)))
+                    .willReturn(Map.of("vehicleNumber", 0.97, "totalWeight", 0.62));
 
             // Mock weight validator
             given(weightValidator.validateWeightCalculation(12480, 7470, 5010))
@@ -128,6 +160,10 @@ class OcrParseServiceTest {
             assertThat(result.getEmptyWeight()).isEqualTo(7470);
             assertThat(result.getNetWeight()).isEqualTo(5010);
             assertThat(result.getConfidence()).isEqualTo(0.95);
+            assertThat(result.getExtractionTier()).isEqualTo("TEXT");
+            assertThat(result.getFieldConfidence())
+                    .containsEntry("vehicleNumber", 0.97)
+                    .containsEntry("totalWeight", 0.62);
             assertThat(result.getGps().getLatitude()).isEqualTo(37.105317);
             assertThat(result.getGps().getLongitude()).isEqualTo(127.375673);
 
@@ -139,6 +175,89 @@ class OcrParseServiceTest {
             assertThat(result.getValidation().getGps().getStatus()).isEqualTo("VALID");
             assertThat(result.getValidation().getVehicle().getStatus()).isEqualTo("VALID");
         }
+
+        @Test
+        @DisplayName("로컬 파일은 내용 해시로 캐시를 조회하고, 적중하면 파일을 파싱하지 않는다")
+        void parseFromPath_cacheHit(@TempDir Path tempDir) throws IOException {
+            // given
+            String jsonContent = "{\"text\": \"계량증명서\"}";
+            Path file = Files.writeString(tempDir.resolve("sample.json"), jsonContent);
+            ParsedResultResponse cached = ParsedResultResponse.builder().documentType("계량증명서").build();
+            given(parseResultCache.isEnabled()).willReturn(true);
+            given(parseResultCache.get(PayloadHash.of(jsonContent))).willReturn(cached);
+
+            // when
+            ParsedResultResponse result = ocrParseService.parseFromPath(file);
+
+            // then
+            assertThat(result).isSameAs(cached);
+            then(ocrFileReader).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("동일 페이로드 병합")
+    class Coalescing {
+
+        @Test
+        @DisplayName("병합이 켜져 있으면 페이로드 해시를 키로 파싱을 맡기고 그 결과를 반환한다")
+        void parseFromJson_coalescedByPayloadHash() {
+            // given
+            String jsonContent = "{\"text\": \"계량증명서\"}";
+            ParsedResultResponse shared = ParsedResultResponse.builder().documentType("계량증명서").build();
+            given(parseCoalescer.isEnabled()).willReturn(true);
+            given(parseCoalescer.execute(eq(PayloadHash.of(jsonContent)), any())).willReturn(shared);
+
+            // when
+            ParsedResultResponse result = ocrParseService.parseFromJson(jsonContent);
+
+            // then
+            assertThat(result).isSameAs(shared);
+            then(ocrFileReader).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("결과 저장")
+    class ResultStore {
+
+        @Test
+        @DisplayName("저장소가 켜져 있으면 파싱한 결과를 기록한다")
+        void parseFromJson_appendsResult() {
+            // given
+            given(parseResultStore.isEnabled()).willReturn(true);
+            given(parseResultStore.append(any(ParsedResultResponse.class)))
+                    .willReturn(CompletableFuture.completedFuture(null));
+            given(ocrFileReader.readDocument(anyString(), anyBoolean())).willReturn(OcrDocument.of(SAMPLE_OCR_TEXT, 0.95));
+            given(fieldExtractionService.extract(any(OcrDocument.class))).willReturn(new FieldExtraction(new ExtractedFields(
+                    "계량증명서", "2026-02-02", "05:37:55", "80구8713", 12480, 7470, 5010, null, null, null,
+                    new double[] { 37.105317, 127.375673 }), ExtractionTier.TEXT));
+            given(weightValidator.validateWeightCalculation(12480, 7470, 5010))
+                    .willReturn(WeightValidator.ValidationResult.valid(5010, "검증 성공"));
+            setupCommonMocks();
+
+            // when
+            ParsedResultResponse result = ocrParseService.parseFromJson("{\"text\": \"계량증명서\"}");
+
+            // then
+            then(parseResultStore).should().append(result);
+        }
+
+        @Test
+        @DisplayName("캐시에서 받은 결과는 다시 기록하지 않는다")
+        void parseFromJson_cacheHitNotAppended() {
+            // given
+            String jsonContent = "{\"text\": \"계량증명서\"}";
+            given(parseResultCache.isEnabled()).willReturn(true);
+            given(parseResultCache.get(PayloadHash.of(jsonContent)))
+                    .willReturn(ParsedResultResponse.builder().documentType("계량증명서").build());
+
+            // when
+            ocrParseService.parseFromJson(jsonContent);
+
+            // then
+            then(parseResultStore).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -151,21 +270,21 @@ class OcrParseServiceTest {
             // given
             String jsonContent = "{\"text\": \"" + SAMPLE_OCR_TEXT + "\"}";
 
-            given(ocrFileReader.readFromString(anyString())).willReturn(SAMPLE_OCR_TEXT);
-            given(ocrFileReader.extractConfidenceFromString(anyString())).willReturn(0.88);
+            given(ocrFileReader.readDocument(anyString(), anyBoolean())).willReturn(OcrDocument.of(SAMPLE_OCR_TEXT, 0.88));
 
             // Mock field extractor
-            given(fieldExtractor.extractDocumentType(anyString())).willReturn("계량증명서");
-            given(fieldExtractor.extractDate(anyString())).willReturn("2026-02-02");
-            given(fieldExtractor.extractTime(anyString())).willReturn("05:37:55");
-            given(fieldExtractor.extractVehicleNumber(anyString())).willReturn("80구8713");
-            given(fieldExtractor.extractTotalWeight(anyString())).willReturn(12480);
-            given(fieldExtractor.extractEmptyWeight(anyString())).willReturn(7470);
-            given(fieldExtractor.extractNetWeight(anyString())).willReturn(5010);
-            given(fieldExtractor.extractCustomer(anyString())).willReturn(null);
-            given(fieldExtractor.extractProductName(anyString())).willReturn(null);
-            given(fieldExtractor.extractIssuer(anyString())).willReturn(null);
-            given(fieldExtractor.extractGpsCoordinates(anyString())).willReturn(null);
+            given(fieldExtractionService.extract(any(OcrDocument.class))).willReturn(new FieldExtraction(new ExtractedFields(
+                    "계량증명서",
+                    "2026-02-02",
+                    "05:37:55",
+                    "80구8713",
+                    12480,
+                    7470,
+                    5010,
+                    null,
+                    null,
+                    null,
+                    null), ExtractionTier.TEXT));
 
             // Mock weight validator
             given(weightValidator.validateWeightCalculation(12480, 7470, 5010))
@@ -199,6 +318,95 @@ class OcrParseServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("다중 페이지 문서")
+    class MultiPage {
+
+        @Test
+        @DisplayName("페이지별 추출 결과를 병합하고 페이지 수와 필드별 출처 페이지를 반환한다")
+        void parseFromJson_mergesPages() {
+            // given
+            OcrDocument document = new OcrDocument("", List.of("1페이지", "2페이지"), 0.9, null, List.of());
+            given(ocrFileReader.readDocument(anyString(), anyBoolean())).willReturn(document);
+
+            List<FieldExtraction> pages = List.of(
+                    new FieldExtraction(new ExtractedFields("계량증명서", "2026-02-02", "05:37:55", "80구8713",
+                            12480, null, null, null, null, null, null), ExtractionTier.TEXT),
+                    new FieldExtraction(new ExtractedFields(null, null, null, null,
+                            null, 7470, 5010, null, null, null, null), ExtractionTier.TEXT));
+            given(pageExtractionService.extractPages(document)).willReturn(pages);
+            given(pageExtractionService.merge(pages)).willReturn(new PageExtractionService.MergedExtraction(
+                    new ExtractedFields("계량증명서", "2026-02-02", "05:37:55", "80구8713",
+                            12480, 7470, 5010, null, null, null, null),
+                    ExtractionTier.TEXT,
+                    Map.of("vehicleNumber", 0, "totalWeight", 0, "emptyWeight", 1, "netWeight", 1)));
+
+            given(weightValidator.validateWeightCalculation(12480, 7470, 5010))
+                    .willReturn(WeightValidator.ValidationResult.valid(5010, "검증 성공"));
+            given(dateTimeValidator.validateDate(anyString()))
+                    .willReturn(new DateTimeValidator.ValidationResult(
+                            DateTimeValidator.ValidationStatus.VALID, "날짜 형식 유효"));
+            given(dateTimeValidator.validateTime(anyString()))
+                    .willReturn(new DateTimeValidator.ValidationResult(
+                            DateTimeValidator.ValidationStatus.VALID, "시간 형식 유효"));
+            given(gpsValidator.validateCoordinates((double[]) null))
+                    .willReturn(new GpsValidator.ValidationResult(
+                            GpsValidator.ValidationStatus.CANNOT_VALIDATE, "GPS 좌표가 없습니다"));
+            given(vehicleValidator.validateVehicleNumber(anyString()))
+                    .willReturn(new VehicleValidator.ValidationResult(
+                            VehicleValidator.ValidationStatus.VALID, "차량번호 유효"));
+
+            // when
+            ParsedResultResponse result = ocrParseService.parseFromJson("{}");
+
+            // then
+            assertThat(result.getTotalWeight()).isEqualTo(12480);
+            assertThat(result.getNetWeight()).isEqualTo(5010);
+            assertThat(result.getPageCount()).isEqualTo(2);
+            assertThat(result.getFieldPages())
+                    .containsEntry("totalWeight", 0)
+                    .containsEntry("emptyWeight", 1);
+            assertThat(result.getPage()).isNull();
+            assertThat(result.getValidation().getWeight().getStatus()).isEqualTo("VALID");
+        }
+
+        @Test
+        @DisplayName("페이지별 파싱에서 텍스트가 있는 페이지가 하나뿐이면 그 페이지 번호를 기록한다")
+        void parsePagesFromFile_reportsFirstPageWithText() throws IOException {
+            // given - 첫 페이지는 비어 있고 두 번째 페이지에만 텍스트가 있다
+            OcrDocument document = new OcrDocument(SAMPLE_OCR_TEXT, Arrays.asList("  ", SAMPLE_OCR_TEXT), 0.9,
+                    null, List.of());
+            MockMultipartFile file = new MockMultipartFile("file", "scan.json", "application/json",
+                    "{}".getBytes());
+            given(ocrFileReader.readDocument(any(MultipartFile.class), anyBoolean())).willReturn(document);
+            given(fieldExtractionService.extract(document)).willReturn(new FieldExtraction(new ExtractedFields(
+                    "계량증명서", "2026-02-02", "05:37:55", "80구8713", 12480, 7470, 5010, null, null, null, null),
+                    ExtractionTier.TEXT));
+            given(weightValidator.validateWeightCalculation(12480, 7470, 5010))
+                    .willReturn(WeightValidator.ValidationResult.valid(5010, "검증 성공"));
+            given(dateTimeValidator.validateDate(anyString()))
+                    .willReturn(new DateTimeValidator.ValidationResult(
+                            DateTimeValidator.ValidationStatus.VALID, "날짜 형식 유효"));
+            given(dateTimeValidator.validateTime(anyString()))
+                    .willReturn(new DateTimeValidator.ValidationResult(
+                            DateTimeValidator.ValidationStatus.VALID, "시간 형식 유효"));
+            given(gpsValidator.validateCoordinates((double[]) null))
+                    .willReturn(new GpsValidator.ValidationResult(
+                            GpsValidator.ValidationStatus.CANNOT_VALIDATE, "GPS 좌표가 없습니다"));
+            given(vehicleValidator.validateVehicleNumber(anyString()))
+                    .willReturn(new VehicleValidator.ValidationResult(
+                            VehicleValidator.ValidationStatus.VALID, "차량번호 유효"));
+
+            // when
+            List<ParsedResultResponse> results = ocrParseService.parsePagesFromFile(file);
+
+            // then
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getPage()).isEqualTo(1);
+            assertThat(results.get(0).getNetWeight()).isEqualTo(5010);
+        }
+    }
+
     @Nested
     @DisplayName("중량 검증 실패 케이스")
     class ValidationFailure {
@@ -209,20 +417,20 @@ class OcrParseServiceTest {
             // given
             String jsonContent = "{\"text\": \"test\"}";
 
-            given(ocrFileReader.readFromString(anyString())).willReturn(SAMPLE_OCR_TEXT);
-            given(ocrFileReader.extractConfidenceFromString(anyString())).willReturn(null);
-
-            given(fieldExtractor.extractDocumentType(anyString())).willReturn("계량증명서");
-            given(fieldExtractor.extractDate(anyString())).willReturn("2026-02-02");
-            given(fieldExtractor.extractTime(anyString())).willReturn(null);
-            given(fieldExtractor.extractVehicleNumber(anyString())).willReturn(null);
-            given(fieldExtractor.extractTotalWeight(anyString())).willReturn(12480);
-            given(fieldExtractor.extractEmptyWeight(anyString())).willReturn(7470);
-            given(fieldExtractor.extractNetWeight(anyString())).willReturn(6000); // 불일치!
-            given(fieldExtractor.extractCustomer(anyString())).willReturn(null);
-            given(fieldExtractor.extractProductName(anyString())).willReturn(null);
-            given(fieldExtractor.extractIssuer(anyString())).willReturn(null);
-            given(fieldExtractor.extractGpsCoordinates(anyString())).willReturn(null);
+            given(ocrFileReader.readDocument(anyString(), anyBoolean())).willReturn(OcrDocument.of(SAMPLE_OCR_TEXT, null));
+
+            given(fieldExtractionService.extract(any(OcrDocument.class))).willReturn(new FieldExtraction(new ExtractedFields(
+                    "계량증명서",
+                    "2026-02-02",
+                    null,
+                    null,
+                    12480,
+                    7470,
+                    6000, // 불일치!
+                    null,
+                    null,
+                    null,
+                    null), ExtractionTier.TEXT));
 
             // Mock weight validator - 불일치
             given(weightValidator.validateWeightCalculation(12480, 7470, 6000))
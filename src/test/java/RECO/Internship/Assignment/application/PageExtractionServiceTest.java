@@ -0,0 +1,105 @@
+package RECO.Internship.Assignment.application;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import RECO.Internship.Assignment.domain.parser.LayoutFieldExtractor;
+import RECO.Internship.Assignment.domain.validator.WeightValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PageExtractionService 테스트")
+class PageExtractionServiceTest {
+
+    private final FieldExtractor fieldExtractor = new FieldExtractor();
+    private final FieldExtractionService fieldExtractionService = new FieldExtractionService(fieldExtractor,
+            new LayoutFieldExtractor(fieldExtractor), new WeightValidator(), ExtractionMode.TEXT, 0.9);
+    private final PageExtractionService service = new PageExtractionService(fieldExtractionService, 2, 2);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static OcrDocument document(String rootText, String... pageTexts) {
+        return new OcrDocument(rootText, List.of(pageTexts), 0.9, null, List.of());
+    }
+
+    @Test
+    @DisplayName("페이지마다 독립적으로 추출하고 페이지 순서를 유지한다")
+    void extractPages() {
+        OcrDocument document = document("계량증명서 차량번호: 80구8713",
+                "계량증명서 차량번호: 80구8713 총중량: 12,480 kg",
+                "계근표 차량번호: 12가3456 공차중량: 7,470 kg",
+                "실중량: 5,010 kg");
+
+        List<FieldExtraction> pages = service.extractPages(document);
+
+        assertThat(pages).extracting(page -> page.fields().vehicleNumber())
+                .containsExactly("80구8713", "12가3456", null);
+        assertThat(pages).extracting(page -> page.fields().netWeight())
+                .containsExactly(null, null, 5010);
+    }
+
+    @Test
+    @DisplayName("텍스트가 있는 페이지가 하나뿐이면 문서 전체 텍스트로 한 번만 추출한다")
+    void extractPages_singlePage() {
+        OcrDocument document = document("차량번호: 80구8713 총중량: 12,480 kg", "차량번호: 80구8713", " ");
+
+        List<FieldExtraction> pages = service.extractPages(document);
+
+        assertThat(pages).hasSize(1);
+        assertThat(pages.get(0).fields().totalWeight()).isEqualTo(12480);
+    }
+
+    @Test
+    @DisplayName("병렬 처리 기준 이상이면 워커 풀에서 페이지를 처리하되 결과는 페이지 순서다")
+    void mapPages_parallel() {
+        List<String> pageTexts = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            pageTexts.add("page-" + i);
+        }
+        OcrDocument document = new OcrDocument("", pageTexts, null, null, List.of());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<String> results = service.mapPages(document, page -> {
+            threads.add(Thread.currentThread().getName());
+            return document.page(page).text();
+        });
+
+        assertThat(results).containsExactlyElementsOf(pageTexts);
+        assertThat(threads).allMatch(name -> name.startsWith("ocr-page-"));
+    }
+
+    @Test
+    @DisplayName("필드마다 값이 있는 첫 페이지의 값을 사용하고 출처 페이지를 기록한다")
+    void merge() {
+        List<FieldExtraction> pages = List.of(
+                new FieldExtraction(new ExtractedFields("계량증명서", null, null, "80구8713",
+                        12480, null, null, null, null, null, null), ExtractionTier.TEXT),
+                new FieldExtraction(new ExtractedFields("계근표", "2026-02-02", null, null,
+                        13000, 7470, 5010, null, null, null, null), ExtractionTier.LAYOUT));
+
+        PageExtractionService.MergedExtraction merged = service.merge(pages);
+
+        assertThat(merged.fields().documentType()).isEqualTo("계량증명서");
+        assertThat(merged.fields().totalWeight()).isEqualTo(12480);
+        assertThat(merged.fields().emptyWeight()).isEqualTo(7470);
+        assertThat(merged.fields().date()).isEqualTo("2026-02-02");
+        assertThat(merged.tier()).isEqualTo(ExtractionTier.LAYOUT);
+        assertThat(merged.fieldPages())
+                .containsEntry("documentType", 0)
+                .containsEntry("totalWeight", 0)
+                .containsEntry("emptyWeight", 1)
+                .containsEntry("netWeight", 1)
+                .doesNotContainKey("customer");
+    }
+}
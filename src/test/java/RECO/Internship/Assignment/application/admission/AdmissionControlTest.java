@@ -0,0 +1,62 @@
+package RECO.Internship.Assignment.application.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdmissionControl 테스트")
+class AdmissionControlTest {
+
+    private static ConcurrencyLimiter fixed(int limit) {
+        return new ConcurrencyLimiter(false, limit, limit, 0, Duration.ZERO, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("일괄 요청이 한도를 모두 써도 단일 문서 요청은 별도 한도로 허가된다")
+    void bulkSaturation_doesNotStarveInteractive() {
+        AdmissionControl admission = new AdmissionControl(true, 2, fixed(1), fixed(1));
+
+        admission.acquire(TrafficClass.BULK);
+
+        assertThatThrownBy(() -> admission.acquire(TrafficClass.BULK))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .satisfies(e -> {
+                    AdmissionRejectedException rejected = (AdmissionRejectedException) e;
+                    assertThat(rejected.getTrafficClass()).isEqualTo(TrafficClass.BULK);
+                    assertThat(rejected.getRetryAfterSeconds()).isEqualTo(2);
+                });
+        assertThat(admission.acquire(TrafficClass.INTERACTIVE)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("진입 제어를 끄면 한도와 무관하게 통과한다")
+    void disabled_alwaysAdmits() {
+        AdmissionControl admission = new AdmissionControl(false, 1, fixed(1), fixed(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(admission.acquire(TrafficClass.INTERACTIVE)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("클래스별 한도, 처리 중, 거절 수를 지표로 노출한다")
+    void bindTo_registersMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdmissionControl admission = new AdmissionControl(true, 1, fixed(3), fixed(1));
+        admission.bindTo(registry);
+
+        admission.acquire(TrafficClass.BULK);
+        assertThatThrownBy(() -> admission.acquire(TrafficClass.BULK))
+                .isInstanceOf(AdmissionRejectedException.class);
+
+        assertThat(registry.get("ocr.admission.limit").tag("class", "interactive").gauge().value()).isEqualTo(3.0);
+        assertThat(registry.get("ocr.admission.inflight").tag("class", "bulk").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("ocr.admission.rejected").tag("class", "bulk").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,131 @@
+package RECO.Internship.Assignment.application.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimiter 테스트")
+class ConcurrencyLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ConcurrencyLimiter limiter(boolean adaptive, int limit, int maxLimit, int queueSize, Duration maxWait) {
+        return new ConcurrencyLimiter(adaptive, limit, maxLimit, queueSize, maxWait, Duration.ofMillis(100),
+                nanoTime::get);
+    }
+
+    private void elapse(long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Nested
+    @DisplayName("허가와 거절")
+    class Admission {
+
+        @Test
+        @DisplayName("한도만큼 허가하고, 대기열이 없으면 초과 요청을 바로 거절한다")
+        void tryAcquire_rejectsBeyondLimit() {
+            ConcurrencyLimiter limiter = limiter(false, 2, 2, 0, Duration.ZERO);
+
+            ConcurrencyLimiter.Permit first = limiter.tryAcquire();
+            ConcurrencyLimiter.Permit second = limiter.tryAcquire();
+
+            assertThat(first).isNotNull();
+            assertThat(second).isNotNull();
+            assertThat(limiter.tryAcquire()).isNull();
+            assertThat(limiter.rejected()).isEqualTo(1);
+
+            first.close();
+            assertThat(limiter.tryAcquire()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("허가는 여러 번 닫아도 한 번만 반환된다")
+        void permit_closeIsIdempotent() {
+            ConcurrencyLimiter limiter = limiter(false, 2, 2, 0, Duration.ZERO);
+            ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            limiter.tryAcquire();
+
+            permit.close();
+            permit.close();
+
+            assertThat(limiter.inFlight()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대기열에서 기다리는 동안 자리가 나면 허가하고, 대기 시간이 지나면 거절한다")
+        void tryAcquire_waitsInQueue() throws Exception {
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(false, 1, 1, 1,
+                    Duration.ofSeconds(5), Duration.ofMillis(100));
+            ConcurrencyLimiter.Permit held = limiter.tryAcquire();
+
+            CompletableFuture<ConcurrencyLimiter.Permit> waiter = CompletableFuture.supplyAsync(limiter::tryAcquire);
+            Thread.sleep(50);
+            held.close();
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isNotNull();
+
+            ConcurrencyLimiter shortWait = new ConcurrencyLimiter(false, 1, 1, 1,
+                    Duration.ofMillis(20), Duration.ofMillis(100));
+            shortWait.tryAcquire();
+            assertThat(shortWait.tryAcquire()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("적응형 한도 (AIMD)")
+    class Adaptive {
+
+        @Test
+        @DisplayName("기준 이내로 끝난 요청이 한도를 충분히 쓰고 있으면 한도를 1 늘린다")
+        void fastRequests_increaseLimit() {
+            ConcurrencyLimiter limiter = limiter(true, 2, 3, 0, Duration.ZERO);
+            ConcurrencyLimiter.Permit first = limiter.tryAcquire();
+            ConcurrencyLimiter.Permit second = limiter.tryAcquire();
+
+            elapse(10);
+            first.close();
+            second.close();
+
+            // 최대 한도(3)를 넘지 않는다
+            assertThat(limiter.limit()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("기준보다 오래 걸린 요청은 한도를 곱으로 줄이되 1 아래로 내리지 않는다")
+        void slowRequests_decreaseLimit() {
+            ConcurrencyLimiter limiter = limiter(true, 10, 10, 0, Duration.ZERO);
+
+            ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            elapse(500);
+            permit.close();
+            assertThat(limiter.limit()).isEqualTo(9);
+
+            for (int i = 0; i < 50; i++) {
+                ConcurrencyLimiter.Permit slow = limiter.tryAcquire();
+                elapse(500);
+                slow.close();
+            }
+            assertThat(limiter.limit()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("고정 모드에서는 처리 시간과 무관하게 한도를 유지한다")
+        void fixedMode_keepsLimit() {
+            ConcurrencyLimiter limiter = limiter(false, 4, 8, 0, Duration.ZERO);
+
+            ConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            elapse(500);
+            permit.close();
+
+            assertThat(limiter.limit()).isEqualTo(4);
+        }
+    }
+}
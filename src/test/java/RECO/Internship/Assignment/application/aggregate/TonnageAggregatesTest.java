@@ -0,0 +1,293 @@
+package RECO.Internship.Assignment.application.aggregate;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse;
+import RECO.Internship.Assignment.api.dto.TonnageAggregateResponse.TonnageGroup;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+import RECO.Internship.Assignment.application.index.ResultIndex;
+import RECO.Internship.Assignment.application.index.ResultQuery;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TonnageAggregates 테스트")
+class TonnageAggregatesTest {
+
+    private static final LocalDate FEB_1 = LocalDate.of(2026, 2, 1);
+    private static final LocalDate FEB_2 = LocalDate.of(2026, 2, 2);
+
+    @Mock
+    private ParseResultStore parseResultStore;
+    @Mock
+    private ResultIndex resultIndex;
+
+    private TonnageAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        aggregates = new TonnageAggregates(parseResultStore, resultIndex, new StringDictionary(1000));
+    }
+
+    private static StoredResult stored(long sequence, String customer, String productName, String date,
+            Integer totalWeight, Integer emptyWeight, Integer netWeight) {
+        return new StoredResult(sequence, 1_770_000_000_000L, ParsedResultResponse.builder()
+                .customer(customer)
+                .productName(productName)
+                .date(date)
+                .totalWeight(totalWeight)
+                .emptyWeight(emptyWeight)
+                .netWeight(netWeight)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("기록 반영")
+    class Append {
+
+        @Test
+        @DisplayName("거래처 × 품명 × 일자별로 건수, 합계, 최소, 최대를 누적한다")
+        void onAppend_accumulatesPerGroup() {
+            // given
+            aggregates.onAppend(stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 12480, 7470, 5010));
+            aggregates.onAppend(stored(2, " 곰욕환경폐기물 ", "국판", "2026-02-02", 14000, 7000, 7000));
+            aggregates.onAppend(stored(3, "곰욕환경폐기물", "국판", "2026-02-01", 9000, 6000, 3000));
+            aggregates.onAppend(stored(4, "다른거래처", "국판", "2026-02-02", 8000, 5000, 3000));
+
+            // when
+            TonnageAggregateResponse response = aggregates.query(FEB_2, FEB_2, "곰욕환경폐기물", null, "day");
+
+            // then
+            assertThat(response.getGroups()).hasSize(1);
+            TonnageGroup group = response.getGroups().get(0);
+            assertThat(group.getCustomer()).isEqualTo("곰욕환경폐기물");
+            assertThat(group.getProductName()).isEqualTo("국판");
+            assertThat(group.getDate()).isEqualTo(FEB_2);
+            assertThat(group.getTickets()).isEqualTo(2);
+            assertThat(group.getNetWeight().getCount()).isEqualTo(2);
+            assertThat(group.getNetWeight().getSum()).isEqualTo(12010);
+            assertThat(group.getNetWeight().getMin()).isEqualTo(5010);
+            assertThat(group.getNetWeight().getMax()).isEqualTo(7000);
+            assertThat(group.getTotalWeight().getSum()).isEqualTo(26480);
+        }
+
+        @Test
+        @DisplayName("값이 없는 중량은 건수에서 빠지고, 계량일자가 없는 결과는 기간 조회에서 제외된다")
+        void onAppend_missingValues() {
+            // given
+            aggregates.onAppend(stored(1, "곰욕환경폐기물", "국판", null, null, null, 5010));
+            aggregates.onAppend(stored(2, "곰욕환경폐기물", "국판", "2026-02-02", null, null, 3000));
+
+            // when
+            TonnageAggregateResponse all = aggregates.query(null, null, null, null, "day");
+            TonnageAggregateResponse ranged = aggregates.query(FEB_1, FEB_2, null, null, "day");
+
+            // then
+            assertThat(all.getGroups()).extracting(TonnageGroup::getDate).containsExactly(FEB_2, null);
+            assertThat(all.getGroups().get(0).getTotalWeight().getCount()).isZero();
+            assertThat(all.getGroups().get(0).getTotalWeight().getMin()).isNull();
+            assertThat(ranged.getGroups()).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("period로 조회하면 기간 안의 일자를 거래처 × 품명으로 합친다")
+    void query_groupByPeriod() {
+        // given
+        aggregates.onAppend(stored(1, "곰욕환경폐기물", "국판", "2026-02-01", 12480, 7470, 5010));
+        aggregates.onAppend(stored(2, "곰욕환경폐기물", "국판", "2026-02-02", 14000, 7000, 7000));
+        aggregates.onAppend(stored(3, "곰욕환경폐기물", "폐목재", "2026-02-02", 9000, 6000, 3000));
+
+        // when
+        TonnageAggregateResponse response = aggregates.query(FEB_1, FEB_2, null, "국판", "period");
+
+        // then
+        assertThat(response.getGroupBy()).isEqualTo("period");
+        assertThat(response.getGroups()).hasSize(1);
+        TonnageGroup group = response.getGroups().get(0);
+        assertThat(group.getDate()).isNull();
+        assertThat(group.getTickets()).isEqualTo(2);
+        assertThat(group.getNetWeight().getSum()).isEqualTo(12010);
+        assertThat(group.getNetWeight().getMin()).isEqualTo(5010);
+        assertThat(group.getNetWeight().getMax()).isEqualTo(7000);
+    }
+
+    @Nested
+    @DisplayName("기록 삭제 반영")
+    class Remove {
+
+        @Test
+        @DisplayName("최소/최대가 아닌 값이 빠지면 저장소를 다시 읽지 않고 합계와 건수만 뺀다")
+        void onRemove_subtractsWithoutRecompute() {
+            // given
+            StoredResult middle = stored(2, "곰욕환경폐기물", "국판", "2026-02-02", 12000, 7000, 5000);
+            aggregates.onAppend(stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 11000, 6000, 4000));
+            aggregates.onAppend(middle);
+            aggregates.onAppend(stored(3, "곰욕환경폐기물", "국판", "2026-02-02", 13000, 8000, 6000));
+
+            // when
+            aggregates.onRemove(middle);
+            TonnageGroup group = aggregates.query(null, null, null, null, "day").getGroups().get(0);
+
+            // then
+            assertThat(group.getTickets()).isEqualTo(2);
+            assertThat(group.getNetWeight().getSum()).isEqualTo(10000);
+            assertThat(group.getNetWeight().getMin()).isEqualTo(4000);
+            assertThat(group.getNetWeight().getMax()).isEqualTo(6000);
+            then(resultIndex).should(never()).search(any());
+        }
+
+        @Test
+        @DisplayName("최대값이 빠지면 다음 조회 때 색인으로 그 묶음만 다시 읽어 계산한다")
+        void onRemove_recomputesMinMax() {
+            // given
+            StoredResult low = stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 11000, 7000, 4000);
+            StoredResult high = stored(2, "곰욕환경폐기물", "국판", "2026-02-02", 14000, 7000, 7000);
+            StoredResult otherDate = stored(3, "곰욕환경폐기물", "국판", "2026-02-01", 20000, 7000, 13000);
+            aggregates.onAppend(low);
+            aggregates.onAppend(high);
+            aggregates.onAppend(otherDate);
+            given(resultIndex.search(new ResultQuery(null, FEB_2, FEB_2, "곰욕환경폐기물", "국판", null, null)))
+                    .willReturn(new int[] { 1 });
+            given(parseResultStore.read(1)).willReturn(low);
+
+            // when
+            aggregates.onRemove(high);
+            TonnageAggregateResponse response = aggregates.query(FEB_2, FEB_2, null, null, "day");
+
+            // then
+            TonnageGroup group = response.getGroups().get(0);
+            assertThat(group.getTickets()).isEqualTo(1);
+            assertThat(group.getNetWeight().getSum()).isEqualTo(4000);
+            assertThat(group.getNetWeight().getMax()).isEqualTo(4000);
+            assertThat(group.getTotalWeight().getMax()).isEqualTo(11000);
+        }
+
+        @Test
+        @DisplayName("다시 계산하는 동안에도 잠금 없이 새 기록을 받고, 그 값을 최소/최대에 합친다")
+        void onRemove_recomputeDoesNotBlockAppends() {
+            // given
+            StoredResult low = stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 11000, 7000, 4000);
+            StoredResult high = stored(2, "곰욕환경폐기물", "국판", "2026-02-02", 14000, 7000, 7000);
+            StoredResult during = stored(3, "곰욕환경폐기물", "국판", "2026-02-02", 10000, 7000, 3000);
+            aggregates.onAppend(low);
+            aggregates.onAppend(high);
+            given(resultIndex.search(new ResultQuery(null, FEB_2, FEB_2, "곰욕환경폐기물", "국판", null, null)))
+                    .willAnswer(invocation -> {
+                        // 저장소 기록 스레드의 알림 - 조회 스레드가 집계 잠금을 잡고 있으면 시간 초과
+                        CompletableFuture.runAsync(() -> aggregates.onAppend(during)).get(5, TimeUnit.SECONDS);
+                        return new int[] { 1 };
+                    });
+            given(parseResultStore.read(1)).willReturn(low);
+
+            // when
+            aggregates.onRemove(high);
+            TonnageGroup group = aggregates.query(FEB_2, FEB_2, null, null, "day").getGroups().get(0);
+
+            // then
+            assertThat(group.getTickets()).isEqualTo(2);
+            assertThat(group.getNetWeight().getMin()).isEqualTo(3000);
+            assertThat(group.getNetWeight().getMax()).isEqualTo(4000);
+        }
+
+        @Test
+        @DisplayName("마지막 계량표가 빠진 묶음은 조회 결과에서 제외된다")
+        void onRemove_lastTicket() {
+            // given
+            StoredResult only = stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 12480, 7470, 5010);
+            aggregates.onAppend(only);
+
+            // when
+            aggregates.onRemove(only);
+
+            // then
+            assertThat(aggregates.query(null, null, null, null, "day").getGroups()).isEmpty();
+            assertThat(aggregates.groups()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("사전이 가득 찬 경우")
+    class DictionaryFull {
+
+        @Test
+        @DisplayName("사전에 등록하지 못한 거래처/품명도 원래 문자열로 따로 묶어 집계한다")
+        void onAppend_overflowGroup() {
+            // given - 사전에는 첫 값만 등록된다
+            aggregates = new TonnageAggregates(parseResultStore, resultIndex, new StringDictionary(1));
+            StoredResult first = stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 12480, 7470, 5010);
+            aggregates.onAppend(first);
+            aggregates.onAppend(stored(2, "다른거래처", "국판", "2026-02-02", 8000, 5000, 3000));
+            aggregates.onAppend(stored(3, "다른거래처", "국판", "2026-02-02", 9000, 5000, 4000));
+
+            // when
+            TonnageAggregateResponse all = aggregates.query(null, null, null, null, "day");
+            TonnageAggregateResponse other = aggregates.query(null, null, "다른거래처", "국판", "day");
+
+            // then
+            assertThat(all.getGroups()).extracting(TonnageGroup::getCustomer)
+                    .containsExactly("곰욕환경폐기물", "다른거래처");
+            assertThat(all.getGroups()).extracting(TonnageGroup::getProductName).containsOnly("국판");
+            assertThat(other.getGroups()).hasSize(1);
+            assertThat(other.getGroups().get(0).getTickets()).isEqualTo(2);
+            assertThat(other.getGroups().get(0).getNetWeight().getSum()).isEqualTo(7000);
+            assertThat(aggregates.droppedTickets()).isZero();
+
+            // 삭제도 같은 번호로 찾아 뺀다
+            aggregates.onRemove(first);
+            assertThat(aggregates.groups()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("집계 번호까지 모두 쓰면 계량표를 조용히 버리지 않고 빠진 건수로 센다")
+        void onAppend_countsDroppedTickets() {
+            // given - 사전 번호가 집계 키 범위를 모두 차지한 상태
+            StringDictionary dictionary = mock(StringDictionary.class);
+            given(dictionary.encode(any())).willReturn(1 << 23);
+            given(dictionary.size()).willReturn(1 << 23);
+            aggregates = new TonnageAggregates(parseResultStore, resultIndex, dictionary);
+
+            // when
+            aggregates.onAppend(stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 12480, 7470, 5010));
+
+            // then
+            assertThat(aggregates.droppedTickets()).isEqualTo(1);
+            assertThat(aggregates.groups()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("집계된 적 없는 거래처로 조회하면 빈 결과를 반환한다")
+    void query_unknownCustomer() {
+        aggregates.onAppend(stored(1, "곰욕환경폐기물", "국판", "2026-02-02", 12480, 7470, 5010));
+
+        assertThat(aggregates.query(null, null, "없는거래처", null, "day").getGroups()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("groupBy가 올바르지 않거나 from이 to보다 늦으면 예외가 발생한다")
+    void query_invalidArguments() {
+        assertThatThrownBy(() -> aggregates.query(null, null, null, null, "week"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> aggregates.query(FEB_2, FEB_1, null, null, "day"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
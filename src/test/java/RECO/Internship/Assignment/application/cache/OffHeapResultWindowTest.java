@@ -0,0 +1,105 @@
+package RECO.Internship.Assignment.application.cache;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OffHeapResultWindow 테스트
+ */
+class OffHeapResultWindowTest {
+
+    private static ParsedResultResponse ticket(int netWeight) {
+        return ParsedResultResponse.builder().documentType("계량증명서").netWeight(netWeight).build();
+    }
+
+    @Test
+    @DisplayName("기록한 결과를 모든 필드 그대로 복원하고, 사전이 가득 차면 문자열을 기록 안에 둔다")
+    void put_roundTrip() {
+        // given: 사전에는 문자열 두 개만 들어간다
+        StringDictionary dictionary = new StringDictionary(2);
+        OffHeapResultWindow window = new OffHeapResultWindow(dictionary, 1 << 16, 1 << 12);
+        Map<String, Double> fieldConfidence = new LinkedHashMap<>();
+        fieldConfidence.put("netWeight", 0.98);
+        fieldConfidence.put("date", null);
+        ParsedResultResponse result = ParsedResultResponse.builder()
+                .documentType("계량증명서").date("2026-02-02").time("05:37:55").vehicleNumber("80구8713")
+                .totalWeight(12480).emptyWeight(7470).netWeight(5010)
+                .customer("곰욕환경폐기물").productName("국판").issuer("동우바이오(주)")
+                .gps(ParsedResultResponse.GpsInfo.builder().latitude(37.1).longitude(127.2).build())
+                .validation(ParsedResultResponse.ValidationInfo.builder()
+                        .overallStatus("VALID")
+                        .weight(ParsedResultResponse.FieldValidation.builder()
+                                .status("VALID").message("일치").value(5010).build())
+                        .build())
+                .confidence(0.91).fieldConfidence(fieldConfidence).extractionTier("TEXT")
+                .pageCount(3).fieldPages(Map.of("netWeight", 2)).page(1)
+                .build();
+        PayloadHash key = PayloadHash.of("{\"text\": \"계량증명서\"}");
+
+        // when
+        window.put(key, result, 123L, 456L);
+        long location = window.locate(key);
+
+        // then
+        assertThat(window.read(location)).isEqualTo(result);
+        assertThat(window.createdAt(location)).isEqualTo(123L);
+        assertThat(window.validatedOn(location)).isEqualTo(456L);
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(window.read(locate(window, PayloadHash.of("empty"), new ParsedResultResponse())))
+                .isEqualTo(new ParsedResultResponse());
+    }
+
+    @Test
+    @DisplayName("슬랩을 한 바퀴 돌면 가장 오래된 슬랩의 기록을 제거한다")
+    void put_wrapsSlabs() {
+        // given: 슬랩 두 개
+        OffHeapResultWindow window = new OffHeapResultWindow(new StringDictionary(10), 2 * 1024, 1024);
+
+        // when
+        int evicted = 0;
+        for (int i = 0; i < 40; i++) {
+            evicted += window.put(PayloadHash.of("k" + i), ticket(i), 0, 0);
+        }
+
+        // then
+        assertThat(evicted).isPositive();
+        assertThat(window.size()).isEqualTo(40 - evicted);
+        assertThat(window.locate(PayloadHash.of("k0"))).isEqualTo(-1);
+        assertThat(window.read(window.locate(PayloadHash.of("k39"))).getNetWeight()).isEqualTo(39);
+        assertThat(window.allocatedBytes()).isEqualTo(2 * 1024);
+        assertThat(window.liveBytes()).isLessThanOrEqualTo(2 * 1024);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 쓰거나 지우면 살아 있는 바이트에서 이전 기록을 뺀다")
+    void put_overwriteAndRemove() {
+        OffHeapResultWindow window = new OffHeapResultWindow(new StringDictionary(10), 1 << 16, 1 << 12);
+        PayloadHash key = PayloadHash.of("k");
+
+        window.put(key, ticket(1), 0, 0);
+        long oneRecord = window.liveBytes();
+        window.put(key, ticket(2), 0, 0);
+
+        assertThat(window.size()).isEqualTo(1);
+        assertThat(window.liveBytes()).isEqualTo(oneRecord);
+        assertThat(window.read(window.locate(key)).getNetWeight()).isEqualTo(2);
+
+        window.remove(key);
+
+        assertThat(window.size()).isZero();
+        assertThat(window.liveBytes()).isZero();
+        assertThat(window.evictOldest()).isZero();
+    }
+
+    private static long locate(OffHeapResultWindow window, PayloadHash key, ParsedResultResponse result) {
+        window.put(key, result, 0, 0);
+        return window.locate(key);
+    }
+}
@@ -0,0 +1,134 @@
+package RECO.Internship.Assignment.application.cache;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ParseCoalescer 테스트
+ */
+class ParseCoalescerTest {
+
+    private static final PayloadHash KEY = PayloadHash.of("{\"text\": \"계량증명서\"}");
+
+    private final ParseCoalescer coalescer = new ParseCoalescer(true);
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 리더 파싱을 멈춰 둔 채 같은 키 요청 두 개가 병합될 때까지 기다린 뒤 리더를 진행시킨다
+     */
+    private <E extends Exception> List<Future<ParsedResultResponse>> runConcurrently(
+            CountDownLatch release, ParseCoalescer.ParseCall<E> leaderCall, ParseCoalescer.ParseCall<E> followerCall)
+            throws Exception {
+        List<Future<ParsedResultResponse>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> coalescer.execute(KEY, leaderCall)));
+        while (coalescer.inFlightCount() == 0) {
+            Thread.sleep(1);
+        }
+        futures.add(executor.submit(() -> coalescer.execute(KEY, followerCall)));
+        futures.add(executor.submit(() -> coalescer.execute(KEY, followerCall)));
+        while (coalescer.coalescedCount() < 2) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        return futures;
+    }
+
+    @Test
+    @DisplayName("같은 페이로드의 동시 요청은 한 번만 파싱하고, 기다리던 요청은 같은 내용의 복사본을 받는다")
+    void concurrentIdenticalRequests_shareOneParse() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger parses = new AtomicInteger();
+        ParsedResultResponse parsed = ParsedResultResponse.builder().documentType("계량증명서").build();
+
+        List<Future<ParsedResultResponse>> futures = runConcurrently(release, () -> {
+            parses.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return parsed;
+        }, () -> {
+            parses.incrementAndGet();
+            return null;
+        });
+
+        List<ParsedResultResponse> results = new ArrayList<>();
+        for (Future<ParsedResultResponse> future : futures) {
+            results.add(future.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(results).allSatisfy(result -> assertThat(result).isEqualTo(parsed));
+        assertThat(results).filteredOn(result -> result == parsed).hasSize(1);
+        assertThat(parses.get()).isEqualTo(1);
+        assertThat(coalescer.coalescedCount()).isEqualTo(2);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("리더가 페이로드 오류로 실패하면 기다리던 요청도 같은 오류를 받는다")
+    void leaderFailure_sharedWithFollowers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<ParsedResultResponse>> futures = runConcurrently(release, () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalArgumentException("유효하지 않은 JSON 형식입니다");
+        }, () -> {
+            throw new AssertionError("기다리던 요청은 직접 파싱하지 않는다");
+        });
+
+        for (Future<ParsedResultResponse> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("리더의 읽기 실패(검사 예외)는 공유하지 않고, 기다리던 요청이 직접 파싱한다")
+    void leaderIoFailure_followersParseThemselves() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ParsedResultResponse parsed = ParsedResultResponse.builder().documentType("계근표").build();
+
+        List<Future<ParsedResultResponse>> futures = runConcurrently(release, () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IOException("업로드 읽기 실패");
+        }, () -> parsed);
+
+        assertThatThrownBy(() -> futures.get(0).get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IOException.class);
+        assertThat(futures.get(1).get(5, TimeUnit.SECONDS)).isSameAs(parsed);
+        assertThat(futures.get(2).get(5, TimeUnit.SECONDS)).isSameAs(parsed);
+    }
+
+    @Test
+    @DisplayName("끝난 파싱은 다시 병합되지 않고, 리더/병합 횟수를 지표로 노출한다")
+    void sequentialRequests_notCoalesced() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+        ParsedResultResponse parsed = ParsedResultResponse.builder().build();
+
+        coalescer.execute(KEY, () -> parsed);
+        coalescer.execute(KEY, () -> parsed);
+
+        assertThat(registry.get("ocr.parse.coalescing.requests").tag("role", "leader").functionCounter().count())
+                .isEqualTo(2.0);
+        assertThat(registry.get("ocr.parse.coalescing.requests").tag("role", "coalesced").functionCounter().count())
+                .isZero();
+        assertThat(registry.get("ocr.parse.coalescing.inflight").gauge().value()).isZero();
+    }
+}
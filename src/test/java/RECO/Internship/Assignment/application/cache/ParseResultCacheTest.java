@@ -0,0 +1,256 @@
+package RECO.Internship.Assignment.application.cache;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ParseResultCache 테스트
+ */
+class ParseResultCacheTest {
+
+    private static final Instant NOON = Instant.parse("2026-02-02T12:00:00Z");
+
+    private final MutableClock clock = new MutableClock(NOON);
+
+    private ParseResultCache cache(int maxEntries) {
+        return new ParseResultCache(new StringDictionary(1000), true, maxEntries, 1_000_000, Duration.ofMinutes(10),
+                clock);
+    }
+
+    private ParsedResultResponse result(String documentType) {
+        return ParsedResultResponse.builder().documentType(documentType).build();
+    }
+
+    @Test
+    @DisplayName("같은 페이로드 해시면 캐시된 결과를 반환하고 적중/미스를 집계한다")
+    void getAfterPut_hit() {
+        ParseResultCache cache = cache(10);
+        PayloadHash key = PayloadHash.of("{\"text\": \"계량증명서\"}");
+
+        assertThat(cache.get(key)).isNull();
+        cache.put(key, result("계량증명서"));
+
+        assertThat(cache.get(PayloadHash.of("{\"text\": \"계량증명서\"}")).getDocumentType())
+                .isEqualTo("계량증명서");
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("항목 수 상한을 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void put_evictsLeastRecentlyUsed() {
+        ParseResultCache cache = cache(2);
+        PayloadHash a = PayloadHash.of("a");
+        PayloadHash b = PayloadHash.of("b");
+        PayloadHash c = PayloadHash.of("c");
+
+        cache.put(a, result("a"));
+        cache.put(b, result("b"));
+        cache.get(a);
+        cache.put(c, result("c"));
+
+        assertThat(cache.get(b)).isNull();
+        assertThat(cache.get(a)).isNotNull();
+        assertThat(cache.get(c)).isNotNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 만료된다")
+    void get_expiresAfterTtl() {
+        ParseResultCache cache = cache(10);
+        PayloadHash key = PayloadHash.of("a");
+        cache.put(key, result("a"));
+
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 TTL 이내여도 만료된다 (날짜 기준 검증 재수행)")
+    void get_expiresOnDayRollover() {
+        clock.set(Instant.parse("2026-02-02T23:59:00Z"));
+        ParseResultCache cache = cache(10);
+        PayloadHash key = PayloadHash.of("a");
+        cache.put(key, result("a"));
+
+        clock.advance(Duration.ofMinutes(2));
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화되면 저장하지 않는다")
+    void disabled_neverCaches() {
+        ParseResultCache cache = ParseResultCache.disabled();
+        PayloadHash key = PayloadHash.of("a");
+        cache.put(key, result("a"));
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("거래처/품명/발행처는 항목마다 따로 두지 않고 사전의 문자열을 공유한다")
+    void put_sharesDictionaryStrings() {
+        ParseResultCache cache = cache(10);
+        ParsedResultResponse first = ParsedResultResponse.builder()
+                .customer(new String("곰욕환경폐기물")).issuer(new String("동우바이오(주)")).build();
+        ParsedResultResponse second = ParsedResultResponse.builder()
+                .customer(new String("곰욕환경폐기물")).issuer(new String("동우바이오(주)")).build();
+
+        cache.put(PayloadHash.of("a"), first);
+        cache.put(PayloadHash.of("b"), second);
+
+        assertThat(cache.get(PayloadHash.of("b")).getCustomer())
+                .isSameAs(cache.get(PayloadHash.of("a")).getCustomer())
+                .isEqualTo("곰욕환경폐기물");
+        assertThat(cache.get(PayloadHash.of("b")).getIssuer())
+                .isSameAs(cache.get(PayloadHash.of("a")).getIssuer());
+    }
+
+    @Test
+    @DisplayName("저장할 때 호출자의 결과를 바꾸지 않고, 조회할 때마다 별도의 복사본을 돌려준다")
+    void put_doesNotShareInstances() {
+        ParseResultCache cache = cache(10);
+        String customer = new String("곰욕환경폐기물");
+        ParsedResultResponse result = ParsedResultResponse.builder().customer(customer).netWeight(5010)
+                .gps(ParsedResultResponse.GpsInfo.builder().latitude(37.1).longitude(127.2).build())
+                .build();
+        PayloadHash key = PayloadHash.of("a");
+        cache.put(PayloadHash.of("seed"), ParsedResultResponse.builder().customer(new String("곰욕환경폐기물")).build());
+
+        cache.put(key, result);
+        result.setNetWeight(0);
+        ParsedResultResponse first = cache.get(key);
+        first.getGps().setLatitude(0.0);
+        ParsedResultResponse second = cache.get(key);
+
+        assertThat(result.getCustomer()).isSameAs(customer);
+        assertThat(first).isNotSameAs(second);
+        assertThat(second.getNetWeight()).isEqualTo(5010);
+        assertThat(second.getGps().getLatitude()).isEqualTo(37.1);
+    }
+
+    @Test
+    @DisplayName("off-heap 모드에서도 같은 키로 저장한 결과를 돌려주고 TTL이 지나면 만료된다")
+    void offHeap_getAfterPut() {
+        ParseResultCache cache = new ParseResultCache(new StringDictionary(1000), true, 10, 1 << 16,
+                Duration.ofMinutes(10), clock, true, 1 << 12);
+        PayloadHash key = PayloadHash.of("a");
+        cache.put(key, ParsedResultResponse.builder().documentType("계량증명서").customer("곰욕환경폐기물")
+                .netWeight(5010).build());
+
+        ParsedResultResponse cached = cache.get(key);
+        assertThat(cached.getDocumentType()).isEqualTo("계량증명서");
+        assertThat(cached.getCustomer()).isEqualTo("곰욕환경폐기물");
+        assertThat(cached.getNetWeight()).isEqualTo(5010);
+        assertThat(cache.stats().size()).isEqualTo(1);
+        assertThat(cache.stats().estimatedBytes()).isPositive();
+
+        clock.advance(Duration.ofMinutes(11));
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("off-heap 모드에서 항목 수 상한을 넘으면 가장 먼저 기록한 항목부터 제거한다")
+    void offHeap_evictsOldest() {
+        ParseResultCache cache = new ParseResultCache(new StringDictionary(1000), true, 3, 1 << 16,
+                Duration.ofMinutes(10), clock, true, 1 << 12);
+
+        for (int i = 0; i < 4; i++) {
+            cache.put(PayloadHash.of("k" + i), result("r" + i));
+        }
+
+        assertThat(cache.stats().size()).isEqualTo(3);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.get(PayloadHash.of("k0"))).isNull();
+        assertThat(cache.get(PayloadHash.of("k3")).getDocumentType()).isEqualTo("r3");
+    }
+
+    @Test
+    @DisplayName("청크 단위 해시와 전체 해시가 같다")
+    void payloadHash_incrementalMatchesWhole() {
+        byte[] bytes = "계량증명서 총중량: 12,480 kg 공차중량: 7,470 kg".getBytes();
+
+        PayloadHash.Hasher hasher = new PayloadHash.Hasher();
+        hasher.update(bytes, 0, 5);
+        hasher.update(bytes, 5, 17);
+        hasher.update(bytes, 22, bytes.length - 22);
+
+        assertThat(hasher.finish()).isEqualTo(PayloadHash.of(bytes));
+        assertThat(PayloadHash.of("The quick brown fox jumps over the lazy dog").toString())
+                .isEqualTo("e34bbc7bbc071b6c7a433ca9c49a9347");
+    }
+
+    @Test
+    @DisplayName("적중/미스 횟수와 크기를 ocr.cache 지표로 노출한다")
+    void bindTo_exposesStats() {
+        ParseResultCache cache = cache(10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        PayloadHash key = PayloadHash.of("a");
+
+        cache.get(key);
+        cache.put(key, result("a"));
+        cache.get(key);
+
+        assertThat(registry.get("ocr.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("ocr.cache.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("ocr.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    /**
+     * 테스트용 가변 시계 (UTC)
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant instant) {
+            this.now = instant;
+        }
+
+        void advance(Duration duration) {
+            this.now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
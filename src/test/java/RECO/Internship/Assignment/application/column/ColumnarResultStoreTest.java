@@ -0,0 +1,184 @@
+package RECO.Internship.Assignment.application.column;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.api.dto.ResultSummaryResponse;
+import RECO.Internship.Assignment.application.dictionary.StringDictionary;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ColumnarResultStore 테스트")
+class ColumnarResultStoreTest {
+
+    private static final LocalDate FEB_1 = LocalDate.of(2026, 2, 1);
+    private static final LocalDate FEB_2 = LocalDate.of(2026, 2, 2);
+
+    @Mock
+    private ParseResultStore parseResultStore;
+
+    private ColumnarResultStore columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new ColumnarResultStore(parseResultStore, new StringDictionary(1000), true, 64);
+    }
+
+    private static StoredResult stored(long sequence, String customer, String date, Integer netWeight,
+            String status, boolean gps) {
+        return new StoredResult(sequence, 1_770_000_000_000L, ParsedResultResponse.builder()
+                .customer(customer)
+                .productName("국판")
+                .date(date)
+                .time("05:37:55")
+                .totalWeight(netWeight == null ? null : netWeight + 7000)
+                .emptyWeight(7000)
+                .netWeight(netWeight)
+                .gps(gps ? ParsedResultResponse.GpsInfo.builder().latitude(37.1).longitude(127.2).build() : null)
+                .validation(ParsedResultResponse.ValidationInfo.builder().overallStatus(status).build())
+                .build());
+    }
+
+    @Nested
+    @DisplayName("요약 스캔")
+    class Summarize {
+
+        @Test
+        @DisplayName("조건에 맞는 행의 중량 건수/합계/최소/최대와 상태별 건수를 계산한다")
+        void summarize_filters() {
+            // given
+            columns.onAppend(stored(1, "곰욕환경폐기물", "2026-02-01", 5010, "VALID", true));
+            columns.onAppend(stored(2, "곰욕환경폐기물", "2026-02-02", 3000, "INVALID", false));
+            columns.onAppend(stored(3, "다른거래처", "2026-02-02", 9000, "VALID", true));
+            columns.onAppend(stored(4, "곰욕환경폐기물", "2026-02-03", 4000, "VALID", false));
+            columns.onAppend(stored(5, "곰욕환경폐기물", null, null, "WARNING", false));
+
+            // when
+            ResultSummaryResponse ranged = columns.summarize(FEB_1, FEB_2, " 곰욕환경폐기물 ", null, null);
+            ResultSummaryResponse all = columns.summarize(null, null, null, null, null);
+            ResultSummaryResponse invalid = columns.summarize(null, null, null, null, "invalid");
+
+            // then
+            assertThat(ranged.getTickets()).isEqualTo(2);
+            assertThat(ranged.getNetWeight().getSum()).isEqualTo(8010);
+            assertThat(ranged.getNetWeight().getMin()).isEqualTo(3000);
+            assertThat(ranged.getNetWeight().getMax()).isEqualTo(5010);
+            assertThat(ranged.getWithGps()).isEqualTo(1);
+            assertThat(ranged.getStatuses()).containsExactly(entry("VALID", 1L), entry("INVALID", 1L));
+
+            assertThat(all.getTickets()).isEqualTo(5);
+            assertThat(all.getNetWeight().getCount()).isEqualTo(4);
+            assertThat(all.getTotalWeight().getSum()).isEqualTo(21010 + 4 * 7000);
+            assertThat(all.getStatuses()).containsEntry("WARNING", 1L);
+
+            assertThat(invalid.getTickets()).isEqualTo(1);
+            assertThat(invalid.getNetWeight().getSum()).isEqualTo(3000);
+        }
+
+        @Test
+        @DisplayName("사전에 없는 거래처나 알 수 없는 상태로 조회하면 훑지 않고 빈 요약을 반환한다")
+        void summarize_unknownFilter() {
+            // given
+            columns.onAppend(stored(1, "곰욕환경폐기물", "2026-02-01", 5010, "VALID", true));
+
+            // when
+            ResultSummaryResponse unknownCustomer = columns.summarize(null, null, "없는거래처", null, null);
+            ResultSummaryResponse unknownStatus = columns.summarize(null, null, null, null, "DONE");
+
+            // then
+            assertThat(unknownCustomer.getTickets()).isZero();
+            assertThat(unknownCustomer.getScannedRows()).isZero();
+            assertThat(unknownCustomer.getNetWeight().getMin()).isNull();
+            assertThat(unknownStatus.getTickets()).isZero();
+        }
+
+        @Test
+        @DisplayName("from이 to보다 늦으면 예외가 발생한다")
+        void summarize_invalidRange() {
+            assertThatThrownBy(() -> columns.summarize(FEB_2, FEB_1, null, null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("행 추가와 삭제")
+    class AppendAndRemove {
+
+        @Test
+        @DisplayName("묶음 크기를 넘으면 새 묶음을 이어 붙이고 모든 행을 훑는다")
+        void onAppend_spansChunks() {
+            // given
+            for (int i = 1; i <= 200; i++) {
+                columns.onAppend(stored(i, "곰욕환경폐기물", "2026-02-01", i, "VALID", false));
+            }
+
+            // when
+            ResultSummaryResponse summary = columns.summarize(null, null, null, null, null);
+
+            // then
+            assertThat(columns.chunkCount()).isEqualTo(4);
+            assertThat(columns.size()).isEqualTo(200);
+            assertThat(summary.getNetWeight().getSum()).isEqualTo(200 * 201 / 2);
+            assertThat(summary.getNetWeight().getMax()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("삭제된 행은 요약에서 빠지고, 모든 행이 삭제된 묶음은 배열을 놓아 준다")
+        void onRemove_excludesRowsAndReleasesChunks() {
+            // given
+            for (int i = 1; i <= 128; i++) {
+                columns.onAppend(stored(i, "곰욕환경폐기물", "2026-02-01", i, "VALID", false));
+            }
+            long fullSize = columns.sizeInBytes();
+
+            // when
+            for (int i = 1; i <= 64; i++) {
+                columns.onRemove(stored(i, "곰욕환경폐기물", "2026-02-01", i, "VALID", false));
+            }
+            columns.onRemove(stored(100, "곰욕환경폐기물", "2026-02-01", 100, "VALID", false));
+            columns.onRemove(stored(100, "곰욕환경폐기물", "2026-02-01", 100, "VALID", false));
+            columns.onRemove(stored(999, "곰욕환경폐기물", "2026-02-01", 999, "VALID", false));
+            ResultSummaryResponse summary = columns.summarize(null, null, null, null, null);
+
+            // then
+            assertThat(columns.size()).isEqualTo(63);
+            assertThat(summary.getTickets()).isEqualTo(63);
+            assertThat(summary.getNetWeight().getSum()).isEqualTo((65 + 128) * 64 / 2 - 100);
+            assertThat(summary.getNetWeight().getMin()).isEqualTo(65);
+            assertThat(columns.sizeInBytes()).isEqualTo(fullSize / 2);
+        }
+
+        @Test
+        @DisplayName("이미 반영한 기록 번호가 다시 들어오면 건너뛴다")
+        void onAppend_ignoresReplayedSequence() {
+            columns.onAppend(stored(1, "곰욕환경폐기물", "2026-02-01", 5010, "VALID", false));
+            columns.onAppend(stored(1, "곰욕환경폐기물", "2026-02-01", 5010, "VALID", false));
+
+            assertThat(columns.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("계량 일시는 시간대 없이 초 단위로, 시각이 잘못되면 자정으로 변환한다")
+    void timestamp() {
+        assertThat(ColumnarResultStore.timestamp("2026-02-02", "05:37:55"))
+                .isEqualTo(FEB_2.atTime(5, 37, 55).toEpochSecond(ZoneOffset.UTC));
+        assertThat(ColumnarResultStore.timestamp("2026-02-02", "25:00"))
+                .isEqualTo(FEB_2.atStartOfDay().toEpochSecond(ZoneOffset.UTC));
+        assertThat(ColumnarResultStore.timestamp(null, "05:37:55")).isEqualTo(ColumnarResultStore.NULL_TIMESTAMP);
+        assertThat(ColumnarResultStore.timestamp("2026/02/02", null)).isEqualTo(ColumnarResultStore.NULL_TIMESTAMP);
+    }
+}
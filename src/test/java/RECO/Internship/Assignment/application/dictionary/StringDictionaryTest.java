@@ -0,0 +1,87 @@
+package RECO.Internship.Assignment.application.dictionary;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StringDictionary 테스트")
+class StringDictionaryTest {
+
+    @Test
+    @DisplayName("같은 값은 같은 번호를 받고 번호로 같은 문자열 인스턴스를 돌려받는다")
+    void encode_thenDecode() {
+        StringDictionary dictionary = new StringDictionary(100);
+
+        int customer = dictionary.encode("곰욕환경폐기물");
+        int issuer = dictionary.encode("동우바이오(주)");
+
+        assertThat(customer).isEqualTo(1);
+        assertThat(issuer).isEqualTo(2);
+        assertThat(dictionary.encode(new String("곰욕환경폐기물"))).isEqualTo(customer);
+        assertThat(dictionary.decode(customer)).isEqualTo("곰욕환경폐기물");
+        assertThat(dictionary.canonical(new String("동우바이오(주)"))).isSameAs(dictionary.decode(issuer));
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("null은 0번, 등록되지 않은 값은 find에서 MISSING이다")
+    void noneAndMissing() {
+        StringDictionary dictionary = new StringDictionary(100);
+
+        assertThat(dictionary.encode(null)).isEqualTo(StringDictionary.NONE);
+        assertThat(dictionary.decode(StringDictionary.NONE)).isNull();
+        assertThat(dictionary.find("국판")).isEqualTo(StringDictionary.MISSING);
+        assertThat(dictionary.decode(42)).isNull();
+        assertThat(dictionary.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한에 닿으면 새 값은 번호 없이 원래 문자열을 그대로 쓴다")
+    void full_fallsBackToValue() {
+        StringDictionary dictionary = new StringDictionary(1);
+        dictionary.encode("국판");
+        String value = new String("폐목재");
+
+        assertThat(dictionary.encode(value)).isEqualTo(StringDictionary.MISSING);
+        assertThat(dictionary.canonical(value)).isSameAs(value);
+        assertThat(dictionary.encode("국판")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 등록해도 값마다 번호는 하나다")
+    void encode_concurrently() throws Exception {
+        StringDictionary dictionary = new StringDictionary(10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 3000; i++) {
+                        int id = dictionary.encode("거래처" + i);
+                        assertThat(dictionary.decode(id)).isEqualTo("거래처" + i);
+                        ids.add(id);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(dictionary.size()).isEqualTo(3000);
+        assertThat(ids).hasSize(3000);
+    }
+}
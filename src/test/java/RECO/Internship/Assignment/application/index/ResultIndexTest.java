@@ -0,0 +1,124 @@
+package RECO.Internship.Assignment.application.index;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultIndex 테스트")
+class ResultIndexTest {
+
+    @Mock
+    private ParseResultStore parseResultStore;
+
+    private ResultIndex index;
+
+    private static ParsedResultResponse ticket(String vehicleNumber, String date, String customer, String status) {
+        return ParsedResultResponse.builder()
+                .vehicleNumber(vehicleNumber)
+                .date(date)
+                .customer(customer)
+                .productName("폐기물")
+                .issuer("동우바이오(주)")
+                .validation(ParsedResultResponse.ValidationInfo.builder().overallStatus(status).build())
+                .build();
+    }
+
+    private static ResultQuery vehicle(String vehicle) {
+        return new ResultQuery(vehicle, null, null, null, null, null, null);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new ResultIndex(parseResultStore);
+        index.onAppend(new StoredResult(1, 0, ticket("80구8713", "2026-02-02", "곰욕환경폐기물", "VALID")));
+        index.onAppend(new StoredResult(2, 0, ticket("80구 8713", "2026-02-05", "곰욕환경폐기물", "INVALID")));
+        index.onAppend(new StoredResult(3, 0, ticket("12가8713", "2026-02-10", "A상사", "INVALID")));
+        index.onAppend(new StoredResult(4, 0, ticket("34나5678", "2026-02-03", "곰욕환경폐기물", "INVALID")));
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Search {
+
+        @Test
+        @DisplayName("차량번호 전체는 공백을 무시하고 정확히, 끝 4자리는 해당 번호로 끝나는 차량을 찾는다")
+        void search_byVehicle() {
+            assertThat(index.search(vehicle("80구8713"))).containsExactly(1, 2);
+            assertThat(index.search(vehicle("8713"))).containsExactly(1, 2, 3);
+            assertThat(index.search(vehicle("9999"))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("계량일자 기간과 다른 조건을 함께 지정하면 모두 만족하는 기록만 반환한다")
+        void search_byVehicleAndDateRange() {
+            ResultQuery query = new ResultQuery("8713", LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 7),
+                    null, null, null, null);
+
+            assertThat(index.search(query)).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("거래처와 검증 상태(대소문자 무시)로 조회한다")
+        void search_byCustomerAndStatus() {
+            ResultQuery query = new ResultQuery(null, null, null, "곰욕환경폐기물", null, null, "invalid");
+
+            assertThat(index.search(query)).containsExactly(2, 4);
+        }
+
+        @Test
+        @DisplayName("시작일만 지정하면 그 이후 전체 기간을 조회한다")
+        void search_openEndedRange() {
+            ResultQuery query = new ResultQuery(null, LocalDate.of(2026, 2, 4), null, null, null, null, null);
+
+            assertThat(index.search(query)).containsExactly(2, 3);
+        }
+
+        @Test
+        @DisplayName("조건이 하나도 없으면 전체 조회를 막기 위해 거절한다")
+        void search_requiresCriteria() {
+            assertThatThrownBy(() -> index.search(new ResultQuery(null, null, null, " ", null, null, null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("저장소에서 삭제된 기록은 색인에서도 빠진다")
+    void onRemove() {
+        // when
+        index.onRemove(new StoredResult(1, 0, ticket("80구8713", "2026-02-02", "곰욕환경폐기물", "VALID")));
+
+        // then
+        assertThat(index.search(vehicle("8713"))).containsExactly(2, 3);
+        assertThat(index.search(new ResultQuery(null, null, null, null, null, null, "VALID"))).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 건을 한 번에 삭제하면 모든 목록에서 함께 빠진다")
+    void onRemoveAll() {
+        // when
+        index.onRemoveAll(List.of(
+                new StoredResult(1, 0, ticket("80구8713", "2026-02-02", "곰욕환경폐기물", "VALID")),
+                new StoredResult(3, 0, ticket("12가8713", "2026-02-10", "A상사", "INVALID"))));
+
+        // then
+        assertThat(index.search(vehicle("8713"))).containsExactly(2);
+        assertThat(index.search(new ResultQuery(null, null, null, null, null, null, "INVALID"))).containsExactly(2, 4);
+        assertThat(index.search(new ResultQuery(null, null, null, "A상사", null, null, null))).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,79 @@
+package RECO.Internship.Assignment.application.index;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.api.dto.ResultQueryResponse;
+import RECO.Internship.Assignment.api.dto.StoredResultResponse;
+import RECO.Internship.Assignment.application.store.ParseResultStore;
+import RECO.Internship.Assignment.application.store.StoredResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultQueryService 테스트")
+class ResultQueryServiceTest {
+
+    @Mock
+    private ResultIndex resultIndex;
+    @Mock
+    private ParseResultStore parseResultStore;
+
+    @InjectMocks
+    private ResultQueryService resultQueryService;
+
+    private final ResultQuery query = new ResultQuery("8713", null, null, null, null, null, null);
+
+    private static StoredResult stored(long sequence) {
+        return new StoredResult(sequence, 1_770_000_000_000L,
+                ParsedResultResponse.builder().vehicleNumber("80구8713").build());
+    }
+
+    @Test
+    @DisplayName("최근 기록부터 요청한 페이지만 저장소에서 읽는다")
+    void query_newestFirstPage() {
+        // given
+        given(resultIndex.search(query)).willReturn(new int[] { 1, 2, 3, 4, 5 });
+        given(parseResultStore.read(anyLong())).willAnswer(invocation -> stored(invocation.getArgument(0)));
+
+        // when
+        ResultQueryResponse response = resultQueryService.query(query, 1, 2);
+
+        // then
+        assertThat(response.getTotal()).isEqualTo(5);
+        assertThat(response.getResults()).extracting(StoredResultResponse::getSequence).containsExactly(4L, 3L);
+        then(parseResultStore).should(times(2)).read(anyLong());
+    }
+
+    @Test
+    @DisplayName("색인 조회 후 압축으로 삭제된 기록은 건너뛴다")
+    void query_skipsRemovedRecords() {
+        // given
+        given(resultIndex.search(query)).willReturn(new int[] { 1, 2, 3 });
+        given(parseResultStore.read(3)).willReturn(null);
+        given(parseResultStore.read(2)).willReturn(stored(2));
+        given(parseResultStore.read(1)).willReturn(stored(1));
+
+        // when
+        ResultQueryResponse response = resultQueryService.query(query, 0, 10);
+
+        // then
+        assertThat(response.getResults()).extracting(StoredResultResponse::getSequence).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("limit이 범위를 벗어나면 IllegalArgumentException")
+    void query_invalidLimit() {
+        assertThatThrownBy(() -> resultQueryService.query(query, 0, ResultQueryService.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
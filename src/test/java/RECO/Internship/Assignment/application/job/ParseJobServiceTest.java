@@ -0,0 +1,359 @@
+package RECO.Internship.Assignment.application.job;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParseJobResponse;
+import RECO.Internship.Assignment.api.dto.ParseJobResultsResponse;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.OcrParseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParseJobService 테스트")
+class ParseJobServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-02T12:00:00Z");
+
+    @Mock
+    private OcrParseService ocrParseService;
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<ParseJobService> services = new ArrayList<>();
+
+    private ParseJobStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ParseJobStore(objectMapper, tempDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(ParseJobService::shutdown);
+        store.close();
+    }
+
+    private ParseJobService service(int workers, int queueCapacity, int maxRetained) {
+        return service(workers, queueCapacity, maxRetained, Duration.ZERO);
+    }
+
+    private ParseJobService service(int workers, int queueCapacity, int maxRetained, Duration purgeInterval) {
+        ParseJobService service = new ParseJobService(ocrParseService, store, workers, queueCapacity,
+                Duration.ofHours(1), maxRetained, purgeInterval, clock);
+        service.recover();
+        services.add(service);
+        return service;
+    }
+
+    /**
+     * 파싱 서비스에 넘어온 입력 파일 내용
+     */
+    private static String content(InvocationOnMock invocation) throws IOException {
+        return Files.readString(invocation.getArgument(0), StandardCharsets.UTF_8);
+    }
+
+    private MockMultipartFile file(String name, String content) {
+        return new MockMultipartFile("files", name, MediaType.APPLICATION_JSON_VALUE, content.getBytes());
+    }
+
+    private ParseJobResponse awaitFinished(ParseJobService service, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            ParseJobResponse status = service.status(jobId);
+            if (status.getStatus().equals("COMPLETED") || status.getStatus().equals("FAILED")) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("작업이 끝나지 않았습니다: " + jobId);
+    }
+
+    @Nested
+    @DisplayName("작업 처리")
+    class Processing {
+
+        @Test
+        @DisplayName("제출 즉시 작업 ID를 반환하고, 완료 후 입력 순서대로 파일별 결과를 반환한다")
+        void submit_thenResultsInInputOrder() throws Exception {
+            // given
+            given(ocrParseService.parseFromPath(any(Path.class))).willAnswer(invocation -> {
+                String json = content(invocation);
+                if (json.contains("broken")) {
+                    throw new IllegalArgumentException("유효하지 않은 JSON 형식입니다");
+                }
+                return ParsedResultResponse.builder().documentType(json).build();
+            });
+            ParseJobService service = service(2, 4, 10);
+
+            // when
+            ParseJobResponse submitted = service.submit(new MultipartFile[] {
+                    file("a.json", "A"), file("broken.json", "broken"), file("empty.json", ""), file("d.json", "D")
+            });
+            ParseJobResponse finished = awaitFinished(service, submitted.getJobId());
+
+            // then
+            assertThat(submitted.getJobId()).isNotBlank();
+            assertThat(submitted.getTotal()).isEqualTo(4);
+            assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+            assertThat(finished.getSucceeded()).isEqualTo(2);
+            assertThat(finished.getFailed()).isEqualTo(2);
+
+            ParseJobResultsResponse results = service.results(submitted.getJobId());
+            assertThat(results.getResults()).extracting(BatchParseResult::getFilename)
+                    .containsExactly("a.json", "broken.json", "empty.json", "d.json");
+            assertThat(results.getResults()).extracting(BatchParseResult::getIndex)
+                    .containsExactly(0, 1, 2, 3);
+            assertThat(results.getResults().get(0).getResult().getDocumentType()).isEqualTo("A");
+            assertThat(results.getResults().get(1).getError()).isEqualTo("유효하지 않은 JSON 형식입니다");
+            assertThat(results.getResults().get(2).getError()).isEqualTo("파일이 비어있습니다");
+        }
+
+        @Test
+        @DisplayName("파일명이 없는 파일은 입력 순번으로 이름을 붙인다")
+        void submit_withoutOriginalFilename() throws Exception {
+            // given
+            given(ocrParseService.parseFromPath(any(Path.class)))
+                    .willReturn(ParsedResultResponse.builder().documentType("A").build());
+            MultipartFile unnamed = mock(MultipartFile.class);
+            given(unnamed.getOriginalFilename()).willReturn(null);
+            given(unnamed.getInputStream()).willReturn(new ByteArrayInputStream("A".getBytes()));
+            ParseJobService service = service(1, 4, 10);
+
+            // when
+            String jobId = service.submit(new MultipartFile[] { file("a.json", "A"), unnamed }).getJobId();
+            awaitFinished(service, jobId);
+
+            // then
+            assertThat(service.results(jobId).getResults()).extracting(BatchParseResult::getFilename)
+                    .containsExactly("a.json", "file-1");
+        }
+
+        @Test
+        @DisplayName("처리 중인 작업은 부분 결과만 조회되고 최종 결과 요청은 거절된다")
+        void partialResults_whileRunning() throws Exception {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            given(ocrParseService.parseFromPath(any(Path.class))).willAnswer(invocation -> {
+                String json = content(invocation);
+                if (json.equals("B")) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                return ParsedResultResponse.builder().documentType(json).build();
+            });
+            ParseJobService service = service(1, 4, 10);
+            String jobId = service.submit(new MultipartFile[] { file("a.json", "A"), file("b.json", "B") }).getJobId();
+
+            // when
+            ParseJobResultsResponse partial = awaitPartial(service, jobId, 1);
+
+            // then
+            assertThat(partial.getStatus()).isEqualTo("RUNNING");
+            assertThat(partial.getResults()).extracting(BatchParseResult::getFilename).containsExactly("a.json");
+            assertThat(partial.getNextOffset()).isEqualTo(1);
+            assertThatThrownBy(() -> service.results(jobId)).isInstanceOf(ParseJobNotFinishedException.class);
+
+            release.countDown();
+            awaitFinished(service, jobId);
+            ParseJobResultsResponse rest = service.partialResults(jobId, partial.getNextOffset());
+            assertThat(rest.getResults()).extracting(BatchParseResult::getFilename).containsExactly("b.json");
+            assertThat(rest.getNextOffset()).isEqualTo(2);
+        }
+
+        private ParseJobResultsResponse awaitPartial(ParseJobService service, String jobId, int count)
+                throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                ParseJobResultsResponse partial = service.partialResults(jobId, 0);
+                if (partial.getResults().size() >= count) {
+                    return partial;
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError("부분 결과가 기록되지 않았습니다: " + jobId);
+        }
+
+        @Test
+        @DisplayName("대기 큐가 가득 차면 작업을 거절하고 저장한 파일을 지운다")
+        void submit_rejectedWhenQueueFull() throws Exception {
+            // given
+            CountDownLatch release = new CountDownLatch(1);
+            given(ocrParseService.parseFromPath(any(Path.class))).willAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return ParsedResultResponse.builder().build();
+            });
+            ParseJobService service = service(1, 1, 10);
+            MultipartFile[] files = { file("a.json", "A") };
+
+            // when
+            service.submit(files);
+            service.submit(files);
+
+            // then - 워커 1개 + 대기 1개를 넘는 세 번째 작업은 거절
+            assertThatThrownBy(() -> service.submit(files)).isInstanceOf(ParseJobRejectedException.class);
+            release.countDown();
+            try (var dirs = Files.list(tempDir)) {
+                assertThat(dirs.filter(Files::isDirectory).count()).isEqualTo(2);
+            }
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 작업 조회는 ParseJobNotFoundException")
+        void status_unknownJob() {
+            ParseJobService service = service(1, 1, 10);
+
+            assertThatThrownBy(() -> service.status("unknown")).isInstanceOf(ParseJobNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작 복구와 보관")
+    class RecoveryAndRetention {
+
+        @Test
+        @DisplayName("재시작하면 끝나지 않은 작업을 결과가 없는 파일부터 이어서 처리한다")
+        void recover_resumesUnfinishedJob() throws Exception {
+            // given - 첫 번째 파일까지 처리된 상태로 종료된 작업
+            String jobId = "resumed-job";
+            ParseJob job = ParseJob.queued(jobId, List.of("a.json", "b.json"), NOW.toEpochMilli())
+                    .running(NOW.toEpochMilli());
+            store.saveInput(jobId, 0, new ByteArrayInputStream("A".getBytes(StandardCharsets.UTF_8)));
+            store.saveInput(jobId, 1, new ByteArrayInputStream("B".getBytes(StandardCharsets.UTF_8)));
+            store.save(job);
+            BatchParseResult first = BatchParseResult.success("a.json",
+                    ParsedResultResponse.builder().documentType("A").build());
+            first.setIndex(0);
+            store.appendResult(jobId, first);
+
+            given(ocrParseService.parseFromPath(any(Path.class))).willAnswer(invocation ->
+                    ParsedResultResponse.builder().documentType(content(invocation)).build());
+
+            // when
+            ParseJobService service = service(1, 4, 10);
+            awaitFinished(service, jobId);
+
+            // then
+            ParseJobResultsResponse results = service.results(jobId);
+            assertThat(results.getResults()).extracting(result -> result.getResult().getDocumentType())
+                    .containsExactly("A", "B");
+            verify(ocrParseService, times(1)).parseFromPath(any(Path.class));
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 작업과 보관 개수를 넘는 오래된 작업은 삭제된다")
+        void purge_expiredAndOverflow() throws Exception {
+            // given
+            given(ocrParseService.parseFromPath(any(Path.class))).willReturn(ParsedResultResponse.builder().build());
+            ParseJobService service = service(1, 4, 1);
+            MultipartFile[] files = { file("a.json", "A") };
+
+            String oldest = service.submit(files).getJobId();
+            awaitFinished(service, oldest);
+            clock.advance(Duration.ofMinutes(1));
+            String newer = service.submit(files).getJobId();
+            awaitFinished(service, newer);
+
+            // when - 다음 제출 시 보관 개수(1) 초과분 정리
+            clock.advance(Duration.ofMinutes(1));
+            String latest = service.submit(files).getJobId();
+            awaitFinished(service, latest);
+
+            // then
+            assertThatThrownBy(() -> service.status(oldest)).isInstanceOf(ParseJobNotFoundException.class);
+            assertThat(service.status(newer).getStatus()).isEqualTo("COMPLETED");
+
+            // 보관 기간(1시간)이 지나면 조회되지 않는다
+            clock.advance(Duration.ofHours(2));
+            assertThatThrownBy(() -> service.status(latest)).isInstanceOf(ParseJobNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("제출이 없어도 보관 기간이 지난 작업은 주기적으로 저장소에서 삭제된다")
+        void purge_scheduledWhileIdle() throws Exception {
+            // given
+            given(ocrParseService.parseFromPath(any(Path.class))).willReturn(ParsedResultResponse.builder().build());
+            ParseJobService service = service(1, 4, 10, Duration.ofMillis(20));
+            String jobId = service.submit(new MultipartFile[] { file("a.json", "A") }).getJobId();
+            awaitFinished(service, jobId);
+
+            // when - 이후 제출 없이 보관 기간만 지남
+            clock.advance(Duration.ofHours(2));
+
+            // then
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (Files.exists(tempDir.resolve(jobId)) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(tempDir.resolve(jobId)).doesNotExist();
+        }
+    }
+
+    /**
+     * 테스트용 가변 시계 (UTC)
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            this.now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package RECO.Internship.Assignment.application.job;
+
+import RECO.Internship.Assignment.api.dto.BatchParseResult;
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ParseJobStore 테스트")
+class ParseJobStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<ParseJobStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(ParseJobStore::close);
+    }
+
+    private ParseJobStore store() {
+        ParseJobStore store = new ParseJobStore(new ObjectMapper(), tempDir.toString());
+        stores.add(store);
+        return store;
+    }
+
+    private static BatchParseResult result(int index, String documentType) {
+        BatchParseResult result = BatchParseResult.success(index + ".json",
+                ParsedResultResponse.builder()
+                        .documentType(documentType)
+                        .gps(ParsedResultResponse.GpsInfo.builder().latitude(37.1).longitude(127.3).build())
+                        .build());
+        result.setIndex(index);
+        return result;
+    }
+
+    @Test
+    @DisplayName("저장한 작업 메타데이터, 입력, 결과를 새 저장소 인스턴스에서 그대로 읽는다")
+    void saveAndLoad() throws Exception {
+        // given
+        ParseJobStore store = store();
+        ParseJob job = ParseJob.queued("job-1", List.of("0.json", "1.json"), 1000L).running(2000L);
+        store.save(job);
+        store.saveInput("job-1", 0, new ByteArrayInputStream("{\"text\":\"계량\"}".getBytes(StandardCharsets.UTF_8)));
+        store.appendResult("job-1", result(0, "계량증명서"));
+
+        // when - 재시작
+        store.close();
+        List<ParseJobStore.StoredJob> loaded = store().loadAll();
+
+        // then
+        assertThat(loaded).hasSize(1);
+        assertThat(loaded.get(0).job()).isEqualTo(job);
+        assertThat(loaded.get(0).results()).hasSize(1);
+        assertThat(loaded.get(0).results().get(0).getIndex()).isZero();
+        assertThat(loaded.get(0).results().get(0).getResult().getGps().getLatitude()).isEqualTo(37.1);
+        assertThat(Files.readString(store.inputPath("job-1", 0))).isEqualTo("{\"text\":\"계량\"}");
+    }
+
+    @Test
+    @DisplayName("기록 도중 잘린 마지막 결과 줄은 버리고, 이후 추가한 결과는 정상적으로 읽힌다")
+    void loadAll_dropsTornLastLine() throws Exception {
+        // given
+        ParseJobStore store = store();
+        store.save(ParseJob.queued("job-1", List.of("0.json", "1.json"), 1000L));
+        store.appendResult("job-1", result(0, "계량증명서"));
+        Files.writeString(tempDir.resolve("job-1").resolve("results.ndjson"), "{\"filename\":\"1.js",
+                StandardOpenOption.APPEND);
+
+        // when
+        List<ParseJobStore.StoredJob> recovered = store.loadAll();
+        store.appendResult("job-1", result(1, "계근표"));
+
+        // then
+        assertThat(recovered.get(0).results()).hasSize(1);
+        assertThat(store.loadAll().get(0).results())
+                .extracting(result -> result.getResult().getDocumentType())
+                .containsExactly("계량증명서", "계근표");
+    }
+
+    @Test
+    @DisplayName("작업 삭제 시 디렉터리 전체를 지운다")
+    void delete() throws Exception {
+        ParseJobStore store = store();
+        store.save(ParseJob.queued("job-1", List.of("0.json"), 1000L));
+        store.saveInput("job-1", 0, new ByteArrayInputStream(new byte[] { '{', '}' }));
+
+        store.delete("job-1");
+
+        assertThat(tempDir.resolve("job-1")).doesNotExist();
+        assertThat(store.loadAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 저장소가 사용 중인 디렉터리는 열지 않고, 닫힌 뒤에는 다시 열 수 있다")
+    void directoryLock() {
+        ParseJobStore store = store();
+
+        assertThatThrownBy(this::store).isInstanceOf(IllegalStateException.class);
+
+        store.close();
+        assertThat(store().loadAll()).isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package RECO.Internship.Assignment.application.metrics;
+
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ParseMetrics 테스트
+ */
+class ParseMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ParseMetrics metrics = new ParseMetrics(registry);
+
+    @Test
+    @DisplayName("단계별 소요 시간은 stage 태그로 구분된 타이머에 기록된다")
+    void recordStage() {
+        metrics.recordStage(ParseMetrics.STAGE_READ, 2_000_000);
+        metrics.recordStage(ParseMetrics.STAGE_READ, 4_000_000);
+        metrics.recordStage(ParseMetrics.STAGE_EXTRACT, 1_000_000);
+
+        var read = registry.get("ocr.parse.stage").tag("stage", "read").timer();
+        assertThat(read.count()).isEqualTo(2);
+        assertThat(read.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6.0);
+        assertThat(registry.get("ocr.parse.stage").tag("stage", "extract").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필드별 추출 시간은 field 태그로 구분된 타이머에 기록된다")
+    void recordFieldTime() {
+        metrics.recordFieldTime("totalWeight", 3_000_000);
+        metrics.recordFieldTime("totalWeight", 1_000_000);
+        metrics.recordFieldTime("customer", 500_000);
+
+        var totalWeight = registry.get("ocr.parse.field.time").tag("field", "totalWeight").timer();
+        assertThat(totalWeight.count()).isEqualTo(2);
+        assertThat(totalWeight.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(4.0);
+        assertThat(registry.get("ocr.parse.field.time").tag("field", "customer").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필드별 추출 성공/실패를 집계한다")
+    void recordFields() {
+        ExtractedFields fields = new ExtractedFields("계량증명서", "2026-02-02", null, "80구8713",
+                12480, 7470, 5010, null, null, null, null);
+
+        metrics.recordFields(fields);
+        metrics.recordFields(fields);
+
+        assertThat(registry.get("ocr.parse.field").tags("field", "documentType", "result", "hit")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("ocr.parse.field").tags("field", "time", "result", "miss")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(registry.find("ocr.parse.field").tags("field", "time", "result", "hit")
+                .counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("검증기 소요 시간과 전체 검증 상태를 집계한다")
+    void recordValidatorAndStatus() {
+        metrics.recordValidator(ParseMetrics.VALIDATOR_WEIGHT, 500_000);
+        metrics.recordStatus("VALID");
+        metrics.recordStatus("VALID");
+        metrics.recordStatus("WARNING");
+
+        assertThat(registry.get("ocr.parse.validator").tag("validator", "weight").timer().count()).isEqualTo(1);
+        assertThat(registry.get("ocr.parse.status").tag("status", "VALID").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("ocr.parse.status").tag("status", "WARNING").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("추출 경로별 문서 수를 집계한다")
+    void recordTier() {
+        metrics.recordTier("TEXT");
+        metrics.recordTier("TEXT");
+        metrics.recordTier("LAYOUT");
+
+        assertThat(registry.get("ocr.parse.tier").tag("tier", "TEXT").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("ocr.parse.tier").tag("tier", "LAYOUT").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,338 @@
+package RECO.Internship.Assignment.application.store;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ParseResultStore 테스트")
+class ParseResultStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-02T12:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final List<ParseResultStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(ParseResultStore::shutdown);
+    }
+
+    private ParseResultStore open(long segmentBytes) {
+        ParseResultStore store = new ParseResultStore(new ObjectMapper(), true, tempDir, segmentBytes, true, 256,
+                1024, Duration.ofDays(1), Duration.ZERO, clock);
+        stores.add(store);
+        return store;
+    }
+
+    private static ParsedResultResponse ticket(String vehicleNumber, String time, int netWeight) {
+        return ParsedResultResponse.builder()
+                .vehicleNumber(vehicleNumber)
+                .date("2026-02-02")
+                .time(time)
+                .netWeight(netWeight)
+                .build();
+    }
+
+    private static List<Long> sequences(ParseResultStore store) {
+        List<Long> sequences = new ArrayList<>();
+        store.replay(stored -> sequences.add(stored.sequence()));
+        return sequences;
+    }
+
+    @Nested
+    @DisplayName("기록과 조회")
+    class AppendAndRead {
+
+        @Test
+        @DisplayName("기록하면 1부터 증가하는 번호가 매겨지고 번호로 다시 읽을 수 있다")
+        void append_thenRead() throws Exception {
+            // given
+            ParseResultStore store = open(1 << 20);
+
+            // when
+            StoredResult first = store.append(ticket("80구8713", "05:37:55", 5010)).get();
+            StoredResult second = store.append(ticket("12가3456", "06:00:00", 3000)).get();
+
+            // then
+            assertThat(first.sequence()).isEqualTo(1);
+            assertThat(second.sequence()).isEqualTo(2);
+            assertThat(first.storedAt()).isEqualTo(NOW.toEpochMilli());
+            StoredResult read = store.read(1);
+            assertThat(read.result().getVehicleNumber()).isEqualTo("80구8713");
+            assertThat(read.result().getNetWeight()).isEqualTo(5010);
+            assertThat(store.read(3)).isNull();
+            assertThat(store.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("동시에 들어온 기록은 묶어서 확정된다 (fsync 횟수 ≤ 기록 수)")
+        void append_groupCommit() throws Exception {
+            // given
+            ParseResultStore store = open(1 << 20);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<StoredResult>> futures = new ArrayList<>();
+
+            // when
+            try {
+                for (int i = 0; i < 400; i++) {
+                    int weight = i;
+                    futures.add(executor.submit(() -> store.append(ticket("80구" + weight, "05:00:00", weight)).get()));
+                }
+                for (Future<StoredResult> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            // then
+            assertThat(store.appendCount()).isEqualTo(400);
+            assertThat(store.commitCount()).isBetween(1L, 400L);
+            assertThat(sequences(store)).hasSize(400).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("세그먼트 크기를 넘으면 새 세그먼트로 넘어간다")
+        void append_rollsSegments() throws Exception {
+            // given
+            ParseResultStore store = open(400);
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                store.append(ticket("80구" + i, "05:00:00", i)).get();
+            }
+
+            // then
+            assertThat(store.segmentCount()).isGreaterThan(1);
+            assertThat(sequences(store)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("재시작 복구")
+    class Recovery {
+
+        @Test
+        @DisplayName("다시 열면 기존 기록을 복구하고 번호를 이어서 매긴다")
+        void reopen_restoresRecords() throws Exception {
+            // given
+            ParseResultStore store = open(400);
+            for (int i = 0; i < 5; i++) {
+                store.append(ticket("80구" + i, "05:00:00", i)).get();
+            }
+            store.shutdown();
+
+            // when
+            ParseResultStore reopened = open(400);
+            StoredResult next = reopened.append(ticket("12가3456", "06:00:00", 1)).get();
+
+            // then
+            assertThat(reopened.size()).isEqualTo(6);
+            assertThat(reopened.read(3).result().getVehicleNumber()).isEqualTo("80구2");
+            assertThat(next.sequence()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("비정상 종료로 잘린 마지막 기록은 버리고 앞의 기록은 그대로 복구한다")
+        void reopen_truncatesTornTail() throws Exception {
+            // given
+            ParseResultStore store = open(1 << 20);
+            store.append(ticket("80구8713", "05:37:55", 5010)).get();
+            store.append(ticket("12가3456", "06:00:00", 3000)).get();
+            store.shutdown();
+            Path segment;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                segment = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+            }
+            long validSize = Files.size(segment);
+            Files.write(segment, new byte[] { 0, 0, 0, 100, 1, 2, 3, 4, 5 }, StandardOpenOption.APPEND);
+
+            // when
+            ParseResultStore reopened = open(1 << 20);
+
+            // then
+            assertThat(reopened.size()).isEqualTo(2);
+            assertThat(Files.size(segment)).isEqualTo(validSize);
+            assertThat(reopened.append(ticket("34나5678", "07:00:00", 1)).get().sequence()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("압축")
+    class Compaction {
+
+        @Test
+        @DisplayName("같은 계량표를 다시 기록하면 닫힌 세그먼트의 이전 기록이 제거된다")
+        void compact_removesSupersededTickets() throws Exception {
+            // given
+            ParseResultStore store = open(400);
+            List<Long> removed = new CopyOnWriteArrayList<>();
+            store.subscribe(new ResultStoreListener() {
+                @Override
+                public void onAppend(StoredResult stored) {
+                }
+
+                @Override
+                public void onRemove(StoredResult stored) {
+                    removed.add(stored.sequence());
+                }
+            });
+            long superseded = store.append(ticket("80구8713", "05:37:55", 5010)).get().sequence();
+            for (int i = 0; i < 6; i++) {
+                store.append(ticket("80구" + i, "06:00:00", i)).get();
+            }
+            long latest = store.append(ticket("80구8713", "05:37:55", 5020)).get().sequence();
+
+            // when
+            long count = store.compact();
+
+            // then
+            assertThat(count).isEqualTo(1);
+            assertThat(removed).containsExactly(superseded);
+            assertThat(store.read(superseded)).isNull();
+            assertThat(store.read(latest).result().getNetWeight()).isEqualTo(5020);
+            assertThat(store.size()).isEqualTo(7);
+            store.shutdown();
+            assertThat(sequences(open(400))).hasSize(7).doesNotContain(superseded);
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 기록만 있는 세그먼트는 삭제된다")
+        void compact_dropsExpiredSegments() throws Exception {
+            // given
+            ParseResultStore store = open(400);
+            for (int i = 0; i < 3; i++) {
+                store.append(ticket("80구" + i, "05:00:00", i)).get();
+            }
+            clock.advance(Duration.ofDays(2));
+            CompletableFuture<StoredResult> fresh = store.append(ticket("12가3456", "06:00:00", 1));
+            for (int i = 0; i < 3; i++) {
+                store.append(ticket("34나" + i, "07:00:00", i)).get();
+            }
+            int segments = store.segmentCount();
+
+            // when
+            long count = store.compact();
+
+            // then
+            assertThat(count).isEqualTo(3);
+            assertThat(store.segmentCount()).isEqualTo(segments - 1);
+            assertThat(sequences(store)).doesNotContain(1L, 2L, 3L).contains(fresh.get().sequence());
+        }
+    }
+
+    @Test
+    @DisplayName("구독하면 기존 기록을 먼저 받고 이후 기록을 이어서 받는다")
+    void subscribe_replaysThenFollows() throws Exception {
+        // given
+        ParseResultStore store = open(1 << 20);
+        store.append(ticket("80구8713", "05:37:55", 5010)).get();
+        List<Long> received = new CopyOnWriteArrayList<>();
+
+        // when
+        store.subscribe(stored -> received.add(stored.sequence()));
+        store.append(ticket("12가3456", "06:00:00", 3000)).get();
+
+        // then
+        assertThat(received).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("여러 구독자를 함께 구독하면 저장소를 한 번만 재생해 기록마다 모든 구독자에게 전달한다")
+    void subscribeAll_replaysOnce() throws Exception {
+        // given
+        ParseResultStore store = open(1 << 20);
+        store.append(ticket("80구8713", "05:37:55", 5010)).get();
+        store.append(ticket("12가3456", "06:00:00", 3000)).get();
+        List<String> received = new CopyOnWriteArrayList<>();
+
+        // when
+        store.subscribeAll(List.of(
+                stored -> received.add("index-" + stored.sequence()),
+                stored -> received.add("aggregate-" + stored.sequence())));
+        store.append(ticket("34나5678", "07:00:00", 4000)).get();
+
+        // then - 구독자별로 따로 재생했다면 index-1, index-2, aggregate-1, ... 순서
+        assertThat(received).containsExactly("index-1", "aggregate-1", "index-2", "aggregate-2", "index-3",
+                "aggregate-3");
+    }
+
+    @Test
+    @DisplayName("다른 저장소가 열어 둔 디렉터리는 열지 않고, 닫힌 뒤에는 다시 열 수 있다")
+    void directoryLock() throws Exception {
+        ParseResultStore store = open(1 << 20);
+        store.append(ticket("80구8713", "05:37:55", 5010)).get();
+
+        assertThatThrownBy(() -> open(1 << 20)).isInstanceOf(IllegalStateException.class);
+
+        store.shutdown();
+        assertThat(open(1 << 20).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장소를 끄면 디스크를 쓰지 않고 null로 바로 완료된다")
+    void disabled() throws Exception {
+        ParseResultStore store = ParseResultStore.disabled();
+
+        assertThat(store.append(ticket("80구8713", "05:37:55", 5010)).get()).isNull();
+        assertThat(store.isEnabled()).isFalse();
+    }
+
+    /**
+     * 테스트용 가변 시계 (UTC)
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            this.now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
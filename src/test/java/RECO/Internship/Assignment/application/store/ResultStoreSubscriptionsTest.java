@@ -0,0 +1,54 @@
+package RECO.Internship.Assignment.application.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultStoreSubscriptions 테스트")
+class ResultStoreSubscriptionsTest {
+
+    @Mock
+    private ParseResultStore parseResultStore;
+    @Mock
+    private ResultStoreListener index;
+    @Mock
+    private ResultStoreListener columns;
+
+    @Test
+    @DisplayName("켜져 있는 구독자만 모아 한 번에 구독한다")
+    void subscribe_enabledListenersAtOnce() {
+        // given
+        given(parseResultStore.isEnabled()).willReturn(true);
+        given(index.isEnabled()).willReturn(true);
+        given(columns.isEnabled()).willReturn(false);
+
+        // when
+        new ResultStoreSubscriptions(parseResultStore, List.of(index, columns)).subscribe();
+
+        // then
+        then(parseResultStore).should().subscribeAll(List.of(index));
+    }
+
+    @Test
+    @DisplayName("저장소가 꺼져 있으면 구독하지 않는다")
+    void subscribe_storeDisabled() {
+        // given
+        given(parseResultStore.isEnabled()).willReturn(false);
+
+        // when
+        new ResultStoreSubscriptions(parseResultStore, List.of(index, columns)).subscribe();
+
+        // then
+        then(parseResultStore).should(never()).subscribeAll(any());
+    }
+}
@@ -0,0 +1,187 @@
+package RECO.Internship.Assignment.application.watch;
+
+import RECO.Internship.Assignment.api.dto.ParsedResultResponse;
+import RECO.Internship.Assignment.application.OcrParseService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DropFolderWatcher 테스트")
+class DropFolderWatcherTest {
+
+    @Mock
+    private OcrParseService ocrParseService;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DropFolderWatcher watcher;
+
+    @AfterEach
+    void tearDown() {
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    private DropFolderWatcher watcher(long settleMs) throws IOException {
+        Files.createDirectories(tempDir.resolve("inbox"));
+        watcher = new DropFolderWatcher(ocrParseService, objectMapper, true,
+                tempDir.resolve("inbox").toString(), tempDir.resolve("results").toString(),
+                tempDir.resolve("archive").toString(), tempDir.resolve("error").toString(), 2, settleMs);
+        return watcher;
+    }
+
+    private Path inbox(String filename) {
+        return tempDir.resolve("inbox").resolve(filename);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("조건이 충족되지 않았습니다");
+    }
+
+    private JsonNode result(String filename) throws IOException {
+        return objectMapper.readTree(tempDir.resolve("results").resolve(filename).toFile());
+    }
+
+    @Nested
+    @DisplayName("파일 수집")
+    class Ingestion {
+
+        @Test
+        @DisplayName("시작 전에 들어와 있던 파일을 파싱하고 결과 기록 후 archive로 옮긴다")
+        void start_processesExistingFiles() throws Exception {
+            // given
+            Files.writeString(inbox("a.json"), "{\"text\": \"A\"}");
+            Files.writeString(inbox("notes.txt"), "무시");
+            given(ocrParseService.parseFromPath(any(Path.class)))
+                    .willReturn(ParsedResultResponse.builder().documentType("계량증명서").build());
+
+            // when
+            watcher(50).start();
+            await(() -> Files.exists(tempDir.resolve("archive").resolve("a.json")));
+
+            // then
+            JsonNode result = result("a.result.json");
+            assertThat(result.get("filename").asText()).isEqualTo("a.json");
+            assertThat(result.get("success").asBoolean()).isTrue();
+            assertThat(result.get("result").get("documentType").asText()).isEqualTo("계량증명서");
+            assertThat(inbox("a.json")).doesNotExist();
+            assertThat(inbox("notes.txt")).exists();
+        }
+
+        @Test
+        @DisplayName("시작 후 떨어진 파일도 처리하고, 파싱에 실패한 파일은 error로 옮긴다")
+        void watch_processesNewFiles() throws Exception {
+            // given
+            given(ocrParseService.parseFromPath(any(Path.class))).willAnswer(invocation -> {
+                Path file = invocation.getArgument(0);
+                if (file.getFileName().toString().startsWith("broken")) {
+                    throw new IllegalArgumentException("OCR 텍스트가 비어있습니다");
+                }
+                return ParsedResultResponse.builder().documentType("계량증명서").build();
+            });
+            watcher(50).start();
+
+            // when
+            Files.writeString(inbox("b.json"), "{\"text\": \"B\"}");
+            Files.writeString(inbox("broken.json"), "{\"text\": \"\"}");
+            Files.writeString(inbox("empty.json"), "");
+            await(() -> Files.exists(tempDir.resolve("archive").resolve("b.json"))
+                    && Files.exists(tempDir.resolve("error").resolve("broken.json"))
+                    && Files.exists(tempDir.resolve("error").resolve("empty.json")));
+
+            // then
+            assertThat(result("b.result.json").get("success").asBoolean()).isTrue();
+            assertThat(result("broken.result.json").get("error").asText()).isEqualTo("OCR 텍스트가 비어있습니다");
+            assertThat(result("empty.result.json").get("error").asText()).isEqualTo("파일이 비어있습니다");
+        }
+
+        @Test
+        @DisplayName("쓰는 중인 파일은 크기가 더 이상 바뀌지 않을 때까지 처리하지 않는다")
+        void watch_waitsUntilFileSettles() throws Exception {
+            // given
+            given(ocrParseService.parseFromPath(any(Path.class))).willAnswer(invocation -> {
+                String content = Files.readString(invocation.getArgument(0), StandardCharsets.UTF_8);
+                return ParsedResultResponse.builder().documentType(content).build();
+            });
+            watcher(300).start();
+
+            // when - 설정 시간보다 짧은 간격으로 이어서 기록
+            Path file = inbox("slow.json");
+            Files.writeString(file, "{\"text\": ");
+            for (int i = 0; i < 5; i++) {
+                Thread.sleep(100);
+                Files.writeString(file, "\"x\" ", StandardOpenOption.APPEND);
+            }
+            Files.writeString(file, "}", StandardOpenOption.APPEND);
+            await(() -> Files.exists(tempDir.resolve("archive").resolve("slow.json")));
+
+            // then
+            assertThat(result("slow.result.json").get("result").get("documentType").asText())
+                    .isEqualTo("{\"text\": \"x\" \"x\" \"x\" \"x\" \"x\" }");
+            then(ocrParseService).should(times(1)).parseFromPath(any(Path.class));
+        }
+
+        @Test
+        @DisplayName("입력 폴더가 지워져 감시가 풀려도 폴더를 다시 만들고 감시를 이어간다")
+        void watch_recoversWhenInputDirRemoved() throws Exception {
+            // given
+            given(ocrParseService.parseFromPath(any(Path.class)))
+                    .willReturn(ParsedResultResponse.builder().documentType("계량증명서").build());
+            DropFolderWatcher watcher = watcher(50);
+            watcher.start();
+            assertThat(watcher.isWatching()).isTrue();
+
+            // when
+            Files.delete(tempDir.resolve("inbox"));
+            await(() -> watcher.watchFailures() > 0 && watcher.isWatching());
+            Files.writeString(inbox("c.json"), "{\"text\": \"C\"}");
+
+            // then
+            await(() -> Files.exists(tempDir.resolve("archive").resolve("c.json")));
+            assertThat(result("c.result.json").get("success").asBoolean()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("숨김 파일과 .json이 아닌 파일은 수집 대상이 아니다")
+    void isCandidate() throws IOException {
+        Path inbox = Files.createDirectories(tempDir.resolve("inbox"));
+
+        assertThat(DropFolderWatcher.isCandidate(Files.writeString(inbox.resolve("a.JSON"), "{}"))).isTrue();
+        assertThat(DropFolderWatcher.isCandidate(Files.writeString(inbox.resolve(".a.json"), "{}"))).isFalse();
+        assertThat(DropFolderWatcher.isCandidate(Files.writeString(inbox.resolve("a.json.part"), "{}"))).isFalse();
+        assertThat(DropFolderWatcher.isCandidate(Files.createDirectories(inbox.resolve("dir.json")))).isFalse();
+    }
+}
@@ -5,6 +5,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -244,4 +248,94 @@ class FieldExtractorTest {
             assertThat(fieldExtractor.extractIssuer(text)).isEqualTo("동우바이오(주)");
         }
     }
+
+    @Nested
+    @DisplayName("일괄 추출 (단일 순회)")
+    class ExtractAll {
+
+        @Test
+        @DisplayName("필드별 시간 기록을 켜면 모든 필드의 소요 시간을 넘기고 결과는 같다")
+        void extractAll_recordsFieldTimes() {
+            String text = "계 량 증 명 서\n계량일자: 2026-02-02\n차량번호: 8713\n실 중 량: 5,010 kg";
+            Map<String, Long> times = new LinkedHashMap<>();
+            FieldExtractor timed = new FieldExtractor(
+                    (field, elapsedNanos) -> times.merge(field, elapsedNanos, Long::sum));
+
+            ExtractedFields fields = timed.extractAll(text);
+
+            assertThat(fields).usingRecursiveComparison().isEqualTo(fieldExtractor.extractAll(text));
+            assertThat(times).containsOnlyKeys("documentType", "date", "time", "vehicleNumber", "totalWeight",
+                    "emptyWeight", "netWeight", "customer", "productName", "issuer", "gps");
+            assertThat(times.values()).allSatisfy(elapsed -> assertThat(elapsed).isNotNegative());
+        }
+
+        @Test
+        @DisplayName("개별 추출 메서드와 동일한 결과를 반환한다")
+        void extractAll_matchesIndividualExtractors() {
+            List<String> texts = List.of(
+                    "계 량 증 명 서 \n계량일자: 2026-02-02",
+                    "계 근 표 \n날짜: 2026-02-02",
+                    "계량확인서 발행",
+                    "Date: 2026/2/5",
+                    "차 번 호: 12가3456",
+                    "차량 No. 34나5678",
+                    "총 중 량: 05:37:55 12,480 kg",
+                    "공차중량: 04:26:18 7,470 kg",
+                    "차 중 량: 8,500 kg",
+                    "거 래 처: 곰욕환경폐기물 \n품명: 폐기물",
+                    "상호: ABC회사 총중량:",
+                    "발행: 한국환경주식회사",
+                    "주소: 경기도 용인시",
+                    """
+                    계 량 증 명 서
+                    계량일자: 2026-02-02 0016
+                    차량번호: 8713
+                    거 래 처: 곰욕환경폐기물
+                    총 중 량: 05:37:55 12,480 kg
+                    공차중량: 04:26:18 7,470 kg
+                    실 중 량: 5,010 kg
+                    동우바이오(주)
+                    37.105317, 127.375673
+                    """);
+
+            for (String text : texts) {
+                ExtractedFields fields = fieldExtractor.extractAll(text);
+
+                assertThat(fields.documentType()).isEqualTo(fieldExtractor.extractDocumentType(text));
+                assertThat(fields.date()).isEqualTo(fieldExtractor.extractDate(text));
+                assertThat(fields.time()).isEqualTo(fieldExtractor.extractTime(text));
+                assertThat(fields.vehicleNumber()).isEqualTo(fieldExtractor.extractVehicleNumber(text));
+                assertThat(fields.totalWeight()).isEqualTo(fieldExtractor.extractTotalWeight(text));
+                assertThat(fields.emptyWeight()).isEqualTo(fieldExtractor.extractEmptyWeight(text));
+                assertThat(fields.netWeight()).isEqualTo(fieldExtractor.extractNetWeight(text));
+                assertThat(fields.customer()).isEqualTo(fieldExtractor.extractCustomer(text));
+                assertThat(fields.productName()).isEqualTo(fieldExtractor.extractProductName(text));
+                assertThat(fields.issuer()).isEqualTo(fieldExtractor.extractIssuer(text));
+                assertThat(fields.gpsCoordinates()).isEqualTo(fieldExtractor.extractGpsCoordinates(text));
+            }
+        }
+
+        @Test
+        @DisplayName("sample_01 형식 데이터에서 모든 필드를 한 번에 추출한다")
+        void extractAll_sample01Format() {
+            String text = """
+                    계 량 증 명 서
+                    차량번호: 8713
+                    총 중 량: 05:37:55 12,480 kg
+                    공차중량: 04:26:18 7,470 kg
+                    실 중 량: 5,010 kg
+                    동우바이오(주)
+                    """;
+
+            ExtractedFields fields = fieldExtractor.extractAll(text);
+
+            assertThat(fields.documentType()).isEqualTo("계량증명서");
+            assertThat(fields.vehicleNumber()).isEqualTo("8713");
+            assertThat(fields.totalWeight()).isEqualTo(12480);
+            assertThat(fields.emptyWeight()).isEqualTo(7470);
+            assertThat(fields.netWeight()).isEqualTo(5010);
+            assertThat(fields.issuer()).isEqualTo("동우바이오(주)");
+            assertThat(fields.gpsCoordinates()).isNull();
+        }
+    }
 }
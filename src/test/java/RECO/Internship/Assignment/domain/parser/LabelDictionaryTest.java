@@ -0,0 +1,91 @@
+package RECO.Internship.Assignment.domain.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LabelDictionary 테스트
+ */
+class LabelDictionaryTest {
+
+    @Nested
+    @DisplayName("문서 종류 라벨")
+    class DocumentTypes {
+
+        @Test
+        @DisplayName("음절 사이 공백을 건너뛰고 원본 오프셋으로 매칭한다")
+        void findFirst_skipsWhitespace() {
+            String text = "* 계 그 표 * \n날 짜: 2026-02-02";
+
+            LabelDictionary.LabelMatch<String> match = LabelDictionary.DOCUMENT_TYPES.findFirst(text);
+
+            assertThat(match).isNotNull();
+            assertThat(match.value()).isEqualTo("계그표");
+            assertThat(text.substring(match.start(), match.end())).isEqualTo("계 그 표");
+        }
+
+        @Test
+        @DisplayName("줄바꿈으로 나뉜 라벨도 찾는다")
+        void findFirst_acrossLineBreak() {
+            LabelDictionary.LabelMatch<String> match = LabelDictionary.DOCUMENT_TYPES.findFirst("계량\n확인서 발행");
+
+            assertThat(match).isNotNull();
+            assertThat(match.value()).isEqualTo("계량확인서");
+            assertThat(match.start()).isZero();
+        }
+
+        @Test
+        @DisplayName("가장 앞에서 시작하는 라벨을 반환한다")
+        void findFirst_leftmost() {
+            LabelDictionary.LabelMatch<String> match = LabelDictionary.DOCUMENT_TYPES.findFirst("계 량 증 명 표 / 계근표");
+
+            assertThat(match.value()).isEqualTo("계량증명표");
+        }
+
+        @Test
+        @DisplayName("라벨이 없으면 null을 반환한다")
+        void findFirst_notFound() {
+            assertThat(LabelDictionary.DOCUMENT_TYPES.findFirst("계량일자: 2026-02-02")).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("접미사가 겹치는 라벨을 모두 찾는다")
+    void findAll_overlappingLabels() {
+        LabelDictionary<String> dictionary = LabelDictionary.<String>builder()
+                .add("공차중량", "EMPTY")
+                .add("차 중 량", "EMPTY_ALT")
+                .add("중량", "WEIGHT")
+                .build();
+
+        List<LabelDictionary.LabelMatch<String>> matches = dictionary.findAll("공 차 중 량: 7,470 kg");
+
+        assertThat(matches).extracting(LabelDictionary.LabelMatch::value)
+                .containsExactly("EMPTY", "EMPTY_ALT", "WEIGHT");
+        assertThat(matches).extracting(LabelDictionary.LabelMatch::start)
+                .containsExactly(0, 2, 4);
+        assertThat(matches).extracting(LabelDictionary.LabelMatch::end)
+                .containsOnly(7);
+    }
+
+    @Test
+    @DisplayName("겹치는 라벨 중 앞에서부터 가장 긴 라벨만 남긴다")
+    void findAllLongest_nonOverlapping() {
+        LabelDictionary<String> dictionary = LabelDictionary.<String>builder()
+                .add("공차중량", "EMPTY")
+                .add("차중량", "EMPTY_ALT")
+                .add("중량", "WEIGHT")
+                .add("실중량", "NET")
+                .build();
+
+        List<LabelDictionary.LabelMatch<String>> matches = dictionary.findAllLongest("공 차 중 량: 7,470 실중량 5,010 중량");
+
+        assertThat(matches).extracting(LabelDictionary.LabelMatch::value)
+                .containsExactly("EMPTY", "NET", "WEIGHT");
+    }
+}
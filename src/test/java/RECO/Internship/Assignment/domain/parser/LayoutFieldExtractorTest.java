@@ -0,0 +1,111 @@
+package RECO.Internship.Assignment.domain.parser;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LayoutFieldExtractor 테스트
+ */
+class LayoutFieldExtractorTest {
+
+    private final FieldExtractor fieldExtractor = new FieldExtractor();
+    private final LayoutFieldExtractor layoutFieldExtractor = new LayoutFieldExtractor(fieldExtractor);
+
+    private static OcrDocument document(String text, List<OcrWord> words) {
+        return new OcrDocument(text, List.of(text), 0.93, null, words);
+    }
+
+    private static List<OcrWord> words(Object[][] rows) {
+        List<OcrWord> words = new ArrayList<>();
+        for (Object[] row : rows) {
+            words.add(new OcrWord(0, words.size(), (String) row[0], 0.95,
+                    (int) row[1], (int) row[2], (int) row[3], (int) row[4]));
+        }
+        return words;
+    }
+
+    @Test
+    @DisplayName("천 단위 구분자가 공백/기호로 쪼개진 중량을 라벨 옆 값으로 읽는다")
+    void extract_splitThousands() {
+        // sample_02 - 텍스트 추출은 "13 460"에서 13만 읽는다
+        String text = "차번호: 80구8713 \n상 호: 고요환경 \n품 명: 식물 \n총중량: 02:07 13 460 kg \n· \n"
+                + "차중량: 02 : 13 7 560 kg \n, \n실중량: 5 900 kg \n2026-02-02 02:14:23";
+        List<OcrWord> words = words(new Object[][] {
+                { "차번호:", 80, 765, 309, 831 }, { "80구8713", 387, 775, 654, 841 },
+                { "상", 75, 848, 138, 914 }, { "호:", 223, 855, 307, 907 }, { "고요환경", 394, 858, 647, 921 },
+                { "품", 73, 931, 136, 997 }, { "명:", 218, 930, 305, 998 }, { "식물", 477, 941, 583, 1002 },
+                { "총중량:", 65, 1176, 301, 1253 }, { "02:07", 414, 1184, 583, 1238 }, { "13", 802, 1182, 908, 1237 },
+                { "460", 986, 1182, 1178, 1242 }, { "kg", 1258, 1183, 1391, 1249 }, { "·", 935, 1223, 956, 1243 },
+                { "차중량:", 64, 1263, 300, 1338 }, { "02", 413, 1267, 484, 1322 }, { ":", 490, 1273, 505, 1314 },
+                { "13", 522, 1265, 582, 1321 }, { "7", 852, 1265, 905, 1320 }, { "560", 989, 1264, 1179, 1322 },
+                { "kg", 1260, 1269, 1393, 1336 }, { ",", 934, 1306, 960, 1330 },
+                { "실중량:", 61, 1346, 299, 1424 }, { "5", 851, 1347, 910, 1402 }, { "900", 989, 1347, 1181, 1408 },
+                { "kg", 1261, 1353, 1397, 1424 },
+                { "2026-02-02", 30, 1801, 250, 1837 }, { "02:14:23", 256, 1801, 424, 1837 } });
+
+        ExtractedFields fields = layoutFieldExtractor.extract(document(text, words));
+
+        assertThat(fields.totalWeight()).isEqualTo(13460);
+        assertThat(fields.emptyWeight()).isEqualTo(7560);
+        assertThat(fields.netWeight()).isEqualTo(5900);
+        assertThat(fields.vehicleNumber()).isEqualTo("80구8713");
+        assertThat(fields.customer()).isEqualTo("고요환경");
+        assertThat(fields.productName()).isEqualTo("식물");
+        assertThat(fields.date()).isEqualTo("2026-02-02");
+        assertThat(fields.time()).isEqualTo("02:14:23");
+    }
+
+    @Test
+    @DisplayName("라벨이 깨지거나 없는 중량 행은 위에서부터 총중량, 공차중량 순으로 채운다")
+    void extract_reorderedWeightRows() {
+        // sample_01 - "품종명랑 05:26:18 12,480 kg"처럼 라벨과 값이 뒤섞인 텍스트
+        String text = "품종명랑 05:26:18 12,480 kg \n명: \n중 량: \n05:36:01 7,470 kg \n실 중 량: 5,010 kg";
+        List<OcrWord> words = words(new Object[][] {
+                { "품종명랑", 150, 967, 386, 1272 }, { "05:26:18", 409, 1064, 623, 1157 },
+                { "12,480", 700, 1068, 860, 1156 }, { "kg", 886, 1069, 935, 1155 },
+                { "명:", 312, 969, 385, 1065 }, { "중", 232, 1072, 285, 1163 }, { "량:", 312, 1063, 384, 1158 },
+                { "05:36:01", 411, 1168, 622, 1258 }, { "7,470", 720, 1171, 865, 1263 }, { "kg", 889, 1178, 937, 1259 },
+                { "실", 152, 1281, 204, 1379 }, { "중", 234, 1279, 287, 1370 }, { "량:", 314, 1275, 388, 1366 },
+                { "5,010", 722, 1278, 865, 1369 }, { "kg", 891, 1283, 940, 1359 } });
+
+        ExtractedFields fields = layoutFieldExtractor.extract(document(text, words));
+
+        assertThat(fields.totalWeight()).isEqualTo(12480);
+        assertThat(fields.emptyWeight()).isEqualTo(7470);
+        assertThat(fields.netWeight()).isEqualTo(5010);
+    }
+
+    @Test
+    @DisplayName("라벨만 있고 값이 비어 있으면 다음 줄 글자를 값으로 읽지 않는다")
+    void extract_emptyLabelValue() {
+        String text = "제 품 명 : \n총 중 량 : 14,080 kg";
+        List<OcrWord> words = words(new Object[][] {
+                { "제", 100, 100, 140, 150 }, { "품", 160, 100, 200, 150 }, { "명", 220, 100, 260, 150 },
+                { ":", 280, 100, 290, 150 },
+                { "총", 100, 200, 140, 250 }, { "중", 160, 200, 200, 250 }, { "량", 220, 200, 260, 250 },
+                { ":", 280, 200, 290, 250 }, { "14,080", 400, 200, 520, 250 }, { "kg", 540, 200, 580, 250 } });
+
+        ExtractedFields fields = layoutFieldExtractor.extract(document(text, words));
+
+        assertThat(fieldExtractor.extractProductName(text)).isEqualTo("총");
+        assertThat(fields.productName()).isNull();
+        assertThat(fields.totalWeight()).isEqualTo(14080);
+    }
+
+    @Test
+    @DisplayName("단어 정보가 없으면 텍스트 기반 추출과 같은 결과를 반환한다")
+    void extract_withoutWords() {
+        String text = "계량증명서 \n차량번호: 80구8713 \n총중량: 12,480 kg";
+
+        ExtractedFields fields = layoutFieldExtractor.extract(OcrDocument.of(text, 0.9));
+
+        assertThat(fields).usingRecursiveComparison().isEqualTo(fieldExtractor.extractAll(text));
+    }
+}
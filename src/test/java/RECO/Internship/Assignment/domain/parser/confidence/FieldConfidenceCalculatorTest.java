@@ -0,0 +1,90 @@
+package RECO.Internship.Assignment.domain.parser.confidence;
+
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import RECO.Internship.Assignment.domain.parser.ExtractedFields;
+import RECO.Internship.Assignment.domain.parser.FieldExtractor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FieldConfidenceCalculator 테스트
+ */
+class FieldConfidenceCalculatorTest {
+
+    private final FieldConfidenceCalculator calculator = new FieldConfidenceCalculator();
+
+    private static OcrDocument document(String text, Object[][] words) {
+        List<OcrWord> list = new ArrayList<>();
+        for (Object[] word : words) {
+            list.add(new OcrWord(0, list.size(), (String) word[0], (double) word[1], 0, 0, 0, 0));
+        }
+        return new OcrDocument(text, List.of(text), 0.9, null, list);
+    }
+
+    private static ExtractedFields fields(String date, String vehicleNumber, Integer totalWeight, String customer) {
+        return new ExtractedFields(null, date, null, vehicleNumber, totalWeight, null, null, customer, null, null,
+                null);
+    }
+
+    @Test
+    @DisplayName("정규화된 값의 원본 구간에 걸친 단어 신뢰도로 필드 신뢰도를 계산한다")
+    void calculate() {
+        OcrDocument document = document("계 량 일 자: 2026.02.02 \n차량번호: 80구8713 \n총중량: 13 460 kg", new Object[][] {
+                { "계", 0.9 }, { "량", 0.9 }, { "일", 0.9 }, { "자:", 0.9 }, { "2026.02.02", 0.95 },
+                { "차량번호:", 0.99 }, { "80구8713", 0.97 },
+                { "총중량:", 0.9 }, { "13", 0.5 }, { "460", 1.0 }, { "kg", 0.9 } });
+
+        Map<String, Double> result = calculator.calculate(document, fields("2026-02-02", "80구8713", 13460, null));
+
+        assertThat(result).containsOnlyKeys("date", "vehicleNumber", "totalWeight");
+        assertThat(result.get("date")).isEqualTo(0.95);
+        assertThat(result.get("vehicleNumber")).isEqualTo(0.97);
+        // "13"(2글자 x 0.5) + "460"(3글자 x 1.0)
+        assertThat(result.get("totalWeight")).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("숫자 일부에만 걸치는 위치는 건너뛰고 토큰 경계에 맞는 위치를 사용한다")
+    void calculate_tokenBoundary() {
+        OcrDocument document = document("14130 kg \n130 kg", new Object[][] {
+                { "14130", 0.4 }, { "kg", 0.9 }, { "130", 0.98 }, { "kg", 0.9 } });
+
+        Map<String, Double> result = calculator.calculate(document, fields(null, null, 130, null));
+
+        assertThat(result).containsEntry("totalWeight", 0.98);
+    }
+
+    @Test
+    @DisplayName("같은 값이 여러 번 나오면 추출기가 실제로 읽은 위치의 단어 신뢰도를 사용한다")
+    void calculate_usesExtractorSpans() {
+        String text = "총중량: 10,020 kg\n공차중량: 5,010 kg\n실중량: 5,010 kg";
+        OcrDocument document = document(text, new Object[][] {
+                { "총중량:", 0.9 }, { "10,020", 0.8 }, { "kg", 0.9 },
+                { "공차중량:", 0.9 }, { "5,010", 0.6 }, { "kg", 0.9 },
+                { "실중량:", 0.9 }, { "5,010", 0.99 }, { "kg", 0.9 } });
+
+        Map<String, Double> result = calculator.calculate(document, new FieldExtractor().extractAll(text));
+
+        assertThat(result).containsEntry("totalWeight", 0.8);
+        assertThat(result).containsEntry("emptyWeight", 0.6);
+        assertThat(result).containsEntry("netWeight", 0.99);
+    }
+
+    @Test
+    @DisplayName("단어 정보가 없거나 텍스트에서 값을 찾지 못한 필드는 제외한다")
+    void calculate_missing() {
+        ExtractedFields extracted = fields(null, "80구8713", null, "고요환경");
+
+        assertThat(calculator.calculate(OcrDocument.of("차량번호: 80구8713", 0.9), extracted)).isEmpty();
+        assertThat(calculator.calculate(document("차량번호: 80구8713", new Object[][] {
+                { "차량번호:", 0.99 }, { "80구8713", 0.97 } }), extracted))
+                .containsOnlyKeys("vehicleNumber");
+    }
+}
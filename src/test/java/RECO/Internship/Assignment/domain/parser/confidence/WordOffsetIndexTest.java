@@ -0,0 +1,72 @@
+package RECO.Internship.Assignment.domain.parser.confidence;
+
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * WordOffsetIndex 테스트
+ */
+class WordOffsetIndexTest {
+
+    private static OcrWord word(int id, String text, double confidence) {
+        return new OcrWord(0, id, text, confidence, 0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("단어를 텍스트 순서대로 배정하고 오프셋으로 단어를 찾는다")
+    void wordAt() {
+        String text = "총중량: 02:07 13 460 kg";
+        List<OcrWord> words = List.of(
+                word(0, "총중량:", 0.9), word(1, "02:07", 0.8), word(2, "13", 0.7),
+                word(3, "460", 0.6), word(4, "kg", 0.5));
+
+        WordOffsetIndex index = WordOffsetIndex.build(text, words);
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.wordAt(0).id()).isZero();
+        assertThat(index.wordAt(text.indexOf("13")).id()).isEqualTo(2);
+        assertThat(index.wordAt(text.indexOf("460") + 2).id()).isEqualTo(3);
+        assertThat(index.wordAt(text.indexOf(" kg"))).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 문자열의 단어는 앞에서부터 차례로 배정되고, 이미 지나간 위치의 단어는 건너뛴다")
+    void build_repeatedAndOutOfOrder() {
+        String text = "중 량: 12,480 kg \n중 량: 7,470 kg";
+        List<OcrWord> words = List.of(
+                word(0, "중", 0.9), word(1, "량:", 0.9), word(2, "12,480", 0.9), word(3, "kg", 0.9),
+                word(4, "중", 0.8), word(5, "량:", 0.8), word(6, "kg", 0.8), word(7, "7,470", 0.5),
+                word(8, "없는단어", 0.1));
+
+        WordOffsetIndex index = WordOffsetIndex.build(text, words);
+
+        // 7,470은 마지막 kg보다 앞에 있어 배정하지 않음
+        assertThat(index.size()).isEqualTo(7);
+        assertThat(index.wordsIn(0, text.length())).extracting(OcrWord::id)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(index.wordAt(text.indexOf("kg")).id()).isEqualTo(3);
+        assertThat(index.wordAt(text.lastIndexOf("kg")).id()).isEqualTo(6);
+        assertThat(index.wordAt(text.indexOf("7,470"))).isNull();
+    }
+
+    @Test
+    @DisplayName("구간 신뢰도는 겹치는 글자 수로 가중한 평균이며, 단어가 없는 구간은 null")
+    void confidence() {
+        String text = "13 460 kg";
+        List<OcrWord> words = List.of(word(0, "13", 0.6), word(1, "460", 0.9), word(2, "kg", 0.3));
+
+        WordOffsetIndex index = WordOffsetIndex.build(text, words);
+
+        // "13 460": 2글자 x 0.6 + 3글자 x 0.9 (공백 제외)
+        assertThat(index.confidence(0, 6)).isCloseTo((2 * 0.6 + 3 * 0.9) / 5, within(1e-9));
+        // "3 4": 1글자씩 걸침
+        assertThat(index.confidence(1, 4)).isCloseTo(0.75, within(1e-9));
+        assertThat(index.confidence(6, 7)).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package RECO.Internship.Assignment.domain.parser.layout;
+
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LineReconstructor 테스트
+ */
+class LineReconstructorTest {
+
+    private static OcrWord word(int id, String text, int minX, int minY, int maxX, int maxY) {
+        return new OcrWord(0, id, text, 0.9, minX, minY, maxX, maxY);
+    }
+
+    @Test
+    @DisplayName("세로 위치로 줄을 묶고 줄 안의 단어는 왼쪽부터 정렬한다")
+    void reconstruct_groupsRows() {
+        // sample_01 일부 - OCR 텍스트 순서는 "품종명랑 05:26:18 12,480 kg / 명: / 중 량:"
+        List<OcrWord> words = List.of(
+                word(14, "품종명랑", 150, 967, 386, 1272),
+                word(15, "05:26:18", 409, 1064, 623, 1157),
+                word(16, "12,480", 700, 1068, 860, 1156),
+                word(17, "kg", 886, 1069, 935, 1155),
+                word(18, "명:", 312, 969, 385, 1065),
+                word(19, "중", 232, 1072, 285, 1163),
+                word(20, "량:", 312, 1063, 384, 1158),
+                word(21, "05:36:01", 411, 1168, 622, 1258),
+                word(22, "7,470", 720, 1171, 865, 1263),
+                word(23, "kg", 889, 1178, 937, 1259));
+
+        List<LayoutLine> lines = LineReconstructor.reconstruct(words);
+
+        assertThat(lines).extracting(LayoutLine::text).containsExactly(
+                "명:",
+                "중 량: 05:26:18 12,480 kg",
+                "품종명랑",
+                "05:36:01 7,470 kg");
+    }
+
+    @Test
+    @DisplayName("텍스트 오프셋으로 단어를 찾는다")
+    void wordIndexAt() {
+        LayoutLine line = LayoutLine.of(List.of(
+                word(0, "차량번호:", 146, 764, 382, 862),
+                word(1, "8713", 407, 771, 516, 851)));
+
+        assertThat(line.text()).isEqualTo("차량번호: 8713");
+        assertThat(line.wordIndexAt(0)).isZero();
+        assertThat(line.wordIndexAt(5)).isZero();
+        assertThat(line.wordIndexAt(6)).isEqualTo(1);
+        assertThat(line.wordIndexAt(9)).isEqualTo(1);
+    }
+}
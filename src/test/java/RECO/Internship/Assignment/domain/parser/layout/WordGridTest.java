@@ -0,0 +1,81 @@
+package RECO.Internship.Assignment.domain.parser.layout;
+
+import RECO.Internship.Assignment.domain.model.OcrWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WordGrid 테스트
+ */
+class WordGridTest {
+
+    private static OcrWord word(int id, String text, int minX, int minY, int maxX, int maxY) {
+        return new OcrWord(0, id, text, 0.9, minX, minY, maxX, maxY);
+    }
+
+    @Test
+    @DisplayName("사각형 질의는 전수 비교와 같은 단어를 중복 없이 반환한다")
+    void query_matchesBruteForce() {
+        Random random = new Random(42);
+        List<OcrWord> words = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int x = random.nextInt(2000);
+            int y = random.nextInt(3000);
+            words.add(word(i, "w" + i, x, y, x + random.nextInt(400), y + random.nextInt(300)));
+        }
+        WordGrid grid = WordGrid.of(words);
+
+        for (int q = 0; q < 200; q++) {
+            int minX = random.nextInt(2200) - 100;
+            int minY = random.nextInt(3200) - 100;
+            int maxX = minX + random.nextInt(800);
+            int maxY = minY + random.nextInt(800);
+
+            List<OcrWord> expected = words.stream()
+                    .filter(w -> w.maxX() >= minX && w.minX() <= maxX && w.maxY() >= minY && w.minY() <= maxY)
+                    .toList();
+
+            assertThat(grid.query(minX, minY, maxX, maxY)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 행 오른쪽 단어를 왼쪽부터 반환하고 다른 행은 제외한다")
+    void rightOf_sameRowOnly() {
+        OcrWord label = word(0, "총중량:", 65, 1176, 301, 1253);
+        OcrWord time = word(1, "02:07", 414, 1184, 583, 1238);
+        OcrWord dot = word(2, "·", 935, 1223, 956, 1243);
+        OcrWord thousands = word(3, "13", 802, 1182, 908, 1237);
+        OcrWord nextRow = word(4, "차중량:", 64, 1263, 300, 1338);
+        OcrWord nextRowValue = word(5, "560", 989, 1264, 1179, 1322);
+        WordGrid grid = WordGrid.of(List.of(label, time, dot, thousands, nextRow, nextRowValue));
+
+        assertThat(grid.rightOf(label)).containsExactly(time, thousands, dot);
+    }
+
+    @Test
+    @DisplayName("바로 아래 단어는 가로 범위가 겹치는 단어만 반환한다")
+    void below_overlappingColumn() {
+        OcrWord label = word(0, "품명", 100, 100, 200, 150);
+        OcrWord value = word(1, "식물", 110, 170, 190, 220);
+        OcrWord otherColumn = word(2, "입고", 400, 170, 480, 220);
+        WordGrid grid = WordGrid.of(List.of(label, value, otherColumn));
+
+        assertThat(grid.below(label, 100)).containsExactly(value);
+    }
+
+    @Test
+    @DisplayName("단어가 없으면 빈 결과를 반환한다")
+    void emptyGrid() {
+        WordGrid grid = WordGrid.of(List.of());
+
+        assertThat(grid.size()).isZero();
+        assertThat(grid.query(0, 0, 100, 100)).isEmpty();
+    }
+}
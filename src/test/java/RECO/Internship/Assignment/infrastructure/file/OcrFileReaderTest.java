@@ -1,16 +1,22 @@
 package RECO.Internship.Assignment.infrastructure.file;
 
+import RECO.Internship.Assignment.domain.model.OcrDocument;
+import RECO.Internship.Assignment.domain.model.OcrWord;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * OcrFileReader 테스트
@@ -135,4 +141,206 @@ class OcrFileReaderTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("words 좌표 데이터가 있어도 text와 confidence만 추출한다")
+    void skipWordsGeometry() {
+        // given - pages가 text보다 먼저 나오는 실제 샘플 키 순서
+        String jsonContent = """
+                {
+                    "confidence": 0.9306,
+                    "metadata": {"pages": [{"height": 1920, "page": 1, "width": 1568}]},
+                    "pages": [
+                        {
+                            "confidence": 0.9306,
+                            "text": "계 그 표 차번호: 80구8713",
+                            "words": [
+                                {"boundingBox": {"vertices": [{"x": 363, "y": 468}, {"x": 400, "y": 468}]},
+                                 "confidence": 0.97, "id": 0, "text": "계"}
+                            ]
+                        }
+                    ],
+                    "text": "계 그 표 차번호: 80구8713 실중량: 5 900 kg"
+                }
+                """;
+
+        // when
+        String text = ocrFileReader.readFromString(jsonContent);
+        Double confidence = ocrFileReader.extractConfidenceFromString(jsonContent);
+
+        // then
+        assertThat(text).isEqualTo("계 그 표 차번호: 80구8713 실중량: 5 900 kg");
+        assertThat(confidence).isEqualTo(0.9306);
+    }
+
+    @Test
+    @DisplayName("root.text가 비어있으면 pages[0].text를 사용한다")
+    void fallbackToFirstPageWhenRootTextBlank() {
+        // given
+        String jsonContent = """
+                {
+                    "text": "  ",
+                    "pages": [
+                        {"text": "첫 페이지", "words": []},
+                        {"text": "두번째 페이지"}
+                    ]
+                }
+                """;
+
+        // when
+        String text = ocrFileReader.readFromString(jsonContent);
+
+        // then
+        assertThat(text).isEqualTo("첫 페이지");
+    }
+
+    @Test
+    @DisplayName("root.text와 첫 페이지가 모두 비어 있으면 텍스트가 있는 다음 페이지를 사용한다")
+    void fallbackToFirstNonBlankPage() {
+        // given
+        String jsonContent = """
+                {
+                    "text": "",
+                    "pages": [
+                        {"text": "  "},
+                        {"text": "계량증명서 총중량: 12,480 kg"}
+                    ]
+                }
+                """;
+
+        // when
+        OcrDocument document = ocrFileReader.readDocument(jsonContent);
+
+        // then
+        assertThat(document.text()).isEqualTo("계량증명서 총중량: 12,480 kg");
+        assertThat(document.isMultiPage()).isFalse();
+        assertThat(document.firstTextPage()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON 문자열이면 IllegalArgumentException이 발생한다")
+    void invalidJsonThrows() {
+        assertThatThrownBy(() -> ocrFileReader.readFromString("{\"text\": \"계량"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("한 번의 파싱으로 텍스트, 페이지별 텍스트, 신뢰도, 모델 버전, 단어를 읽는다")
+    void readDocumentWithWords() {
+        // given
+        String jsonContent = """
+                {
+                    "confidence": 0.9242,
+                    "modelVersion": "ocr-250904",
+                    "pages": [
+                        {
+                            "text": "계 량",
+                            "words": [
+                                {"boundingBox": {"vertices": [{"x": 372, "y": 386}, {"x": 421, "y": 386},
+                                                             {"x": 421, "y": 474}, {"x": 372, "y": 474}]},
+                                 "confidence": 0.9745, "id": 0, "text": "계"},
+                                {"boundingBox": {"vertices": [{"x": 452, "y": 384}, {"x": 499, "y": 384},
+                                                             {"x": 499, "y": 474}, {"x": 452, "y": 474}]},
+                                 "confidence": 0.9803, "id": 1, "text": "량"}
+                            ]
+                        },
+                        {"text": "두번째 페이지"}
+                    ]
+                }
+                """;
+
+        // when
+        OcrDocument document = ocrFileReader.readDocument(jsonContent, true);
+
+        // then
+        assertThat(document.text()).isEqualTo("계 량");
+        assertThat(document.pageTexts()).containsExactly("계 량", "두번째 페이지");
+        assertThat(document.confidence()).isEqualTo(0.9242);
+        assertThat(document.modelVersion()).isEqualTo("ocr-250904");
+        assertThat(document.words()).hasSize(2);
+        OcrWord first = document.words().get(0);
+        assertThat(first.text()).isEqualTo("계");
+        assertThat(first.confidence()).isEqualTo(0.9745);
+        assertThat(first.minX()).isEqualTo(372);
+        assertThat(first.minY()).isEqualTo(386);
+        assertThat(first.maxX()).isEqualTo(421);
+        assertThat(first.maxY()).isEqualTo(474);
+    }
+
+    @Test
+    @DisplayName("words를 요청하지 않으면 단어 목록은 비어있다")
+    void readDocumentWithoutWords() {
+        // given
+        String jsonContent = """
+                {"pages": [{"text": "계량", "words": [{"id": 0, "text": "계"}]}]}
+                """;
+
+        // when
+        OcrDocument document = ocrFileReader.readDocument(jsonContent);
+
+        // then
+        assertThat(document.text()).isEqualTo("계량");
+        assertThat(document.hasWords()).isFalse();
+        assertThat(document.confidence()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지별 신뢰도를 읽고, 페이지 문서는 해당 페이지의 텍스트와 단어만 가진다")
+    void readPageConfidencesAndSplitPages() {
+        // given
+        String jsonContent = """
+                {
+                    "confidence": 0.9,
+                    "pages": [
+                        {"confidence": 0.95, "text": "첫 페이지", "words": [{"id": 0, "text": "첫"}]},
+                        {"text": "   "},
+                        {"confidence": 0.7, "text": "세번째 페이지", "words": [{"id": 0, "text": "세번째"}]}
+                    ]
+                }
+                """;
+
+        // when
+        OcrDocument document = ocrFileReader.readDocument(jsonContent, true);
+
+        // then
+        assertThat(document.pageConfidences()).containsExactly(0.95, null, 0.7);
+        assertThat(document.isMultiPage()).isTrue();
+        assertThat(document.pageCount()).isEqualTo(3);
+
+        OcrDocument third = document.page(2);
+        assertThat(third.text()).isEqualTo("세번째 페이지");
+        assertThat(third.confidence()).isEqualTo(0.7);
+        assertThat(third.words()).extracting(OcrWord::text).containsExactly("세번째");
+        assertThat(document.page(1).confidence()).isEqualTo(0.9);
+        assertThat(document.page(1).words()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MultipartFile은 업로드 전체를 바이트 배열로 읽지 않고 입력 스트림에서 바로 파싱한다")
+    void readMultipartFileFromStream() throws IOException {
+        // given
+        String jsonContent = """
+                {
+                    "confidence": 0.93,
+                    "pages": [
+                        {"text": "계량증명서 차량번호: 80구8713", "words": [{"id": 0, "text": "계량증명서", "confidence": 0.98}]}
+                    ]
+                }
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "sample.json", MediaType.APPLICATION_JSON_VALUE,
+                jsonContent.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public byte[] getBytes() {
+                throw new AssertionError("업로드 전체를 byte[]로 복사하면 안 됩니다");
+            }
+        };
+
+        // when
+        OcrDocument document = ocrFileReader.readDocument(file, true);
+
+        // then
+        assertThat(document.text()).isEqualTo("계량증명서 차량번호: 80구8713");
+        assertThat(document.confidence()).isEqualTo(0.93);
+        assertThat(document.words()).extracting(OcrWord::text).containsExactly("계량증명서");
+    }
 }